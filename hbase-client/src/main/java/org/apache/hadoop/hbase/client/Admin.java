@@ -1488,6 +1488,17 @@ public interface Admin extends Abortable, Closeable {
    */
   void updateConfiguration() throws IOException;
 
+  /**
+   * Get the most recent calls the regionserver found too slow or too large. The server only
+   * keeps them if hbase.regionserver.slowlog.buffer.enabled is set.
+   * @param server the server to get the calls from
+   * @param limit the maximum number of calls to return
+   * @return the calls, newest first
+   * @throws IOException
+   */
+  List<AdminProtos.SlowLogRecord> getSlowLogRecords(ServerName server, int limit)
+      throws IOException;
+
   /**
    * Get the info port of the current master if one is available.
    * @return master info port
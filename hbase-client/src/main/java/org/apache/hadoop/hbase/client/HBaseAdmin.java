@@ -77,6 +77,7 @@ import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.FlushRegionRequest
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetRegionInfoRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetRegionInfoResponse;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetRegionInfoResponse.CompactionState;
+import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.RollWALWriterRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.RollWALWriterResponse;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.StopServerRequest;
@@ -4078,6 +4079,17 @@ public class HBaseAdmin implements Admin {
     }
   }
 
+  @Override
+  public List<SlowLogRecord> getSlowLogRecords(ServerName server, int limit)
+      throws IOException {
+    try {
+      return this.connection.getAdmin(server).getSlowLog(null,
+        RequestConverter.buildGetSlowLogRequest(limit)).getSlowLogRecordList();
+    } catch (ServiceException e) {
+      throw ProtobufUtil.getRemoteException(e);
+    }
+  }
+
   @Override
   public int getMasterInfoPort() throws IOException {
     // TODO: Fix!  Reaching into internal implementation!!!!
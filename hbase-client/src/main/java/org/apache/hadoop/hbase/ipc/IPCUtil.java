@@ -20,7 +20,6 @@ package org.apache.hadoop.hbase.ipc;
 import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
@@ -32,8 +31,10 @@ import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.CellScanner;
 import org.apache.hadoop.hbase.HBaseIOException;
+import org.apache.hadoop.hbase.codec.ByteBufferDecodingCodec;
 import org.apache.hadoop.hbase.codec.Codec;
 import org.apache.hadoop.hbase.io.BoundedByteBufferPool;
+import org.apache.hadoop.hbase.io.ByteBufferInputStream;
 import org.apache.hadoop.hbase.io.ByteBufferOutputStream;
 import org.apache.hadoop.hbase.io.HeapSize;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -189,10 +190,27 @@ public class IPCUtil {
    */
   public CellScanner createCellScanner(final Codec codec, final CompressionCodec compressor,
       final byte [] cellBlock, final int offset, final int length)
+  throws IOException {
+    return createCellScanner(codec, compressor, cellBlock, offset, length, false);
+  }
+
+  /**
+   * @param codec
+   * @param cellBlock
+   * @param offset
+   * @param length
+   * @param decodeViews whether a codec that is a {@link ByteBufferDecodingCodec} may return
+   *   cells that are views into the (decompressed) cell block. Such cells keep the whole block
+   *   reachable, so only ask for them when the cells do not outlive the call, as on the server.
+   * @return CellScanner to work against the content of <code>cellBlock</code>
+   * @throws IOException
+   */
+  public CellScanner createCellScanner(final Codec codec, final CompressionCodec compressor,
+      final byte [] cellBlock, final int offset, final int length, final boolean decodeViews)
   throws IOException {
     // If compressed, decompress it first before passing it on else we will leak compression
     // resources if the stream is not closed properly after we let it out.
-    InputStream is = null;
+    ByteBuffer cellBuffer;
     if (compressor != null) {
       // GZIPCodec fails w/ NPE if no configuration.
       if (compressor instanceof Configurable) ((Configurable)compressor).setConf(this.conf);
@@ -204,22 +222,23 @@ public class IPCUtil {
       try {
         // TODO: This is ugly.  The buffer will be resized on us if we guess wrong.
         // TODO: Reuse buffers.
-        bbos = new ByteBufferOutputStream((length - offset) *
-          this.cellBlockDecompressionMultiplier);
+        bbos = new ByteBufferOutputStream(length * this.cellBlockDecompressionMultiplier);
         IOUtils.copy(cis, bbos);
         bbos.close();
-        ByteBuffer bb = bbos.getByteBuffer();
-        is = new ByteArrayInputStream(bb.array(), 0, bb.limit());
+        cellBuffer = bbos.getByteBuffer();
       } finally {
-        if (is != null) is.close();
         if (bbos != null) bbos.close();
 
         CodecPool.returnDecompressor(poolDecompressor);
       }
     } else {
-      is = new ByteArrayInputStream(cellBlock, offset, length);
+      cellBuffer = ByteBuffer.wrap(cellBlock, offset, length);
+    }
+    if (decodeViews && codec instanceof ByteBufferDecodingCodec) {
+      // The decoder may hand out cells that are views into the buffer rather than copies
+      return ((ByteBufferDecodingCodec) codec).getDecoder(cellBuffer);
     }
-    return codec.getDecoder(is);
+    return codec.getDecoder(new ByteBufferInputStream(cellBuffer));
   }
 
   /**
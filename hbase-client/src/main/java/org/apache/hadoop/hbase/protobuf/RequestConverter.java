@@ -51,6 +51,7 @@ import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.FlushRegionRequest
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetOnlineRegionRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetRegionInfoRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetServerInfoRequest;
+import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetStoreFileRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.MergeRegionsRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.OpenRegionRequest;
@@ -980,6 +981,16 @@ public final class RequestConverter {
    return GET_SERVER_INFO_REQUEST;
  }
 
+ /**
+  * Create a new GetSlowLogRequest
+  *
+  * @param limit the maximum number of records to return
+  * @return a GetSlowLogRequest
+  */
+ public static GetSlowLogRequest buildGetSlowLogRequest(int limit) {
+   return GetSlowLogRequest.newBuilder().setLimit(limit).build();
+ }
+
  /**
   * Create a new StopServerRequest
   *
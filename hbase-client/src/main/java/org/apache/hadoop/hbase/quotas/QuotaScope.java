@@ -29,9 +29,14 @@ import org.apache.hadoop.hbase.classification.InterfaceStability;
 public enum QuotaScope {
   /**
    * The specified throttling rules will be applied at the cluster level.
-   * A limit of 100req/min means 100req/min in total.
-   * If you execute 50req on a machine and then 50req on another machine
-   * then you have to wait your quota to fill up.
+   * A limit of 100req/min means about 100req/min in total.
+   * <p>
+   * Each region server enforces a fixed share of the limit, worked out from the region
+   * placement when the quotas are refreshed: user and namespace limits are divided evenly
+   * between the live region servers, and table limits by the fraction of the table's regions
+   * each server holds. The shares do not follow the traffic, so a tenant whose requests all
+   * go to one server, or to one hot region, is held to that server's share and gets less than
+   * the limit in total.
    */
   CLUSTER,
 
@@ -139,7 +139,24 @@ public class QuotaSettingsFactory {
    */
   public static QuotaSettings throttleUser(final String userName, final ThrottleType type,
       final long limit, final TimeUnit timeUnit) {
-    return throttle(userName, null, null, type, limit, timeUnit);
+    return throttle(userName, null, null, type, limit, timeUnit, QuotaScope.MACHINE);
+  }
+
+  /**
+   * Throttle the specified user.
+   *
+   * @param userName the user to throttle
+   * @param type the type of throttling
+   * @param limit the allowed number of request/data per timeUnit
+   * @param timeUnit the limit time unit
+   * @param scope whether the limit applies to each region server or to the whole cluster. A
+   *   cluster limit is split between the region servers by how the regions are placed, not by
+   *   the traffic each one sees; see {@link QuotaScope#CLUSTER}.
+   * @return the quota settings
+   */
+  public static QuotaSettings throttleUser(final String userName, final ThrottleType type,
+      final long limit, final TimeUnit timeUnit, final QuotaScope scope) {
+    return throttle(userName, null, null, type, limit, timeUnit, scope);
   }
 
   /**
@@ -154,7 +171,26 @@ public class QuotaSettingsFactory {
    */
   public static QuotaSettings throttleUser(final String userName, final TableName tableName,
       final ThrottleType type, final long limit, final TimeUnit timeUnit) {
-    return throttle(userName, tableName, null, type, limit, timeUnit);
+    return throttle(userName, tableName, null, type, limit, timeUnit, QuotaScope.MACHINE);
+  }
+
+  /**
+   * Throttle the specified user on the specified table.
+   *
+   * @param userName the user to throttle
+   * @param tableName the table to throttle
+   * @param type the type of throttling
+   * @param limit the allowed number of request/data per timeUnit
+   * @param timeUnit the limit time unit
+   * @param scope whether the limit applies to each region server or to the whole cluster. A
+   *   cluster limit is split between the region servers by how the regions are placed, not by
+   *   the traffic each one sees; see {@link QuotaScope#CLUSTER}.
+   * @return the quota settings
+   */
+  public static QuotaSettings throttleUser(final String userName, final TableName tableName,
+      final ThrottleType type, final long limit, final TimeUnit timeUnit,
+      final QuotaScope scope) {
+    return throttle(userName, tableName, null, type, limit, timeUnit, scope);
   }
 
   /**
@@ -169,7 +205,26 @@ public class QuotaSettingsFactory {
    */
   public static QuotaSettings throttleUser(final String userName, final String namespace,
       final ThrottleType type, final long limit, final TimeUnit timeUnit) {
-    return throttle(userName, null, namespace, type, limit, timeUnit);
+    return throttle(userName, null, namespace, type, limit, timeUnit, QuotaScope.MACHINE);
+  }
+
+  /**
+   * Throttle the specified user on the specified namespace.
+   *
+   * @param userName the user to throttle
+   * @param namespace the namespace to throttle
+   * @param type the type of throttling
+   * @param limit the allowed number of request/data per timeUnit
+   * @param timeUnit the limit time unit
+   * @param scope whether the limit applies to each region server or to the whole cluster. A
+   *   cluster limit is split between the region servers by how the regions are placed, not by
+   *   the traffic each one sees; see {@link QuotaScope#CLUSTER}.
+   * @return the quota settings
+   */
+  public static QuotaSettings throttleUser(final String userName, final String namespace,
+      final ThrottleType type, final long limit, final TimeUnit timeUnit,
+      final QuotaScope scope) {
+    return throttle(userName, null, namespace, type, limit, timeUnit, scope);
   }
 
   /**
@@ -179,7 +234,7 @@ public class QuotaSettingsFactory {
    * @return the quota settings
    */
   public static QuotaSettings unthrottleUser(final String userName) {
-    return throttle(userName, null, null, null, 0, null);
+    return throttle(userName, null, null, null, 0, null, null);
   }
 
   /**
@@ -190,7 +245,7 @@ public class QuotaSettingsFactory {
    * @return the quota settings
    */
   public static QuotaSettings unthrottleUser(final String userName, final TableName tableName) {
-    return throttle(userName, tableName, null, null, 0, null);
+    return throttle(userName, tableName, null, null, 0, null, null);
   }
 
   /**
@@ -201,7 +256,7 @@ public class QuotaSettingsFactory {
    * @return the quota settings
    */
   public static QuotaSettings unthrottleUser(final String userName, final String namespace) {
-    return throttle(userName, null, namespace, null, 0, null);
+    return throttle(userName, null, namespace, null, 0, null, null);
   }
 
   /**
@@ -215,7 +270,24 @@ public class QuotaSettingsFactory {
    */
   public static QuotaSettings throttleTable(final TableName tableName, final ThrottleType type,
       final long limit, final TimeUnit timeUnit) {
-    return throttle(null, tableName, null, type, limit, timeUnit);
+    return throttle(null, tableName, null, type, limit, timeUnit, QuotaScope.MACHINE);
+  }
+
+  /**
+   * Throttle the specified table.
+   *
+   * @param tableName the table to throttle
+   * @param type the type of throttling
+   * @param limit the allowed number of request/data per timeUnit
+   * @param timeUnit the limit time unit
+   * @param scope whether the limit applies to each region server or to the whole cluster. A
+   *   cluster limit is split between the region servers by how the regions are placed, not by
+   *   the traffic each one sees; see {@link QuotaScope#CLUSTER}.
+   * @return the quota settings
+   */
+  public static QuotaSettings throttleTable(final TableName tableName, final ThrottleType type,
+      final long limit, final TimeUnit timeUnit, final QuotaScope scope) {
+    return throttle(null, tableName, null, type, limit, timeUnit, scope);
   }
 
   /**
@@ -225,7 +297,7 @@ public class QuotaSettingsFactory {
    * @return the quota settings
    */
   public static QuotaSettings unthrottleTable(final TableName tableName) {
-    return throttle(null, tableName, null, null, 0, null);
+    return throttle(null, tableName, null, null, 0, null, null);
   }
 
   /**
@@ -239,7 +311,24 @@ public class QuotaSettingsFactory {
    */
   public static QuotaSettings throttleNamespace(final String namespace, final ThrottleType type,
       final long limit, final TimeUnit timeUnit) {
-    return throttle(null, null, namespace, type, limit, timeUnit);
+    return throttle(null, null, namespace, type, limit, timeUnit, QuotaScope.MACHINE);
+  }
+
+  /**
+   * Throttle the specified namespace.
+   *
+   * @param namespace the namespace to throttle
+   * @param type the type of throttling
+   * @param limit the allowed number of request/data per timeUnit
+   * @param timeUnit the limit time unit
+   * @param scope whether the limit applies to each region server or to the whole cluster. A
+   *   cluster limit is split between the region servers by how the regions are placed, not by
+   *   the traffic each one sees; see {@link QuotaScope#CLUSTER}.
+   * @return the quota settings
+   */
+  public static QuotaSettings throttleNamespace(final String namespace, final ThrottleType type,
+      final long limit, final TimeUnit timeUnit, final QuotaScope scope) {
+    return throttle(null, null, namespace, type, limit, timeUnit, scope);
   }
 
   /**
@@ -249,19 +338,19 @@ public class QuotaSettingsFactory {
    * @return the quota settings
    */
   public static QuotaSettings unthrottleNamespace(final String namespace) {
-    return throttle(null, null, namespace, null, 0, null);
+    return throttle(null, null, namespace, null, 0, null, null);
   }
 
   /* Throttle helper */
   private static QuotaSettings throttle(final String userName, final TableName tableName,
       final String namespace, final ThrottleType type, final long limit,
-      final TimeUnit timeUnit) {
+      final TimeUnit timeUnit, final QuotaScope scope) {
     QuotaProtos.ThrottleRequest.Builder builder = QuotaProtos.ThrottleRequest.newBuilder();
     if (type != null) {
       builder.setType(ProtobufUtil.toProtoThrottleType(type));
     }
     if (timeUnit != null) {
-      builder.setTimedQuota(ProtobufUtil.toTimedQuota(limit, timeUnit, QuotaScope.MACHINE));
+      builder.setTimedQuota(ProtobufUtil.toTimedQuota(limit, timeUnit, scope));
     }
     return new ThrottleSettings(userName, tableName, namespace, builder.build());
   }
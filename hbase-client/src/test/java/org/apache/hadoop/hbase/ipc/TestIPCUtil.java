@@ -18,6 +18,9 @@
 package org.apache.hadoop.hbase.ipc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -66,6 +69,25 @@ public class TestIPCUtil {
     doBuildCellBlockUndoCellBlock(this.util, new KeyValueCodec(), new GzipCodec());
   }
 
+  /**
+   * Cells are views into the cell block only when asked for, as the server does.
+   */
+  @Test
+  public void testDecodeViews() throws IOException {
+    Codec codec = new KeyValueCodec();
+    ByteBuffer bb = this.util.buildCellBlock(codec, null,
+      CellUtil.createCellScanner(Arrays.asList(getCells(3, 10)).iterator()));
+    CellScanner views = this.util.createCellScanner(codec, null, bb.array(), 0, bb.limit(), true);
+    CellScanner copies = this.util.createCellScanner(codec, null, bb.array(), 0, bb.limit());
+    for (int i = 0; i < 3; i++) {
+      assertTrue(views.advance());
+      assertTrue(copies.advance());
+      assertSame(bb.array(), ((KeyValue) views.current()).getBuffer());
+      assertNotSame(bb.array(), ((KeyValue) copies.current()).getBuffer());
+      assertTrue(CellUtil.equals(views.current(), copies.current()));
+    }
+  }
+
   static void doBuildCellBlockUndoCellBlock(final IPCUtil util,
       final Codec codec, final CompressionCodec compressor)
   throws IOException {
@@ -386,7 +386,7 @@ public class CellComparator implements Comparator<Cell>, Serializable {
       return compareFamilies(left, right);
     }
     // Compare cf:qualifier
-    int diff = compareColumns(left, right);
+    int diff = compareColumns(left, right, lFamLength, lQualLength, rQualLength);
     if (diff != 0) return diff;
 
     diff = compareTimestamps(left, right);
@@ -399,6 +399,69 @@ public class CellComparator implements Comparator<Cell>, Serializable {
     return (0xff & right.getTypeByte()) - (0xff & left.getTypeByte());
   }
 
+  /**
+   * Compares the columns of two cells whose families have the same length. Cells that keep the
+   * qualifier right after the family, as the KeyValue format does, have their family and
+   * qualifier compared as one run of bytes, which orders the same as comparing families and then
+   * qualifiers when the families are equally long. Any mix of arrays and heap or direct buffers
+   * is compared 8 bytes at a time through Unsafe, see {@link Bytes} and
+   * {@link ByteBufferUtils}.
+   */
+  private static int compareColumns(Cell left, Cell right, int famLength, int lQualLength,
+      int rQualLength) {
+    int lColLength = famLength + lQualLength;
+    int rColLength = famLength + rQualLength;
+    if (left instanceof ByteBufferedCell) {
+      ByteBufferedCell bbLeft = (ByteBufferedCell) left;
+      if (!hasAdjacentQualifier(bbLeft, famLength)) {
+        return compareColumns(left, right);
+      }
+      if (right instanceof ByteBufferedCell) {
+        ByteBufferedCell bbRight = (ByteBufferedCell) right;
+        if (!hasAdjacentQualifier(bbRight, famLength)) {
+          return compareColumns(left, right);
+        }
+        return ByteBufferUtils.compareTo(bbLeft.getFamilyByteBuffer(),
+            bbLeft.getFamilyPositionInByteBuffer(), lColLength, bbRight.getFamilyByteBuffer(),
+            bbRight.getFamilyPositionInByteBuffer(), rColLength);
+      }
+      if (!hasAdjacentQualifier(right, famLength)) {
+        return compareColumns(left, right);
+      }
+      return ByteBufferUtils.compareTo(bbLeft.getFamilyByteBuffer(),
+          bbLeft.getFamilyPositionInByteBuffer(), lColLength, right.getFamilyArray(),
+          right.getFamilyOffset(), rColLength);
+    }
+    if (!hasAdjacentQualifier(left, famLength)) {
+      return compareColumns(left, right);
+    }
+    if (right instanceof ByteBufferedCell) {
+      ByteBufferedCell bbRight = (ByteBufferedCell) right;
+      if (!hasAdjacentQualifier(bbRight, famLength)) {
+        return compareColumns(left, right);
+      }
+      return -(ByteBufferUtils.compareTo(bbRight.getFamilyByteBuffer(),
+          bbRight.getFamilyPositionInByteBuffer(), rColLength, left.getFamilyArray(),
+          left.getFamilyOffset(), lColLength));
+    }
+    if (!hasAdjacentQualifier(right, famLength)) {
+      return compareColumns(left, right);
+    }
+    return Bytes.compareTo(left.getFamilyArray(), left.getFamilyOffset(), lColLength,
+        right.getFamilyArray(), right.getFamilyOffset(), rColLength);
+  }
+
+  private static boolean hasAdjacentQualifier(ByteBufferedCell cell, int famLength) {
+    return cell.getFamilyByteBuffer() == cell.getQualifierByteBuffer()
+        && cell.getFamilyPositionInByteBuffer() + famLength
+          == cell.getQualifierPositionInByteBuffer();
+  }
+
+  private static boolean hasAdjacentQualifier(Cell cell, int famLength) {
+    return cell.getFamilyArray() == cell.getQualifierArray()
+        && cell.getFamilyOffset() + famLength == cell.getQualifierOffset();
+  }
+
   /**
    * Compares cell's timestamps in DESCENDING order.
    * The below older timestamps sorting ahead of newer timestamps looks
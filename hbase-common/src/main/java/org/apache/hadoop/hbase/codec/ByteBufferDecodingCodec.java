@@ -0,0 +1,37 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.codec;
+
+import java.nio.ByteBuffer;
+
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+
+/**
+ * Optionally implemented by a {@link Codec} that can decode a cell block already in memory
+ * without copying each cell out of it. Callers check for it and otherwise fall back to
+ * {@link Codec#getDecoder(java.io.InputStream)}.
+ */
+@InterfaceAudience.Private
+public interface ByteBufferDecodingCodec {
+  /**
+   * @param buf the cell block, from position to limit. Decoders may return cells that are views
+   *   into it, so it must not be changed while the cells are in use, and the cells keep the whole
+   *   block reachable.
+   */
+  Codec.Decoder getDecoder(ByteBuffer buf);
+}
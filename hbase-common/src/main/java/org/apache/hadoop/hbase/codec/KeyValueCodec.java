@@ -17,14 +17,19 @@
  */
 package org.apache.hadoop.hbase.codec;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.HBaseInterfaceAudience;
 import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.NoTagsKeyValue;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.ByteBufferUtils;
+import org.apache.hadoop.hbase.util.Bytes;
 
 /**
  * Codec that does KeyValue version 1 serialization.
@@ -44,7 +49,7 @@ import org.apache.hadoop.hbase.classification.InterfaceAudience;
  * </pre>
  */
 @InterfaceAudience.LimitedPrivate(HBaseInterfaceAudience.CONFIG)
-public class KeyValueCodec implements Codec {
+public class KeyValueCodec implements Codec, ByteBufferDecodingCodec {
   public static class KeyValueEncoder extends BaseEncoder {
     public KeyValueEncoder(final OutputStream out) {
       super(out);
@@ -69,6 +74,54 @@ public class KeyValueCodec implements Codec {
     }
   }
 
+  /**
+   * Decodes the cells of a block that is already in memory as views into it, so no byte[] is
+   * allocated per cell. The cells are copied only if they outlive the request, e.g. into the
+   * MemStoreLAB. Direct buffers have each cell copied to the heap.
+   */
+  public static class ByteBufferedKeyValueDecoder implements Codec.Decoder {
+    protected final ByteBuffer buf;
+    private Cell current = null;
+
+    public ByteBufferedKeyValueDecoder(ByteBuffer buf) {
+      this.buf = buf;
+    }
+
+    @Override
+    public boolean advance() throws IOException {
+      if (!this.buf.hasRemaining()) {
+        return false;
+      }
+      if (this.buf.remaining() < Bytes.SIZEOF_INT) {
+        throw new EOFException("Partial cell read");
+      }
+      int len = this.buf.getInt();
+      if (len < 0 || len > this.buf.remaining()) {
+        throw new EOFException("Partial cell read");
+      }
+      int pos = this.buf.position();
+      if (this.buf.hasArray()) {
+        this.current = createCell(this.buf.array(), this.buf.arrayOffset() + pos, len);
+      } else {
+        byte[] bytes = new byte[len];
+        ByteBufferUtils.copyFromBufferToArray(bytes, this.buf, pos, 0, len);
+        this.current = createCell(bytes, 0, len);
+      }
+      this.buf.position(pos + len);
+      return true;
+    }
+
+    @Override
+    public Cell current() {
+      return this.current;
+    }
+
+    protected Cell createCell(byte[] buf, int offset, int len) {
+      // No tags here
+      return new NoTagsKeyValue(buf, offset, len);
+    }
+  }
+
   /**
    * Implementation depends on {@link InputStream#available()}
    */
@@ -77,6 +130,11 @@ public class KeyValueCodec implements Codec {
     return new KeyValueDecoder(is);
   }
 
+  @Override
+  public Decoder getDecoder(ByteBuffer buf) {
+    return new ByteBufferedKeyValueDecoder(buf);
+  }
+
   @Override
   public Encoder getEncoder(OutputStream os) {
     return new KeyValueEncoder(os);
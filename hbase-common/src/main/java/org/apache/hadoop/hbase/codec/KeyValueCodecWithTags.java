@@ -20,9 +20,11 @@ package org.apache.hadoop.hbase.codec;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.HBaseInterfaceAudience;
+import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.KeyValueUtil;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 
@@ -50,7 +52,7 @@ import org.apache.hadoop.hbase.classification.InterfaceAudience;
  * <b>Use this Codec only at server side.</b>
  */
 @InterfaceAudience.LimitedPrivate(HBaseInterfaceAudience.CONFIG)
-public class KeyValueCodecWithTags implements Codec {
+public class KeyValueCodecWithTags implements Codec, ByteBufferDecodingCodec {
   public static class KeyValueEncoder extends BaseEncoder {
     public KeyValueEncoder(final OutputStream out) {
       super(out);
@@ -75,6 +77,19 @@ public class KeyValueCodecWithTags implements Codec {
     }
   }
 
+  public static class ByteBufferedKeyValueDecoder
+      extends KeyValueCodec.ByteBufferedKeyValueDecoder {
+    public ByteBufferedKeyValueDecoder(ByteBuffer buf) {
+      super(buf);
+    }
+
+    @Override
+    protected Cell createCell(byte[] buf, int offset, int len) {
+      // create KeyValue with tags
+      return new KeyValue(buf, offset, len);
+    }
+  }
+
   /**
    * Implementation depends on {@link InputStream#available()}
    */
@@ -83,6 +98,11 @@ public class KeyValueCodecWithTags implements Codec {
     return new KeyValueDecoder(is);
   }
 
+  @Override
+  public Decoder getDecoder(ByteBuffer buf) {
+    return new ByteBufferedKeyValueDecoder(buf);
+  }
+
   @Override
   public Encoder getEncoder(OutputStream os) {
     return new KeyValueEncoder(os);
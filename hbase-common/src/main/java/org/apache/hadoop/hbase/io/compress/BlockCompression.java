@@ -0,0 +1,262 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.hadoop.hbase.io.compress;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.CommonConfigurationKeys;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.io.compress.Decompressor;
+
+/**
+ * Decompresses whole HFile blocks from one buffer into another, handing the compressed bytes
+ * straight to the codec's {@link Decompressor} instead of going through the buffered streams
+ * of {@link Compression.Algorithm#createDecompressionStream}. The data format is the one the
+ * streams write, so blocks written either way can be read either way:
+ * <ul>
+ * <li>{@link Compression.Algorithm#SNAPPY} and {@link Compression.Algorithm#LZ4} use the
+ * framing of Hadoop's BlockCompressorStream: the uncompressed length of a run of data,
+ * followed by the compressed chunks of the run, each preceded by its length. A block may hold
+ * several runs.</li>
+ * <li>{@link Compression.Algorithm#GZ} blocks are a single gzip stream.</li>
+ * </ul>
+ * Other algorithms have to use the streams.
+ * <p>
+ * {@link Compression.Algorithm#GZ} blocks may also be compressed against a preset dictionary,
+ * trained from a sample of the data by {@link DictionaryTrainer}. Such blocks are a zlib
+ * stream with the dictionary flag set, which can be told apart from a gzip stream by its
+ * first byte. The streams cannot read them.
+ * @see BlockCompressor for the compression part
+ */
+@InterfaceAudience.Private
+public final class BlockCompression {
+
+  /** First byte of a gzip stream; a zlib stream never starts with it. */
+  static final int GZIP_MAGIC = 0x1f;
+
+  /**
+   * Inflaters for blocks compressed against a dictionary, one per thread so that reading such
+   * blocks does not allocate native zlib state per block. Reset before each use.
+   */
+  private static final ThreadLocal<Inflater> INFLATER = new ThreadLocal<Inflater>() {
+    @Override
+    protected Inflater initialValue() {
+      return new Inflater();
+    }
+  };
+
+  private BlockCompression() {
+  }
+
+  /**
+   * @return whether blocks compressed with the algorithm can be handled here
+   */
+  public static boolean isSupported(Compression.Algorithm algo) {
+    return isFramed(algo) || algo == Compression.Algorithm.GZ;
+  }
+
+  /**
+   * @return whether blocks compressed with the algorithm may use a preset dictionary
+   */
+  public static boolean supportsDictionary(Compression.Algorithm algo) {
+    return algo == Compression.Algorithm.GZ;
+  }
+
+  /**
+   * @return whether the algorithm's codec writes BlockCompressorStream framing
+   */
+  static boolean isFramed(Compression.Algorithm algo) {
+    return algo == Compression.Algorithm.SNAPPY || algo == Compression.Algorithm.LZ4;
+  }
+
+  /**
+   * @return the size of the codec's buffers, which bounds both the compressed and the
+   *   uncompressed size of a chunk of a framed algorithm
+   */
+  static int getBufferSize(Compression.Algorithm algo) {
+    Configuration conf = ((Configurable) algo.getCodec()).getConf();
+    if (algo == Compression.Algorithm.SNAPPY) {
+      return conf.getInt(CommonConfigurationKeys.IO_COMPRESSION_CODEC_SNAPPY_BUFFERSIZE_KEY,
+        CommonConfigurationKeys.IO_COMPRESSION_CODEC_SNAPPY_BUFFERSIZE_DEFAULT);
+    }
+    return conf.getInt(CommonConfigurationKeys.IO_COMPRESSION_CODEC_LZ4_BUFFERSIZE_KEY,
+      CommonConfigurationKeys.IO_COMPRESSION_CODEC_LZ4_BUFFERSIZE_DEFAULT);
+  }
+
+  /**
+   * @return how much larger than its input a compressed chunk of a framed algorithm may be,
+   *   as assumed by the codec's BlockCompressorStream
+   */
+  static int getChunkOverhead(Compression.Algorithm algo, int bufferSize) {
+    return algo == Compression.Algorithm.SNAPPY ? bufferSize / 6 + 32 : bufferSize / 255 + 16;
+  }
+
+  /**
+   * Decompresses a block. The positions and limits of the buffers are not changed. Buffers
+   * without an accessible array are copied through a temporary array, since the codecs only
+   * work on arrays.
+   * @param algo compression algorithm used, see {@link #isSupported(Compression.Algorithm)}
+   * @param src the compressed block, from position to limit; bytes after the compressed data,
+   *   like checksums, are ignored
+   * @param dst receives the uncompressed block, which must fill it from position to limit
+   * @throws IOException if the compressed data is corrupt or ends before dst is filled
+   */
+  public static void decompress(Compression.Algorithm algo, ByteBuffer src, ByteBuffer dst)
+      throws IOException {
+    decompress(algo, null, src, dst);
+  }
+
+  /**
+   * Decompresses a block that may have been compressed against a preset dictionary.
+   * @param dictionary the dictionary blocks of the file were compressed with, or null
+   * @see #decompress(Compression.Algorithm, ByteBuffer, ByteBuffer)
+   */
+  public static void decompress(Compression.Algorithm algo, byte[] dictionary, ByteBuffer src,
+      ByteBuffer dst) throws IOException {
+    if (!isSupported(algo)) {
+      throw new IllegalArgumentException("Unsupported compression algorithm " + algo);
+    }
+    byte[] in;
+    int inOffset;
+    if (src.hasArray()) {
+      in = src.array();
+      inOffset = src.arrayOffset() + src.position();
+    } else {
+      in = new byte[src.remaining()];
+      src.duplicate().get(in);
+      inOffset = 0;
+    }
+    byte[] out;
+    int outOffset;
+    if (dst.hasArray()) {
+      out = dst.array();
+      outOffset = dst.arrayOffset() + dst.position();
+    } else {
+      out = new byte[dst.remaining()];
+      outOffset = 0;
+    }
+    if (dictionary != null && supportsDictionary(algo) && src.remaining() > 0
+        && (in[inOffset] & 0xff) != GZIP_MAGIC) {
+      decompressWithDictionary(dictionary, in, inOffset, inOffset + src.remaining(), out,
+        outOffset, outOffset + dst.remaining());
+      if (!dst.hasArray()) {
+        ByteBuffer dup = dst.duplicate();
+        dup.put(out);
+      }
+      return;
+    }
+    Decompressor decompressor = algo.getDecompressor();
+    try {
+      if (isFramed(algo)) {
+        decompressFramed(decompressor, in, inOffset, inOffset + src.remaining(), out, outOffset,
+          outOffset + dst.remaining());
+      } else {
+        decompressStream(decompressor, in, inOffset, inOffset + src.remaining(), out, outOffset,
+          outOffset + dst.remaining());
+      }
+    } finally {
+      algo.returnDecompressor(decompressor);
+    }
+    if (!dst.hasArray()) {
+      ByteBuffer dup = dst.duplicate();
+      dup.put(out);
+    }
+  }
+
+  private static void decompressFramed(Decompressor decompressor, byte[] in, int inPos,
+      int inEnd, byte[] out, int outPos, int outEnd) throws IOException {
+    while (outPos < outEnd) {
+      int runLength = readInt(in, inPos, inEnd);
+      inPos += Bytes.SIZEOF_INT;
+      if (runLength < 0 || runLength > outEnd - outPos) {
+        throw new IOException("Corrupt compressed block: run of " + runLength
+          + " bytes, " + (outEnd - outPos) + " bytes left to decompress");
+      }
+      int runEnd = outPos + runLength;
+      decompressor.reset();
+      while (outPos < runEnd) {
+        int chunkLength = readInt(in, inPos, inEnd);
+        inPos += Bytes.SIZEOF_INT;
+        if (chunkLength < 0 || chunkLength > inEnd - inPos) {
+          throw new IOException("Corrupt compressed block: chunk of " + chunkLength
+            + " bytes, " + (inEnd - inPos) + " bytes left");
+        }
+        decompressor.setInput(in, inPos, chunkLength);
+        inPos += chunkLength;
+        while (!decompressor.needsInput() && outPos < runEnd) {
+          int n = decompressor.decompress(out, outPos, runEnd - outPos);
+          if (n == 0) {
+            throw new IOException("Corrupt compressed block: chunk does not decompress");
+          }
+          outPos += n;
+        }
+      }
+    }
+  }
+
+  private static void decompressStream(Decompressor decompressor, byte[] in, int inPos,
+      int inEnd, byte[] out, int outPos, int outEnd) throws IOException {
+    decompressor.setInput(in, inPos, inEnd - inPos);
+    while (outPos < outEnd) {
+      int n = decompressor.decompress(out, outPos, outEnd - outPos);
+      if (n == 0 && (decompressor.finished() || decompressor.needsInput())) {
+        throw new IOException("Premature end of compressed block, "
+          + (outEnd - outPos) + " bytes left to decompress");
+      }
+      outPos += n;
+    }
+  }
+
+  private static void decompressWithDictionary(byte[] dictionary, byte[] in, int inPos,
+      int inEnd, byte[] out, int outPos, int outEnd) throws IOException {
+    Inflater inflater = INFLATER.get();
+    inflater.reset();
+    try {
+      inflater.setInput(in, inPos, inEnd - inPos);
+      while (outPos < outEnd) {
+        int n = inflater.inflate(out, outPos, outEnd - outPos);
+        if (n == 0) {
+          if (inflater.needsDictionary()) {
+            inflater.setDictionary(dictionary);
+          } else if (inflater.finished() || inflater.needsInput()) {
+            throw new IOException("Premature end of compressed block, "
+              + (outEnd - outPos) + " bytes left to decompress");
+          }
+        }
+        outPos += n;
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt compressed block", e);
+    } catch (IllegalArgumentException e) {
+      // Thrown by setDictionary when the block was compressed against another dictionary
+      throw new IOException("Block was compressed against another dictionary", e);
+    }
+  }
+
+  private static int readInt(byte[] in, int pos, int end) throws IOException {
+    if (end - pos < Bytes.SIZEOF_INT) {
+      throw new IOException("Premature end of compressed block");
+    }
+    return Bytes.toInt(in, pos);
+  }
+}
@@ -0,0 +1,279 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.hadoop.hbase.io.compress;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.io.compress.Compressor;
+
+/**
+ * Compresses whole HFile blocks from one buffer into another, handing the data straight to the
+ * codec's {@link Compressor} instead of going through a compression stream and the byte array
+ * stream behind it. The output is the same as that of the stream returned by
+ * {@link Compression.Algorithm#createPlainCompressionStream}, see {@link BlockCompression}.
+ * <p>
+ * With a preset dictionary, {@link Compression.Algorithm#GZ} blocks are written as zlib streams
+ * compressed against the dictionary instead.
+ * <p>
+ * A compressor holds a pooled codec compressor until it is closed, and is not thread-safe.
+ */
+@InterfaceAudience.Private
+public class BlockCompressor {
+
+  /** The fixed gzip header that GZIPOutputStream writes. */
+  private static final byte[] GZIP_HEADER = new byte[] {
+    (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+  private static final int GZIP_TRAILER_LENGTH = 8;
+
+  private final Compression.Algorithm algo;
+  private Compressor compressor;
+
+  /** Largest input of one chunk and how much it may grow, for framed algorithms. */
+  private final int maxChunkLength;
+  private final int chunkOverhead;
+
+  /** Used for gzip when the native zlib is not loaded and the codec has no compressor. */
+  private Deflater deflater;
+  private CRC32 crc;
+
+  /** Preset dictionary of the deflater, null if there is none. */
+  private final byte[] dictionary;
+
+  /**
+   * @param algo compression algorithm, see
+   *   {@link BlockCompression#isSupported(Compression.Algorithm)}
+   */
+  public BlockCompressor(Compression.Algorithm algo) {
+    this(algo, null);
+  }
+
+  /**
+   * @param algo compression algorithm, see
+   *   {@link BlockCompression#isSupported(Compression.Algorithm)}
+   * @param dictionary preset dictionary to compress against, or null; see
+   *   {@link BlockCompression#supportsDictionary(Compression.Algorithm)}
+   */
+  public BlockCompressor(Compression.Algorithm algo, byte[] dictionary) {
+    if (!BlockCompression.isSupported(algo)) {
+      throw new IllegalArgumentException("Unsupported compression algorithm " + algo);
+    }
+    if (dictionary != null && !BlockCompression.supportsDictionary(algo)) {
+      throw new IllegalArgumentException("Compression algorithm " + algo
+          + " does not support dictionaries");
+    }
+    this.algo = algo;
+    this.dictionary = dictionary;
+    if (dictionary != null) {
+      this.chunkOverhead = 0;
+      this.maxChunkLength = 0;
+      this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+      return;
+    }
+    this.compressor = algo.getCompressor();
+    if (BlockCompression.isFramed(algo)) {
+      int bufferSize = BlockCompression.getBufferSize(algo);
+      this.chunkOverhead = BlockCompression.getChunkOverhead(algo, bufferSize);
+      this.maxChunkLength = bufferSize - chunkOverhead;
+    } else {
+      this.chunkOverhead = 0;
+      this.maxChunkLength = 0;
+      if (compressor == null) {
+        // Same as ReusableStreamGzipCodec without native zlib
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.crc = new CRC32();
+      }
+    }
+  }
+
+  /**
+   * @return the most space compressing length bytes may take
+   */
+  public int getMaxCompressedLength(int length) {
+    if (BlockCompression.isFramed(algo)) {
+      int chunks = Math.max(1, (length + maxChunkLength - 1) / maxChunkLength);
+      return Bytes.SIZEOF_INT + chunks * (Bytes.SIZEOF_INT + chunkOverhead) + length;
+    }
+    // zlib's deflateBound(), with room for the gzip header and trailer
+    return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13
+        + GZIP_HEADER.length + GZIP_TRAILER_LENGTH;
+  }
+
+  /**
+   * Compresses a block. The position of src is not changed; the position of dst is moved past
+   * the compressed data.
+   * @param src the block to compress, from position to limit
+   * @param dst receives the compressed block; must have at least
+   *   {@link #getMaxCompressedLength(int)} bytes remaining
+   * @return the length of the compressed block
+   */
+  public int compress(ByteBuffer src, ByteBuffer dst) throws IOException {
+    int length = src.remaining();
+    if (dst.remaining() < getMaxCompressedLength(length)) {
+      throw new IllegalArgumentException("Need " + getMaxCompressedLength(length)
+          + " bytes to compress " + length + " bytes, got " + dst.remaining());
+    }
+    byte[] in;
+    int inOffset;
+    if (src.hasArray()) {
+      in = src.array();
+      inOffset = src.arrayOffset() + src.position();
+    } else {
+      in = new byte[length];
+      src.duplicate().get(in);
+      inOffset = 0;
+    }
+    byte[] out;
+    int outOffset;
+    int outEnd;
+    if (dst.hasArray()) {
+      out = dst.array();
+      outOffset = dst.arrayOffset() + dst.position();
+      outEnd = dst.arrayOffset() + dst.limit();
+    } else {
+      out = new byte[getMaxCompressedLength(length)];
+      outOffset = 0;
+      outEnd = out.length;
+    }
+    int compressedLength;
+    if (dictionary != null) {
+      compressedLength = compressWithDictionary(in, inOffset, length, out, outOffset, outEnd);
+    } else if (BlockCompression.isFramed(algo)) {
+      compressedLength = compressFramed(in, inOffset, length, out, outOffset, outEnd);
+    } else if (compressor != null) {
+      compressedLength = compressStream(in, inOffset, length, out, outOffset, outEnd);
+    } else {
+      compressedLength = compressGzip(in, inOffset, length, out, outOffset, outEnd);
+    }
+    if (dst.hasArray()) {
+      dst.position(dst.position() + compressedLength);
+    } else {
+      dst.put(out, 0, compressedLength);
+    }
+    return compressedLength;
+  }
+
+  /**
+   * Writes what BlockCompressorStream writes for the data: the total length, then each chunk
+   * of at most {@link #maxChunkLength} bytes compressed on its own, preceded by its length.
+   */
+  private int compressFramed(byte[] in, int inPos, int length, byte[] out, int outOffset,
+      int outEnd) throws IOException {
+    int outPos = outOffset;
+    Bytes.putInt(out, outPos, length);
+    outPos += Bytes.SIZEOF_INT;
+    int inEnd = inPos + length;
+    while (inPos < inEnd) {
+      int chunkLength = Math.min(inEnd - inPos, maxChunkLength);
+      compressor.reset();
+      compressor.setInput(in, inPos, chunkLength);
+      compressor.finish();
+      inPos += chunkLength;
+      while (!compressor.finished()) {
+        int n = compressor.compress(out, outPos + Bytes.SIZEOF_INT,
+          outEnd - outPos - Bytes.SIZEOF_INT);
+        if (n > 0) {
+          Bytes.putInt(out, outPos, n);
+          outPos += Bytes.SIZEOF_INT + n;
+        }
+      }
+    }
+    return outPos - outOffset;
+  }
+
+  /**
+   * Writes what CompressorStream writes for the data, with a codec compressor that produces
+   * the whole format by itself, like the native gzip one.
+   */
+  private int compressStream(byte[] in, int inPos, int length, byte[] out, int outOffset,
+      int outEnd) throws IOException {
+    int outPos = outOffset;
+    compressor.reset();
+    compressor.setInput(in, inPos, length);
+    while (!compressor.needsInput()) {
+      outPos += compressor.compress(out, outPos, outEnd - outPos);
+    }
+    compressor.finish();
+    while (!compressor.finished()) {
+      outPos += compressor.compress(out, outPos, outEnd - outPos);
+    }
+    return outPos - outOffset;
+  }
+
+  /**
+   * Writes what GZIPOutputStream writes for the data.
+   */
+  private int compressGzip(byte[] in, int inPos, int length, byte[] out, int outOffset,
+      int outEnd) {
+    int outPos = outOffset;
+    System.arraycopy(GZIP_HEADER, 0, out, outPos, GZIP_HEADER.length);
+    outPos += GZIP_HEADER.length;
+    deflater.reset();
+    crc.reset();
+    deflater.setInput(in, inPos, length);
+    crc.update(in, inPos, length);
+    deflater.finish();
+    while (!deflater.finished()) {
+      outPos += deflater.deflate(out, outPos, outEnd - outPos);
+    }
+    outPos = putIntLittleEndian(out, outPos, (int) crc.getValue());
+    outPos = putIntLittleEndian(out, outPos, length);
+    return outPos - outOffset;
+  }
+
+  /**
+   * Writes a zlib stream of the data, compressed against the dictionary.
+   */
+  private int compressWithDictionary(byte[] in, int inPos, int length, byte[] out,
+      int outOffset, int outEnd) {
+    int outPos = outOffset;
+    deflater.reset();
+    deflater.setDictionary(dictionary);
+    deflater.setInput(in, inPos, length);
+    deflater.finish();
+    while (!deflater.finished()) {
+      outPos += deflater.deflate(out, outPos, outEnd - outPos);
+    }
+    return outPos - outOffset;
+  }
+
+  private static int putIntLittleEndian(byte[] out, int pos, int value) {
+    out[pos] = (byte) value;
+    out[pos + 1] = (byte) (value >>> 8);
+    out[pos + 2] = (byte) (value >>> 16);
+    out[pos + 3] = (byte) (value >>> 24);
+    return pos + Bytes.SIZEOF_INT;
+  }
+
+  /**
+   * Returns the codec compressor to its pool.
+   */
+  public void close() {
+    if (compressor != null) {
+      algo.returnCompressor(compressor);
+      compressor = null;
+    }
+    if (deflater != null) {
+      deflater.end();
+      deflater = null;
+    }
+  }
+}
@@ -252,6 +252,13 @@ public final class Compression {
 
     abstract CompressionCodec getCodec(Configuration conf);
 
+    /**
+     * @return the codec, configured the way the streams of this algorithm use it
+     */
+    CompressionCodec getCodec() {
+      return getCodec(conf);
+    }
+
     public InputStream createDecompressionStream(
         InputStream downStream, Decompressor decompressor,
         int downStreamBufferSize) throws IOException {
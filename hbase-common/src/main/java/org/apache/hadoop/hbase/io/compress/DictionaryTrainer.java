@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.hadoop.hbase.io.compress;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.Bytes;
+
+/**
+ * Builds a preset dictionary for {@link BlockCompressor} from samples of the data that is going
+ * to be compressed, like the cell values of a column family. Small values compress poorly on
+ * their own or in a block of a few hundred of them; a dictionary of the strings they have in
+ * common lets deflate refer back to those from the first byte of a block.
+ * <p>
+ * The samples are cut into overlapping segments. A segment scores the number of samples each
+ * of its {@link #KMER_LENGTH}-byte strings occurs in, for the strings that occur in more than
+ * one sample. Segments are then picked greedily by score, a string only counting towards the
+ * first segment picked that holds it, until the dictionary is full. Deflate refers to the end
+ * of the dictionary most cheaply, so the best segment is placed last.
+ */
+@InterfaceAudience.Private
+public final class DictionaryTrainer {
+
+  /** Length of the strings that are counted. */
+  static final int KMER_LENGTH = 8;
+  /** Longest segment of a sample the dictionary is made of. */
+  static final int SEGMENT_LENGTH = 64;
+  /** Strings are counted by hash, in a table of this many bits. */
+  private static final int TABLE_BITS = 18;
+
+  private DictionaryTrainer() {
+  }
+
+  /**
+   * @param samples pieces of data like the data to compress
+   * @param maxSize the most bytes the dictionary may have; deflate uses at most the last 32KB
+   * @return the dictionary, or null if the samples have nothing in common
+   */
+  public static byte[] train(List<byte[]> samples, int maxSize) {
+    int[] counts = new int[1 << TABLE_BITS];
+    // Stamps which strings were already seen in the current sample or segment
+    final int[] seen = new int[1 << TABLE_BITS];
+    int stamp = 0;
+    List<Segment> segments = new ArrayList<Segment>();
+    for (byte[] sample : samples) {
+      stamp++;
+      for (int i = 0; i + KMER_LENGTH <= sample.length; i++) {
+        int h = hash(sample, i);
+        if (seen[h] != stamp) {
+          seen[h] = stamp;
+          counts[h]++;
+        }
+      }
+      for (int offset = 0; offset + KMER_LENGTH <= sample.length;
+          offset += SEGMENT_LENGTH / 2) {
+        segments.add(new Segment(sample, offset, Math.min(SEGMENT_LENGTH,
+          sample.length - offset)));
+      }
+    }
+    if (segments.isEmpty() || maxSize <= 0) {
+      return null;
+    }
+
+    PriorityQueue<Segment> queue = new PriorityQueue<Segment>(segments.size(),
+        new Comparator<Segment>() {
+          @Override
+          public int compare(Segment a, Segment b) {
+            return a.score > b.score ? -1 : a.score < b.score ? 1 : 0;
+          }
+        });
+    for (Segment segment : segments) {
+      segment.score = score(segment, counts, seen, ++stamp);
+      if (segment.score > 0) {
+        queue.add(segment);
+      }
+    }
+
+    // Scores only go down as strings get covered, so a segment whose score is still the same
+    // after taking it off the queue is the best one left.
+    List<Segment> picked = new ArrayList<Segment>();
+    int size = 0;
+    while (size < maxSize && !queue.isEmpty()) {
+      Segment best = queue.poll();
+      long score = score(best, counts, seen, ++stamp);
+      if (score == 0) {
+        continue;
+      }
+      if (score < best.score) {
+        best.score = score;
+        queue.add(best);
+        continue;
+      }
+      picked.add(best);
+      size += best.length;
+      for (int i = best.offset; i + KMER_LENGTH <= best.offset + best.length; i++) {
+        counts[hash(best.data, i)] = 0;
+      }
+    }
+    if (picked.isEmpty()) {
+      return null;
+    }
+
+    byte[] dictionary = new byte[Math.min(size, maxSize)];
+    int pos = dictionary.length;
+    for (Segment segment : picked) {
+      int n = Math.min(segment.length, pos);
+      pos -= n;
+      System.arraycopy(segment.data, segment.offset + segment.length - n, dictionary, pos, n);
+    }
+    return dictionary;
+  }
+
+  private static long score(Segment segment, int[] counts, int[] seen, int stamp) {
+    long score = 0;
+    for (int i = segment.offset; i + KMER_LENGTH <= segment.offset + segment.length; i++) {
+      int h = hash(segment.data, i);
+      if (seen[h] != stamp) {
+        seen[h] = stamp;
+        if (counts[h] > 1) {
+          score += counts[h];
+        }
+      }
+    }
+    return score;
+  }
+
+  private static int hash(byte[] data, int offset) {
+    return (int) ((Bytes.toLong(data, offset) * 0x9E3779B97F4A7C15L) >>> (64 - TABLE_BITS));
+  }
+
+  private static final class Segment {
+    final byte[] data;
+    final int offset;
+    final int length;
+    long score;
+
+    Segment(byte[] data, int offset, int length) {
+      this.data = data;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+}
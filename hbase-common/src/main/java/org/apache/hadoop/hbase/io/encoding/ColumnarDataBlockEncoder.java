@@ -0,0 +1,468 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.hadoop.hbase.io.encoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.ByteBufferUtils;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.io.WritableUtils;
+
+/**
+ * Lays out a block column-wise, for wide rows with many sparse qualifiers. Distinct rows,
+ * families and columns (family and qualifier) are stored once in dictionaries at the head of
+ * the block, followed by the values grouped per column and finally one small record per cell
+ * that refers to the dictionaries and to its value.
+ * <p>
+ * Block format (after the unencoded size written by {@link BufferedDataBlockEncoder}):
+ * <ul>
+ * <li>families: compressed int count, then per family a length byte and the bytes</li>
+ * <li>columns: compressed int count, then per column the compressed int family index, the
+ * compressed int qualifier length, the qualifier and the compressed int length of the
+ * column's values</li>
+ * <li>rows: compressed int count, then per row the compressed int length and the bytes</li>
+ * <li>values of all cells, grouped per column in column order</li>
+ * <li>records, one per cell in key order: a flags byte, the compressed int column index,
+ * unless unchanged the timestamp as a vlong delta to the previous cell, the type byte, the
+ * compressed int value offset within the column's values, the compressed int value length,
+ * then tags and memstore timestamp as in the other encoders</li>
+ * </ul>
+ * The seeker builds keys from the dictionaries and never touches the values of cells it
+ * passes over, so seeking through columns that are not read does not pull their values
+ * through the cache.
+ */
+@InterfaceAudience.Private
+public class ColumnarDataBlockEncoder extends BufferedDataBlockEncoder {
+  /** The cell is the first of a new row. */
+  static final int FLAG_NEW_ROW = 1;
+  /** The cell has the same timestamp as the previous one. */
+  static final int FLAG_SAME_TIMESTAMP = 1 << 1;
+
+  /**
+   * Cells of the block being encoded. The block can only be laid out once all of its cells are
+   * known, so they are copied here and written in {@link #endBlockEncoding}.
+   */
+  private static class ColumnarEncodingState extends BufferedDataBlockEncodingState {
+    private final List<Cell> cells = new ArrayList<Cell>();
+  }
+
+  @Override
+  public void startBlockEncoding(HFileBlockEncodingContext blkEncodingCtx, DataOutputStream out)
+      throws IOException {
+    super.startBlockEncoding(blkEncodingCtx, out);
+    blkEncodingCtx.setEncodingState(new ColumnarEncodingState());
+  }
+
+  @Override
+  public int internalEncode(Cell cell, HFileBlockDefaultEncodingContext encodingContext,
+      DataOutputStream out) throws IOException {
+    ColumnarEncodingState state = (ColumnarEncodingState) encodingContext.getEncodingState();
+    state.cells.add(KeyValueUtil.copyToNewKeyValue(cell));
+    int size = KeyValueUtil.keyLength(cell) + cell.getValueLength()
+        + KeyValue.KEYVALUE_INFRASTRUCTURE_SIZE;
+    if (encodingContext.getHFileContext().isIncludesTags()) {
+      size += cell.getTagsLength() + KeyValue.TAGS_LENGTH_SIZE;
+    }
+    if (encodingContext.getHFileContext().isIncludesMvcc()) {
+      size += WritableUtils.getVIntSize(cell.getSequenceId());
+    }
+    return size;
+  }
+
+  @Override
+  public void endBlockEncoding(HFileBlockEncodingContext encodingCtx, DataOutputStream out,
+      byte[] uncompressedBytesWithHeader) throws IOException {
+    ColumnarEncodingState state = (ColumnarEncodingState) encodingCtx.getEncodingState();
+    // Let the unencoded size go into the given buffer before writing to the stream, which may
+    // replace that buffer when it grows.
+    super.endBlockEncoding(encodingCtx, out, uncompressedBytesWithHeader);
+    writeBlock(state.cells, (HFileBlockDefaultEncodingContext) encodingCtx, out);
+    state.cells.clear();
+  }
+
+  private void writeBlock(List<Cell> cells, HFileBlockDefaultEncodingContext encodingCtx,
+      DataOutputStream out) throws IOException {
+    List<Cell> families = new ArrayList<Cell>();
+    List<TreeMap<byte[], Integer>> qualifiersPerFamily = new ArrayList<TreeMap<byte[], Integer>>();
+    List<Cell> columns = new ArrayList<Cell>();
+    List<Integer> columnFamilies = new ArrayList<Integer>();
+    List<ByteArrayOutputStream> columnValues = new ArrayList<ByteArrayOutputStream>();
+    List<Cell> rows = new ArrayList<Cell>();
+    int[] cellColumns = new int[cells.size()];
+    int[] cellValueOffsets = new int[cells.size()];
+
+    for (int i = 0; i < cells.size(); i++) {
+      Cell cell = cells.get(i);
+      if (i == 0 || !CellUtil.matchingRow(cells.get(i - 1), cell)) {
+        rows.add(cell);
+      }
+      int family = 0;
+      while (family < families.size() && !CellUtil.matchingFamily(families.get(family), cell)) {
+        family++;
+      }
+      if (family == families.size()) {
+        families.add(cell);
+        qualifiersPerFamily.add(new TreeMap<byte[], Integer>(Bytes.BYTES_COMPARATOR));
+      }
+      byte[] qualifier = CellUtil.cloneQualifier(cell);
+      Integer column = qualifiersPerFamily.get(family).get(qualifier);
+      if (column == null) {
+        column = columns.size();
+        qualifiersPerFamily.get(family).put(qualifier, column);
+        columns.add(cell);
+        columnFamilies.add(family);
+        columnValues.add(new ByteArrayOutputStream());
+      }
+      ByteArrayOutputStream values = columnValues.get(column);
+      cellColumns[i] = column;
+      cellValueOffsets[i] = values.size();
+      values.write(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+    }
+
+    ByteBufferUtils.putCompressedInt(out, families.size());
+    for (Cell family : families) {
+      out.writeByte(family.getFamilyLength());
+      out.write(family.getFamilyArray(), family.getFamilyOffset(), family.getFamilyLength());
+    }
+    ByteBufferUtils.putCompressedInt(out, columns.size());
+    for (int i = 0; i < columns.size(); i++) {
+      Cell column = columns.get(i);
+      ByteBufferUtils.putCompressedInt(out, columnFamilies.get(i));
+      ByteBufferUtils.putCompressedInt(out, column.getQualifierLength());
+      out.write(column.getQualifierArray(), column.getQualifierOffset(),
+          column.getQualifierLength());
+      ByteBufferUtils.putCompressedInt(out, columnValues.get(i).size());
+    }
+    ByteBufferUtils.putCompressedInt(out, rows.size());
+    for (Cell row : rows) {
+      ByteBufferUtils.putCompressedInt(out, row.getRowLength());
+      out.write(row.getRowArray(), row.getRowOffset(), row.getRowLength());
+    }
+    for (ByteArrayOutputStream values : columnValues) {
+      values.writeTo(out);
+    }
+
+    long prevTimestamp = 0;
+    for (int i = 0; i < cells.size(); i++) {
+      Cell cell = cells.get(i);
+      int flags = 0;
+      if (i == 0 || !CellUtil.matchingRow(cells.get(i - 1), cell)) {
+        flags |= FLAG_NEW_ROW;
+      }
+      long timestamp = cell.getTimestamp();
+      if (timestamp == prevTimestamp) {
+        flags |= FLAG_SAME_TIMESTAMP;
+      }
+      out.writeByte(flags);
+      ByteBufferUtils.putCompressedInt(out, cellColumns[i]);
+      if (timestamp != prevTimestamp) {
+        WritableUtils.writeVLong(out, prevTimestamp - timestamp);
+        prevTimestamp = timestamp;
+      }
+      out.writeByte(cell.getTypeByte());
+      ByteBufferUtils.putCompressedInt(out, cellValueOffsets[i]);
+      ByteBufferUtils.putCompressedInt(out, cell.getValueLength());
+      afterEncodingKeyValue(cell, out, encodingCtx);
+    }
+  }
+
+  /**
+   * Positions of the dictionaries and values of an encoded block, all absolute within the
+   * block buffer.
+   */
+  private static class BlockLayout {
+    private ByteBuffer block;
+    private int[] familyOffsets = new int[1];
+    private int[] familyLengths = new int[1];
+    private int[] columnFamilies = new int[16];
+    private int[] qualifierOffsets = new int[16];
+    private int[] qualifierLengths = new int[16];
+    private int[] columnValueOffsets = new int[16];
+    private int[] rowOffsets = new int[64];
+    private int[] rowLengths = new int[64];
+    private int recordsOffset;
+
+    void parse(ByteBuffer block) {
+      ByteBuffer in = block.duplicate();
+      in.position(Bytes.SIZEOF_INT);
+      int familyCount = ByteBufferUtils.readCompressedInt(in);
+      if (familyCount > familyOffsets.length) {
+        familyOffsets = new int[familyCount];
+        familyLengths = new int[familyCount];
+      }
+      for (int i = 0; i < familyCount; i++) {
+        familyLengths[i] = in.get();
+        familyOffsets[i] = in.position();
+        ByteBufferUtils.skip(in, familyLengths[i]);
+      }
+      int columnCount = ByteBufferUtils.readCompressedInt(in);
+      if (columnCount > columnFamilies.length) {
+        int length = Math.max(columnCount, columnFamilies.length * 2);
+        columnFamilies = new int[length];
+        qualifierOffsets = new int[length];
+        qualifierLengths = new int[length];
+        columnValueOffsets = new int[length];
+      }
+      int valuesLength = 0;
+      for (int i = 0; i < columnCount; i++) {
+        columnFamilies[i] = ByteBufferUtils.readCompressedInt(in);
+        qualifierLengths[i] = ByteBufferUtils.readCompressedInt(in);
+        qualifierOffsets[i] = in.position();
+        ByteBufferUtils.skip(in, qualifierLengths[i]);
+        // Relative to the start of the values for now.
+        columnValueOffsets[i] = valuesLength;
+        valuesLength += ByteBufferUtils.readCompressedInt(in);
+      }
+      int rowCount = ByteBufferUtils.readCompressedInt(in);
+      if (rowCount > rowOffsets.length) {
+        int length = Math.max(rowCount, rowOffsets.length * 2);
+        rowOffsets = new int[length];
+        rowLengths = new int[length];
+      }
+      for (int i = 0; i < rowCount; i++) {
+        rowLengths[i] = ByteBufferUtils.readCompressedInt(in);
+        rowOffsets[i] = in.position();
+        ByteBufferUtils.skip(in, rowLengths[i]);
+      }
+      int valuesOffset = in.position();
+      for (int i = 0; i < columnCount; i++) {
+        columnValueOffsets[i] += valuesOffset;
+      }
+      recordsOffset = valuesOffset + valuesLength;
+      this.block = block;
+    }
+
+    int keyLength(int row, int column) {
+      return KeyValue.KEY_INFRASTRUCTURE_SIZE + rowLengths[row]
+          + familyLengths[columnFamilies[column]] + qualifierLengths[column];
+    }
+
+    /**
+     * @param commonPrefix length of the key prefix that is already in the key array, either
+     *          zero, up to the family or up to the qualifier
+     */
+    void writeKey(byte[] key, int row, int column, long timestamp, byte type,
+        int commonPrefix) {
+      int rowLength = rowLengths[row];
+      int family = columnFamilies[column];
+      int pos = 0;
+      if (commonPrefix == 0) {
+        pos = Bytes.putShort(key, pos, (short) rowLength);
+        ByteBufferUtils.copyFromBufferToArray(key, block, rowOffsets[row], pos, rowLength);
+      }
+      pos = KeyValue.ROW_LENGTH_SIZE + rowLength;
+      if (commonPrefix <= pos) {
+        key[pos] = (byte) familyLengths[family];
+        ByteBufferUtils.copyFromBufferToArray(key, block, familyOffsets[family],
+            pos + KeyValue.FAMILY_LENGTH_SIZE, familyLengths[family]);
+      }
+      pos += KeyValue.FAMILY_LENGTH_SIZE + familyLengths[family];
+      ByteBufferUtils.copyFromBufferToArray(key, block, qualifierOffsets[column], pos,
+          qualifierLengths[column]);
+      pos = Bytes.putLong(key, pos + qualifierLengths[column], timestamp);
+      key[pos] = type;
+    }
+  }
+
+  protected static class ColumnarSeekerState extends SeekerState {
+    private int rowIndex;
+    private int columnIndex;
+    private long timestamp;
+
+    @Override
+    protected void copyFromNext(SeekerState that) {
+      super.copyFromNext(that);
+      ColumnarSeekerState other = (ColumnarSeekerState) that;
+      rowIndex = other.rowIndex;
+      columnIndex = other.columnIndex;
+      timestamp = other.timestamp;
+    }
+  }
+
+  @Override
+  public Cell getFirstKeyCellInBlock(ByteBuffer block) {
+    BlockLayout layout = new BlockLayout();
+    layout.parse(block);
+    ByteBuffer in = block.duplicate();
+    in.position(layout.recordsOffset);
+    int flags = in.get();
+    int column = ByteBufferUtils.readCompressedInt(in);
+    long timestamp = 0;
+    if ((flags & FLAG_SAME_TIMESTAMP) == 0) {
+      timestamp -= ByteBufferUtils.readVLong(in);
+    }
+    byte type = in.get();
+    byte[] key = new byte[layout.keyLength(0, column)];
+    layout.writeKey(key, 0, column, timestamp, type, 0);
+    return new KeyValue.KeyOnlyKeyValue(key, 0, key.length);
+  }
+
+  @Override
+  public String toString() {
+    return ColumnarDataBlockEncoder.class.getSimpleName();
+  }
+
+  @Override
+  public EncodedSeeker createSeeker(CellComparator comparator,
+      final HFileBlockDecodingContext decodingCtx) {
+    return new BufferedEncodedSeeker<ColumnarSeekerState>(comparator, decodingCtx) {
+      private final BlockLayout layout = new BlockLayout();
+
+      @Override
+      protected void decodeNext() {
+        int flags = currentBuffer.get();
+        int previousFamily = current.columnIndex < 0 ? -1
+            : layout.columnFamilies[current.columnIndex];
+        if ((flags & FLAG_NEW_ROW) != 0) {
+          current.rowIndex++;
+        }
+        current.columnIndex = ByteBufferUtils.readCompressedInt(currentBuffer);
+        if ((flags & FLAG_SAME_TIMESTAMP) == 0) {
+          current.timestamp -= ByteBufferUtils.readVLong(currentBuffer);
+        }
+        byte type = currentBuffer.get();
+        current.valueOffset = layout.columnValueOffsets[current.columnIndex]
+            + ByteBufferUtils.readCompressedInt(currentBuffer);
+        current.valueLength = ByteBufferUtils.readCompressedInt(currentBuffer);
+
+        int rowLength = layout.rowLengths[current.rowIndex];
+        int family = layout.columnFamilies[current.columnIndex];
+        if ((flags & FLAG_NEW_ROW) != 0) {
+          current.lastCommonPrefix = 0;
+        } else if (family == previousFamily) {
+          current.lastCommonPrefix = KeyValue.ROW_LENGTH_SIZE + rowLength
+              + KeyValue.FAMILY_LENGTH_SIZE + layout.familyLengths[family];
+        } else {
+          current.lastCommonPrefix = KeyValue.ROW_LENGTH_SIZE + rowLength;
+        }
+        current.keyLength = layout.keyLength(current.rowIndex, current.columnIndex);
+        current.ensureSpaceForKey();
+        layout.writeKey(current.keyBuffer, current.rowIndex, current.columnIndex,
+            current.timestamp, type, current.lastCommonPrefix);
+
+        if (includesTags()) {
+          decodeTags();
+        }
+        if (includesMvcc()) {
+          current.memstoreTS = ByteBufferUtils.readVLong(currentBuffer);
+        } else {
+          current.memstoreTS = 0;
+        }
+        current.nextKvOffset = currentBuffer.position();
+      }
+
+      @Override
+      protected void decodeFirst() {
+        // Rewinding keeps the buffer, so its layout need not be parsed again.
+        if (layout.block != currentBuffer) {
+          layout.parse(currentBuffer);
+        }
+        currentBuffer.position(layout.recordsOffset);
+        current.rowIndex = -1;
+        current.columnIndex = -1;
+        current.timestamp = 0;
+        decodeNext();
+      }
+
+      @Override
+      protected ColumnarSeekerState createSeekerState() {
+        return new ColumnarSeekerState();
+      }
+    };
+  }
+
+  @Override
+  protected ByteBuffer internalDecodeKeyValues(DataInputStream source, int allocateHeaderLength,
+      int skipLastBytes, HFileBlockDefaultDecodingContext decodingCtx) throws IOException {
+    int decompressedSize = source.readInt();
+    byte[][] families = new byte[ByteBufferUtils.readCompressedInt(source)][];
+    for (int i = 0; i < families.length; i++) {
+      families[i] = new byte[source.readByte()];
+      source.readFully(families[i]);
+    }
+    int columnCount = ByteBufferUtils.readCompressedInt(source);
+    int[] columnFamilies = new int[columnCount];
+    byte[][] qualifiers = new byte[columnCount][];
+    int[] columnValueOffsets = new int[columnCount];
+    int valuesLength = 0;
+    for (int i = 0; i < columnCount; i++) {
+      columnFamilies[i] = ByteBufferUtils.readCompressedInt(source);
+      qualifiers[i] = new byte[ByteBufferUtils.readCompressedInt(source)];
+      source.readFully(qualifiers[i]);
+      columnValueOffsets[i] = valuesLength;
+      valuesLength += ByteBufferUtils.readCompressedInt(source);
+    }
+    byte[][] rows = new byte[ByteBufferUtils.readCompressedInt(source)][];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new byte[ByteBufferUtils.readCompressedInt(source)];
+      source.readFully(rows[i]);
+    }
+    byte[] values = new byte[valuesLength];
+    source.readFully(values);
+
+    ByteBuffer buffer = ByteBuffer.allocate(decompressedSize + allocateHeaderLength);
+    buffer.position(allocateHeaderLength);
+    int row = -1;
+    long timestamp = 0;
+    while (source.available() > skipLastBytes) {
+      int flags = source.readByte();
+      if ((flags & FLAG_NEW_ROW) != 0) {
+        row++;
+      }
+      int column = ByteBufferUtils.readCompressedInt(source);
+      if ((flags & FLAG_SAME_TIMESTAMP) == 0) {
+        timestamp -= WritableUtils.readVLong(source);
+      }
+      byte type = source.readByte();
+      int valueOffset = columnValueOffsets[column] + ByteBufferUtils.readCompressedInt(source);
+      int valueLength = ByteBufferUtils.readCompressedInt(source);
+      byte[] family = families[columnFamilies[column]];
+      buffer.putInt(KeyValue.KEY_INFRASTRUCTURE_SIZE + rows[row].length + family.length
+          + qualifiers[column].length);
+      buffer.putInt(valueLength);
+      buffer.putShort((short) rows[row].length);
+      buffer.put(rows[row]);
+      buffer.put((byte) family.length);
+      buffer.put(family);
+      buffer.put(qualifiers[column]);
+      buffer.putLong(timestamp);
+      buffer.put(type);
+      buffer.put(values, valueOffset, valueLength);
+      afterDecodingKeyValue(source, buffer, decodingCtx);
+    }
+
+    if (source.available() != skipLastBytes) {
+      throw new IllegalStateException("Read too many bytes.");
+    }
+
+    buffer.limit(buffer.position());
+    return buffer;
+  }
+}
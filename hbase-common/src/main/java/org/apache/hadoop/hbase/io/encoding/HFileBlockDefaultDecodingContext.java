@@ -25,6 +25,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.io.ByteBufferInputStream;
 import org.apache.hadoop.hbase.io.TagCompressionContext;
+import org.apache.hadoop.hbase.io.compress.BlockCompression;
 import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.io.crypto.Cipher;
 import org.apache.hadoop.hbase.io.crypto.Decryptor;
@@ -52,9 +53,20 @@ public class HFileBlockDefaultDecodingContext implements
   @Override
   public void prepareDecoding(int onDiskSizeWithoutHeader, int uncompressedSizeWithoutHeader,
       ByteBuffer blockBufferWithoutHeader, ByteBuffer onDiskBlock) throws IOException {
+    Encryption.Context cryptoContext = fileContext.getEncryptionContext();
+    Compression.Algorithm compression = fileContext.getCompression();
+    if (cryptoContext == Encryption.Context.NONE && BlockCompression.isSupported(compression)) {
+      // Decompress buffer to buffer, without streams in between
+      ByteBuffer src = onDiskBlock.duplicate();
+      src.limit(src.position() + Math.min(src.remaining(), onDiskSizeWithoutHeader));
+      ByteBuffer dst = blockBufferWithoutHeader.duplicate();
+      dst.limit(dst.position() + uncompressedSizeWithoutHeader);
+      BlockCompression.decompress(compression, fileContext.getCompressionDictionary(), src, dst);
+      return;
+    }
+
     InputStream in = new DataInputStream(new ByteBufferInputStream(onDiskBlock));
 
-    Encryption.Context cryptoContext = fileContext.getEncryptionContext();
     if (cryptoContext != Encryption.Context.NONE) {
 
       Cipher cipher = cryptoContext.getCipher();
@@ -84,7 +96,6 @@ public class HFileBlockDefaultDecodingContext implements
       onDiskSizeWithoutHeader -= Bytes.SIZEOF_BYTE + ivLength;
     }
 
-    Compression.Algorithm compression = fileContext.getCompression();
     assert blockBufferWithoutHeader.hasArray();
     if (compression != Compression.Algorithm.NONE) {
       Compression.decompress(blockBufferWithoutHeader.array(),
@@ -23,10 +23,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
+import java.util.Arrays;
 
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.io.TagCompressionContext;
+import org.apache.hadoop.hbase.io.compress.BlockCompression;
+import org.apache.hadoop.hbase.io.compress.BlockCompressor;
 import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.io.crypto.Cipher;
 import org.apache.hadoop.hbase.io.crypto.Encryption;
@@ -62,6 +66,12 @@ public class HFileBlockDefaultEncodingContext implements
   private CompressionOutputStream compressionStream;
   /** Underlying stream to write compressed bytes to */
   private ByteArrayOutputStream compressedByteStream;
+  /**
+   * Compresses buffer to buffer instead of the stream, for the algorithms that support it.
+   * Also reused between consecutive blocks, as is the buffer it compresses into.
+   */
+  private BlockCompressor blockCompressor;
+  private byte[] compressedBytes;
 
   private HFileContext fileContext;
   private TagCompressionContext tagCompressionContext;
@@ -86,7 +96,13 @@ public class HFileBlockDefaultEncodingContext implements
     this.fileContext = fileContext;
     Compression.Algorithm compressionAlgorithm =
         fileContext.getCompression() == null ? NONE : fileContext.getCompression();
-    if (compressionAlgorithm != NONE) {
+    if (BlockCompression.isSupported(compressionAlgorithm)) {
+      // Encrypted blocks are decompressed through the streams, which know no dictionaries.
+      byte[] dictionary = fileContext.getEncryptionContext() == Encryption.Context.NONE
+          && BlockCompression.supportsDictionary(compressionAlgorithm)
+          ? fileContext.getCompressionDictionary() : null;
+      blockCompressor = new BlockCompressor(compressionAlgorithm, dictionary);
+    } else if (compressionAlgorithm != NONE) {
       compressor = compressionAlgorithm.getCompressor();
       compressedByteStream = new ByteArrayOutputStream();
       try {
@@ -159,7 +175,11 @@ public class HFileBlockDefaultEncodingContext implements
       InputStream in;
       int plaintextLength;
       // Run any compression before encryption
-      if (fileContext.getCompression() != Compression.Algorithm.NONE) {
+      if (blockCompressor != null) {
+        plaintextLength = compressBlock(uncompressedBytesWithHeader, headerBytes.length,
+          uncompressedBytesWithHeader.length - headerBytes.length, 0);
+        in = new ByteArrayInputStream(compressedBytes, 0, plaintextLength);
+      } else if (fileContext.getCompression() != Compression.Algorithm.NONE) {
         compressedByteStream.reset();
         compressionStream.resetState();
         compressionStream.write(uncompressedBytesWithHeader,
@@ -208,7 +228,13 @@ public class HFileBlockDefaultEncodingContext implements
 
     } else {
 
-      if (this.fileContext.getCompression() != NONE) {
+      if (blockCompressor != null) {
+        int compressedLength = compressBlock(uncompressedBytesWithHeader, headerBytes.length,
+          uncompressedBytesWithHeader.length - headerBytes.length, headerBytes.length);
+        System.arraycopy(headerBytes, 0, compressedBytes, 0, headerBytes.length);
+        onDiskBytesWithHeader =
+            Arrays.copyOf(compressedBytes, headerBytes.length + compressedLength);
+      } else if (this.fileContext.getCompression() != NONE) {
         compressedByteStream.reset();
         compressedByteStream.write(headerBytes);
         compressionStream.resetState();
@@ -224,6 +250,22 @@ public class HFileBlockDefaultEncodingContext implements
     }
   }
 
+  /**
+   * Compresses with the block compressor into {@link #compressedBytes}, growing it if needed.
+   * @param offset where the compressed data starts in compressedBytes
+   * @return the length of the compressed data
+   */
+  private int compressBlock(byte[] uncompressed, int uncompressedOffset, int uncompressedLength,
+      int offset) throws IOException {
+    int maxLength = offset + blockCompressor.getMaxCompressedLength(uncompressedLength);
+    if (compressedBytes == null || compressedBytes.length < maxLength) {
+      compressedBytes = new byte[maxLength];
+    }
+    return blockCompressor.compress(
+      ByteBuffer.wrap(uncompressed, uncompressedOffset, uncompressedLength),
+      ByteBuffer.wrap(compressedBytes, offset, maxLength - offset));
+  }
+
   @Override
   public BlockType getBlockType() {
     return blockType;
@@ -239,6 +281,10 @@ public class HFileBlockDefaultEncodingContext implements
       this.fileContext.getCompression().returnCompressor(compressor);
       compressor = null;
     }
+    if (blockCompressor != null) {
+      blockCompressor.close();
+      blockCompressor = null;
+    }
   }
 
   @Override
@@ -56,6 +56,8 @@ public class HFileContext implements HeapSize, Cloneable {
   /** Encryption algorithm and key used */
   private Encryption.Context cryptoContext = Encryption.Context.NONE;
   private long fileCreateTime;
+  /** Preset dictionary data blocks are compressed against, if any */
+  private byte[] compressionDictionary;
 
   //Empty constructor.  Go with setters
   public HFileContext() {
@@ -77,6 +79,7 @@ public class HFileContext implements HeapSize, Cloneable {
     this.encoding = context.encoding;
     this.cryptoContext = context.cryptoContext;
     this.fileCreateTime = context.fileCreateTime;
+    this.compressionDictionary = context.compressionDictionary;
   }
 
   public HFileContext(boolean useHBaseChecksum, boolean includesMvcc, boolean includesTags,
@@ -187,6 +190,17 @@ public class HFileContext implements HeapSize, Cloneable {
     this.cryptoContext = cryptoContext;
   }
 
+  /**
+   * @return the dictionary data blocks are compressed against, or null
+   */
+  public byte[] getCompressionDictionary() {
+    return compressionDictionary;
+  }
+
+  public void setCompressionDictionary(byte[] compressionDictionary) {
+    this.compressionDictionary = compressionDictionary;
+  }
+
   /**
    * HeapSize implementation
    * NOTE : The heapsize should be altered as and when new state variable are added
@@ -195,8 +209,9 @@ public class HFileContext implements HeapSize, Cloneable {
   @Override
   public long heapSize() {
     long size = ClassSize.align(ClassSize.OBJECT +
-        // Algorithm reference, encodingon, checksumtype, Encryption.Context reference
-        4 * ClassSize.REFERENCE +
+        // Algorithm reference, encodingon, checksumtype, Encryption.Context reference,
+        // compression dictionary reference
+        5 * ClassSize.REFERENCE +
         2 * Bytes.SIZEOF_INT +
         // usesHBaseChecksum, includesMvcc, includesTags and compressTags
         4 * Bytes.SIZEOF_BOOLEAN +
@@ -227,6 +242,9 @@ public class HFileContext implements HeapSize, Cloneable {
     sb.append(" compressAlgo=");      sb.append(compressAlgo);
     sb.append(" compressTags=");      sb.append(compressTags);
     sb.append(" cryptoContext=[ ");   sb.append(cryptoContext);      sb.append(" ]");
+    if (compressionDictionary != null) {
+      sb.append(" compressionDictionary="); sb.append(compressionDictionary.length);
+    }
     sb.append(" ]");
     return sb.toString();
   }
@@ -52,6 +52,7 @@ public class HFileContextBuilder {
   /** Crypto context */
   private Encryption.Context cryptoContext = Encryption.Context.NONE;
   private long fileCreateTime = 0;
+  private byte[] compressionDictionary;
 
   public HFileContextBuilder withHBaseCheckSum(boolean useHBaseCheckSum) {
     this.usesHBaseChecksum = useHBaseCheckSum;
@@ -108,9 +109,16 @@ public class HFileContextBuilder {
     return this;
   }
 
+  public HFileContextBuilder withCompressionDictionary(byte[] compressionDictionary) {
+    this.compressionDictionary = compressionDictionary;
+    return this;
+  }
+
   public HFileContext build() {
-    return new HFileContext(usesHBaseChecksum, includesMvcc, includesTags, compression,
-        compressTags, checksumType, bytesPerChecksum, blocksize, encoding, cryptoContext,
-        fileCreateTime);
+    HFileContext context = new HFileContext(usesHBaseChecksum, includesMvcc, includesTags,
+        compression, compressTags, checksumType, bytesPerChecksum, blocksize, encoding,
+        cryptoContext, fileCreateTime);
+    context.setCompressionDictionary(compressionDictionary);
+    return context;
   }
 }
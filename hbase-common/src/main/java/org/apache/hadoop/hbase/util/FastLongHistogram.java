@@ -26,7 +26,9 @@ import org.apache.hadoop.hbase.classification.InterfaceStability;
 
 /**
  * FastLongHistogram is a thread-safe class that estimate distribution of data and computes the
- * quantiles.
+ * quantiles. Adding a value takes no lock; the counts are striped so that threads adding at the
+ * same time do not contend on the same counters, and are only summed up when the quantiles are
+ * computed.
  */
 @InterfaceAudience.Public
 @InterfaceStability.Evolving
@@ -35,7 +37,17 @@ public class FastLongHistogram {
    * Bins is a class containing a list of buckets(or bins) for estimation histogram of some data.
    */
   private static class Bins {
-    private final AtomicLongArray counts;
+    /**
+     * Upper bound of the number of stripes of the counts; more threads than processors cannot
+     * add at the same time anyway.
+     */
+    private static final int MAX_STRIPES =
+        Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+    // Copies of the counts, a power of two of them. Starts with one and doubles each time
+    // threads are found contending on a count, up to MAX_STRIPES.
+    private volatile AtomicLongArray[] stripes;
+    private final int numOfCounts;
     // inclusive
     private final long binsMin;
     // exclusive
@@ -51,7 +63,8 @@ public class FastLongHistogram {
      * The constructor for creating a Bins without any prior data.
      */
     public Bins() {
-      this.counts = new AtomicLongArray(4);
+      this.numOfCounts = 4;
+      this.stripes = new AtomicLongArray[] { new AtomicLongArray(numOfCounts) };
       this.binsMin = 0L;
       this.binsMax = Long.MAX_VALUE;
       this.bins10XMax = Long.MAX_VALUE;
@@ -72,7 +85,12 @@ public class FastLongHistogram {
       this.binsMax = Math.max(binsMax, this.binsMin + numOfBins);
       this.bins10XMax = Math.max((long) (values[1] + (binsMax - 1) * 9), this.binsMax + 1);
 
-      this.counts = new AtomicLongArray(numOfBins + 3);
+      this.numOfCounts = numOfBins + 3;
+      // As many stripes as the last Bins ended up with, the contention is likely to be the same.
+      this.stripes = new AtomicLongArray[last.stripes.length];
+      for (int i = 0; i < this.stripes.length; i++) {
+        this.stripes[i] = new AtomicLongArray(numOfCounts);
+      }
     }
 
     /**
@@ -83,20 +101,77 @@ public class FastLongHistogram {
       AtomicUtils.updateMax(max, value);
 
       if (value < this.binsMin) {
-        this.counts.addAndGet(0, count);
+        addToCount(0, count);
       } else if (value > this.bins10XMax) {
-        this.counts.addAndGet(this.counts.length() - 1, count);
+        addToCount(this.numOfCounts - 1, count);
       } else if (value >= this.binsMax) {
-        this.counts.addAndGet(this.counts.length() - 2, count);
+        addToCount(this.numOfCounts - 2, count);
       } else {
         // compute the position
         int pos =
-            1 + (int) ((value - this.binsMin) * (this.counts.length() - 3) / (this.binsMax - this.binsMin));
-        this.counts.addAndGet(pos, count);
+            1 + (int) ((value - this.binsMin) * (this.numOfCounts - 3) / (this.binsMax - this.binsMin));
+        addToCount(pos, count);
+      }
+
+      // hasData needs to be updated as last. Only write it once, so threads adding values do not
+      // keep invalidating its cache line.
+      if (!this.hasData.get()) {
+        this.hasData.set(true);
       }
+    }
 
-      // hasData needs to be updated as last
-      this.hasData.set(true);
+    private void addToCount(int pos, long count) {
+      AtomicLongArray[] stripes = this.stripes;
+      AtomicLongArray counts = stripes[stripeIndex() & (stripes.length - 1)];
+      long cur = counts.get(pos);
+      if (!counts.compareAndSet(pos, cur, cur + count)) {
+        // Another thread is adding to the same stripe, spread the threads over more of them.
+        if (stripes.length < MAX_STRIPES) {
+          addStripes(stripes);
+        }
+        counts.addAndGet(pos, count);
+      }
+    }
+
+    private synchronized void addStripes(AtomicLongArray[] current) {
+      if (this.stripes != current) {
+        // Another thread did it already.
+        return;
+      }
+      AtomicLongArray[] stripes = new AtomicLongArray[current.length * 2];
+      System.arraycopy(current, 0, stripes, 0, current.length);
+      for (int i = current.length; i < stripes.length; i++) {
+        stripes[i] = new AtomicLongArray(numOfCounts);
+      }
+      this.stripes = stripes;
+    }
+
+    private static int stripeIndex() {
+      int h = (int) Thread.currentThread().getId();
+      // Bit spreader, borrowed from Doug Lea
+      h ^= (h >>> 20) ^ (h >>> 12);
+      return h ^ (h >>> 7) ^ (h >>> 4);
+    }
+
+    /**
+     * @return the sum of the counts over all stripes, not an atomic snapshot
+     */
+    private long[] getCounts() {
+      long[] counts = new long[this.numOfCounts];
+      for (AtomicLongArray stripe : this.stripes) {
+        for (int i = 0; i < counts.length; i++) {
+          counts[i] += stripe.get(i);
+        }
+      }
+      return counts;
+    }
+
+    public long getCount() {
+      long count = 0L;
+      for (long c : getCounts()) {
+        count += c;
+      }
+      return count;
     }
     
     /**
@@ -112,10 +187,9 @@ public class FastLongHistogram {
       // Make a snapshot of lowerCounter, higherCounter and bins.counts to counts.
       // This is not synchronized, but since the counter are accumulating, the result is a good
       // estimation of a snapshot.
-      long[] counts = new long[this.counts.length()];
+      long[] counts = getCounts();
       long total = 0L;
-      for (int i = 0; i < this.counts.length(); i++) {
-        counts[i] = this.counts.get(i);
+      for (int i = 0; i < counts.length; i++) {
         total += counts[i];
       }
 
@@ -137,8 +211,8 @@ public class FastLongHistogram {
           mn = this.binsMax;
           mx = this.bins10XMax;
         } else {
-          mn = this.binsMin + (i - 1) * (this.binsMax - this.binsMin) / (this.counts.length() - 3);
-          mx = this.binsMin + i * (this.binsMax - this.binsMin) / (this.counts.length() - 3);
+          mn = this.binsMin + (i - 1) * (this.binsMax - this.binsMin) / (this.numOfCounts - 3);
+          mx = this.binsMin + i * (this.binsMax - this.binsMin) / (this.numOfCounts - 3);
         }
 
         if (mx < this.min.get()) {
@@ -179,7 +253,8 @@ public class FastLongHistogram {
     }
   }
 
-  // The bins counting values. It is replaced with a new one in calling of reset().
+  // The bins counting values. It is replaced with a new one in calling of reset() and
+  // snapshotAndReset().
   private volatile Bins bins = new Bins();
   // The quantiles for creating a Bins with last Bins.
   private final int numOfBins;
@@ -193,6 +268,11 @@ public class FastLongHistogram {
     this.numOfBins = numOfBins;
   }
 
+  private FastLongHistogram(int numOfBins, Bins bins) {
+    this.numOfBins = numOfBins;
+    this.bins = bins;
+  }
+
   /**
    * Constructor setting the bins assuming a uniform distribution within a range.
    * @param numOfBins the number of bins for the histogram. A larger value results in more precise
@@ -222,12 +302,36 @@ public class FastLongHistogram {
     return this.bins.getQuantiles(quantiles);
   }
 
+  /**
+   * @return the number of values added since the last reset
+   */
+  public long getCount() {
+    return this.bins.getCount();
+  }
+
   /**
    * Resets the histogram for new counting.
    */
   public void reset() {
-    if (this.bins.hasData.get()) {
-      this.bins = new Bins(this.bins, numOfBins, 0.01, 0.99);
+    snapshotAndReset();
+  }
+
+  /**
+   * Resets the histogram for new counting.
+   * <p>
+   * A value added by another thread at the same time ends up in either the returned histogram or
+   * this one, never both and never neither. But an add that picked up the old bins just before
+   * the reset may reach the returned histogram only after the caller has read it, so per window
+   * up to one value per adding thread can be missing from what the caller sees. Closing that gap
+   * would need adds to coordinate with the reset, and they are kept lock-free instead.
+   * @return a histogram of the values added before the reset, or null if there were none
+   */
+  public FastLongHistogram snapshotAndReset() {
+    Bins last = this.bins;
+    if (!last.hasData.get()) {
+      return null;
     }
+    this.bins = new Bins(last, numOfBins, 0.01, 0.99);
+    return new FastLongHistogram(numOfBins, last);
   }
 }
@@ -118,4 +118,37 @@ public class TestCellComparator {
     assertEquals(0, CellComparator.COMPARATOR.compareRows(bbCell2, bbCell3));
     assertTrue(CellComparator.COMPARATOR.compareRows(bbCell1, bbCell2) < 0);
   }
+
+  @Test
+  public void testCompareColumnsAcrossBuffers() {
+    byte[][] quals = { Bytes.toBytes(""), Bytes.toBytes("a"), Bytes.toBytes("ab"),
+        Bytes.toBytes("abcdefghij"), Bytes.toBytes("abcdefghijk"), Bytes.toBytes("b") };
+    byte[][] fams = { fam1, fam2 };
+    KeyValue[] kvs = new KeyValue[fams.length * quals.length];
+    for (int f = 0; f < fams.length; f++) {
+      for (int q = 0; q < quals.length; q++) {
+        kvs[f * quals.length + q] = new KeyValue(row1, fams[f], quals[q], 1L, val);
+      }
+    }
+    for (int i = 0; i < kvs.length; i++) {
+      for (int j = 0; j < kvs.length; j++) {
+        int expected = Integer.signum(Integer.compare(i, j));
+        Cell left = kvs[i];
+        Cell right = kvs[j];
+        Cell heapLeft = toByteBufferedCell(kvs[i], false);
+        Cell directRight = toByteBufferedCell(kvs[j], true);
+        assertEquals(expected, Integer.signum(comparator.compare(left, right)));
+        assertEquals(expected, Integer.signum(comparator.compare(heapLeft, right)));
+        assertEquals(expected, Integer.signum(comparator.compare(left, directRight)));
+        assertEquals(expected, Integer.signum(comparator.compare(heapLeft, directRight)));
+      }
+    }
+  }
+
+  private static Cell toByteBufferedCell(KeyValue kv, boolean direct) {
+    ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(kv.getLength())
+        : ByteBuffer.allocate(kv.getLength());
+    buffer.put(kv.getBuffer(), kv.getOffset(), kv.getLength());
+    return new ByteBufferedCellImpl(buffer, 0, kv.getLength());
+  }
 }
\ No newline at end of file
@@ -19,13 +19,16 @@ package org.apache.hadoop.hbase.codec;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.testclassification.MiscTests;
@@ -123,4 +126,51 @@ public class TestKeyValueCodec {
     dis.close();
     assertEquals((length * 3), cis.getCount());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testDecodeFromBuffer() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    KeyValueCodec kvc = new KeyValueCodec();
+    Codec.Encoder encoder = kvc.getEncoder(baos);
+    KeyValue[] kvs = new KeyValue[3];
+    for (int i = 0; i < kvs.length; i++) {
+      kvs[i] = new KeyValue(Bytes.toBytes("r"), Bytes.toBytes("f"), Bytes.toBytes(i),
+        Bytes.toBytes(i));
+      encoder.write(kvs[i]);
+    }
+    encoder.flush();
+    byte[] block = new byte[baos.size() + 2];
+    System.arraycopy(baos.toByteArray(), 0, block, 1, baos.size());
+    for (ByteBuffer buf : new ByteBuffer[] { ByteBuffer.wrap(block, 1, baos.size()),
+        (ByteBuffer) ByteBuffer.allocateDirect(baos.size()).put(baos.toByteArray()).flip() }) {
+      Codec.Decoder decoder = kvc.getDecoder(buf);
+      for (KeyValue expected : kvs) {
+        assertTrue(decoder.advance());
+        KeyValue kv = (KeyValue) decoder.current();
+        assertTrue(expected.equals(kv));
+        assertEquals(expected.getTimestamp(), kv.getTimestamp());
+        assertTrue(Bytes.equals(expected.getValueArray(), expected.getValueOffset(),
+          expected.getValueLength(), kv.getValueArray(), kv.getValueOffset(),
+          kv.getValueLength()));
+        if (buf.hasArray()) {
+          // A view into the block, not a copy
+          assertSame(block, kv.getBuffer());
+        }
+      }
+      assertFalse(decoder.advance());
+    }
+  }
+
+  @Test(expected = EOFException.class)
+  public void testDecodeTruncatedBuffer() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    KeyValueCodec kvc = new KeyValueCodec();
+    Codec.Encoder encoder = kvc.getEncoder(baos);
+    encoder.write(new KeyValue(Bytes.toBytes("r"), Bytes.toBytes("f"), Bytes.toBytes("q"),
+      Bytes.toBytes("v")));
+    encoder.flush();
+    Codec.Decoder decoder = kvc.getDecoder(ByteBuffer.wrap(baos.toByteArray(), 0,
+      baos.size() - 1));
+    decoder.advance();
+  }
+}
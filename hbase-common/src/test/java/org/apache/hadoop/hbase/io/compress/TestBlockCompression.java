@@ -0,0 +1,245 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.io.compress;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.hbase.testclassification.MiscTests;
+import org.apache.hadoop.hbase.testclassification.SmallTests;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.util.NativeCodeLoader;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category({MiscTests.class, SmallTests.class})
+public class TestBlockCompression {
+
+  private static final int[] SIZES = { 0, 1, 100, 64 * 1024, 600 * 1024 };
+
+  private static List<Compression.Algorithm> getAvailableAlgorithms() {
+    List<Compression.Algorithm> algos = new ArrayList<Compression.Algorithm>();
+    algos.add(Compression.Algorithm.GZ);
+    if (NativeCodeLoader.isNativeCodeLoaded()) {
+      algos.add(Compression.Algorithm.LZ4);
+      if (NativeCodeLoader.buildSupportsSnappy()) {
+        algos.add(Compression.Algorithm.SNAPPY);
+      }
+    }
+    return algos;
+  }
+
+  /** Compressible data: random words from a small vocabulary. */
+  private static byte[] createData(int size) {
+    Random rand = new Random(size);
+    byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = (byte) ('a' + rand.nextInt(8));
+    }
+    return data;
+  }
+
+  private static byte[] compressWithStream(Compression.Algorithm algo, byte[] data)
+      throws IOException {
+    Compressor compressor = algo.getCompressor();
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      CompressionOutputStream stream = algo.createPlainCompressionStream(out, compressor);
+      stream.resetState();
+      stream.write(data, 0, data.length);
+      stream.flush();
+      stream.finish();
+      return out.toByteArray();
+    } finally {
+      algo.returnCompressor(compressor);
+    }
+  }
+
+  private static byte[] decompressWithStream(Compression.Algorithm algo, byte[] compressed,
+      int size) throws IOException {
+    byte[] data = new byte[size];
+    Compression.decompress(data, 0, new ByteArrayInputStream(compressed), compressed.length,
+      size, algo);
+    return data;
+  }
+
+  private static byte[] compress(Compression.Algorithm algo, byte[] data, boolean direct)
+      throws IOException {
+    BlockCompressor compressor = new BlockCompressor(algo);
+    try {
+      ByteBuffer src = direct ? ByteBuffer.allocateDirect(data.length) : ByteBuffer.allocate(
+        data.length);
+      src.put(data);
+      src.flip();
+      int maxLength = compressor.getMaxCompressedLength(data.length);
+      ByteBuffer dst = direct ? ByteBuffer.allocateDirect(maxLength) : ByteBuffer.allocate(
+        maxLength);
+      int length = compressor.compress(src, dst);
+      assertEquals(length, dst.position());
+      assertEquals(0, src.position());
+      dst.flip();
+      byte[] compressed = new byte[length];
+      dst.get(compressed);
+      return compressed;
+    } finally {
+      compressor.close();
+    }
+  }
+
+  private static byte[] decompress(Compression.Algorithm algo, byte[] compressed, int size,
+      boolean direct) throws IOException {
+    // Trailing bytes after the compressed data, like checksums, are to be ignored
+    byte[] withTrailer = Arrays.copyOf(compressed, compressed.length + 4);
+    ByteBuffer src = direct ? ByteBuffer.allocateDirect(withTrailer.length) : ByteBuffer.allocate(
+      withTrailer.length);
+    src.put(withTrailer);
+    src.flip();
+    ByteBuffer dst = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    BlockCompression.decompress(algo, src, dst);
+    assertEquals(0, dst.position());
+    byte[] data = new byte[size];
+    dst.get(data);
+    return data;
+  }
+
+  @Test
+  public void testReadsStreamCompressedBlocks() throws IOException {
+    for (Compression.Algorithm algo : getAvailableAlgorithms()) {
+      for (int size : SIZES) {
+        byte[] data = createData(size);
+        byte[] compressed = compressWithStream(algo, data);
+        assertArrayEquals(algo + " " + size, data, decompress(algo, compressed, size, false));
+        assertArrayEquals(algo + " " + size, data, decompress(algo, compressed, size, true));
+      }
+    }
+  }
+
+  @Test
+  public void testWritesStreamCompatibleBlocks() throws IOException {
+    for (Compression.Algorithm algo : getAvailableAlgorithms()) {
+      for (int size : SIZES) {
+        byte[] data = createData(size);
+        byte[] compressed = compress(algo, data, false);
+        assertArrayEquals(algo + " " + size, compressWithStream(algo, data), compressed);
+        assertArrayEquals(algo + " " + size, compressed, compress(algo, data, true));
+        assertArrayEquals(algo + " " + size, data, decompressWithStream(algo, compressed, size));
+      }
+    }
+  }
+
+  @Test
+  public void testTruncatedBlock() throws IOException {
+    for (Compression.Algorithm algo : getAvailableAlgorithms()) {
+      byte[] data = createData(64 * 1024);
+      byte[] compressed = compress(algo, data, false);
+      try {
+        BlockCompression.decompress(algo, ByteBuffer.wrap(compressed, 0, compressed.length / 2),
+          ByteBuffer.allocate(data.length));
+        fail(algo + " should not decompress a truncated block");
+      } catch (IOException e) {
+        // expected
+      }
+    }
+  }
+
+  /** Small JSON documents with the same fields. */
+  private static List<byte[]> createDocuments(int count, long seed) {
+    Random rand = new Random(seed);
+    String[] states = { "active", "suspended", "deleted", "pending" };
+    List<byte[]> documents = new ArrayList<byte[]>(count);
+    for (int i = 0; i < count; i++) {
+      documents.add(Bytes.toBytes("{\"user_id\":" + rand.nextInt(1000000)
+          + ",\"account_state\":\"" + states[rand.nextInt(states.length)]
+          + "\",\"last_login_timestamp\":" + (1400000000000L + rand.nextInt())
+          + ",\"preferences\":{\"newsletter\":" + rand.nextBoolean() + "}}"));
+    }
+    return documents;
+  }
+
+  @Test
+  public void testDictionary() throws IOException {
+    Compression.Algorithm algo = Compression.Algorithm.GZ;
+    byte[] dictionary = DictionaryTrainer.train(createDocuments(2000, 1), 4 * 1024);
+    assertNotNull(dictionary);
+    assertTrue(dictionary.length <= 4 * 1024);
+
+    ByteArrayOutputStream block = new ByteArrayOutputStream();
+    for (byte[] document : createDocuments(10, 2)) {
+      block.write(document);
+    }
+    byte[] data = block.toByteArray();
+    BlockCompressor compressor = new BlockCompressor(algo, dictionary);
+    byte[] compressed = new byte[compressor.getMaxCompressedLength(data.length)];
+    int length = compressor.compress(ByteBuffer.wrap(data), ByteBuffer.wrap(compressed));
+    compressor.close();
+    assertTrue(length < compress(algo, data, false).length);
+
+    byte[] decompressed = new byte[data.length];
+    BlockCompression.decompress(algo, dictionary, ByteBuffer.wrap(compressed, 0, length),
+      ByteBuffer.wrap(decompressed));
+    assertArrayEquals(data, decompressed);
+    // The inflater of the thread is reused, also after failing on another dictionary
+    try {
+      BlockCompression.decompress(algo, Bytes.toBytes("another dictionary"),
+        ByteBuffer.wrap(compressed, 0, length), ByteBuffer.wrap(new byte[data.length]));
+      fail("Should not decompress against another dictionary");
+    } catch (IOException e) {
+      // expected
+    }
+    decompressed = new byte[data.length];
+    BlockCompression.decompress(algo, dictionary, ByteBuffer.wrap(compressed, 0, length),
+      ByteBuffer.wrap(decompressed));
+    assertArrayEquals(data, decompressed);
+    // Blocks written without the dictionary are still read
+    BlockCompression.decompress(algo, dictionary, ByteBuffer.wrap(compress(algo, data, false)),
+      ByteBuffer.wrap(decompressed));
+    assertArrayEquals(data, decompressed);
+  }
+
+  @Test
+  public void testNoDictionaryWithoutCommonStrings() {
+    List<byte[]> samples = new ArrayList<byte[]>();
+    Random rand = new Random(1);
+    for (int i = 0; i < 100; i++) {
+      byte[] sample = new byte[100];
+      rand.nextBytes(sample);
+      samples.add(sample);
+    }
+    assertEquals(null, DictionaryTrainer.train(samples, 1024));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedAlgorithm() throws IOException {
+    BlockCompression.decompress(Compression.Algorithm.NONE, ByteBuffer.allocate(0),
+      ByteBuffer.allocate(0));
+  }
+}
@@ -17,7 +17,9 @@
  */
 package org.apache.hadoop.hbase.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 import org.apache.hadoop.hbase.testclassification.MiscTests;
@@ -88,6 +90,97 @@ public class TestFastLongHistogram {
     }
   }
 
+  @Test
+  public void testConcurrentAdds() throws InterruptedException {
+    final FastLongHistogram hist = new FastLongHistogram(100, 0, 1000);
+    final int numOfThreads = 8;
+    final int valuesPerThread = 10000;
+    Thread[] threads = new Thread[numOfThreads];
+    for (int t = 0; t < numOfThreads; t++) {
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          for (int i = 0; i < valuesPerThread; i++) {
+            hist.add(i % 1000, 1);
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(numOfThreads * valuesPerThread, hist.getCount());
+
+    FastLongHistogram last = hist.snapshotAndReset();
+    Assert.assertEquals(numOfThreads * valuesPerThread, last.getCount());
+    long[] vals = last.getQuantiles(new double[] { 0.5 });
+    Assert.assertTrue("Out of possible value", Math.abs(vals[0] - 500) <= 50);
+    Assert.assertEquals(0, hist.getCount());
+    Assert.assertNull(hist.snapshotAndReset());
+  }
+
+  @Test
+  public void testSnapshotAndReset() {
+    FastLongHistogram hist = new FastLongHistogram(100);
+    Assert.assertNull(hist.snapshotAndReset());
+
+    hist.add(10, 5);
+    FastLongHistogram first = hist.snapshotAndReset();
+    hist.add(1000, 3);
+    // The snapshot only has the values added before the reset, the histogram the ones after
+    Assert.assertEquals(5, first.getCount());
+    Assert.assertEquals(10, first.getQuantiles(new double[] { 0.99 })[0]);
+    Assert.assertEquals(3, hist.getCount());
+    Assert.assertEquals(1000, hist.getQuantiles(new double[] { 0.01 })[0]);
+
+    FastLongHistogram second = hist.snapshotAndReset();
+    Assert.assertEquals(3, second.getCount());
+    Assert.assertEquals(1000, second.getQuantiles(new double[] { 0.5 })[0]);
+    Assert.assertEquals(0, hist.getCount());
+    Assert.assertNull(hist.snapshotAndReset());
+  }
+
+  @Test
+  public void testSnapshotAndResetWhileAdding() throws InterruptedException {
+    final FastLongHistogram hist = new FastLongHistogram(100, 0, 1000);
+    final int numOfThreads = 4;
+    final int valuesPerThread = 100000;
+    Thread[] threads = new Thread[numOfThreads];
+    for (int t = 0; t < numOfThreads; t++) {
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          for (int i = 0; i < valuesPerThread; i++) {
+            hist.add(i % 1000, 1);
+          }
+        }
+      };
+      threads[t].start();
+    }
+    List<FastLongHistogram> windows = new ArrayList<FastLongHistogram>();
+    boolean adding = true;
+    while (adding) {
+      adding = false;
+      for (Thread thread : threads) {
+        adding |= thread.isAlive();
+      }
+      FastLongHistogram window = hist.snapshotAndReset();
+      if (window != null) {
+        windows.add(window);
+      }
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    // Every value went to exactly one window, though some may have reached it after the reset
+    long total = hist.getCount();
+    for (FastLongHistogram window : windows) {
+      total += window.getCount();
+    }
+    Assert.assertEquals(numOfThreads * valuesPerThread, total);
+  }
+
   @Test
   public void testSameValues() {
     FastLongHistogram hist = new FastLongHistogram(100);
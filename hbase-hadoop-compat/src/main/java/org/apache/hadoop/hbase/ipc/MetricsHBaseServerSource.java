@@ -44,6 +44,18 @@ public interface MetricsHBaseServerSource extends BaseSource {
   String PROCESS_CALL_TIME_DESC = "Processing call time.";
   String TOTAL_CALL_TIME_NAME = "totalCallTime";
   String TOTAL_CALL_TIME_DESC = "Total call time, including both queued and processing time.";
+  String ROW_LOCK_WAIT_TIME_NAME = "rowLockWaitTime";
+  String ROW_LOCK_WAIT_TIME_DESC = "Time a call waited for row locks, in microseconds.";
+  String MVCC_WAIT_TIME_NAME = "mvccWaitTime";
+  String MVCC_WAIT_TIME_DESC =
+      "Time a call waited for earlier writes to become visible, in microseconds.";
+  String FS_READ_TIME_NAME = "fsReadTime";
+  String FS_READ_TIME_DESC =
+      "Time a call spent reading blocks from the file system, in microseconds.";
+  String FILTER_TIME_NAME = "filterTime";
+  String FILTER_TIME_DESC = "Time a call spent evaluating filters on cells, in microseconds.";
+  String RESPONSE_TIME_NAME = "responseTime";
+  String RESPONSE_TIME_DESC = "Time spent building the response of a call, in microseconds.";
   String QUEUE_SIZE_NAME = "queueSize";
   String QUEUE_SIZE_DESC = "Number of bytes in the call queues.";
   String GENERAL_QUEUE_NAME = "numCallsInGeneralQueue";
@@ -57,6 +69,9 @@ public interface MetricsHBaseServerSource extends BaseSource {
   String NUM_OPEN_CONNECTIONS_DESC = "Number of open connections.";
   String NUM_ACTIVE_HANDLER_NAME = "numActiveHandler";
   String NUM_ACTIVE_HANDLER_DESC = "Number of active rpc handlers.";
+  String NUM_LIFO_MODE_SWITCHES_NAME = "numLifoModeSwitches";
+  String NUM_LIFO_MODE_SWITCHES_DESC =
+      "Number of times the general call queues switched to LIFO because of overload.";
 
   String EXCEPTIONS_NAME="exceptions";
   String EXCEPTIONS_DESC="Exceptions caused by requests";
@@ -67,6 +82,7 @@ public interface MetricsHBaseServerSource extends BaseSource {
   String EXCEPTIONS_SANITY_NAME="exceptions.FailedSanityCheckException";
   String EXCEPTIONS_MOVED_NAME="exceptions.RegionMovedException";
   String EXCEPTIONS_NSRE_NAME="exceptions.NotServingRegionException";
+  String EXCEPTIONS_CALL_DROPPED="exceptions.CallDroppedException";
 
   void authorizationSuccess();
 
@@ -87,6 +103,7 @@ public interface MetricsHBaseServerSource extends BaseSource {
   void notServingRegionException();
   void unknownScannerException();
   void tooBusyException();
+  void callDroppedException();
 
   void sentBytes(long count);
 
@@ -97,4 +114,12 @@ public interface MetricsHBaseServerSource extends BaseSource {
   void processedCall(int processingTime);
 
   void queuedAndProcessedCall(int totalTime);
+
+  /**
+   * Time a call spent in one phase of its processing.
+   * @param phaseName the metric name of the phase, one of ROW_LOCK_WAIT_TIME_NAME,
+   *          MVCC_WAIT_TIME_NAME, FS_READ_TIME_NAME, FILTER_TIME_NAME or RESPONSE_TIME_NAME
+   * @param timeUs time spent in the phase, in microseconds
+   */
+  void callPhase(String phaseName, long timeUs);
   }
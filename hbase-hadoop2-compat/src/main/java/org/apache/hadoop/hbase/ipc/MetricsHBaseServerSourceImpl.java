@@ -46,6 +46,7 @@ public class MetricsHBaseServerSourceImpl extends BaseSourceImpl
   private final MutableCounterLong exceptionsSanity;
   private final MutableCounterLong exceptionsNSRE;
   private final MutableCounterLong exceptionsMoved;
+  private final MutableCounterLong exceptionsCallDropped;
 
 
   private MutableHistogram queueCallTime;
@@ -78,6 +79,8 @@ public class MetricsHBaseServerSourceImpl extends BaseSourceImpl
         .newCounter(EXCEPTIONS_MOVED_NAME, EXCEPTIONS_TYPE_DESC, 0L);
     this.exceptionsNSRE = this.getMetricsRegistry()
         .newCounter(EXCEPTIONS_NSRE_NAME, EXCEPTIONS_TYPE_DESC, 0L);
+    this.exceptionsCallDropped = this.getMetricsRegistry()
+        .newCounter(EXCEPTIONS_CALL_DROPPED, EXCEPTIONS_TYPE_DESC, 0L);
 
     this.authenticationSuccesses = this.getMetricsRegistry().newCounter(
         AUTHENTICATION_SUCCESSES_NAME, AUTHENTICATION_SUCCESSES_DESC, 0L);
@@ -93,6 +96,12 @@ public class MetricsHBaseServerSourceImpl extends BaseSourceImpl
         PROCESS_CALL_TIME_DESC);
     this.totalCallTime = this.getMetricsRegistry().newHistogram(TOTAL_CALL_TIME_NAME,
         TOTAL_CALL_TIME_DESC);
+    // Published with updateHistogram(), only created here to give them a description.
+    this.getMetricsRegistry().newHistogram(ROW_LOCK_WAIT_TIME_NAME, ROW_LOCK_WAIT_TIME_DESC);
+    this.getMetricsRegistry().newHistogram(MVCC_WAIT_TIME_NAME, MVCC_WAIT_TIME_DESC);
+    this.getMetricsRegistry().newHistogram(FS_READ_TIME_NAME, FS_READ_TIME_DESC);
+    this.getMetricsRegistry().newHistogram(FILTER_TIME_NAME, FILTER_TIME_DESC);
+    this.getMetricsRegistry().newHistogram(RESPONSE_TIME_NAME, RESPONSE_TIME_DESC);
   }
 
   @Override
@@ -145,6 +154,11 @@ public class MetricsHBaseServerSourceImpl extends BaseSourceImpl
     exceptionsBusy.incr();
   }
 
+  @Override
+  public void callDroppedException() {
+    exceptionsCallDropped.incr();
+  }
+
   @Override
   public void authenticationSuccess() {
     authenticationSuccesses.incr();
@@ -175,6 +189,11 @@ public class MetricsHBaseServerSourceImpl extends BaseSourceImpl
     totalCallTime.add(totalTime);
   }
 
+  @Override
+  public void callPhase(String phaseName, long timeUs) {
+    updateHistogram(phaseName, timeUs);
+  }
+
   @Override
   public void getMetrics(MetricsCollector metricsCollector, boolean all) {
     MetricsRecordBuilder mrb = metricsCollector.addRecord(metricsName);
@@ -190,7 +209,9 @@ public class MetricsHBaseServerSourceImpl extends BaseSourceImpl
           .addGauge(Interns.info(NUM_OPEN_CONNECTIONS_NAME,
               NUM_OPEN_CONNECTIONS_DESC), wrapper.getNumOpenConnections())
           .addGauge(Interns.info(NUM_ACTIVE_HANDLER_NAME,
-              NUM_ACTIVE_HANDLER_DESC), wrapper.getActiveRpcHandlerCount());
+              NUM_ACTIVE_HANDLER_DESC), wrapper.getActiveRpcHandlerCount())
+          .addGauge(Interns.info(NUM_LIFO_MODE_SWITCHES_NAME,
+              NUM_LIFO_MODE_SWITCHES_DESC), wrapper.getNumLifoModeSwitches());
     }
 
     metricsRegistry.snapshot(mrb, all);
@@ -20,25 +20,27 @@ package org.apache.hadoop.metrics2.lib;
 
 import static org.apache.hadoop.metrics2.lib.Interns.info;
 
-import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.FastLongHistogram;
 import org.apache.hadoop.metrics2.MetricHistogram;
 import org.apache.hadoop.metrics2.MetricsExecutor;
 import org.apache.hadoop.metrics2.MetricsInfo;
 import org.apache.hadoop.metrics2.MetricsRecordBuilder;
 import org.apache.hadoop.metrics2.util.MetricQuantile;
-import org.apache.hadoop.metrics2.util.MetricSampleQuantiles;
 
 import com.google.common.annotations.VisibleForTesting;
 
 /**
- * Watches a stream of long values, maintaining online estimates of specific quantiles with provably
- * low error bounds. This is particularly useful for accurate high-percentile (e.g. 95th, 99th)
- * latency metrics.
+ * Watches a stream of long values and estimates specific quantiles of each interval, e.g. for
+ * high-percentile (95th, 99th) latency metrics. Values are counted in a lock-free
+ * {@link FastLongHistogram}; the quantiles are computed from it once per interval, when it is
+ * rolled over. They are approximations whose error depends on how the values spread over the
+ * histogram's bins; the error targets of the {@link MetricQuantile}s are not enforced.
  */
 @InterfaceAudience.Private
 public class MetricMutableQuantiles extends MutableMetric implements MetricHistogram {
@@ -47,11 +49,13 @@ public class MetricMutableQuantiles extends MutableMetric implements MetricHisto
       new MetricQuantile(0.75, 0.025), new MetricQuantile(0.90, 0.010),
       new MetricQuantile(0.95, 0.005), new MetricQuantile(0.99, 0.001)};
 
+  private static final int NUM_BINS = 255;
+
   private final MetricsInfo numInfo;
   private final MetricsInfo[] quantileInfos;
   private final int interval;
 
-  private MetricSampleQuantiles estimator;
+  private final FastLongHistogram histogram = new FastLongHistogram(NUM_BINS);
   private long previousCount = 0;
   private MetricsExecutor executor;
 
@@ -90,7 +94,6 @@ public class MetricMutableQuantiles extends MutableMetric implements MetricHisto
           String.format(descTemplate, percentile, lvName, interval, desc));
     }
 
-    estimator = new MetricSampleQuantiles(quantiles);
     executor = new MetricsExecutorImpl();
     this.interval = interval;
     executor.getExecutor().scheduleAtFixedRate(new RolloverSample(this),
@@ -117,15 +120,15 @@ public class MetricMutableQuantiles extends MutableMetric implements MetricHisto
     }
   }
 
-  public synchronized void add(long value) {
-    estimator.insert(value);
+  public void add(long value) {
+    histogram.add(value, 1);
   }
 
   public int getInterval() {
     return interval;
   }
 
-  /** Runnable used to periodically roll over the internal {@link org.apache.hadoop.metrics2.util.MetricSampleQuantiles} every interval. */
+  /** Runnable used to periodically roll over the internal {@link FastLongHistogram} every interval. */
   private static class RolloverSample implements Runnable {
 
     MetricMutableQuantiles parent;
@@ -136,16 +139,25 @@ public class MetricMutableQuantiles extends MutableMetric implements MetricHisto
 
     @Override
     public void run() {
-      synchronized (parent) {
-        try {
-          parent.previousCount = parent.estimator.getCount();
-          parent.previousSnapshot = parent.estimator.snapshot();
-        } catch (IOException e) {
-          // Couldn't get a new snapshot because the window was empty
-          parent.previousCount = 0;
-          parent.previousSnapshot = null;
+      FastLongHistogram last = parent.histogram.snapshotAndReset();
+      long count = 0;
+      Map<MetricQuantile, Long> snapshot = null;
+      // The window is empty if there is no histogram of it
+      if (last != null) {
+        double[] ratios = new double[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+          ratios[i] = quantiles[i].quantile;
+        }
+        long[] values = last.getQuantiles(ratios);
+        snapshot = new HashMap<MetricQuantile, Long>(quantiles.length);
+        for (int i = 0; i < quantiles.length; i++) {
+          snapshot.put(quantiles[i], values[i]);
         }
-        parent.estimator.clear();
+        count = last.getCount();
+      }
+      synchronized (parent) {
+        parent.previousCount = count;
+        parent.previousSnapshot = snapshot;
       }
       parent.setChanged();
     }
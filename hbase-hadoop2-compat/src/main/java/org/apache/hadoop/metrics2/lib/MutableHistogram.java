@@ -22,32 +22,39 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.AtomicUtils;
+import org.apache.hadoop.hbase.util.Counter;
+import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
+import org.apache.hadoop.hbase.util.FastLongHistogram;
 import org.apache.hadoop.metrics2.MetricHistogram;
 import org.apache.hadoop.metrics2.MetricsInfo;
 import org.apache.hadoop.metrics2.MetricsRecordBuilder;
 
-import com.yammer.metrics.stats.ExponentiallyDecayingSample;
-import com.yammer.metrics.stats.Sample;
-import com.yammer.metrics.stats.Snapshot;
-
 /**
  * A histogram implementation that runs in constant space, and exports to hadoop2's metrics2 system.
+ * Adding a value takes no lock. The count, min, max and mean cover all values added so far; the
+ * percentiles cover the values added in the last window. A window is rolled over by the first
+ * snapshot at least {@link #PERCENTILES_INTERVAL_MS} after the previous one, so JMX and all sinks
+ * that snapshot within one metrics period report the same window.
  */
 @InterfaceAudience.Private
 public class MutableHistogram extends MutableMetric implements MetricHistogram {
 
-  private static final int DEFAULT_SAMPLE_SIZE = 2046;
-  // the bias towards sampling from more recent data.
-  // Per Cormode et al. an alpha of 0.015 strongly biases to the last 5 minutes
-  private static final double DEFAULT_ALPHA = 0.015;
+  private static final int DEFAULT_NUM_BINS = 255;
+  private static final double[] QUANTILES = { 0.5, 0.75, 0.95, 0.99 };
+  /** Shortest percentile window, the default period of the metrics system */
+  static final long PERCENTILES_INTERVAL_MS = 10000;
 
   private final String name;
   private final String desc;
-  private final Sample sample;
+  private final FastLongHistogram histogram;
   private final AtomicLong min;
   private final AtomicLong max;
-  private final AtomicLong sum;
-  private final AtomicLong count;
+  private final Counter sum;
+  private final Counter count;
+  // guarded by this
+  private long[] percentiles = new long[QUANTILES.length];
+  private long nextRolloverTime = 0;
 
   public MutableHistogram(MetricsInfo info) {
     this(info.name(), info.description());
@@ -56,38 +63,20 @@ public class MutableHistogram extends MutableMetric implements MetricHistogram {
   public MutableHistogram(String name, String description) {
     this.name = StringUtils.capitalize(name);
     this.desc = StringUtils.uncapitalize(description);
-    sample = new ExponentiallyDecayingSample(DEFAULT_SAMPLE_SIZE, DEFAULT_ALPHA);
-    count = new AtomicLong();
+    histogram = new FastLongHistogram(DEFAULT_NUM_BINS);
+    count = new Counter();
     min = new AtomicLong(Long.MAX_VALUE);
     max = new AtomicLong(Long.MIN_VALUE);
-    sum = new AtomicLong();
+    sum = new Counter();
   }
 
   public void add(final long val) {
     setChanged();
-    count.incrementAndGet();
-    sample.update(val);
-    setMax(val);
-    setMin(val);
-    sum.getAndAdd(val);
-  }
-
-  private void setMax(final long potentialMax) {
-    boolean done = false;
-    while (!done) {
-      final long currentMax = max.get();
-      done = currentMax >= potentialMax
-          || max.compareAndSet(currentMax, potentialMax);
-    }
-  }
-
-  private void setMin(long potentialMin) {
-    boolean done = false;
-    while (!done) {
-      final long currentMin = min.get();
-      done = currentMin <= potentialMin
-          || min.compareAndSet(currentMin, potentialMin);
-    }
+    count.increment();
+    histogram.add(val, 1);
+    AtomicUtils.updateMax(max, val);
+    AtomicUtils.updateMin(min, val);
+    sum.add(val);
   }
 
   public long getMax() {
@@ -112,24 +101,39 @@ public class MutableHistogram extends MutableMetric implements MetricHistogram {
     return 0.0;
   }
 
+  /**
+   * @return the percentiles of the last window, rolling the window over if it is due. Values
+   *   added while the window is rolled over may be missed, see
+   *   {@link FastLongHistogram#snapshotAndReset()}.
+   */
+  private synchronized long[] getPercentiles() {
+    long now = EnvironmentEdgeManager.currentTime();
+    if (now >= nextRolloverTime) {
+      FastLongHistogram window = histogram.snapshotAndReset();
+      percentiles = window == null ? new long[QUANTILES.length] : window.getQuantiles(QUANTILES);
+      nextRolloverTime = now + PERCENTILES_INTERVAL_MS;
+    }
+    return percentiles;
+  }
+
   @Override
   public void snapshot(MetricsRecordBuilder metricsRecordBuilder, boolean all) {
     if (all || changed()) {
       clearChanged();
-      final Snapshot s = sample.getSnapshot();
+      long[] percentiles = getPercentiles();
       metricsRecordBuilder.addCounter(Interns.info(name + NUM_OPS_METRIC_NAME, desc), count.get());
 
       metricsRecordBuilder.addGauge(Interns.info(name + MIN_METRIC_NAME, desc), getMin());
       metricsRecordBuilder.addGauge(Interns.info(name + MAX_METRIC_NAME, desc), getMax());
       metricsRecordBuilder.addGauge(Interns.info(name + MEAN_METRIC_NAME, desc), getMean());
 
-      metricsRecordBuilder.addGauge(Interns.info(name + MEDIAN_METRIC_NAME, desc), s.getMedian());
+      metricsRecordBuilder.addGauge(Interns.info(name + MEDIAN_METRIC_NAME, desc), percentiles[0]);
       metricsRecordBuilder.addGauge(Interns.info(name + SEVENTY_FIFTH_PERCENTILE_METRIC_NAME, desc),
-          s.get75thPercentile());
+          percentiles[1]);
       metricsRecordBuilder.addGauge(Interns.info(name + NINETY_FIFTH_PERCENTILE_METRIC_NAME, desc),
-          s.get95thPercentile());
+          percentiles[2]);
       metricsRecordBuilder.addGauge(Interns.info(name + NINETY_NINETH_PERCENTILE_METRIC_NAME, desc),
-          s.get99thPercentile());
+          percentiles[3]);
     }
   }
 }
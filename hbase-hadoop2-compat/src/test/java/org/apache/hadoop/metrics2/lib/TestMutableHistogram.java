@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.metrics2.lib;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.apache.hadoop.hbase.util.EnvironmentEdge;
+import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
+import org.apache.hadoop.metrics2.MetricHistogram;
+import org.apache.hadoop.metrics2.MetricsRecordBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *  Test of the percentile windows of {@link MutableHistogram}
+ */
+public class TestMutableHistogram {
+
+  private static final String NAME = "TestHistogram";
+  private static final String DESC = "test description";
+
+  private long now;
+
+  @Before
+  public void setUp() {
+    EnvironmentEdgeManager.injectEdge(new EnvironmentEdge() {
+      @Override
+      public long currentTime() {
+        return now;
+      }
+    });
+  }
+
+  @After
+  public void tearDown() {
+    EnvironmentEdgeManager.reset();
+  }
+
+  private static void add(MutableHistogram histogram, long value, int times) {
+    for (int i = 0; i < times; i++) {
+      histogram.add(value);
+    }
+  }
+
+  /**
+   * Snapshots the histogram and checks the reported percentiles, which are all the same value
+   * since every window only holds copies of one value.
+   */
+  private static void assertSnapshot(MutableHistogram histogram, long numOps, long min, long max,
+      long percentile) {
+    MetricsRecordBuilder builder = mock(MetricsRecordBuilder.class);
+    histogram.snapshot(builder, true);
+    verify(builder).addCounter(Interns.info(NAME + MetricHistogram.NUM_OPS_METRIC_NAME, DESC),
+      numOps);
+    verify(builder).addGauge(Interns.info(NAME + MetricHistogram.MIN_METRIC_NAME, DESC), min);
+    verify(builder).addGauge(Interns.info(NAME + MetricHistogram.MAX_METRIC_NAME, DESC), max);
+    verify(builder).addGauge(Interns.info(NAME + MetricHistogram.MEDIAN_METRIC_NAME, DESC),
+      percentile);
+    verify(builder).addGauge(
+      Interns.info(NAME + MetricHistogram.SEVENTY_FIFTH_PERCENTILE_METRIC_NAME, DESC), percentile);
+    verify(builder).addGauge(
+      Interns.info(NAME + MetricHistogram.NINETY_FIFTH_PERCENTILE_METRIC_NAME, DESC), percentile);
+    verify(builder).addGauge(
+      Interns.info(NAME + MetricHistogram.NINETY_NINETH_PERCENTILE_METRIC_NAME, DESC), percentile);
+  }
+
+  @Test
+  public void testPercentileWindows() {
+    MutableHistogram histogram = new MutableHistogram(NAME, DESC);
+    now = 1000;
+    add(histogram, 100, 10);
+    // The first snapshot rolls the window over
+    assertSnapshot(histogram, 10, 100, 100, 100);
+
+    // Snapshots within the interval report the same window, whatever was added since
+    now += MutableHistogram.PERCENTILES_INTERVAL_MS / 2;
+    add(histogram, 500, 10);
+    assertSnapshot(histogram, 20, 100, 500, 100);
+    assertSnapshot(histogram, 20, 100, 500, 100);
+
+    // Once the interval is over the next snapshot reports only the values added since the
+    // previous rollover, while count, min and max still cover all values
+    now += MutableHistogram.PERCENTILES_INTERVAL_MS / 2;
+    assertSnapshot(histogram, 20, 100, 500, 500);
+
+    // A window without values reports zero
+    now += MutableHistogram.PERCENTILES_INTERVAL_MS;
+    assertSnapshot(histogram, 20, 100, 500, 0);
+  }
+}
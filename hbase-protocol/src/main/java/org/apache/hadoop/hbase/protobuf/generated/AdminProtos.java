@@ -21922,6 +21922,3378 @@ public final class AdminProtos {
     // @@protoc_insertion_point(class_scope:hbase.pb.UpdateConfigurationResponse)
   }
 
+  public interface SlowLogRecordOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint64 start_time = 1;
+    /**
+     * <code>optional uint64 start_time = 1;</code>
+     */
+    boolean hasStartTime();
+    /**
+     * <code>optional uint64 start_time = 1;</code>
+     */
+    long getStartTime();
+
+    // optional uint32 processing_time = 2;
+    /**
+     * <code>optional uint32 processing_time = 2;</code>
+     */
+    boolean hasProcessingTime();
+    /**
+     * <code>optional uint32 processing_time = 2;</code>
+     */
+    int getProcessingTime();
+
+    // optional uint32 queue_time = 3;
+    /**
+     * <code>optional uint32 queue_time = 3;</code>
+     */
+    boolean hasQueueTime();
+    /**
+     * <code>optional uint32 queue_time = 3;</code>
+     */
+    int getQueueTime();
+
+    // optional uint64 response_size = 4;
+    /**
+     * <code>optional uint64 response_size = 4;</code>
+     */
+    boolean hasResponseSize();
+    /**
+     * <code>optional uint64 response_size = 4;</code>
+     */
+    long getResponseSize();
+
+    // optional string method_name = 5;
+    /**
+     * <code>optional string method_name = 5;</code>
+     */
+    boolean hasMethodName();
+    /**
+     * <code>optional string method_name = 5;</code>
+     */
+    java.lang.String getMethodName();
+    /**
+     * <code>optional string method_name = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getMethodNameBytes();
+
+    // optional string call_details = 6;
+    /**
+     * <code>optional string call_details = 6;</code>
+     */
+    boolean hasCallDetails();
+    /**
+     * <code>optional string call_details = 6;</code>
+     */
+    java.lang.String getCallDetails();
+    /**
+     * <code>optional string call_details = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getCallDetailsBytes();
+
+    // optional string client_address = 7;
+    /**
+     * <code>optional string client_address = 7;</code>
+     */
+    boolean hasClientAddress();
+    /**
+     * <code>optional string client_address = 7;</code>
+     */
+    java.lang.String getClientAddress();
+    /**
+     * <code>optional string client_address = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getClientAddressBytes();
+
+    // optional string user_name = 8;
+    /**
+     * <code>optional string user_name = 8;</code>
+     */
+    boolean hasUserName();
+    /**
+     * <code>optional string user_name = 8;</code>
+     */
+    java.lang.String getUserName();
+    /**
+     * <code>optional string user_name = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getUserNameBytes();
+
+    // optional string region_name = 9;
+    /**
+     * <code>optional string region_name = 9;</code>
+     */
+    boolean hasRegionName();
+    /**
+     * <code>optional string region_name = 9;</code>
+     */
+    java.lang.String getRegionName();
+    /**
+     * <code>optional string region_name = 9;</code>
+     */
+    com.google.protobuf.ByteString
+        getRegionNameBytes();
+
+    // optional bool too_slow = 10;
+    /**
+     * <code>optional bool too_slow = 10;</code>
+     */
+    boolean hasTooSlow();
+    /**
+     * <code>optional bool too_slow = 10;</code>
+     */
+    boolean getTooSlow();
+
+    // optional bool too_large = 11;
+    /**
+     * <code>optional bool too_large = 11;</code>
+     */
+    boolean hasTooLarge();
+    /**
+     * <code>optional bool too_large = 11;</code>
+     */
+    boolean getTooLarge();
+
+    // repeated .hbase.pb.NameInt64Pair phase_time = 12;
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    java.util.List<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair> 
+        getPhaseTimeList();
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair getPhaseTime(int index);
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    int getPhaseTimeCount();
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    java.util.List<? extends org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder> 
+        getPhaseTimeOrBuilderList();
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder getPhaseTimeOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code hbase.pb.SlowLogRecord}
+   *
+   * <pre>
+   * A call the server logged as too slow or too large
+   * </pre>
+   */
+  public static final class SlowLogRecord extends
+      com.google.protobuf.GeneratedMessage
+      implements SlowLogRecordOrBuilder {
+    // Use SlowLogRecord.newBuilder() to construct.
+    private SlowLogRecord(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SlowLogRecord(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SlowLogRecord defaultInstance;
+    public static SlowLogRecord getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SlowLogRecord getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SlowLogRecord(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              startTime_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              processingTime_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              queueTime_ = input.readUInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              responseSize_ = input.readUInt64();
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              methodName_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              callDetails_ = input.readBytes();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              clientAddress_ = input.readBytes();
+              break;
+            }
+            case 66: {
+              bitField0_ |= 0x00000080;
+              userName_ = input.readBytes();
+              break;
+            }
+            case 74: {
+              bitField0_ |= 0x00000100;
+              regionName_ = input.readBytes();
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000200;
+              tooSlow_ = input.readBool();
+              break;
+            }
+            case 88: {
+              bitField0_ |= 0x00000400;
+              tooLarge_ = input.readBool();
+              break;
+            }
+            case 98: {
+              if (!((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+                phaseTime_ = new java.util.ArrayList<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair>();
+                mutable_bitField0_ |= 0x00000800;
+              }
+              phaseTime_.add(input.readMessage(org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+          phaseTime_ = java.util.Collections.unmodifiableList(phaseTime_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_SlowLogRecord_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_SlowLogRecord_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.class, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SlowLogRecord> PARSER =
+        new com.google.protobuf.AbstractParser<SlowLogRecord>() {
+      public SlowLogRecord parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SlowLogRecord(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SlowLogRecord> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint64 start_time = 1;
+    public static final int START_TIME_FIELD_NUMBER = 1;
+    private long startTime_;
+    /**
+     * <code>optional uint64 start_time = 1;</code>
+     */
+    public boolean hasStartTime() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 start_time = 1;</code>
+     */
+    public long getStartTime() {
+      return startTime_;
+    }
+
+    // optional uint32 processing_time = 2;
+    public static final int PROCESSING_TIME_FIELD_NUMBER = 2;
+    private int processingTime_;
+    /**
+     * <code>optional uint32 processing_time = 2;</code>
+     */
+    public boolean hasProcessingTime() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint32 processing_time = 2;</code>
+     */
+    public int getProcessingTime() {
+      return processingTime_;
+    }
+
+    // optional uint32 queue_time = 3;
+    public static final int QUEUE_TIME_FIELD_NUMBER = 3;
+    private int queueTime_;
+    /**
+     * <code>optional uint32 queue_time = 3;</code>
+     */
+    public boolean hasQueueTime() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint32 queue_time = 3;</code>
+     */
+    public int getQueueTime() {
+      return queueTime_;
+    }
+
+    // optional uint64 response_size = 4;
+    public static final int RESPONSE_SIZE_FIELD_NUMBER = 4;
+    private long responseSize_;
+    /**
+     * <code>optional uint64 response_size = 4;</code>
+     */
+    public boolean hasResponseSize() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional uint64 response_size = 4;</code>
+     */
+    public long getResponseSize() {
+      return responseSize_;
+    }
+
+    // optional string method_name = 5;
+    public static final int METHOD_NAME_FIELD_NUMBER = 5;
+    private java.lang.Object methodName_;
+    /**
+     * <code>optional string method_name = 5;</code>
+     */
+    public boolean hasMethodName() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string method_name = 5;</code>
+     */
+    public java.lang.String getMethodName() {
+      java.lang.Object ref = methodName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          methodName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string method_name = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMethodNameBytes() {
+      java.lang.Object ref = methodName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        methodName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string call_details = 6;
+    public static final int CALL_DETAILS_FIELD_NUMBER = 6;
+    private java.lang.Object callDetails_;
+    /**
+     * <code>optional string call_details = 6;</code>
+     */
+    public boolean hasCallDetails() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string call_details = 6;</code>
+     */
+    public java.lang.String getCallDetails() {
+      java.lang.Object ref = callDetails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          callDetails_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string call_details = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCallDetailsBytes() {
+      java.lang.Object ref = callDetails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        callDetails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string client_address = 7;
+    public static final int CLIENT_ADDRESS_FIELD_NUMBER = 7;
+    private java.lang.Object clientAddress_;
+    /**
+     * <code>optional string client_address = 7;</code>
+     */
+    public boolean hasClientAddress() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string client_address = 7;</code>
+     */
+    public java.lang.String getClientAddress() {
+      java.lang.Object ref = clientAddress_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          clientAddress_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string client_address = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getClientAddressBytes() {
+      java.lang.Object ref = clientAddress_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clientAddress_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string user_name = 8;
+    public static final int USER_NAME_FIELD_NUMBER = 8;
+    private java.lang.Object userName_;
+    /**
+     * <code>optional string user_name = 8;</code>
+     */
+    public boolean hasUserName() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string user_name = 8;</code>
+     */
+    public java.lang.String getUserName() {
+      java.lang.Object ref = userName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          userName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string user_name = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getUserNameBytes() {
+      java.lang.Object ref = userName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string region_name = 9;
+    public static final int REGION_NAME_FIELD_NUMBER = 9;
+    private java.lang.Object regionName_;
+    /**
+     * <code>optional string region_name = 9;</code>
+     */
+    public boolean hasRegionName() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string region_name = 9;</code>
+     */
+    public java.lang.String getRegionName() {
+      java.lang.Object ref = regionName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          regionName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string region_name = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRegionNameBytes() {
+      java.lang.Object ref = regionName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        regionName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional bool too_slow = 10;
+    public static final int TOO_SLOW_FIELD_NUMBER = 10;
+    private boolean tooSlow_;
+    /**
+     * <code>optional bool too_slow = 10;</code>
+     */
+    public boolean hasTooSlow() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional bool too_slow = 10;</code>
+     */
+    public boolean getTooSlow() {
+      return tooSlow_;
+    }
+
+    // optional bool too_large = 11;
+    public static final int TOO_LARGE_FIELD_NUMBER = 11;
+    private boolean tooLarge_;
+    /**
+     * <code>optional bool too_large = 11;</code>
+     */
+    public boolean hasTooLarge() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional bool too_large = 11;</code>
+     */
+    public boolean getTooLarge() {
+      return tooLarge_;
+    }
+
+    // repeated .hbase.pb.NameInt64Pair phase_time = 12;
+    public static final int PHASE_TIME_FIELD_NUMBER = 12;
+    private java.util.List<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair> phaseTime_;
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    public java.util.List<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair> getPhaseTimeList() {
+      return phaseTime_;
+    }
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    public java.util.List<? extends org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder> 
+        getPhaseTimeOrBuilderList() {
+      return phaseTime_;
+    }
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    public int getPhaseTimeCount() {
+      return phaseTime_.size();
+    }
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    public org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair getPhaseTime(int index) {
+      return phaseTime_.get(index);
+    }
+    /**
+     * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+     *
+     * <pre>
+     * time spent in each phase of the call, in microseconds
+     * </pre>
+     */
+    public org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder getPhaseTimeOrBuilder(
+        int index) {
+      return phaseTime_.get(index);
+    }
+
+    private void initFields() {
+      startTime_ = 0L;
+      processingTime_ = 0;
+      queueTime_ = 0;
+      responseSize_ = 0L;
+      methodName_ = "";
+      callDetails_ = "";
+      clientAddress_ = "";
+      userName_ = "";
+      regionName_ = "";
+      tooSlow_ = false;
+      tooLarge_ = false;
+      phaseTime_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, startTime_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, processingTime_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(3, queueTime_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeUInt64(4, responseSize_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getMethodNameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getCallDetailsBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getClientAddressBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, getUserNameBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(9, getRegionNameBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBool(10, tooSlow_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeBool(11, tooLarge_);
+      }
+      for (int i = 0; i < phaseTime_.size(); i++) {
+        output.writeMessage(12, phaseTime_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, startTime_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, processingTime_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, queueTime_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, responseSize_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getMethodNameBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getCallDetailsBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getClientAddressBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getUserNameBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getRegionNameBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, tooSlow_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(11, tooLarge_);
+      }
+      for (int i = 0; i < phaseTime_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, phaseTime_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord)) {
+        return super.equals(obj);
+      }
+      org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord other = (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord) obj;
+
+      boolean result = true;
+      result = result && (hasStartTime() == other.hasStartTime());
+      if (hasStartTime()) {
+        result = result && (getStartTime()
+            == other.getStartTime());
+      }
+      result = result && (hasProcessingTime() == other.hasProcessingTime());
+      if (hasProcessingTime()) {
+        result = result && (getProcessingTime()
+            == other.getProcessingTime());
+      }
+      result = result && (hasQueueTime() == other.hasQueueTime());
+      if (hasQueueTime()) {
+        result = result && (getQueueTime()
+            == other.getQueueTime());
+      }
+      result = result && (hasResponseSize() == other.hasResponseSize());
+      if (hasResponseSize()) {
+        result = result && (getResponseSize()
+            == other.getResponseSize());
+      }
+      result = result && (hasMethodName() == other.hasMethodName());
+      if (hasMethodName()) {
+        result = result && getMethodName()
+            .equals(other.getMethodName());
+      }
+      result = result && (hasCallDetails() == other.hasCallDetails());
+      if (hasCallDetails()) {
+        result = result && getCallDetails()
+            .equals(other.getCallDetails());
+      }
+      result = result && (hasClientAddress() == other.hasClientAddress());
+      if (hasClientAddress()) {
+        result = result && getClientAddress()
+            .equals(other.getClientAddress());
+      }
+      result = result && (hasUserName() == other.hasUserName());
+      if (hasUserName()) {
+        result = result && getUserName()
+            .equals(other.getUserName());
+      }
+      result = result && (hasRegionName() == other.hasRegionName());
+      if (hasRegionName()) {
+        result = result && getRegionName()
+            .equals(other.getRegionName());
+      }
+      result = result && (hasTooSlow() == other.hasTooSlow());
+      if (hasTooSlow()) {
+        result = result && (getTooSlow()
+            == other.getTooSlow());
+      }
+      result = result && (hasTooLarge() == other.hasTooLarge());
+      if (hasTooLarge()) {
+        result = result && (getTooLarge()
+            == other.getTooLarge());
+      }
+      result = result && getPhaseTimeList()
+          .equals(other.getPhaseTimeList());
+      result = result &&
+          getUnknownFields().equals(other.getUnknownFields());
+      return result;
+    }
+
+    private int memoizedHashCode = 0;
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasStartTime()) {
+        hash = (37 * hash) + START_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + hashLong(getStartTime());
+      }
+      if (hasProcessingTime()) {
+        hash = (37 * hash) + PROCESSING_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + getProcessingTime();
+      }
+      if (hasQueueTime()) {
+        hash = (37 * hash) + QUEUE_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + getQueueTime();
+      }
+      if (hasResponseSize()) {
+        hash = (37 * hash) + RESPONSE_SIZE_FIELD_NUMBER;
+        hash = (53 * hash) + hashLong(getResponseSize());
+      }
+      if (hasMethodName()) {
+        hash = (37 * hash) + METHOD_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getMethodName().hashCode();
+      }
+      if (hasCallDetails()) {
+        hash = (37 * hash) + CALL_DETAILS_FIELD_NUMBER;
+        hash = (53 * hash) + getCallDetails().hashCode();
+      }
+      if (hasClientAddress()) {
+        hash = (37 * hash) + CLIENT_ADDRESS_FIELD_NUMBER;
+        hash = (53 * hash) + getClientAddress().hashCode();
+      }
+      if (hasUserName()) {
+        hash = (37 * hash) + USER_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getUserName().hashCode();
+      }
+      if (hasRegionName()) {
+        hash = (37 * hash) + REGION_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getRegionName().hashCode();
+      }
+      if (hasTooSlow()) {
+        hash = (37 * hash) + TOO_SLOW_FIELD_NUMBER;
+        hash = (53 * hash) + hashBoolean(getTooSlow());
+      }
+      if (hasTooLarge()) {
+        hash = (37 * hash) + TOO_LARGE_FIELD_NUMBER;
+        hash = (53 * hash) + hashBoolean(getTooLarge());
+      }
+      if (getPhaseTimeCount() > 0) {
+        hash = (37 * hash) + PHASE_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + getPhaseTimeList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code hbase.pb.SlowLogRecord}
+     *
+     * <pre>
+     * A call the server logged as too slow or too large
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_SlowLogRecord_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_SlowLogRecord_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.class, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder.class);
+      }
+
+      // Construct using org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPhaseTimeFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        startTime_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        processingTime_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        queueTime_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        responseSize_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        methodName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        callDetails_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        clientAddress_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        userName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        regionName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        tooSlow_ = false;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        tooLarge_ = false;
+        bitField0_ = (bitField0_ & ~0x00000400);
+        if (phaseTimeBuilder_ == null) {
+          phaseTime_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000800);
+        } else {
+          phaseTimeBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_SlowLogRecord_descriptor;
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord getDefaultInstanceForType() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.getDefaultInstance();
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord build() {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord buildPartial() {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord result = new org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.startTime_ = startTime_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.processingTime_ = processingTime_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.queueTime_ = queueTime_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.responseSize_ = responseSize_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.methodName_ = methodName_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.callDetails_ = callDetails_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.clientAddress_ = clientAddress_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.userName_ = userName_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.regionName_ = regionName_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.tooSlow_ = tooSlow_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.tooLarge_ = tooLarge_;
+        if (phaseTimeBuilder_ == null) {
+          if (((bitField0_ & 0x00000800) == 0x00000800)) {
+            phaseTime_ = java.util.Collections.unmodifiableList(phaseTime_);
+            bitField0_ = (bitField0_ & ~0x00000800);
+          }
+          result.phaseTime_ = phaseTime_;
+        } else {
+          result.phaseTime_ = phaseTimeBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord) {
+          return mergeFrom((org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord other) {
+        if (other == org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.getDefaultInstance()) return this;
+        if (other.hasStartTime()) {
+          setStartTime(other.getStartTime());
+        }
+        if (other.hasProcessingTime()) {
+          setProcessingTime(other.getProcessingTime());
+        }
+        if (other.hasQueueTime()) {
+          setQueueTime(other.getQueueTime());
+        }
+        if (other.hasResponseSize()) {
+          setResponseSize(other.getResponseSize());
+        }
+        if (other.hasMethodName()) {
+          bitField0_ |= 0x00000010;
+          methodName_ = other.methodName_;
+          onChanged();
+        }
+        if (other.hasCallDetails()) {
+          bitField0_ |= 0x00000020;
+          callDetails_ = other.callDetails_;
+          onChanged();
+        }
+        if (other.hasClientAddress()) {
+          bitField0_ |= 0x00000040;
+          clientAddress_ = other.clientAddress_;
+          onChanged();
+        }
+        if (other.hasUserName()) {
+          bitField0_ |= 0x00000080;
+          userName_ = other.userName_;
+          onChanged();
+        }
+        if (other.hasRegionName()) {
+          bitField0_ |= 0x00000100;
+          regionName_ = other.regionName_;
+          onChanged();
+        }
+        if (other.hasTooSlow()) {
+          setTooSlow(other.getTooSlow());
+        }
+        if (other.hasTooLarge()) {
+          setTooLarge(other.getTooLarge());
+        }
+        if (phaseTimeBuilder_ == null) {
+          if (!other.phaseTime_.isEmpty()) {
+            if (phaseTime_.isEmpty()) {
+              phaseTime_ = other.phaseTime_;
+              bitField0_ = (bitField0_ & ~0x00000800);
+            } else {
+              ensurePhaseTimeIsMutable();
+              phaseTime_.addAll(other.phaseTime_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.phaseTime_.isEmpty()) {
+            if (phaseTimeBuilder_.isEmpty()) {
+              phaseTimeBuilder_.dispose();
+              phaseTimeBuilder_ = null;
+              phaseTime_ = other.phaseTime_;
+              bitField0_ = (bitField0_ & ~0x00000800);
+              phaseTimeBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPhaseTimeFieldBuilder() : null;
+            } else {
+              phaseTimeBuilder_.addAllMessages(other.phaseTime_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint64 start_time = 1;
+      private long startTime_ ;
+      /**
+       * <code>optional uint64 start_time = 1;</code>
+       */
+      public boolean hasStartTime() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint64 start_time = 1;</code>
+       */
+      public long getStartTime() {
+        return startTime_;
+      }
+      /**
+       * <code>optional uint64 start_time = 1;</code>
+       */
+      public Builder setStartTime(long value) {
+        bitField0_ |= 0x00000001;
+        startTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 start_time = 1;</code>
+       */
+      public Builder clearStartTime() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 processing_time = 2;
+      private int processingTime_ ;
+      /**
+       * <code>optional uint32 processing_time = 2;</code>
+       */
+      public boolean hasProcessingTime() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint32 processing_time = 2;</code>
+       */
+      public int getProcessingTime() {
+        return processingTime_;
+      }
+      /**
+       * <code>optional uint32 processing_time = 2;</code>
+       */
+      public Builder setProcessingTime(int value) {
+        bitField0_ |= 0x00000002;
+        processingTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 processing_time = 2;</code>
+       */
+      public Builder clearProcessingTime() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        processingTime_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 queue_time = 3;
+      private int queueTime_ ;
+      /**
+       * <code>optional uint32 queue_time = 3;</code>
+       */
+      public boolean hasQueueTime() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint32 queue_time = 3;</code>
+       */
+      public int getQueueTime() {
+        return queueTime_;
+      }
+      /**
+       * <code>optional uint32 queue_time = 3;</code>
+       */
+      public Builder setQueueTime(int value) {
+        bitField0_ |= 0x00000004;
+        queueTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 queue_time = 3;</code>
+       */
+      public Builder clearQueueTime() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        queueTime_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional uint64 response_size = 4;
+      private long responseSize_ ;
+      /**
+       * <code>optional uint64 response_size = 4;</code>
+       */
+      public boolean hasResponseSize() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint64 response_size = 4;</code>
+       */
+      public long getResponseSize() {
+        return responseSize_;
+      }
+      /**
+       * <code>optional uint64 response_size = 4;</code>
+       */
+      public Builder setResponseSize(long value) {
+        bitField0_ |= 0x00000008;
+        responseSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 response_size = 4;</code>
+       */
+      public Builder clearResponseSize() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        responseSize_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string method_name = 5;
+      private java.lang.Object methodName_ = "";
+      /**
+       * <code>optional string method_name = 5;</code>
+       */
+      public boolean hasMethodName() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string method_name = 5;</code>
+       */
+      public java.lang.String getMethodName() {
+        java.lang.Object ref = methodName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          methodName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string method_name = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMethodNameBytes() {
+        java.lang.Object ref = methodName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          methodName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string method_name = 5;</code>
+       */
+      public Builder setMethodName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        methodName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string method_name = 5;</code>
+       */
+      public Builder clearMethodName() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        methodName_ = getDefaultInstance().getMethodName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string method_name = 5;</code>
+       */
+      public Builder setMethodNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        methodName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string call_details = 6;
+      private java.lang.Object callDetails_ = "";
+      /**
+       * <code>optional string call_details = 6;</code>
+       */
+      public boolean hasCallDetails() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string call_details = 6;</code>
+       */
+      public java.lang.String getCallDetails() {
+        java.lang.Object ref = callDetails_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          callDetails_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string call_details = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCallDetailsBytes() {
+        java.lang.Object ref = callDetails_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          callDetails_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string call_details = 6;</code>
+       */
+      public Builder setCallDetails(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        callDetails_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string call_details = 6;</code>
+       */
+      public Builder clearCallDetails() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        callDetails_ = getDefaultInstance().getCallDetails();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string call_details = 6;</code>
+       */
+      public Builder setCallDetailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        callDetails_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string client_address = 7;
+      private java.lang.Object clientAddress_ = "";
+      /**
+       * <code>optional string client_address = 7;</code>
+       */
+      public boolean hasClientAddress() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string client_address = 7;</code>
+       */
+      public java.lang.String getClientAddress() {
+        java.lang.Object ref = clientAddress_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          clientAddress_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string client_address = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getClientAddressBytes() {
+        java.lang.Object ref = clientAddress_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          clientAddress_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string client_address = 7;</code>
+       */
+      public Builder setClientAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        clientAddress_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string client_address = 7;</code>
+       */
+      public Builder clearClientAddress() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        clientAddress_ = getDefaultInstance().getClientAddress();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string client_address = 7;</code>
+       */
+      public Builder setClientAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        clientAddress_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string user_name = 8;
+      private java.lang.Object userName_ = "";
+      /**
+       * <code>optional string user_name = 8;</code>
+       */
+      public boolean hasUserName() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string user_name = 8;</code>
+       */
+      public java.lang.String getUserName() {
+        java.lang.Object ref = userName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          userName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string user_name = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getUserNameBytes() {
+        java.lang.Object ref = userName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string user_name = 8;</code>
+       */
+      public Builder setUserName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        userName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string user_name = 8;</code>
+       */
+      public Builder clearUserName() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        userName_ = getDefaultInstance().getUserName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string user_name = 8;</code>
+       */
+      public Builder setUserNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        userName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string region_name = 9;
+      private java.lang.Object regionName_ = "";
+      /**
+       * <code>optional string region_name = 9;</code>
+       */
+      public boolean hasRegionName() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string region_name = 9;</code>
+       */
+      public java.lang.String getRegionName() {
+        java.lang.Object ref = regionName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          regionName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string region_name = 9;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRegionNameBytes() {
+        java.lang.Object ref = regionName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          regionName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string region_name = 9;</code>
+       */
+      public Builder setRegionName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        regionName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string region_name = 9;</code>
+       */
+      public Builder clearRegionName() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        regionName_ = getDefaultInstance().getRegionName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string region_name = 9;</code>
+       */
+      public Builder setRegionNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        regionName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional bool too_slow = 10;
+      private boolean tooSlow_ ;
+      /**
+       * <code>optional bool too_slow = 10;</code>
+       */
+      public boolean hasTooSlow() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional bool too_slow = 10;</code>
+       */
+      public boolean getTooSlow() {
+        return tooSlow_;
+      }
+      /**
+       * <code>optional bool too_slow = 10;</code>
+       */
+      public Builder setTooSlow(boolean value) {
+        bitField0_ |= 0x00000200;
+        tooSlow_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool too_slow = 10;</code>
+       */
+      public Builder clearTooSlow() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        tooSlow_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional bool too_large = 11;
+      private boolean tooLarge_ ;
+      /**
+       * <code>optional bool too_large = 11;</code>
+       */
+      public boolean hasTooLarge() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional bool too_large = 11;</code>
+       */
+      public boolean getTooLarge() {
+        return tooLarge_;
+      }
+      /**
+       * <code>optional bool too_large = 11;</code>
+       */
+      public Builder setTooLarge(boolean value) {
+        bitField0_ |= 0x00000400;
+        tooLarge_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool too_large = 11;</code>
+       */
+      public Builder clearTooLarge() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        tooLarge_ = false;
+        onChanged();
+        return this;
+      }
+
+      // repeated .hbase.pb.NameInt64Pair phase_time = 12;
+      private java.util.List<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair> phaseTime_ =
+        java.util.Collections.emptyList();
+      private void ensurePhaseTimeIsMutable() {
+        if (!((bitField0_ & 0x00000800) == 0x00000800)) {
+          phaseTime_ = new java.util.ArrayList<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair>(phaseTime_);
+          bitField0_ |= 0x00000800;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder> phaseTimeBuilder_;
+
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public java.util.List<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair> getPhaseTimeList() {
+        if (phaseTimeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(phaseTime_);
+        } else {
+          return phaseTimeBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public int getPhaseTimeCount() {
+        if (phaseTimeBuilder_ == null) {
+          return phaseTime_.size();
+        } else {
+          return phaseTimeBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair getPhaseTime(int index) {
+        if (phaseTimeBuilder_ == null) {
+          return phaseTime_.get(index);
+        } else {
+          return phaseTimeBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder setPhaseTime(
+          int index, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair value) {
+        if (phaseTimeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePhaseTimeIsMutable();
+          phaseTime_.set(index, value);
+          onChanged();
+        } else {
+          phaseTimeBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder setPhaseTime(
+          int index, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder builderForValue) {
+        if (phaseTimeBuilder_ == null) {
+          ensurePhaseTimeIsMutable();
+          phaseTime_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          phaseTimeBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder addPhaseTime(org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair value) {
+        if (phaseTimeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePhaseTimeIsMutable();
+          phaseTime_.add(value);
+          onChanged();
+        } else {
+          phaseTimeBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder addPhaseTime(
+          int index, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair value) {
+        if (phaseTimeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePhaseTimeIsMutable();
+          phaseTime_.add(index, value);
+          onChanged();
+        } else {
+          phaseTimeBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder addPhaseTime(
+          org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder builderForValue) {
+        if (phaseTimeBuilder_ == null) {
+          ensurePhaseTimeIsMutable();
+          phaseTime_.add(builderForValue.build());
+          onChanged();
+        } else {
+          phaseTimeBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder addPhaseTime(
+          int index, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder builderForValue) {
+        if (phaseTimeBuilder_ == null) {
+          ensurePhaseTimeIsMutable();
+          phaseTime_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          phaseTimeBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder addAllPhaseTime(
+          java.lang.Iterable<? extends org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair> values) {
+        if (phaseTimeBuilder_ == null) {
+          ensurePhaseTimeIsMutable();
+          super.addAll(values, phaseTime_);
+          onChanged();
+        } else {
+          phaseTimeBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder clearPhaseTime() {
+        if (phaseTimeBuilder_ == null) {
+          phaseTime_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000800);
+          onChanged();
+        } else {
+          phaseTimeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public Builder removePhaseTime(int index) {
+        if (phaseTimeBuilder_ == null) {
+          ensurePhaseTimeIsMutable();
+          phaseTime_.remove(index);
+          onChanged();
+        } else {
+          phaseTimeBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder getPhaseTimeBuilder(
+          int index) {
+        return getPhaseTimeFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder getPhaseTimeOrBuilder(
+          int index) {
+        if (phaseTimeBuilder_ == null) {
+          return phaseTime_.get(index);  } else {
+          return phaseTimeBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public java.util.List<? extends org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder> 
+           getPhaseTimeOrBuilderList() {
+        if (phaseTimeBuilder_ != null) {
+          return phaseTimeBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(phaseTime_);
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder addPhaseTimeBuilder() {
+        return getPhaseTimeFieldBuilder().addBuilder(
+            org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder addPhaseTimeBuilder(
+          int index) {
+        return getPhaseTimeFieldBuilder().addBuilder(
+            index, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .hbase.pb.NameInt64Pair phase_time = 12;</code>
+       *
+       * <pre>
+       * time spent in each phase of the call, in microseconds
+       * </pre>
+       */
+      public java.util.List<org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder> 
+           getPhaseTimeBuilderList() {
+        return getPhaseTimeFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder> 
+          getPhaseTimeFieldBuilder() {
+        if (phaseTimeBuilder_ == null) {
+          phaseTimeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair.Builder, org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64PairOrBuilder>(
+                  phaseTime_,
+                  ((bitField0_ & 0x00000800) == 0x00000800),
+                  getParentForChildren(),
+                  isClean());
+          phaseTime_ = null;
+        }
+        return phaseTimeBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:hbase.pb.SlowLogRecord)
+    }
+
+    static {
+      defaultInstance = new SlowLogRecord(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:hbase.pb.SlowLogRecord)
+  }
+
+  public interface GetSlowLogRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 limit = 1;
+    /**
+     * <code>optional uint32 limit = 1;</code>
+     *
+     * <pre>
+     * at most this many of the newest records are returned
+     * </pre>
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional uint32 limit = 1;</code>
+     *
+     * <pre>
+     * at most this many of the newest records are returned
+     * </pre>
+     */
+    int getLimit();
+  }
+  /**
+   * Protobuf type {@code hbase.pb.GetSlowLogRequest}
+   */
+  public static final class GetSlowLogRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements GetSlowLogRequestOrBuilder {
+    // Use GetSlowLogRequest.newBuilder() to construct.
+    private GetSlowLogRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GetSlowLogRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GetSlowLogRequest defaultInstance;
+    public static GetSlowLogRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GetSlowLogRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetSlowLogRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              limit_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.class, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<GetSlowLogRequest> PARSER =
+        new com.google.protobuf.AbstractParser<GetSlowLogRequest>() {
+      public GetSlowLogRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetSlowLogRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetSlowLogRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint32 limit = 1;
+    public static final int LIMIT_FIELD_NUMBER = 1;
+    private int limit_;
+    /**
+     * <code>optional uint32 limit = 1;</code>
+     *
+     * <pre>
+     * at most this many of the newest records are returned
+     * </pre>
+     */
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 limit = 1;</code>
+     *
+     * <pre>
+     * at most this many of the newest records are returned
+     * </pre>
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
+    private void initFields() {
+      limit_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, limit_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, limit_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest)) {
+        return super.equals(obj);
+      }
+      org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest other = (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest) obj;
+
+      boolean result = true;
+      result = result && (hasLimit() == other.hasLimit());
+      if (hasLimit()) {
+        result = result && (getLimit()
+            == other.getLimit());
+      }
+      result = result &&
+          getUnknownFields().equals(other.getUnknownFields());
+      return result;
+    }
+
+    private int memoizedHashCode = 0;
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code hbase.pb.GetSlowLogRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.class, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.Builder.class);
+      }
+
+      // Construct using org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogRequest_descriptor;
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest getDefaultInstanceForType() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.getDefaultInstance();
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest build() {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest buildPartial() {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest result = new org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.limit_ = limit_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest) {
+          return mergeFrom((org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest other) {
+        if (other == org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.getDefaultInstance()) return this;
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint32 limit = 1;
+      private int limit_ ;
+      /**
+       * <code>optional uint32 limit = 1;</code>
+       *
+       * <pre>
+       * at most this many of the newest records are returned
+       * </pre>
+       */
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 limit = 1;</code>
+       *
+       * <pre>
+       * at most this many of the newest records are returned
+       * </pre>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional uint32 limit = 1;</code>
+       *
+       * <pre>
+       * at most this many of the newest records are returned
+       * </pre>
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000001;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 limit = 1;</code>
+       *
+       * <pre>
+       * at most this many of the newest records are returned
+       * </pre>
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:hbase.pb.GetSlowLogRequest)
+    }
+
+    static {
+      defaultInstance = new GetSlowLogRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:hbase.pb.GetSlowLogRequest)
+  }
+
+  public interface GetSlowLogResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .hbase.pb.SlowLogRecord slow_log_record = 1;
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    java.util.List<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord> 
+        getSlowLogRecordList();
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord getSlowLogRecord(int index);
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    int getSlowLogRecordCount();
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    java.util.List<? extends org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder> 
+        getSlowLogRecordOrBuilderList();
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder getSlowLogRecordOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code hbase.pb.GetSlowLogResponse}
+   */
+  public static final class GetSlowLogResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements GetSlowLogResponseOrBuilder {
+    // Use GetSlowLogResponse.newBuilder() to construct.
+    private GetSlowLogResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private GetSlowLogResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final GetSlowLogResponse defaultInstance;
+    public static GetSlowLogResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public GetSlowLogResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetSlowLogResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                slowLogRecord_ = new java.util.ArrayList<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              slowLogRecord_.add(input.readMessage(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          slowLogRecord_ = java.util.Collections.unmodifiableList(slowLogRecord_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.class, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<GetSlowLogResponse> PARSER =
+        new com.google.protobuf.AbstractParser<GetSlowLogResponse>() {
+      public GetSlowLogResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetSlowLogResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetSlowLogResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .hbase.pb.SlowLogRecord slow_log_record = 1;
+    public static final int SLOW_LOG_RECORD_FIELD_NUMBER = 1;
+    private java.util.List<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord> slowLogRecord_;
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    public java.util.List<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord> getSlowLogRecordList() {
+      return slowLogRecord_;
+    }
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    public java.util.List<? extends org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder> 
+        getSlowLogRecordOrBuilderList() {
+      return slowLogRecord_;
+    }
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    public int getSlowLogRecordCount() {
+      return slowLogRecord_.size();
+    }
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord getSlowLogRecord(int index) {
+      return slowLogRecord_.get(index);
+    }
+    /**
+     * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+     */
+    public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder getSlowLogRecordOrBuilder(
+        int index) {
+      return slowLogRecord_.get(index);
+    }
+
+    private void initFields() {
+      slowLogRecord_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < slowLogRecord_.size(); i++) {
+        output.writeMessage(1, slowLogRecord_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < slowLogRecord_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, slowLogRecord_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse)) {
+        return super.equals(obj);
+      }
+      org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse other = (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse) obj;
+
+      boolean result = true;
+      result = result && getSlowLogRecordList()
+          .equals(other.getSlowLogRecordList());
+      result = result &&
+          getUnknownFields().equals(other.getUnknownFields());
+      return result;
+    }
+
+    private int memoizedHashCode = 0;
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptorForType().hashCode();
+      if (getSlowLogRecordCount() > 0) {
+        hash = (37 * hash) + SLOW_LOG_RECORD_FIELD_NUMBER;
+        hash = (53 * hash) + getSlowLogRecordList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code hbase.pb.GetSlowLogResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.class, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.Builder.class);
+      }
+
+      // Construct using org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getSlowLogRecordFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (slowLogRecordBuilder_ == null) {
+          slowLogRecord_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          slowLogRecordBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.internal_static_hbase_pb_GetSlowLogResponse_descriptor;
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse getDefaultInstanceForType() {
+        return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.getDefaultInstance();
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse build() {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse buildPartial() {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse result = new org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (slowLogRecordBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            slowLogRecord_ = java.util.Collections.unmodifiableList(slowLogRecord_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.slowLogRecord_ = slowLogRecord_;
+        } else {
+          result.slowLogRecord_ = slowLogRecordBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse) {
+          return mergeFrom((org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse other) {
+        if (other == org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.getDefaultInstance()) return this;
+        if (slowLogRecordBuilder_ == null) {
+          if (!other.slowLogRecord_.isEmpty()) {
+            if (slowLogRecord_.isEmpty()) {
+              slowLogRecord_ = other.slowLogRecord_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureSlowLogRecordIsMutable();
+              slowLogRecord_.addAll(other.slowLogRecord_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.slowLogRecord_.isEmpty()) {
+            if (slowLogRecordBuilder_.isEmpty()) {
+              slowLogRecordBuilder_.dispose();
+              slowLogRecordBuilder_ = null;
+              slowLogRecord_ = other.slowLogRecord_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              slowLogRecordBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSlowLogRecordFieldBuilder() : null;
+            } else {
+              slowLogRecordBuilder_.addAllMessages(other.slowLogRecord_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .hbase.pb.SlowLogRecord slow_log_record = 1;
+      private java.util.List<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord> slowLogRecord_ =
+        java.util.Collections.emptyList();
+      private void ensureSlowLogRecordIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          slowLogRecord_ = new java.util.ArrayList<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord>(slowLogRecord_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder> slowLogRecordBuilder_;
+
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public java.util.List<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord> getSlowLogRecordList() {
+        if (slowLogRecordBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(slowLogRecord_);
+        } else {
+          return slowLogRecordBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public int getSlowLogRecordCount() {
+        if (slowLogRecordBuilder_ == null) {
+          return slowLogRecord_.size();
+        } else {
+          return slowLogRecordBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord getSlowLogRecord(int index) {
+        if (slowLogRecordBuilder_ == null) {
+          return slowLogRecord_.get(index);
+        } else {
+          return slowLogRecordBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder setSlowLogRecord(
+          int index, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord value) {
+        if (slowLogRecordBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSlowLogRecordIsMutable();
+          slowLogRecord_.set(index, value);
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder setSlowLogRecord(
+          int index, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder builderForValue) {
+        if (slowLogRecordBuilder_ == null) {
+          ensureSlowLogRecordIsMutable();
+          slowLogRecord_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder addSlowLogRecord(org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord value) {
+        if (slowLogRecordBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSlowLogRecordIsMutable();
+          slowLogRecord_.add(value);
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder addSlowLogRecord(
+          int index, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord value) {
+        if (slowLogRecordBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSlowLogRecordIsMutable();
+          slowLogRecord_.add(index, value);
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder addSlowLogRecord(
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder builderForValue) {
+        if (slowLogRecordBuilder_ == null) {
+          ensureSlowLogRecordIsMutable();
+          slowLogRecord_.add(builderForValue.build());
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder addSlowLogRecord(
+          int index, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder builderForValue) {
+        if (slowLogRecordBuilder_ == null) {
+          ensureSlowLogRecordIsMutable();
+          slowLogRecord_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder addAllSlowLogRecord(
+          java.lang.Iterable<? extends org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord> values) {
+        if (slowLogRecordBuilder_ == null) {
+          ensureSlowLogRecordIsMutable();
+          super.addAll(values, slowLogRecord_);
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder clearSlowLogRecord() {
+        if (slowLogRecordBuilder_ == null) {
+          slowLogRecord_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public Builder removeSlowLogRecord(int index) {
+        if (slowLogRecordBuilder_ == null) {
+          ensureSlowLogRecordIsMutable();
+          slowLogRecord_.remove(index);
+          onChanged();
+        } else {
+          slowLogRecordBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder getSlowLogRecordBuilder(
+          int index) {
+        return getSlowLogRecordFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder getSlowLogRecordOrBuilder(
+          int index) {
+        if (slowLogRecordBuilder_ == null) {
+          return slowLogRecord_.get(index);  } else {
+          return slowLogRecordBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public java.util.List<? extends org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder> 
+           getSlowLogRecordOrBuilderList() {
+        if (slowLogRecordBuilder_ != null) {
+          return slowLogRecordBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(slowLogRecord_);
+        }
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder addSlowLogRecordBuilder() {
+        return getSlowLogRecordFieldBuilder().addBuilder(
+            org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder addSlowLogRecordBuilder(
+          int index) {
+        return getSlowLogRecordFieldBuilder().addBuilder(
+            index, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .hbase.pb.SlowLogRecord slow_log_record = 1;</code>
+       */
+      public java.util.List<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder> 
+           getSlowLogRecordBuilderList() {
+        return getSlowLogRecordFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder> 
+          getSlowLogRecordFieldBuilder() {
+        if (slowLogRecordBuilder_ == null) {
+          slowLogRecordBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord.Builder, org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecordOrBuilder>(
+                  slowLogRecord_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          slowLogRecord_ = null;
+        }
+        return slowLogRecordBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:hbase.pb.GetSlowLogResponse)
+    }
+
+    static {
+      defaultInstance = new GetSlowLogResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:hbase.pb.GetSlowLogResponse)
+  }
+
   /**
    * Protobuf service {@code hbase.pb.AdminService}
    */
@@ -22066,6 +25438,14 @@ public final class AdminProtos {
           org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationRequest request,
           com.google.protobuf.RpcCallback<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse> done);
 
+      /**
+       * <code>rpc GetSlowLog(.hbase.pb.GetSlowLogRequest) returns (.hbase.pb.GetSlowLogResponse);</code>
+       */
+      public abstract void getSlowLog(
+          com.google.protobuf.RpcController controller,
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest request,
+          com.google.protobuf.RpcCallback<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse> done);
+
     }
 
     public static com.google.protobuf.Service newReflectiveService(
@@ -22207,6 +25587,14 @@ public final class AdminProtos {
           impl.updateConfiguration(controller, request, done);
         }
 
+        @java.lang.Override
+        public  void getSlowLog(
+            com.google.protobuf.RpcController controller,
+            org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest request,
+            com.google.protobuf.RpcCallback<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse> done) {
+          impl.getSlowLog(controller, request, done);
+        }
+
       };
     }
 
@@ -22263,6 +25651,8 @@ public final class AdminProtos {
               return impl.updateFavoredNodes(controller, (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateFavoredNodesRequest)request);
             case 16:
               return impl.updateConfiguration(controller, (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationRequest)request);
+            case 17:
+              return impl.getSlowLog(controller, (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest)request);
             default:
               throw new java.lang.AssertionError("Can't get here.");
           }
@@ -22311,6 +25701,8 @@ public final class AdminProtos {
               return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateFavoredNodesRequest.getDefaultInstance();
             case 16:
               return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationRequest.getDefaultInstance();
+            case 17:
+              return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.getDefaultInstance();
             default:
               throw new java.lang.AssertionError("Can't get here.");
           }
@@ -22359,6 +25751,8 @@ public final class AdminProtos {
               return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateFavoredNodesResponse.getDefaultInstance();
             case 16:
               return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse.getDefaultInstance();
+            case 17:
+              return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.getDefaultInstance();
             default:
               throw new java.lang.AssertionError("Can't get here.");
           }
@@ -22503,6 +25897,14 @@ public final class AdminProtos {
         org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationRequest request,
         com.google.protobuf.RpcCallback<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse> done);
 
+    /**
+     * <code>rpc GetSlowLog(.hbase.pb.GetSlowLogRequest) returns (.hbase.pb.GetSlowLogResponse);</code>
+     */
+    public abstract void getSlowLog(
+        com.google.protobuf.RpcController controller,
+        org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest request,
+        com.google.protobuf.RpcCallback<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse> done);
+
     public static final
         com.google.protobuf.Descriptors.ServiceDescriptor
         getDescriptor() {
@@ -22610,6 +26012,11 @@ public final class AdminProtos {
             com.google.protobuf.RpcUtil.<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse>specializeCallback(
               done));
           return;
+        case 17:
+          this.getSlowLog(controller, (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest)request,
+            com.google.protobuf.RpcUtil.<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse>specializeCallback(
+              done));
+          return;
         default:
           throw new java.lang.AssertionError("Can't get here.");
       }
@@ -22658,6 +26065,8 @@ public final class AdminProtos {
           return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateFavoredNodesRequest.getDefaultInstance();
         case 16:
           return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationRequest.getDefaultInstance();
+        case 17:
+          return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest.getDefaultInstance();
         default:
           throw new java.lang.AssertionError("Can't get here.");
       }
@@ -22706,6 +26115,8 @@ public final class AdminProtos {
           return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateFavoredNodesResponse.getDefaultInstance();
         case 16:
           return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse.getDefaultInstance();
+        case 17:
+          return org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.getDefaultInstance();
         default:
           throw new java.lang.AssertionError("Can't get here.");
       }
@@ -22981,6 +26392,21 @@ public final class AdminProtos {
             org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse.class,
             org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse.getDefaultInstance()));
       }
+
+      public  void getSlowLog(
+          com.google.protobuf.RpcController controller,
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest request,
+          com.google.protobuf.RpcCallback<org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse> done) {
+        channel.callMethod(
+          getDescriptor().getMethods().get(17),
+          controller,
+          request,
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.getDefaultInstance(),
+          com.google.protobuf.RpcUtil.generalizeCallback(
+            done,
+            org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.class,
+            org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.getDefaultInstance()));
+      }
     }
 
     public static BlockingInterface newBlockingStub(
@@ -23073,6 +26499,11 @@ public final class AdminProtos {
           com.google.protobuf.RpcController controller,
           org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationRequest request)
           throws com.google.protobuf.ServiceException;
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse getSlowLog(
+          com.google.protobuf.RpcController controller,
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest request)
+          throws com.google.protobuf.ServiceException;
     }
 
     private static final class BlockingStub implements BlockingInterface {
@@ -23285,6 +26716,18 @@ public final class AdminProtos {
           org.apache.hadoop.hbase.protobuf.generated.AdminProtos.UpdateConfigurationResponse.getDefaultInstance());
       }
 
+
+      public org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse getSlowLog(
+          com.google.protobuf.RpcController controller,
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest request)
+          throws com.google.protobuf.ServiceException {
+        return (org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse) channel.callBlockingMethod(
+          getDescriptor().getMethods().get(17),
+          controller,
+          request,
+          org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse.getDefaultInstance());
+      }
+
     }
 
     // @@protoc_insertion_point(class_scope:hbase.pb.AdminService)
@@ -23470,6 +26913,21 @@ public final class AdminProtos {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_hbase_pb_UpdateConfigurationResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_hbase_pb_SlowLogRecord_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_hbase_pb_SlowLogRecord_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_hbase_pb_GetSlowLogRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_hbase_pb_GetSlowLogRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_hbase_pb_GetSlowLogResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_hbase_pb_GetSlowLogResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -23551,44 +27009,56 @@ public final class AdminProtos {
       "rverInfoResponse\022)\n\013server_info\030\001 \002(\0132\024.",
       "hbase.pb.ServerInfo\"\034\n\032UpdateConfigurati" +
       "onRequest\"\035\n\033UpdateConfigurationResponse" +
-      "2\207\013\n\014AdminService\022P\n\rGetRegionInfo\022\036.hba" +
-      "se.pb.GetRegionInfoRequest\032\037.hbase.pb.Ge" +
-      "tRegionInfoResponse\022M\n\014GetStoreFile\022\035.hb" +
-      "ase.pb.GetStoreFileRequest\032\036.hbase.pb.Ge" +
-      "tStoreFileResponse\022V\n\017GetOnlineRegion\022 ." +
-      "hbase.pb.GetOnlineRegionRequest\032!.hbase." +
-      "pb.GetOnlineRegionResponse\022G\n\nOpenRegion" +
-      "\022\033.hbase.pb.OpenRegionRequest\032\034.hbase.pb",
-      ".OpenRegionResponse\022M\n\014WarmupRegion\022\035.hb" +
-      "ase.pb.WarmupRegionRequest\032\036.hbase.pb.Wa" +
-      "rmupRegionResponse\022J\n\013CloseRegion\022\034.hbas" +
-      "e.pb.CloseRegionRequest\032\035.hbase.pb.Close" +
-      "RegionResponse\022J\n\013FlushRegion\022\034.hbase.pb" +
-      ".FlushRegionRequest\032\035.hbase.pb.FlushRegi" +
-      "onResponse\022J\n\013SplitRegion\022\034.hbase.pb.Spl" +
-      "itRegionRequest\032\035.hbase.pb.SplitRegionRe" +
-      "sponse\022P\n\rCompactRegion\022\036.hbase.pb.Compa" +
-      "ctRegionRequest\032\037.hbase.pb.CompactRegion",
-      "Response\022M\n\014MergeRegions\022\035.hbase.pb.Merg" +
-      "eRegionsRequest\032\036.hbase.pb.MergeRegionsR" +
-      "esponse\022\\\n\021ReplicateWALEntry\022\".hbase.pb." +
-      "ReplicateWALEntryRequest\032#.hbase.pb.Repl" +
-      "icateWALEntryResponse\022Q\n\006Replay\022\".hbase." +
+      "\"\244\002\n\rSlowLogRecord\022\022\n\nstart_time\030\001 \001(\004\022\027" +
+      "\n\017processing_time\030\002 \001(\r\022\022\n\nqueue_time\030\003 " +
+      "\001(\r\022\025\n\rresponse_size\030\004 \001(\004\022\023\n\013method_nam" +
+      "e\030\005 \001(\t\022\024\n\014call_details\030\006 \001(\t\022\026\n\016client_" +
+      "address\030\007 \001(\t\022\021\n\tuser_name\030\010 \001(\t\022\023\n\013regi" +
+      "on_name\030\t \001(\t\022\020\n\010too_slow\030\n \001(\010\022\021\n\ttoo_l" +
+      "arge\030\013 \001(\010\022+\n\nphase_time\030\014 \003(\0132\027.hbase.p" +
+      "b.NameInt64Pair\"\"\n\021GetSlowLogRequest\022\r\n\005",
+      "limit\030\001 \001(\r\"F\n\022GetSlowLogResponse\0220\n\017slo" +
+      "w_log_record\030\001 \003(\0132\027.hbase.pb.SlowLogRec" +
+      "ord2\320\013\n\014AdminService\022P\n\rGetRegionInfo\022\036." +
+      "hbase.pb.GetRegionInfoRequest\032\037.hbase.pb" +
+      ".GetRegionInfoResponse\022M\n\014GetStoreFile\022\035" +
+      ".hbase.pb.GetStoreFileRequest\032\036.hbase.pb" +
+      ".GetStoreFileResponse\022V\n\017GetOnlineRegion" +
+      "\022 .hbase.pb.GetOnlineRegionRequest\032!.hba" +
+      "se.pb.GetOnlineRegionResponse\022G\n\nOpenReg" +
+      "ion\022\033.hbase.pb.OpenRegionRequest\032\034.hbase",
+      ".pb.OpenRegionResponse\022M\n\014WarmupRegion\022\035" +
+      ".hbase.pb.WarmupRegionRequest\032\036.hbase.pb" +
+      ".WarmupRegionResponse\022J\n\013CloseRegion\022\034.h" +
+      "base.pb.CloseRegionRequest\032\035.hbase.pb.Cl" +
+      "oseRegionResponse\022J\n\013FlushRegion\022\034.hbase" +
+      ".pb.FlushRegionRequest\032\035.hbase.pb.FlushR" +
+      "egionResponse\022J\n\013SplitRegion\022\034.hbase.pb." +
+      "SplitRegionRequest\032\035.hbase.pb.SplitRegio" +
+      "nResponse\022P\n\rCompactRegion\022\036.hbase.pb.Co" +
+      "mpactRegionRequest\032\037.hbase.pb.CompactReg",
+      "ionResponse\022M\n\014MergeRegions\022\035.hbase.pb.M" +
+      "ergeRegionsRequest\032\036.hbase.pb.MergeRegio" +
+      "nsResponse\022\\\n\021ReplicateWALEntry\022\".hbase." +
       "pb.ReplicateWALEntryRequest\032#.hbase.pb.R" +
-      "eplicateWALEntryResponse\022P\n\rRollWALWrite" +
-      "r\022\036.hbase.pb.RollWALWriterRequest\032\037.hbas" +
-      "e.pb.RollWALWriterResponse\022P\n\rGetServerI" +
-      "nfo\022\036.hbase.pb.GetServerInfoRequest\032\037.hb",
-      "ase.pb.GetServerInfoResponse\022G\n\nStopServ" +
-      "er\022\033.hbase.pb.StopServerRequest\032\034.hbase." +
-      "pb.StopServerResponse\022_\n\022UpdateFavoredNo" +
-      "des\022#.hbase.pb.UpdateFavoredNodesRequest" +
-      "\032$.hbase.pb.UpdateFavoredNodesResponse\022b" +
-      "\n\023UpdateConfiguration\022$.hbase.pb.UpdateC" +
-      "onfigurationRequest\032%.hbase.pb.UpdateCon" +
-      "figurationResponseBA\n*org.apache.hadoop." +
-      "hbase.protobuf.generatedB\013AdminProtosH\001\210" +
-      "\001\001\240\001\001"
+      "eplicateWALEntryResponse\022Q\n\006Replay\022\".hba" +
+      "se.pb.ReplicateWALEntryRequest\032#.hbase.p" +
+      "b.ReplicateWALEntryResponse\022P\n\rRollWALWr" +
+      "iter\022\036.hbase.pb.RollWALWriterRequest\032\037.h" +
+      "base.pb.RollWALWriterResponse\022P\n\rGetServ" +
+      "erInfo\022\036.hbase.pb.GetServerInfoRequest\032\037",
+      ".hbase.pb.GetServerInfoResponse\022G\n\nStopS" +
+      "erver\022\033.hbase.pb.StopServerRequest\032\034.hba" +
+      "se.pb.StopServerResponse\022_\n\022UpdateFavore" +
+      "dNodes\022#.hbase.pb.UpdateFavoredNodesRequ" +
+      "est\032$.hbase.pb.UpdateFavoredNodesRespons" +
+      "e\022b\n\023UpdateConfiguration\022$.hbase.pb.Upda" +
+      "teConfigurationRequest\032%.hbase.pb.Update" +
+      "ConfigurationResponse\022G\n\nGetSlowLog\022\033.hb" +
+      "ase.pb.GetSlowLogRequest\032\034.hbase.pb.GetS" +
+      "lowLogResponseBA\n*org.apache.hadoop.hbas",
+      "e.protobuf.generatedB\013AdminProtosH\001\210\001\001\240\001" +
+      "\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -23811,6 +27281,24 @@ public final class AdminProtos {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_hbase_pb_UpdateConfigurationResponse_descriptor,
               new java.lang.String[] { });
+          internal_static_hbase_pb_SlowLogRecord_descriptor =
+            getDescriptor().getMessageTypes().get(34);
+          internal_static_hbase_pb_SlowLogRecord_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_hbase_pb_SlowLogRecord_descriptor,
+              new java.lang.String[] { "StartTime", "ProcessingTime", "QueueTime", "ResponseSize", "MethodName", "CallDetails", "ClientAddress", "UserName", "RegionName", "TooSlow", "TooLarge", "PhaseTime", });
+          internal_static_hbase_pb_GetSlowLogRequest_descriptor =
+            getDescriptor().getMessageTypes().get(35);
+          internal_static_hbase_pb_GetSlowLogRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_hbase_pb_GetSlowLogRequest_descriptor,
+              new java.lang.String[] { "Limit", });
+          internal_static_hbase_pb_GetSlowLogResponse_descriptor =
+            getDescriptor().getMessageTypes().get(36);
+          internal_static_hbase_pb_GetSlowLogResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_hbase_pb_GetSlowLogResponse_descriptor,
+              new java.lang.String[] { "SlowLogRecord", });
           return null;
         }
       };
@@ -152,6 +152,24 @@ public final class WALProtos {
      */
     com.google.protobuf.ByteString
         getCellCodecClsNameBytes();
+
+    // optional uint32 value_compression_algorithm = 6;
+    /**
+     * <code>optional uint32 value_compression_algorithm = 6;</code>
+     *
+     * <pre>
+     * ordinal of the Compression.Algorithm that cell values are compressed with
+     * </pre>
+     */
+    boolean hasValueCompressionAlgorithm();
+    /**
+     * <code>optional uint32 value_compression_algorithm = 6;</code>
+     *
+     * <pre>
+     * ordinal of the Compression.Algorithm that cell values are compressed with
+     * </pre>
+     */
+    int getValueCompressionAlgorithm();
   }
   /**
    * Protobuf type {@code hbase.pb.WALHeader}
@@ -229,6 +247,11 @@ public final class WALProtos {
               cellCodecClsName_ = input.readBytes();
               break;
             }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              valueCompressionAlgorithm_ = input.readUInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -403,12 +426,37 @@ public final class WALProtos {
       }
     }
 
+    // optional uint32 value_compression_algorithm = 6;
+    public static final int VALUE_COMPRESSION_ALGORITHM_FIELD_NUMBER = 6;
+    private int valueCompressionAlgorithm_;
+    /**
+     * <code>optional uint32 value_compression_algorithm = 6;</code>
+     *
+     * <pre>
+     * ordinal of the Compression.Algorithm that cell values are compressed with
+     * </pre>
+     */
+    public boolean hasValueCompressionAlgorithm() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional uint32 value_compression_algorithm = 6;</code>
+     *
+     * <pre>
+     * ordinal of the Compression.Algorithm that cell values are compressed with
+     * </pre>
+     */
+    public int getValueCompressionAlgorithm() {
+      return valueCompressionAlgorithm_;
+    }
+
     private void initFields() {
       hasCompression_ = false;
       encryptionKey_ = com.google.protobuf.ByteString.EMPTY;
       hasTagCompression_ = false;
       writerClsName_ = "";
       cellCodecClsName_ = "";
+      valueCompressionAlgorithm_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -437,6 +485,9 @@ public final class WALProtos {
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         output.writeBytes(5, getCellCodecClsNameBytes());
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeUInt32(6, valueCompressionAlgorithm_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -466,6 +517,10 @@ public final class WALProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(5, getCellCodecClsNameBytes());
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, valueCompressionAlgorithm_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -514,6 +569,11 @@ public final class WALProtos {
         result = result && getCellCodecClsName()
             .equals(other.getCellCodecClsName());
       }
+      result = result && (hasValueCompressionAlgorithm() == other.hasValueCompressionAlgorithm());
+      if (hasValueCompressionAlgorithm()) {
+        result = result && (getValueCompressionAlgorithm()
+            == other.getValueCompressionAlgorithm());
+      }
       result = result &&
           getUnknownFields().equals(other.getUnknownFields());
       return result;
@@ -547,6 +607,10 @@ public final class WALProtos {
         hash = (37 * hash) + CELL_CODEC_CLS_NAME_FIELD_NUMBER;
         hash = (53 * hash) + getCellCodecClsName().hashCode();
       }
+      if (hasValueCompressionAlgorithm()) {
+        hash = (37 * hash) + VALUE_COMPRESSION_ALGORITHM_FIELD_NUMBER;
+        hash = (53 * hash) + getValueCompressionAlgorithm();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -666,6 +730,8 @@ public final class WALProtos {
         bitField0_ = (bitField0_ & ~0x00000008);
         cellCodecClsName_ = "";
         bitField0_ = (bitField0_ & ~0x00000010);
+        valueCompressionAlgorithm_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -714,6 +780,10 @@ public final class WALProtos {
           to_bitField0_ |= 0x00000010;
         }
         result.cellCodecClsName_ = cellCodecClsName_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.valueCompressionAlgorithm_ = valueCompressionAlgorithm_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -749,6 +819,9 @@ public final class WALProtos {
           cellCodecClsName_ = other.cellCodecClsName_;
           onChanged();
         }
+        if (other.hasValueCompressionAlgorithm()) {
+          setValueCompressionAlgorithm(other.getValueCompressionAlgorithm());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1026,6 +1099,55 @@ public final class WALProtos {
         return this;
       }
 
+      // optional uint32 value_compression_algorithm = 6;
+      private int valueCompressionAlgorithm_ ;
+      /**
+       * <code>optional uint32 value_compression_algorithm = 6;</code>
+       *
+       * <pre>
+       * ordinal of the Compression.Algorithm that cell values are compressed with
+       * </pre>
+       */
+      public boolean hasValueCompressionAlgorithm() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional uint32 value_compression_algorithm = 6;</code>
+       *
+       * <pre>
+       * ordinal of the Compression.Algorithm that cell values are compressed with
+       * </pre>
+       */
+      public int getValueCompressionAlgorithm() {
+        return valueCompressionAlgorithm_;
+      }
+      /**
+       * <code>optional uint32 value_compression_algorithm = 6;</code>
+       *
+       * <pre>
+       * ordinal of the Compression.Algorithm that cell values are compressed with
+       * </pre>
+       */
+      public Builder setValueCompressionAlgorithm(int value) {
+        bitField0_ |= 0x00000020;
+        valueCompressionAlgorithm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 value_compression_algorithm = 6;</code>
+       *
+       * <pre>
+       * ordinal of the Compression.Algorithm that cell values are compressed with
+       * </pre>
+       */
+      public Builder clearValueCompressionAlgorithm() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        valueCompressionAlgorithm_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:hbase.pb.WALHeader)
     }
 
@@ -11848,53 +11970,54 @@ public final class WALProtos {
   static {
     java.lang.String[] descriptorData = {
       "\n\tWAL.proto\022\010hbase.pb\032\013HBase.proto\032\014Clie" +
-      "nt.proto\"\217\001\n\tWALHeader\022\027\n\017has_compressio" +
+      "nt.proto\"\264\001\n\tWALHeader\022\027\n\017has_compressio" +
       "n\030\001 \001(\010\022\026\n\016encryption_key\030\002 \001(\014\022\033\n\023has_t" +
       "ag_compression\030\003 \001(\010\022\027\n\017writer_cls_name\030" +
-      "\004 \001(\t\022\033\n\023cell_codec_cls_name\030\005 \001(\t\"\273\002\n\006W" +
-      "ALKey\022\033\n\023encoded_region_name\030\001 \002(\014\022\022\n\nta" +
-      "ble_name\030\002 \002(\014\022\033\n\023log_sequence_number\030\003 " +
-      "\002(\004\022\022\n\nwrite_time\030\004 \002(\004\022&\n\ncluster_id\030\005 " +
-      "\001(\0132\016.hbase.pb.UUIDB\002\030\001\022%\n\006scopes\030\006 \003(\0132" +
-      "\025.hbase.pb.FamilyScope\022\032\n\022following_kv_c",
-      "ount\030\007 \001(\r\022#\n\013cluster_ids\030\010 \003(\0132\016.hbase." +
-      "pb.UUID\022\022\n\nnonceGroup\030\t \001(\004\022\r\n\005nonce\030\n \001" +
-      "(\004\022\034\n\024orig_sequence_number\030\013 \001(\004\"F\n\013Fami" +
-      "lyScope\022\016\n\006family\030\001 \002(\014\022\'\n\nscope_type\030\002 " +
-      "\002(\0162\023.hbase.pb.ScopeType\"\276\001\n\024CompactionD" +
-      "escriptor\022\022\n\ntable_name\030\001 \002(\014\022\033\n\023encoded" +
-      "_region_name\030\002 \002(\014\022\023\n\013family_name\030\003 \002(\014\022" +
-      "\030\n\020compaction_input\030\004 \003(\t\022\031\n\021compaction_" +
-      "output\030\005 \003(\t\022\026\n\016store_home_dir\030\006 \002(\t\022\023\n\013" +
-      "region_name\030\007 \001(\014\"\244\003\n\017FlushDescriptor\0225\n",
-      "\006action\030\001 \002(\0162%.hbase.pb.FlushDescriptor" +
-      ".FlushAction\022\022\n\ntable_name\030\002 \002(\014\022\033\n\023enco" +
-      "ded_region_name\030\003 \002(\014\022\035\n\025flush_sequence_" +
-      "number\030\004 \001(\004\022E\n\rstore_flushes\030\005 \003(\0132..hb" +
-      "ase.pb.FlushDescriptor.StoreFlushDescrip" +
-      "tor\022\023\n\013region_name\030\006 \001(\014\032Y\n\024StoreFlushDe" +
-      "scriptor\022\023\n\013family_name\030\001 \002(\014\022\026\n\016store_h" +
-      "ome_dir\030\002 \002(\t\022\024\n\014flush_output\030\003 \003(\t\"S\n\013F" +
-      "lushAction\022\017\n\013START_FLUSH\020\000\022\020\n\014COMMIT_FL" +
-      "USH\020\001\022\017\n\013ABORT_FLUSH\020\002\022\020\n\014CANNOT_FLUSH\020\003",
-      "\"R\n\017StoreDescriptor\022\023\n\013family_name\030\001 \002(\014" +
-      "\022\026\n\016store_home_dir\030\002 \002(\t\022\022\n\nstore_file\030\003" +
-      " \003(\t\"\237\001\n\022BulkLoadDescriptor\022\'\n\ntable_nam" +
-      "e\030\001 \002(\0132\023.hbase.pb.TableName\022\033\n\023encoded_" +
-      "region_name\030\002 \002(\014\022)\n\006stores\030\003 \003(\0132\031.hbas" +
-      "e.pb.StoreDescriptor\022\030\n\020bulkload_seq_num" +
-      "\030\004 \002(\003\"\272\002\n\025RegionEventDescriptor\022=\n\neven" +
-      "t_type\030\001 \002(\0162).hbase.pb.RegionEventDescr" +
-      "iptor.EventType\022\022\n\ntable_name\030\002 \002(\014\022\033\n\023e" +
-      "ncoded_region_name\030\003 \002(\014\022\033\n\023log_sequence",
-      "_number\030\004 \001(\004\022)\n\006stores\030\005 \003(\0132\031.hbase.pb" +
-      ".StoreDescriptor\022$\n\006server\030\006 \001(\0132\024.hbase" +
-      ".pb.ServerName\022\023\n\013region_name\030\007 \001(\014\".\n\tE" +
-      "ventType\022\017\n\013REGION_OPEN\020\000\022\020\n\014REGION_CLOS" +
-      "E\020\001\"\014\n\nWALTrailer*F\n\tScopeType\022\033\n\027REPLIC" +
-      "ATION_SCOPE_LOCAL\020\000\022\034\n\030REPLICATION_SCOPE" +
-      "_GLOBAL\020\001B?\n*org.apache.hadoop.hbase.pro" +
-      "tobuf.generatedB\tWALProtosH\001\210\001\000\240\001\001"
+      "\004 \001(\t\022\033\n\023cell_codec_cls_name\030\005 \001(\t\022#\n\033va" +
+      "lue_compression_algorithm\030\006 \001(\r\"\273\002\n\006WALK" +
+      "ey\022\033\n\023encoded_region_name\030\001 \002(\014\022\022\n\ntable" +
+      "_name\030\002 \002(\014\022\033\n\023log_sequence_number\030\003 \002(\004" +
+      "\022\022\n\nwrite_time\030\004 \002(\004\022&\n\ncluster_id\030\005 \001(\013" +
+      "2\016.hbase.pb.UUIDB\002\030\001\022%\n\006scopes\030\006 \003(\0132\025.h",
+      "base.pb.FamilyScope\022\032\n\022following_kv_coun" +
+      "t\030\007 \001(\r\022#\n\013cluster_ids\030\010 \003(\0132\016.hbase.pb." +
+      "UUID\022\022\n\nnonceGroup\030\t \001(\004\022\r\n\005nonce\030\n \001(\004\022" +
+      "\034\n\024orig_sequence_number\030\013 \001(\004\"F\n\013FamilyS" +
+      "cope\022\016\n\006family\030\001 \002(\014\022\'\n\nscope_type\030\002 \002(\016" +
+      "2\023.hbase.pb.ScopeType\"\276\001\n\024CompactionDesc" +
+      "riptor\022\022\n\ntable_name\030\001 \002(\014\022\033\n\023encoded_re" +
+      "gion_name\030\002 \002(\014\022\023\n\013family_name\030\003 \002(\014\022\030\n\020" +
+      "compaction_input\030\004 \003(\t\022\031\n\021compaction_out" +
+      "put\030\005 \003(\t\022\026\n\016store_home_dir\030\006 \002(\t\022\023\n\013reg",
+      "ion_name\030\007 \001(\014\"\244\003\n\017FlushDescriptor\0225\n\006ac" +
+      "tion\030\001 \002(\0162%.hbase.pb.FlushDescriptor.Fl" +
+      "ushAction\022\022\n\ntable_name\030\002 \002(\014\022\033\n\023encoded" +
+      "_region_name\030\003 \002(\014\022\035\n\025flush_sequence_num" +
+      "ber\030\004 \001(\004\022E\n\rstore_flushes\030\005 \003(\0132..hbase" +
+      ".pb.FlushDescriptor.StoreFlushDescriptor" +
+      "\022\023\n\013region_name\030\006 \001(\014\032Y\n\024StoreFlushDescr" +
+      "iptor\022\023\n\013family_name\030\001 \002(\014\022\026\n\016store_home" +
+      "_dir\030\002 \002(\t\022\024\n\014flush_output\030\003 \003(\t\"S\n\013Flus" +
+      "hAction\022\017\n\013START_FLUSH\020\000\022\020\n\014COMMIT_FLUSH",
+      "\020\001\022\017\n\013ABORT_FLUSH\020\002\022\020\n\014CANNOT_FLUSH\020\003\"R\n" +
+      "\017StoreDescriptor\022\023\n\013family_name\030\001 \002(\014\022\026\n" +
+      "\016store_home_dir\030\002 \002(\t\022\022\n\nstore_file\030\003 \003(" +
+      "\t\"\237\001\n\022BulkLoadDescriptor\022\'\n\ntable_name\030\001" +
+      " \002(\0132\023.hbase.pb.TableName\022\033\n\023encoded_reg" +
+      "ion_name\030\002 \002(\014\022)\n\006stores\030\003 \003(\0132\031.hbase.p" +
+      "b.StoreDescriptor\022\030\n\020bulkload_seq_num\030\004 " +
+      "\002(\003\"\272\002\n\025RegionEventDescriptor\022=\n\nevent_t" +
+      "ype\030\001 \002(\0162).hbase.pb.RegionEventDescript" +
+      "or.EventType\022\022\n\ntable_name\030\002 \002(\014\022\033\n\023enco",
+      "ded_region_name\030\003 \002(\014\022\033\n\023log_sequence_nu" +
+      "mber\030\004 \001(\004\022)\n\006stores\030\005 \003(\0132\031.hbase.pb.St" +
+      "oreDescriptor\022$\n\006server\030\006 \001(\0132\024.hbase.pb" +
+      ".ServerName\022\023\n\013region_name\030\007 \001(\014\".\n\tEven" +
+      "tType\022\017\n\013REGION_OPEN\020\000\022\020\n\014REGION_CLOSE\020\001" +
+      "\"\014\n\nWALTrailer*F\n\tScopeType\022\033\n\027REPLICATI" +
+      "ON_SCOPE_LOCAL\020\000\022\034\n\030REPLICATION_SCOPE_GL" +
+      "OBAL\020\001B?\n*org.apache.hadoop.hbase.protob" +
+      "uf.generatedB\tWALProtosH\001\210\001\000\240\001\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -11906,7 +12029,7 @@ public final class WALProtos {
           internal_static_hbase_pb_WALHeader_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_hbase_pb_WALHeader_descriptor,
-              new java.lang.String[] { "HasCompression", "EncryptionKey", "HasTagCompression", "WriterClsName", "CellCodecClsName", });
+              new java.lang.String[] { "HasCompression", "EncryptionKey", "HasTagCompression", "WriterClsName", "CellCodecClsName", "ValueCompressionAlgorithm", });
           internal_static_hbase_pb_WALKey_descriptor =
             getDescriptor().getMessageTypes().get(1);
           internal_static_hbase_pb_WALKey_fieldAccessorTable = new
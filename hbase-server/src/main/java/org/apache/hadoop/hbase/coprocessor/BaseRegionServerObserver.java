@@ -92,4 +92,8 @@ public class BaseRegionServerObserver implements RegionServerObserver {
   @Override
   public void postReplicateLogEntries(ObserverContext<RegionServerCoprocessorEnvironment> ctx,
       List<WALEntry> entries, CellScanner cells) throws IOException { }
+
+  @Override
+  public void preGetSlowLog(ObserverContext<RegionServerCoprocessorEnvironment> ctx)
+      throws IOException { }
 }
@@ -152,4 +152,12 @@ public interface RegionServerObserver extends Coprocessor {
    */
   void postReplicateLogEntries(final ObserverContext<RegionServerCoprocessorEnvironment> ctx,
       List<WALEntry> entries, CellScanner cells) throws IOException;
+
+  /**
+   * This will be called before returning the recent slow and large calls of a region server.
+   * @param ctx An instance of ObserverContext
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  void preGetSlowLog(final ObserverContext<RegionServerCoprocessorEnvironment> ctx)
+      throws IOException;
 }
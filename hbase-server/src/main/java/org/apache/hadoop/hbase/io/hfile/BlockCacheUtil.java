@@ -25,6 +25,8 @@ import java.util.concurrent.ConcurrentSkipListSet;
 
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.io.hfile.bucket.BucketCache;
 import org.codehaus.jackson.JsonGenerationException;
 import org.codehaus.jackson.annotate.JsonIgnoreProperties;
 import org.codehaus.jackson.map.JsonMappingException;
@@ -56,6 +58,55 @@ public class BlockCacheUtil {
     MAPPER.configure(SerializationConfig.Feature.INDENT_OUTPUT, true);
   }
 
+  /**
+   * Check whether a block is cached without loading it. Only the caches of this process are
+   * looked at; a block in a remote cache counts as not cached.
+   * @param cache the block cache, may be made of several caches
+   * @param cacheKey the block to look for
+   * @return true if the block is in the cache
+   */
+  public static boolean isCached(final BlockCache cache, final BlockCacheKey cacheKey) {
+    if (cache instanceof LruBlockCache) {
+      return ((LruBlockCache)cache).containsBlock(cacheKey);
+    }
+    if (cache instanceof BucketCache) {
+      return ((BucketCache)cache).containsBlock(cacheKey);
+    }
+    BlockCache [] caches = cache.getBlockCaches();
+    if (caches != null) {
+      for (BlockCache c: caches) {
+        if (c != cache && isCached(c, cacheKey)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Check whether the data block a seek to the given key would land on is cached. Only files
+   * with a single level data block index are looked at, since finding the data block of a
+   * multi level index may itself need to read index blocks.
+   * @param cache the block cache
+   * @param reader the file to seek in
+   * @param key the key to seek to
+   * @return true if the data block is known to be cached, false if the seek may have to read
+   *   from the file system
+   */
+  public static boolean isDataBlockCached(final BlockCache cache, final HFile.Reader reader,
+      final Cell key) {
+    if (reader.getTrailer().getNumDataIndexLevels() != 1) {
+      return false;
+    }
+    HFileBlockIndex.BlockIndexReader index = reader.getDataBlockIndexReader();
+    if (index.isEmpty()) {
+      return true;
+    }
+    // A key before the first block is looked up in the first block.
+    int block = Math.max(0, index.rootBlockContainingKey(key));
+    return isCached(cache, new BlockCacheKey(reader.getName(), index.getRootBlockOffset(block)));
+  }
+
   /**
    * @param cb
    * @return The block content as String.
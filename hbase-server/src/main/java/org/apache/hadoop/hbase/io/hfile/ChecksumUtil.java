@@ -19,7 +19,11 @@ package org.apache.hadoop.hbase.io.hfile;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -48,6 +52,15 @@ public class ChecksumUtil {
    */
   private static boolean generateExceptions = false;
 
+  /**
+   * The JDK's own CRC32 and CRC32C, when this JVM has them with a ByteBuffer update (Java 8 and
+   * Java 9 on). The JIT compiles them to the CPU's CRC instructions, and they read direct
+   * buffers in place, so whole blocks are checksummed without copying chunks to the heap.
+   * Otherwise Hadoop's DataChecksum is used, which is native when libhadoop is loaded.
+   */
+  private static final JdkChecksum JDK_CRC32 = JdkChecksum.find("java.util.zip.CRC32");
+  private static final JdkChecksum JDK_CRC32C = JdkChecksum.find("java.util.zip.CRC32C");
+
   /**
    * Generates a checksum for all the data in indata. The checksum is
    * written to outdata.
@@ -70,12 +83,70 @@ public class ChecksumUtil {
       return; // No checksum for this block.
     }
 
+    generateChecksums(ByteBuffer.wrap(indata, startOffset, endOffset - startOffset),
+        ByteBuffer.wrap(outdata, outOffset, outdata.length - outOffset), checksumType,
+        bytesPerChecksum);
+  }
+
+  /**
+   * Generates a checksum for each bytesPerChecksum chunk of data, from its position to its
+   * limit, in one call. Either buffer may be direct. The positions and limits of the buffers
+   * are not changed.
+   * @param data the data to checksum
+   * @param checksums receives the checksum values from its position on
+   * @param checksumType type of checksum
+   * @param bytesPerChecksum number of bytes per checksum value
+   */
+  static void generateChecksums(ByteBuffer data, ByteBuffer checksums,
+      ChecksumType checksumType, int bytesPerChecksum) {
+    if (checksumType == ChecksumType.NULL) {
+      return; // No checksum for this block.
+    }
+    JdkChecksum jdkChecksum = getJdkChecksum(checksumType);
+    if (jdkChecksum != null) {
+      jdkChecksum.chunkedSums(data, checksums, bytesPerChecksum, false);
+      return;
+    }
     DataChecksum checksum = DataChecksum.newDataChecksum(
         checksumType.getDataChecksumType(), bytesPerChecksum);
+    checksum.calculateChunkedSums(data.duplicate(), checksums.duplicate());
+  }
 
-    checksum.calculateChunkedSums(
-       ByteBuffer.wrap(indata, startOffset, endOffset - startOffset),
-       ByteBuffer.wrap(outdata, outOffset, outdata.length - outOffset));
+  /**
+   * Verifies the checksum of each bytesPerChecksum chunk of data, from its position to its
+   * limit, in one call. Either buffer may be direct. The positions and limits of the buffers
+   * are not changed.
+   * @param checksums the expected checksum values from its position on
+   * @return false if any chunk does not match its checksum
+   */
+  static boolean verifyChecksums(ByteBuffer data, ByteBuffer checksums,
+      ChecksumType checksumType, int bytesPerChecksum, String pathName) {
+    if (checksumType == ChecksumType.NULL) {
+      return true;
+    }
+    JdkChecksum jdkChecksum = getJdkChecksum(checksumType);
+    if (jdkChecksum != null) {
+      return jdkChecksum.chunkedSums(data, checksums, bytesPerChecksum, true);
+    }
+    DataChecksum dataChecksum = DataChecksum.newDataChecksum(
+        checksumType.getDataChecksumType(), bytesPerChecksum);
+    try {
+      dataChecksum.verifyChunkedSums(data.duplicate(), checksums.duplicate(), pathName, 0);
+    } catch (ChecksumException e) {
+      return false;
+    }
+    return true;
+  }
+
+  private static JdkChecksum getJdkChecksum(ChecksumType checksumType) {
+    switch (checksumType) {
+    case CRC32:
+      return JDK_CRC32;
+    case CRC32C:
+      return JDK_CRC32C;
+    default:
+      return null;
+    }
   }
 
   /**
@@ -85,10 +156,11 @@ public class ChecksumUtil {
    * If there is a checksum mismatch, then return false. Otherwise
    * return true.
    * The header is extracted from the specified HFileBlock while the
-   * data-to-be-verified is extracted from 'data'.
+   * data-to-be-verified is extracted from 'data', from its position on. It
+   * may be a direct buffer, and is not changed.
    */
   static boolean validateBlockChecksum(Path path, HFileBlock block,
-    byte[] data, int hdrSize) throws IOException {
+    ByteBuffer data, int hdrSize) throws IOException {
 
     // If this is an older version of the block that does not have
     // checksums, then return false indicating that checksum verification
@@ -112,26 +184,20 @@ public class ChecksumUtil {
     // read in the stored value of the checksum size from the header.
     int bytesPerChecksum = block.getBytesPerChecksum();
 
-    DataChecksum dataChecksum = DataChecksum.newDataChecksum(
-        cktype.getDataChecksumType(), bytesPerChecksum);
-    assert dataChecksum != null;
     int sizeWithHeader =  block.getOnDiskDataSizeWithHeader();
     if (LOG.isTraceEnabled()) {
-      LOG.info("length of data = " + data.length
+      LOG.info("length of data = " + data.remaining()
           + " OnDiskDataSizeWithHeader = " + sizeWithHeader
           + " checksum type = " + cktype.getName()
           + " file =" + path.toString()
           + " header size = " + hdrSize
           + " bytesPerChecksum = " + bytesPerChecksum);
     }
-    try {
-      dataChecksum.verifyChunkedSums(ByteBuffer.wrap(data, 0, sizeWithHeader),
-          ByteBuffer.wrap(data, sizeWithHeader, data.length - sizeWithHeader),
-                          path.toString(), 0);
-    } catch (ChecksumException e) {
-      return false;
-    }
-    return true;  // checksum is valid
+    ByteBuffer blockData = data.duplicate();
+    blockData.limit(data.position() + sizeWithHeader);
+    ByteBuffer checksums = data.duplicate();
+    checksums.position(data.position() + sizeWithHeader);
+    return verifyChecksums(blockData, checksums, cktype, bytesPerChecksum, path.toString());
   }
 
   /**
@@ -189,5 +255,80 @@ public class ChecksumUtil {
   public static void generateExceptionForChecksumFailureForTest(boolean value) {
     generateExceptions = value;
   }
+
+  /**
+   * A JDK checksum class, called through method handles since this code also runs on JVMs
+   * that do not have it.
+   */
+  private static final class JdkChecksum {
+    private final MethodHandle constructor;
+    private final MethodHandle update;
+
+    private JdkChecksum(MethodHandle constructor, MethodHandle update) {
+      this.constructor = constructor;
+      this.update = update;
+    }
+
+    /** @return the checksum class with the given name, or null if this JVM cannot use it */
+    static JdkChecksum find(String className) {
+      try {
+        Class<?> clazz = Class.forName(className);
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class))
+            .asType(MethodType.methodType(Checksum.class));
+        MethodHandle update = lookup.findVirtual(clazz, "update",
+            MethodType.methodType(void.class, ByteBuffer.class))
+            .asType(MethodType.methodType(void.class, Checksum.class, ByteBuffer.class));
+        return new JdkChecksum(constructor, update);
+      } catch (ClassNotFoundException e) {
+        return null;
+      } catch (NoSuchMethodException e) {
+        return null;
+      } catch (IllegalAccessException e) {
+        return null;
+      }
+    }
+
+    /**
+     * Generates or verifies the checksum of each bytesPerChecksum chunk of data.
+     * @return false if verifying and a chunk does not match its checksum
+     */
+    boolean chunkedSums(ByteBuffer data, ByteBuffer checksums, int bytesPerChecksum,
+        boolean verify) {
+      Checksum checksum = newChecksum();
+      ByteBuffer chunk = data.duplicate();
+      int sumPos = checksums.position();
+      for (int pos = data.position(); pos < data.limit(); pos += bytesPerChecksum) {
+        chunk.limit(Math.min(pos + bytesPerChecksum, data.limit()));
+        chunk.position(pos);
+        checksum.reset();
+        update(checksum, chunk);
+        int value = (int) checksum.getValue();
+        if (!verify) {
+          checksums.putInt(sumPos, value);
+        } else if (checksums.getInt(sumPos) != value) {
+          return false;
+        }
+        sumPos += HFileBlock.CHECKSUM_SIZE;
+      }
+      return true;
+    }
+
+    private Checksum newChecksum() {
+      try {
+        return (Checksum) constructor.invokeExact();
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+
+    private void update(Checksum checksum, ByteBuffer chunk) {
+      try {
+        update.invokeExact(checksum, chunk);
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+  }
 }
 
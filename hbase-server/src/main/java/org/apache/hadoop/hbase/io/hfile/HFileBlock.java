@@ -41,6 +41,7 @@ import org.apache.hadoop.hbase.io.encoding.HFileBlockDecodingContext;
 import org.apache.hadoop.hbase.io.encoding.HFileBlockDefaultDecodingContext;
 import org.apache.hadoop.hbase.io.encoding.HFileBlockDefaultEncodingContext;
 import org.apache.hadoop.hbase.io.encoding.HFileBlockEncodingContext;
+import org.apache.hadoop.hbase.ipc.CallPhaseTimer;
 import org.apache.hadoop.hbase.util.ByteBufferUtils;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.ChecksumType;
@@ -805,8 +806,15 @@ public class HFileBlock implements Cacheable {
     public Writer(HFileDataBlockEncoder dataBlockEncoder, HFileContext fileContext) {
       this.dataBlockEncoder = dataBlockEncoder != null
           ? dataBlockEncoder : NoOpDataBlockEncoder.INSTANCE;
+      // Only data blocks use the compression dictionary; the index and file info blocks must
+      // be readable before the dictionary is loaded from the file info.
+      HFileContext defaultBlockContext = fileContext;
+      if (fileContext.getCompressionDictionary() != null) {
+        defaultBlockContext = new HFileContext(fileContext);
+        defaultBlockContext.setCompressionDictionary(null);
+      }
       defaultBlockEncodingCtx = new HFileBlockDefaultEncodingContext(null,
-          HConstants.HFILEBLOCK_DUMMY_HEADER, fileContext);
+          HConstants.HFILEBLOCK_DUMMY_HEADER, defaultBlockContext);
       dataBlockEncodingCtx = this.dataBlockEncoder
           .newDataBlockEncodingContext(HConstants.HFILEBLOCK_DUMMY_HEADER, fileContext);
 
@@ -1447,7 +1455,24 @@ public class HFileBlock implements Cacheable {
     public HFileBlock readBlockData(long offset, long onDiskSizeWithHeaderL,
         int uncompressedSize, boolean pread)
     throws IOException {
+      CallPhaseTimer phaseTimer = CallPhaseTimer.current();
+      if (phaseTimer == null) {
+        return readBlockDataVerified(offset, onDiskSizeWithHeaderL, uncompressedSize, pread);
+      }
+      long startTime = System.nanoTime();
+      try {
+        return readBlockDataVerified(offset, onDiskSizeWithHeaderL, uncompressedSize, pread);
+      } finally {
+        phaseTimer.add(CallPhaseTimer.Phase.FS_READ, System.nanoTime() - startTime);
+      }
+    }
 
+    /**
+     * Reads a block, falling back to HDFS checksums if HBase checksum verification fails. See
+     * {@link #readBlockData(long, long, int, boolean)} for the parameters.
+     */
+    private HFileBlock readBlockDataVerified(long offset, long onDiskSizeWithHeaderL,
+        int uncompressedSize, boolean pread) throws IOException {
       // get a copy of the current state of whether to validate
       // hbase checksums or not for this read call. This is not
       // thread-safe but the one constaint is that if we decide
@@ -1647,7 +1672,8 @@ public class HFileBlock implements Cacheable {
         b.assumeUncompressed();
       }
 
-      if (verifyChecksum && !validateBlockChecksum(b, onDiskBlock, hdrSize)) {
+      if (verifyChecksum && !validateBlockChecksum(b,
+          ByteBuffer.wrap(onDiskBlock, 0, onDiskSizeWithHeader), hdrSize)) {
         return null;             // checksum mismatch
       }
 
@@ -1696,7 +1722,7 @@ public class HFileBlock implements Cacheable {
      * If there is a checksum mismatch, then return false. Otherwise
      * return true.
      */
-    protected boolean validateBlockChecksum(HFileBlock block,  byte[] data, int hdrSize)
+    protected boolean validateBlockChecksum(HFileBlock block, ByteBuffer data, int hdrSize)
         throws IOException {
       return ChecksumUtil.validateBlockChecksum(path, block, data, hdrSize);
     }
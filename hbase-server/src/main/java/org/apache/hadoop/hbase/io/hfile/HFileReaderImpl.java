@@ -212,6 +212,9 @@ public class HFileReaderImpl implements HFile.Reader, Configurable {
     // File info
     fileInfo = new FileInfo();
     fileInfo.read(blockIter.nextBlockWithBlockType(BlockType.FILE_INFO).getByteStream());
+    // Data blocks, unlike the blocks read so far, may be compressed against a dictionary.
+    // Loaded once here, it is shared by all the decoding contexts of the reader.
+    this.hfileContext.setCompressionDictionary(fileInfo.get(FileInfo.COMPRESSION_DICTIONARY));
     byte[] creationTimeBytes = fileInfo.get(FileInfo.CREATE_TIME_TS);
     this.hfileContext.setFileCreateTime(creationTimeBytes == null?  0:
         Bytes.toLong(creationTimeBytes));
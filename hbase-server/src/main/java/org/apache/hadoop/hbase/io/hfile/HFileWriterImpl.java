@@ -715,6 +715,10 @@ public class HFileWriterImpl implements HFile.Writer {
     int avgValueLen =
         entryCount == 0 ? 0 : (int) (totalValueLength / entryCount);
     fileInfo.append(FileInfo.AVG_VALUE_LEN, Bytes.toBytes(avgValueLen), false);
+    if (hFileContext.getCompressionDictionary() != null) {
+      fileInfo.append(FileInfo.COMPRESSION_DICTIONARY, hFileContext.getCompressionDictionary(),
+        false);
+    }
     if (hFileContext.getDataBlockEncoding() == DataBlockEncoding.PREFIX_TREE) {
       // In case of Prefix Tree encoding, we always write tags information into HFiles even if all
       // KVs are having no tags.
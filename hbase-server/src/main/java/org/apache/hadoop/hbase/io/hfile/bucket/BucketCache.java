@@ -337,6 +337,16 @@ public class BucketCache implements BlockCache, HeapSize {
     cacheBlockWithWait(cacheKey, cachedItem, inMemory, wait_when_cache);
   }
 
+  /**
+   * Whether the cache contains block with specified cacheKey, either still in the RAM cache
+   * or already written to the IO engine.
+   * @param cacheKey
+   * @return true if contains the block
+   */
+  public boolean containsBlock(BlockCacheKey cacheKey) {
+    return ramCache.containsKey(cacheKey) || backingMap.containsKey(cacheKey);
+  }
+
   /**
    * Cache the block to ramCache
    * @param cacheKey block's cache key
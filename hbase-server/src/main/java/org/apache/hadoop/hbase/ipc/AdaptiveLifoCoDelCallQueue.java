@@ -0,0 +1,279 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.ipc;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hadoop.hbase.CallDroppedException;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
+
+/**
+ * Call queue that uses the CoDel algorithm to detect a standing queue, and reacts to it by
+ * serving the newest calls first and dropping calls that have waited too long.
+ * <p>
+ * For each interval the queue tracks the smallest time a call spent waiting before a handler
+ * took it. If even that minimum is above the target delay, the queue did not drain at any point
+ * during the interval, so it is overloaded. While overloaded, or while the queue is filled
+ * beyond the LIFO threshold, handlers take the newest call instead of the oldest; the newest
+ * call's client is the most likely to still be waiting. Calls that waited more than twice the
+ * target delay while the queue is overloaded, or longer than the maximum queue time at any
+ * time, are dropped and answered with {@link CallDroppedException} rather than run.
+ * <p>
+ * Only the methods used by the {@link RpcExecutor}s are supported.
+ */
+@InterfaceAudience.Private
+public class AdaptiveLifoCoDelCallQueue implements BlockingQueue<CallRunner> {
+  private static final String UNSUPPORTED =
+      "This queue only supports take(), put(), offer() and add()";
+
+  private final LinkedBlockingDeque<CallRunner> queue;
+  private final int maxCapacity;
+  private final int codelTargetDelay;
+  private final int codelInterval;
+  private final double lifoThreshold;
+  private final int maxQueueTime;
+
+  private final AtomicLong numGeneralCallsDropped;
+  private final AtomicLong numLifoModeSwitches;
+
+  // CoDel state, guarded by this
+  private long intervalEnd = 0;
+  private long minDelay = 0;
+  private boolean overloaded = false;
+
+  private volatile boolean lifo = false;
+
+  /**
+   * @param capacity maximum number of calls in the queue
+   * @param targetDelay acceptable time, in milliseconds, for a call to wait in the queue
+   * @param interval length, in milliseconds, of the intervals minimum wait times are tracked over
+   * @param lifoThreshold fraction of the capacity above which calls are served LIFO
+   * @param maxQueueTime time, in milliseconds, after which a waiting call is always dropped
+   * @param numGeneralCallsDropped incremented for each dropped call
+   * @param numLifoModeSwitches incremented each time the queue switches to LIFO
+   */
+  public AdaptiveLifoCoDelCallQueue(int capacity, int targetDelay, int interval,
+      double lifoThreshold, int maxQueueTime, AtomicLong numGeneralCallsDropped,
+      AtomicLong numLifoModeSwitches) {
+    this.maxCapacity = capacity;
+    this.queue = new LinkedBlockingDeque<CallRunner>(capacity);
+    this.codelTargetDelay = targetDelay;
+    this.codelInterval = interval;
+    this.lifoThreshold = lifoThreshold;
+    this.maxQueueTime = maxQueueTime;
+    this.numGeneralCallsDropped = numGeneralCallsDropped;
+    this.numLifoModeSwitches = numLifoModeSwitches;
+  }
+
+  /**
+   * Takes the next call to run, dropping any expired calls found along the way.
+   */
+  @Override
+  public CallRunner take() throws InterruptedException {
+    while (true) {
+      CallRunner cr = isLifo() ? queue.takeLast() : queue.takeFirst();
+      if (needToDrop(cr)) {
+        numGeneralCallsDropped.incrementAndGet();
+        cr.drop();
+      } else {
+        return cr;
+      }
+    }
+  }
+
+  private boolean isLifo() {
+    boolean nowLifo;
+    synchronized (this) {
+      nowLifo = overloaded;
+    }
+    nowLifo |= queue.size() > lifoThreshold * maxCapacity;
+    if (nowLifo && !lifo) {
+      numLifoModeSwitches.incrementAndGet();
+    }
+    lifo = nowLifo;
+    return nowLifo;
+  }
+
+  /**
+   * Updates the CoDel state with the wait time of the call just taken.
+   * @return whether the call waited too long and should be dropped
+   */
+  private boolean needToDrop(CallRunner callRunner) {
+    long now = EnvironmentEdgeManager.currentTime();
+    long callDelay = now - callRunner.getCall().timestamp;
+    if (maxQueueTime > 0 && callDelay > maxQueueTime) {
+      // the client has given up on this call already
+      return true;
+    }
+    boolean isOverloaded;
+    synchronized (this) {
+      if (now >= intervalEnd) {
+        // even the shortest wait of the last interval was too long: the queue is standing
+        overloaded = minDelay > codelTargetDelay;
+        minDelay = callDelay;
+        intervalEnd = now + codelInterval;
+      } else if (callDelay < minDelay) {
+        minDelay = callDelay;
+      }
+      isOverloaded = overloaded;
+    }
+    return isOverloaded && callDelay > 2L * codelTargetDelay;
+  }
+
+  /**
+   * @return whether the queue currently serves calls in LIFO order
+   */
+  public boolean isInLifoMode() {
+    return lifo;
+  }
+
+  @Override
+  public boolean offer(CallRunner callRunner) {
+    return queue.offer(callRunner);
+  }
+
+  @Override
+  public boolean offer(CallRunner callRunner, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    return queue.offer(callRunner, timeout, unit);
+  }
+
+  @Override
+  public void put(CallRunner callRunner) throws InterruptedException {
+    queue.put(callRunner);
+  }
+
+  @Override
+  public boolean add(CallRunner callRunner) {
+    return queue.add(callRunner);
+  }
+
+  @Override
+  public int size() {
+    return queue.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return queue.isEmpty();
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return queue.remainingCapacity();
+  }
+
+  @Override
+  public String toString() {
+    return queue.toString();
+  }
+
+  // This class does NOT provide generic purpose BlockingQueue implementation,
+  // so to prevent other usages the following methods throw UnsupportedOperationException.
+
+  @Override
+  public CallRunner poll(long timeout, TimeUnit unit) throws InterruptedException {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner poll() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner peek() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public Object[] toArray() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public int drainTo(Collection<? super CallRunner> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public int drainTo(Collection<? super CallRunner> c, int maxElements) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public Iterator<CallRunner> iterator() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner remove() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner element() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends CallRunner> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+}
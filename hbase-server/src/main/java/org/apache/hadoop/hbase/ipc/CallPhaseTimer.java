@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.ipc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+
+/**
+ * Records where a call spends its time, for the phases of its processing that are worth telling
+ * apart when a call is slow: waiting for row locks or for earlier writes to become visible,
+ * reading blocks from the file system, evaluating filters and building the response. A phase
+ * may be entered many times during one call; its times and entries are summed up.
+ * <p>
+ * A timer belongs to one call, which is processed by one handler thread at a time, so it is not
+ * thread-safe. Recording a time does not allocate.
+ */
+@InterfaceAudience.Private
+public class CallPhaseTimer {
+
+  /** The phases of a call that are timed. */
+  public enum Phase {
+    /** Waiting for a row lock held by another call. */
+    ROW_LOCK(MetricsHBaseServerSource.ROW_LOCK_WAIT_TIME_NAME),
+    /** Waiting for earlier writes to complete so that a write becomes visible. */
+    MVCC_WAIT(MetricsHBaseServerSource.MVCC_WAIT_TIME_NAME),
+    /** Reading blocks from the file system, i.e. block cache misses. */
+    FS_READ(MetricsHBaseServerSource.FS_READ_TIME_NAME),
+    /** Evaluating filters on cells. */
+    FILTER(MetricsHBaseServerSource.FILTER_TIME_NAME),
+    /** Building and serializing the response. */
+    RESPONSE(MetricsHBaseServerSource.RESPONSE_TIME_NAME);
+
+    private final String metricName;
+
+    Phase(String metricName) {
+      this.metricName = metricName;
+    }
+
+    String getMetricName() {
+      return metricName;
+    }
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private final long[] nanos = new long[PHASES.length];
+  private final int[] counts = new int[PHASES.length];
+
+  /**
+   * @return the timer of the call the current thread is processing, or null if it is not
+   *   processing a call or the call is not timed
+   */
+  public static CallPhaseTimer current() {
+    RpcCallContext call = RpcServer.getCurrentCall();
+    return call == null ? null : call.getPhaseTimer();
+  }
+
+  /**
+   * Adds time to a phase of the call the current thread is processing, if it is timed.
+   */
+  public static void addToCurrent(Phase phase, long nanos) {
+    CallPhaseTimer timer = current();
+    if (timer != null) {
+      timer.add(phase, nanos);
+    }
+  }
+
+  /**
+   * Adds time spent in a phase.
+   * @param nanos time spent, in nanoseconds
+   */
+  public void add(Phase phase, long nanos) {
+    this.nanos[phase.ordinal()] += nanos;
+    this.counts[phase.ordinal()]++;
+  }
+
+  /**
+   * @return total time spent in the phase, in nanoseconds
+   */
+  public long getNanos(Phase phase) {
+    return nanos[phase.ordinal()];
+  }
+
+  /**
+   * @return how many times the phase was entered
+   */
+  public int getCount(Phase phase) {
+    return counts[phase.ordinal()];
+  }
+
+  /**
+   * Publishes the time of each phase that was entered to the per phase histograms.
+   */
+  void publish(MetricsHBaseServer metrics) {
+    for (Phase phase : PHASES) {
+      if (counts[phase.ordinal()] > 0) {
+        metrics.callPhase(phase, nanos[phase.ordinal()] / 1000);
+      }
+    }
+  }
+
+  /**
+   * @return the time in microseconds of each phase that was entered, for logging
+   */
+  Map<String, Long> getMicrosByPhase() {
+    Map<String, Long> map = new LinkedHashMap<String, Long>();
+    for (Phase phase : PHASES) {
+      if (counts[phase.ordinal()] > 0) {
+        map.put(phase.getMetricName(), nanos[phase.ordinal()] / 1000);
+      }
+    }
+    return map;
+  }
+
+  /**
+   * @return the number of entries of each phase that was entered, for logging
+   */
+  Map<String, Integer> getCountsByPhase() {
+    Map<String, Integer> map = new LinkedHashMap<String, Integer>();
+    for (Phase phase : PHASES) {
+      if (counts[phase.ordinal()] > 0) {
+        map.put(phase.getMetricName(), counts[phase.ordinal()]);
+      }
+    }
+    return map;
+  }
+}
@@ -20,6 +20,7 @@ import java.nio.channels.ClosedChannelException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.hbase.CallDroppedException;
 import org.apache.hadoop.hbase.CellScanner;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.ipc.RpcServer.Call;
@@ -158,6 +159,36 @@ public class CallRunner {
     }
   }
 
+  /**
+   * Answers the call with {@link CallDroppedException} instead of running it. Used
+   * when the server is too overloaded for the call to complete before its client gives up.
+   */
+  public void drop() {
+    try {
+      if (!call.connection.channel.isOpen()) {
+        if (RpcServer.LOG.isDebugEnabled()) {
+          RpcServer.LOG.debug(Thread.currentThread().getName() + ": skipped " + call);
+        }
+        return;
+      }
+      this.rpcServer.getMetrics().exception(RpcServer.CALL_DROPPED_EXCEPTION);
+      call.setResponse(null, null, RpcServer.CALL_DROPPED_EXCEPTION,
+        "Call dropped, server " + rpcServer.getListenerAddress() + " is overloaded, please retry.");
+      call.sendResponseIfReady();
+    } catch (ClosedChannelException cce) {
+      RpcServer.LOG.warn(Thread.currentThread().getName() + ": caught a ClosedChannelException, " +
+          "this means that the server " + rpcServer.getListenerAddress() + " was processing a " +
+          "request but the client went away. The error message was: " +
+          cce.getMessage());
+    } catch (Exception e) {
+      RpcServer.LOG.warn(Thread.currentThread().getName()
+          + ": caught: " + StringUtils.stringifyException(e));
+    } finally {
+      this.rpcServer.addCallSize(call.getSize() * -1);
+      cleanup();
+    }
+  }
+
   MonitoredRPCHandler getStatus() {
     // It is ugly the way we park status up in RpcServer.  Let it be for now.  TODO.
     MonitoredRPCHandler status = RpcServer.MONITORED_RPC.get();
@@ -0,0 +1,458 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.ipc;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HRegionInfo;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.protobuf.generated.ClientProtos.MultiRequest;
+import org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.RegionSpecifier;
+import org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.RegionSpecifier.RegionSpecifierType;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+/**
+ * Call queue that shares handlers between tenants, either request users or tables, by deficit
+ * round robin on the handler time their calls take.
+ * <p>
+ * Each tenant has its own FIFO queue and a deficit of handler time. Tenants with waiting calls
+ * sit in a ring. Handlers take calls from the tenant at the head of the ring while its deficit
+ * is positive; then the tenant moves to the back of the ring and is credited a quantum of
+ * handler time times its weight. So a tenant with weight 2 gets twice the handler time of a
+ * tenant with weight 1 when both have calls waiting. The quantum is the average handler time
+ * of a call, so a take is amortized O(1) whatever the number of tenants. A tenant is forgotten
+ * once it has no calls waiting or running, so idle tenants do not build up credit.
+ * <p>
+ * A call is charged the average handler time when it is taken, and the difference to its real
+ * handler time when the handler comes back.
+ * <p>
+ * The handler time of a call is measured from the moment a handler takes it until that handler
+ * comes back to take its next call; {@link RpcExecutor} handlers take the next call as soon as
+ * they finished running the previous one.
+ * <p>
+ * Only the methods used by the {@link RpcExecutor}s are supported.
+ */
+@InterfaceAudience.Private
+public class FairShareCallQueue implements BlockingQueue<CallRunner> {
+  private static final String UNSUPPORTED =
+      "This queue only supports take(), put(), offer() and add()";
+
+  /** What calls are grouped by, 'user' (the default) or 'table' */
+  public static final String TENANT_CONF_KEY = "hbase.ipc.server.callqueue.fair.tenant";
+  public static final String TENANT_USER_CONF_VALUE = "user";
+  public static final String TENANT_TABLE_CONF_VALUE = "table";
+
+  /** Prefix of the keys for the weights of single tenants, e.g. '...fair.weight.alice' */
+  public static final String WEIGHT_CONF_KEY_PREFIX = "hbase.ipc.server.callqueue.fair.weight.";
+  /** Weight of tenants without a weight of their own */
+  public static final String DEFAULT_WEIGHT_CONF_KEY =
+      "hbase.ipc.server.callqueue.fair.default.weight";
+  public static final int DEFAULT_WEIGHT = 1;
+
+  /**
+   * How calls map to tenants and the weights of the tenants. Shared by the queues of a
+   * scheduler and updated when the configuration changes.
+   */
+  public static class Weights {
+    private final AtomicLong version = new AtomicLong();
+    private volatile Configuration conf;
+    private volatile boolean byTable;
+
+    public Weights(Configuration conf) {
+      update(conf);
+    }
+
+    public void update(Configuration conf) {
+      this.conf = conf;
+      this.byTable = TENANT_TABLE_CONF_VALUE.equals(
+        conf.get(TENANT_CONF_KEY, TENANT_USER_CONF_VALUE));
+      version.incrementAndGet();
+    }
+
+    int getWeight(String tenant) {
+      Configuration conf = this.conf;
+      int weight = conf.getInt(WEIGHT_CONF_KEY_PREFIX + tenant,
+        conf.getInt(DEFAULT_WEIGHT_CONF_KEY, DEFAULT_WEIGHT));
+      return Math.max(1, weight);
+    }
+
+    long getVersion() {
+      return version.get();
+    }
+
+    /**
+     * @return the user or table the call belongs to. Calls that do not name a region, like
+     *   scanner next calls, all share one tenant when grouping by table.
+     */
+    String getTenant(RpcServer.Call call) {
+      if (byTable) {
+        TableName table = getTable(call.param);
+        return table == null ? "" : table.getNameAsString();
+      }
+      String user = call.getRequestUserName();
+      return user == null ? "" : user;
+    }
+
+    private static TableName getTable(Message param) {
+      if (param == null) {
+        return null;
+      }
+      RegionSpecifier region = null;
+      if (param instanceof MultiRequest) {
+        MultiRequest multi = (MultiRequest) param;
+        if (multi.getRegionActionCount() > 0) {
+          region = multi.getRegionAction(0).getRegion();
+        }
+      } else {
+        FieldDescriptor field = param.getDescriptorForType().findFieldByName("region");
+        if (field != null && !field.isRepeated() && param.hasField(field)) {
+          Object value = param.getField(field);
+          if (value instanceof RegionSpecifier) {
+            region = (RegionSpecifier) value;
+          }
+        }
+      }
+      if (region == null || region.getType() != RegionSpecifierType.REGION_NAME) {
+        return null;
+      }
+      return HRegionInfo.getTable(region.getValue().toByteArray());
+    }
+  }
+
+  private static final class Tenant {
+    private final String name;
+    private final ArrayDeque<CallRunner> calls = new ArrayDeque<CallRunner>();
+    private long deficit;
+    private int inFlight;
+    private int weight;
+    private long weightVersion = -1;
+
+    Tenant(String name) {
+      this.name = name;
+    }
+  }
+
+  /** The call a handler thread took last, to charge its tenant when the handler comes back */
+  private static final class Running {
+    private final Tenant tenant;
+    private final long startNanos;
+    private final long chargedNanos;
+
+    Running(Tenant tenant, long startNanos, long chargedNanos) {
+      this.tenant = tenant;
+      this.startNanos = startNanos;
+      this.chargedNanos = chargedNanos;
+    }
+  }
+
+  private final int capacity;
+  private final Weights weights;
+  private final ThreadLocal<Running> running = new ThreadLocal<Running>();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  // guarded by lock
+  private final Map<String, Tenant> tenants = new HashMap<String, Tenant>();
+  // tenants with waiting calls, in round robin order
+  private final ArrayDeque<Tenant> active = new ArrayDeque<Tenant>();
+  private int count = 0;
+  // moving average of the handler time of a call, 0 until the first call is charged
+  private long avgCallNanos = 0;
+
+  /**
+   * @param capacity maximum number of calls in the queue
+   * @param weights the tenant weights
+   */
+  public FairShareCallQueue(int capacity, Weights weights) {
+    this.capacity = capacity;
+    this.weights = weights;
+  }
+
+  @VisibleForTesting
+  long currentNanos() {
+    return System.nanoTime();
+  }
+
+  @Override
+  public void put(CallRunner callRunner) throws InterruptedException {
+    String tenant = weights.getTenant(callRunner.getCall());
+    lock.lockInterruptibly();
+    try {
+      while (count == capacity) {
+        notFull.await();
+      }
+      enqueue(callRunner, tenant);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(CallRunner callRunner) {
+    String tenant = weights.getTenant(callRunner.getCall());
+    lock.lock();
+    try {
+      if (count == capacity) {
+        return false;
+      }
+      enqueue(callRunner, tenant);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(CallRunner callRunner, long timeout, TimeUnit unit)
+      throws InterruptedException {
+    String tenant = weights.getTenant(callRunner.getCall());
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (count == capacity) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = notFull.awaitNanos(nanos);
+      }
+      enqueue(callRunner, tenant);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean add(CallRunner callRunner) {
+    if (offer(callRunner)) {
+      return true;
+    }
+    throw new IllegalStateException("Queue full");
+  }
+
+  /**
+   * @param name the tenant of the call, worked out before taking the lock
+   */
+  private void enqueue(CallRunner callRunner, String name) {
+    Tenant tenant = tenants.get(name);
+    if (tenant == null) {
+      tenant = new Tenant(name);
+      tenants.put(name, tenant);
+    }
+    if (tenant.calls.isEmpty()) {
+      // Joins the back of the ring, like a tenant whose turn just ended
+      tenant.deficit = Math.min(tenant.deficit, 0) + quantum(tenant);
+      active.addLast(tenant);
+    }
+    tenant.calls.add(callRunner);
+    count++;
+    notEmpty.signal();
+  }
+
+  @Override
+  public CallRunner take() throws InterruptedException {
+    chargeLastCall();
+    Tenant tenant;
+    CallRunner callRunner;
+    long chargedNanos;
+    lock.lockInterruptibly();
+    try {
+      while (count == 0) {
+        notEmpty.await();
+      }
+      tenant = active.peekFirst();
+      while (tenant.deficit <= 0) {
+        // Its turn is over; credit it for the next one
+        active.pollFirst();
+        tenant.deficit += quantum(tenant);
+        active.addLast(tenant);
+        tenant = active.peekFirst();
+      }
+      callRunner = tenant.calls.poll();
+      if (tenant.calls.isEmpty()) {
+        active.pollFirst();
+      }
+      chargedNanos = avgCallNanos;
+      tenant.deficit -= chargedNanos;
+      tenant.inFlight++;
+      count--;
+      notFull.signal();
+    } finally {
+      lock.unlock();
+    }
+    running.set(new Running(tenant, currentNanos(), chargedNanos));
+    return callRunner;
+  }
+
+  /**
+   * @return the handler time the tenant is credited per turn. Guarded by lock.
+   */
+  private long quantum(Tenant tenant) {
+    if (tenant.weightVersion != weights.getVersion()) {
+      tenant.weightVersion = weights.getVersion();
+      tenant.weight = weights.getWeight(tenant.name);
+    }
+    return Math.max(1, avgCallNanos) * tenant.weight;
+  }
+
+  private void chargeLastCall() {
+    Running last = running.get();
+    if (last == null) {
+      return;
+    }
+    running.remove();
+    long handlerNanos = Math.max(1, currentNanos() - last.startNanos);
+    Tenant tenant = last.tenant;
+    lock.lock();
+    try {
+      tenant.deficit -= handlerNanos - last.chargedNanos;
+      tenant.inFlight--;
+      avgCallNanos = avgCallNanos == 0 ? handlerNanos
+          : avgCallNanos + (handlerNanos - avgCallNanos) / 16;
+      // Forget idle tenants
+      if (tenant.calls.isEmpty() && tenant.inFlight == 0 && tenants.get(tenant.name) == tenant) {
+        tenants.remove(tenant.name);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return capacity - size();
+  }
+
+  // This class does NOT provide generic purpose BlockingQueue implementation,
+  // so to prevent other usages the following methods throw UnsupportedOperationException.
+
+  @Override
+  public CallRunner poll(long timeout, TimeUnit unit) throws InterruptedException {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner poll() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner peek() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public Object[] toArray() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public int drainTo(Collection<? super CallRunner> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public int drainTo(Collection<? super CallRunner> c, int maxElements) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public Iterator<CallRunner> iterator() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner remove() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public CallRunner element() {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends CallRunner> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException(UNSUPPORTED);
+  }
+}
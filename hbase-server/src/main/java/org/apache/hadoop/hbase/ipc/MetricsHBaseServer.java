@@ -19,6 +19,7 @@
 
 package org.apache.hadoop.hbase.ipc;
 
+import org.apache.hadoop.hbase.CallDroppedException;
 import org.apache.hadoop.hbase.NotServingRegionException;
 import org.apache.hadoop.hbase.RegionTooBusyException;
 import org.apache.hadoop.hbase.UnknownScannerException;
@@ -73,6 +74,10 @@ public class MetricsHBaseServer {
     source.queuedAndProcessedCall(totalTime);
   }
 
+  void callPhase(CallPhaseTimer.Phase phase, long timeUs) {
+    source.callPhase(phase.getMetricName(), timeUs);
+  }
+
   public void exception(Throwable throwable) {
     source.exception();
 
@@ -97,6 +102,8 @@ public class MetricsHBaseServer {
         source.notServingRegionException();
       } else if (throwable instanceof FailedSanityCheckException) {
         source.failedSanityException();
+      } else if (throwable instanceof CallDroppedException) {
+        source.callDroppedException();
       }
     }
   }
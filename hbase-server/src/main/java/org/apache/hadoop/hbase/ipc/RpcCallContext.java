@@ -71,4 +71,10 @@ public interface RpcCallContext extends Delayable {
    * @param callback
    */
   void setCallBack(RpcCallback callback);
+
+  /**
+   * @return the timer recording where this call spends its time, or null if the phases of calls
+   *   are not timed
+   */
+  CallPhaseTimer getPhaseTimer();
 }
@@ -71,4 +71,12 @@ public abstract class RpcScheduler {
 
   /** Retrieves the number of active handler. */
   public abstract int getActiveRpcHandlerCount();
+
+  /**
+   * Retrieves the number of times the general call queues switched to LIFO because of overload.
+   * Schedulers whose queues never switch do not need to override this.
+   */
+  public long getNumLifoModeSwitches() {
+    return 0;
+  }
 }
@@ -70,6 +70,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.classification.InterfaceStability;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.CallDroppedException;
 import org.apache.hadoop.hbase.CellScanner;
 import org.apache.hadoop.hbase.DoNotRetryIOException;
 import org.apache.hadoop.hbase.HBaseIOException;
@@ -161,6 +162,7 @@ public class RpcServer implements RpcServerInterface {
   public static final Log LOG = LogFactory.getLog(RpcServer.class);
   private static final CallQueueTooBigException CALL_QUEUE_TOO_BIG_EXCEPTION
       = new CallQueueTooBigException();
+  static final CallDroppedException CALL_DROPPED_EXCEPTION = new CallDroppedException();
 
   private final boolean authorize;
   private boolean isSecurityEnabled;
@@ -259,6 +261,24 @@ public class RpcServer implements RpcServerInterface {
   private static final String WARN_RESPONSE_TIME = "hbase.ipc.warn.response.time";
   private static final String WARN_RESPONSE_SIZE = "hbase.ipc.warn.response.size";
 
+  /**
+   * Whether to time the phases of each call, see {@link CallPhaseTimer}. The times are published
+   * as histograms and logged along with calls that are too slow.
+   */
+  public static final String CALL_PHASE_TIMING_KEY = "hbase.ipc.server.call.phase.timing";
+  public static final boolean DEFAULT_CALL_PHASE_TIMING = false;
+
+  /**
+   * Whether to keep the most recent calls that are too slow or too large in memory, see
+   * {@link SlowLogRingBuffer}, and how many of them.
+   */
+  public static final String SLOW_LOG_BUFFER_ENABLED_KEY =
+      "hbase.regionserver.slowlog.buffer.enabled";
+  public static final boolean DEFAULT_SLOW_LOG_BUFFER_ENABLED = false;
+  public static final String SLOW_LOG_BUFFER_SIZE_KEY =
+      "hbase.regionserver.slowlog.ringbuffer.size";
+  public static final int DEFAULT_SLOW_LOG_BUFFER_SIZE = 256;
+
   /** Default value for above params */
   private static final int DEFAULT_WARN_RESPONSE_TIME = 10000; // milliseconds
   private static final int DEFAULT_WARN_RESPONSE_SIZE = 100 * 1024 * 1024;
@@ -267,6 +287,8 @@ public class RpcServer implements RpcServerInterface {
 
   private final int warnResponseTime;
   private final int warnResponseSize;
+  private final boolean callPhaseTiming;
+  private final SlowLogRingBuffer slowLogBuffer;
   private final Server server;
   private final List<BlockingServiceAndInterface> services;
 
@@ -308,6 +330,7 @@ public class RpcServer implements RpcServerInterface {
     private User user;
     private InetAddress remoteAddress;
     private RpcCallback callback;
+    private final CallPhaseTimer phaseTimer;
 
     Call(int id, final BlockingService service, final MethodDescriptor md, RequestHeader header,
          Message param, CellScanner cellScanner, Connection connection, Responder responder,
@@ -328,6 +351,7 @@ public class RpcServer implements RpcServerInterface {
       this.tinfo = tinfo;
       this.user = connection.user == null? null: userProvider.create(connection.user);
       this.remoteAddress = remoteAddress;
+      this.phaseTimer = callPhaseTiming ? new CallPhaseTimer() : null;
     }
 
     /**
@@ -382,6 +406,7 @@ public class RpcServer implements RpcServerInterface {
         Throwable t, String errorMsg) {
       if (this.isError) return;
       if (t != null) this.isError = true;
+      long responseStartTime = this.phaseTimer == null ? 0 : System.nanoTime();
       BufferChain bc = null;
       try {
         ResponseHeader.Builder headerBuilder = ResponseHeader.newBuilder();
@@ -433,6 +458,12 @@ public class RpcServer implements RpcServerInterface {
         LOG.warn("Exception while creating response " + e);
       }
       this.response = bc;
+      if (this.phaseTimer != null) {
+        // Only known now, after the call itself has been processed and logged if slow.
+        long responseTime = System.nanoTime() - responseStartTime;
+        this.phaseTimer.add(CallPhaseTimer.Phase.RESPONSE, responseTime);
+        metrics.callPhase(CallPhaseTimer.Phase.RESPONSE, responseTime / 1000);
+      }
       // Once a response message is created and set to this.response, this Call can be treated as
       // done. The Responder thread will do the n/w write of this message back to client.
       if (this.callback != null) {
@@ -570,6 +601,11 @@ public class RpcServer implements RpcServerInterface {
     public void setCallBack(RpcCallback callback) {
       this.callback = callback;
     }
+
+    @Override
+    public CallPhaseTimer getPhaseTimer() {
+      return this.phaseTimer;
+    }
   }
 
   /** Listens on the socket. Creates jobs for the handler threads*/
@@ -1833,8 +1869,9 @@ public class RpcServer implements RpcServerInterface {
           offset += paramSize;
         }
         if (header.hasCellBlockMeta()) {
+          // The cells may be views into the request; the memstore copies the ones it keeps
           cellScanner = ipcUtil.createCellScanner(this.codec, this.compressionCodec,
-            buf, offset, buf.length);
+            buf, offset, buf.length - offset, true);
         }
       } catch (Throwable t) {
         String msg = getListenerAddress() + " is unable to read call parameter from client " +
@@ -1995,6 +2032,12 @@ public class RpcServer implements RpcServerInterface {
       2 * HConstants.DEFAULT_HBASE_RPC_TIMEOUT);
     this.warnResponseTime = conf.getInt(WARN_RESPONSE_TIME, DEFAULT_WARN_RESPONSE_TIME);
     this.warnResponseSize = conf.getInt(WARN_RESPONSE_SIZE, DEFAULT_WARN_RESPONSE_SIZE);
+    this.callPhaseTiming = conf.getBoolean(CALL_PHASE_TIMING_KEY, DEFAULT_CALL_PHASE_TIMING);
+    this.slowLogBuffer =
+        conf.getBoolean(SLOW_LOG_BUFFER_ENABLED_KEY, DEFAULT_SLOW_LOG_BUFFER_ENABLED)
+            ? new SlowLogRingBuffer(
+                conf.getInt(SLOW_LOG_BUFFER_SIZE_KEY, DEFAULT_SLOW_LOG_BUFFER_SIZE))
+            : null;
 
     // Start the listener here and let it bind to the port
     listener = new Listener(name);
@@ -2144,6 +2187,10 @@ public class RpcServer implements RpcServerInterface {
       metrics.dequeuedCall(qTime);
       metrics.processedCall(processingTime);
       metrics.totalCall(totalTime);
+      CallPhaseTimer phaseTimer = CallPhaseTimer.current();
+      if (phaseTimer != null) {
+        phaseTimer.publish(metrics);
+      }
       long responseSize = result.getSerializedSize();
       // log any RPC responses that are slower than the configured warn
       // response time or larger than configured warning size
@@ -2156,7 +2203,12 @@ public class RpcServer implements RpcServerInterface {
             md.getName(), md.getName() + "(" + param.getClass().getName() + ")",
             (tooLarge ? "TooLarge" : "TooSlow"),
             status.getClient(), startTime, processingTime, qTime,
-            responseSize);
+            responseSize, phaseTimer);
+        if (slowLogBuffer != null) {
+          slowLogBuffer.add(SlowLogRingBuffer.buildRecord(param, md.getName(),
+            status.getClient(), getRequestUserName(), startTime, processingTime, qTime,
+            responseSize, tooSlow, tooLarge, phaseTimer));
+        }
       }
       return new Pair<Message, CellScanner>(result, controller.cellScanner());
     } catch (Throwable e) {
@@ -2188,10 +2240,11 @@ public class RpcServer implements RpcServerInterface {
    * @param qTime           The duration that the call spent on the queue
    *                        prior to being initiated, in ms.
    * @param responseSize    The size in bytes of the response buffer.
+   * @param phaseTimer      The times of the phases of the call, or null if not timed.
    */
   void logResponse(Object[] params, String methodName, String call, String tag,
       String clientAddress, long startTime, int processingTime, int qTime,
-      long responseSize)
+      long responseSize, CallPhaseTimer phaseTimer)
           throws IOException {
     // base information that is reported regardless of type of call
     Map<String, Object> responseInfo = new HashMap<String, Object>();
@@ -2202,6 +2255,10 @@ public class RpcServer implements RpcServerInterface {
     responseInfo.put("client", clientAddress);
     responseInfo.put("class", server == null? "": server.getClass().getSimpleName());
     responseInfo.put("method", methodName);
+    if (phaseTimer != null) {
+      responseInfo.put("phasetimesus", phaseTimer.getMicrosByPhase());
+      responseInfo.put("phasecounts", phaseTimer.getCountsByPhase());
+    }
     if (params.length == 2 && server instanceof HRegionServer &&
         params[0] instanceof byte[] &&
         params[1] instanceof Operation) {
@@ -2528,6 +2585,11 @@ public class RpcServer implements RpcServerInterface {
     }
   }
 
+  @Override
+  public SlowLogRingBuffer getSlowLogBuffer() {
+    return slowLogBuffer;
+  }
+
   @Override
   public RpcScheduler getScheduler() {
     return scheduler;
@@ -75,4 +75,9 @@ public interface RpcServerInterface {
   void refreshAuthManager(PolicyProvider pp);
 
   RpcScheduler getScheduler();
+
+  /**
+   * @return the recent calls that were too slow or too large, or null if they are not kept
+   */
+  SlowLogRingBuffer getSlowLogBuffer();
 }
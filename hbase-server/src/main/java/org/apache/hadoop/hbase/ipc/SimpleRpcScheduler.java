@@ -19,7 +19,9 @@ package org.apache.hadoop.hbase.ipc;
 
 
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
@@ -28,6 +30,7 @@ import org.apache.hadoop.hbase.HBaseInterfaceAudience;
 import org.apache.hadoop.hbase.HConstants;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.classification.InterfaceStability;
+import org.apache.hadoop.hbase.conf.ConfigurationObserver;
 import org.apache.hadoop.hbase.util.BoundedPriorityBlockingQueue;
 
 /**
@@ -36,7 +39,7 @@ import org.apache.hadoop.hbase.util.BoundedPriorityBlockingQueue;
  */
 @InterfaceAudience.LimitedPrivate({HBaseInterfaceAudience.COPROC, HBaseInterfaceAudience.PHOENIX})
 @InterfaceStability.Evolving
-public class SimpleRpcScheduler extends RpcScheduler {
+public class SimpleRpcScheduler extends RpcScheduler implements ConfigurationObserver {
   private static final Log LOG = LogFactory.getLog(SimpleRpcScheduler.class);
 
   public static final String CALL_QUEUE_READ_SHARE_CONF_KEY =
@@ -50,6 +53,36 @@ public class SimpleRpcScheduler extends RpcScheduler {
   public static final String CALL_QUEUE_TYPE_CONF_KEY = "hbase.ipc.server.callqueue.type";
   public static final String CALL_QUEUE_TYPE_DEADLINE_CONF_VALUE = "deadline";
   public static final String CALL_QUEUE_TYPE_FIFO_CONF_VALUE = "fifo";
+  /**
+   * If set to 'codel', uses an {@link AdaptiveLifoCoDelCallQueue}, which serves calls LIFO and
+   * drops calls that waited too long when the queue is overloaded
+   */
+  public static final String CALL_QUEUE_TYPE_CODEL_CONF_VALUE = "codel";
+  /**
+   * If set to 'fair', uses a {@link FairShareCallQueue}, which shares the handlers between users
+   * or tables by weighted fair queuing
+   */
+  public static final String CALL_QUEUE_TYPE_FAIR_CONF_VALUE = "fair";
+
+  /** Acceptable time, in msec, for a call to wait in a CoDel call queue */
+  public static final String CALL_QUEUE_CODEL_TARGET_DELAY =
+      "hbase.ipc.server.callqueue.codel.target.delay";
+  /** Length, in msec, of the intervals a CoDel call queue tracks minimum wait times over */
+  public static final String CALL_QUEUE_CODEL_INTERVAL =
+      "hbase.ipc.server.callqueue.codel.interval";
+  /** Fraction of a CoDel call queue's capacity above which calls are served LIFO */
+  public static final String CALL_QUEUE_CODEL_LIFO_THRESHOLD =
+      "hbase.ipc.server.callqueue.codel.lifo.threshold";
+  /**
+   * Time, in msec, after which a waiting call is always dropped from a CoDel call queue.
+   * Defaults to the client rpc timeout, since the client has given up on the call by then.
+   */
+  public static final String CALL_QUEUE_CODEL_MAX_QUEUE_TIME =
+      "hbase.ipc.server.callqueue.codel.max.queue.time";
+
+  public static final int CALL_QUEUE_CODEL_DEFAULT_TARGET_DELAY = 100;
+  public static final int CALL_QUEUE_CODEL_DEFAULT_INTERVAL = 100;
+  public static final double CALL_QUEUE_CODEL_DEFAULT_LIFO_THRESHOLD = 0.8;
 
   /** max delay in msec used to bound the deprioritized requests */
   public static final String QUEUE_MAX_CALL_DELAY_CONF_KEY
@@ -96,6 +129,12 @@ public class SimpleRpcScheduler extends RpcScheduler {
 
   private Abortable abortable = null;
 
+  // Shared by all CoDel call queues of this scheduler
+  private final AtomicLong numGeneralCallsDropped = new AtomicLong();
+  private final AtomicLong numLifoModeSwitches = new AtomicLong();
+  // Shared by all fair share call queues of this scheduler, null for other queue types
+  private final FairShareCallQueue.Weights fairShareWeights;
+
   /**
    * @param conf
    * @param handlerCount the number of handler threads that will be used to process calls
@@ -127,6 +166,22 @@ public class SimpleRpcScheduler extends RpcScheduler {
 
     LOG.info("Using " + callQueueType + " as user call queue, count=" + numCallQueues);
 
+    Object[] codelQueueArgs = null;
+    if (callQueueType.equals(CALL_QUEUE_TYPE_CODEL_CONF_VALUE)) {
+      int codelTargetDelay = conf.getInt(CALL_QUEUE_CODEL_TARGET_DELAY,
+        CALL_QUEUE_CODEL_DEFAULT_TARGET_DELAY);
+      int codelInterval = conf.getInt(CALL_QUEUE_CODEL_INTERVAL,
+        CALL_QUEUE_CODEL_DEFAULT_INTERVAL);
+      double codelLifoThreshold = conf.getDouble(CALL_QUEUE_CODEL_LIFO_THRESHOLD,
+        CALL_QUEUE_CODEL_DEFAULT_LIFO_THRESHOLD);
+      int codelMaxQueueTime = conf.getInt(CALL_QUEUE_CODEL_MAX_QUEUE_TIME,
+        conf.getInt(HConstants.HBASE_RPC_TIMEOUT_KEY, HConstants.DEFAULT_HBASE_RPC_TIMEOUT));
+      codelQueueArgs = new Object[] { codelTargetDelay, codelInterval, codelLifoThreshold,
+        codelMaxQueueTime, numGeneralCallsDropped, numLifoModeSwitches };
+    }
+    fairShareWeights = callQueueType.equals(CALL_QUEUE_TYPE_FAIR_CONF_VALUE) ?
+        new FairShareCallQueue.Weights(conf) : null;
+
     if (numCallQueues > 1 && callqReadShare > 0) {
       // multiple read/write queues
       if (callQueueType.equals(CALL_QUEUE_TYPE_DEADLINE_CONF_VALUE)) {
@@ -134,6 +189,16 @@ public class SimpleRpcScheduler extends RpcScheduler {
         callExecutor = new RWQueueRpcExecutor("RW.default", handlerCount, numCallQueues,
             callqReadShare, callqScanShare, maxQueueLength, conf, abortable,
             BoundedPriorityBlockingQueue.class, callPriority);
+      } else if (callQueueType.equals(CALL_QUEUE_TYPE_CODEL_CONF_VALUE)) {
+        callExecutor = new RWQueueRpcExecutor("RW.codel", handlerCount, numCallQueues,
+            callqReadShare, callqScanShare, maxQueueLength,
+            AdaptiveLifoCoDelCallQueue.class, codelQueueArgs,
+            AdaptiveLifoCoDelCallQueue.class, codelQueueArgs);
+      } else if (fairShareWeights != null) {
+        Object[] fairQueueArgs = new Object[] { fairShareWeights };
+        callExecutor = new RWQueueRpcExecutor("RW.fair", handlerCount, numCallQueues,
+            callqReadShare, callqScanShare, maxQueueLength,
+            FairShareCallQueue.class, fairQueueArgs, FairShareCallQueue.class, fairQueueArgs);
       } else {
         callExecutor = new RWQueueRpcExecutor("RW.default", handlerCount, numCallQueues,
           callqReadShare, callqScanShare, maxQueueLength, conf, abortable);
@@ -144,6 +209,13 @@ public class SimpleRpcScheduler extends RpcScheduler {
         CallPriorityComparator callPriority = new CallPriorityComparator(conf, this.priority);
         callExecutor = new BalancedQueueRpcExecutor("B.default", handlerCount, numCallQueues,
           conf, abortable, BoundedPriorityBlockingQueue.class, maxQueueLength, callPriority);
+      } else if (callQueueType.equals(CALL_QUEUE_TYPE_CODEL_CONF_VALUE)) {
+        callExecutor = new BalancedQueueRpcExecutor("B.codel", handlerCount, numCallQueues,
+          conf, abortable, AdaptiveLifoCoDelCallQueue.class,
+          ArrayUtils.addAll(new Object[] { maxQueueLength }, codelQueueArgs));
+      } else if (fairShareWeights != null) {
+        callExecutor = new BalancedQueueRpcExecutor("B.fair", handlerCount, numCallQueues,
+          conf, abortable, FairShareCallQueue.class, maxQueueLength, fairShareWeights);
       } else {
         callExecutor = new BalancedQueueRpcExecutor("B.default", handlerCount,
             numCallQueues, maxQueueLength, conf, abortable);
@@ -170,6 +242,17 @@ public class SimpleRpcScheduler extends RpcScheduler {
 	    null, highPriorityLevel);
   }
 
+  /**
+   * Reloads the tenant weights of fair share call queues. Other settings need a restart.
+   */
+  @Override
+  public void onConfigurationChange(Configuration conf) {
+    if (fairShareWeights != null) {
+      fairShareWeights.update(conf);
+      LOG.info("Updated fair share call queue weights");
+    }
+  }
+
   @Override
   public void init(Context context) {
     this.port = context.getListenerAddress().getPort();
@@ -217,11 +300,30 @@ public class SimpleRpcScheduler extends RpcScheduler {
     return replicationExecutor == null ? 0 : replicationExecutor.getQueueLength();
   }
 
+  @Override
+  public long getNumLifoModeSwitches() {
+    return numLifoModeSwitches.get();
+  }
+
+  /**
+   * @return the number of calls the CoDel call queues dropped because they waited too long
+   */
+  public long getNumGeneralCallsDropped() {
+    return numGeneralCallsDropped.get();
+  }
+
   @Override
   public int getActiveRpcHandlerCount() {
     return callExecutor.getActiveHandlerCount() +
            (priorityExecutor == null ? 0 : priorityExecutor.getActiveHandlerCount()) +
            (replicationExecutor == null ? 0 : replicationExecutor.getActiveHandlerCount());
   }
+
+  /**
+   * Used in testing.
+   */
+  RpcExecutor getCallExecutor() {
+    return callExecutor;
+  }
 }
 
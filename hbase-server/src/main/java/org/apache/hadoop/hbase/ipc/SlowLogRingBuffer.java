@@ -0,0 +1,155 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.ipc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.protobuf.ProtobufUtil;
+import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord;
+import org.apache.hadoop.hbase.protobuf.generated.ClientProtos.MultiRequest;
+import org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.NameInt64Pair;
+import org.apache.hadoop.hbase.protobuf.generated.HBaseProtos.RegionSpecifier;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+/**
+ * Keeps the most recent calls that were too slow or too large, so they can be looked at over
+ * the admin API instead of in the log files of every server. The buffer has a fixed number of
+ * slots; once they are used up each new record replaces the oldest one.
+ * <p>
+ * Adding a record takes no lock: a writer claims a slot by incrementing a sequence number and
+ * sets it. A reader that races with writers may miss the newest records or see a slot that has
+ * just been replaced, which is fine for a diagnostic view.
+ */
+@InterfaceAudience.Private
+public class SlowLogRingBuffer {
+
+  private final AtomicReferenceArray<SlowLogRecord> records;
+  private final int mask;
+  private final AtomicLong next = new AtomicLong();
+
+  /**
+   * @param size the number of records to keep, rounded up to a power of two
+   */
+  public SlowLogRingBuffer(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Size must be positive: " + size);
+    }
+    int capacity = Integer.highestOneBit(size);
+    if (capacity < size) {
+      capacity <<= 1;
+    }
+    this.records = new AtomicReferenceArray<SlowLogRecord>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  /** @return the number of records the buffer can hold */
+  public int getCapacity() {
+    return records.length();
+  }
+
+  /** Adds a record, replacing the oldest one if the buffer is full. */
+  public void add(SlowLogRecord record) {
+    long seq = next.getAndIncrement();
+    records.set((int) (seq & mask), record);
+  }
+
+  /**
+   * @param limit the maximum number of records to return
+   * @return up to limit of the newest records, newest first
+   */
+  public List<SlowLogRecord> get(int limit) {
+    long last = next.get();
+    long first = Math.max(0, last - Math.min(limit, records.length()));
+    List<SlowLogRecord> result = new ArrayList<SlowLogRecord>((int) (last - first));
+    for (long seq = last - 1; seq >= first; seq--) {
+      SlowLogRecord record = records.get((int) (seq & mask));
+      if (record != null) {
+        result.add(record);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Builds the record of a call that was too slow or too large.
+   * @param param the request of the call
+   * @param methodName the name of the called method
+   * @param clientAddress the address of the client, may be null
+   * @param userName the name of the calling user, may be null
+   * @param phaseTimer the phase times of the call, may be null if they are not recorded
+   */
+  static SlowLogRecord buildRecord(Message param, String methodName, String clientAddress,
+      String userName, long startTime, int processingTime, int qTime, long responseSize,
+      boolean tooSlow, boolean tooLarge, CallPhaseTimer phaseTimer) {
+    SlowLogRecord.Builder builder = SlowLogRecord.newBuilder()
+        .setStartTime(startTime)
+        .setProcessingTime(processingTime)
+        .setQueueTime(qTime)
+        .setResponseSize(responseSize)
+        .setMethodName(methodName)
+        .setCallDetails(ProtobufUtil.getShortTextFormat(param))
+        .setTooSlow(tooSlow)
+        .setTooLarge(tooLarge);
+    if (clientAddress != null) {
+      builder.setClientAddress(clientAddress);
+    }
+    if (userName != null) {
+      builder.setUserName(userName);
+    }
+    String regionName = getRegionName(param);
+    if (regionName != null) {
+      builder.setRegionName(regionName);
+    }
+    if (phaseTimer != null) {
+      for (Map.Entry<String, Long> e : phaseTimer.getMicrosByPhase().entrySet()) {
+        builder.addPhaseTime(NameInt64Pair.newBuilder()
+            .setName(e.getKey()).setValue(e.getValue()).build());
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return the region the request is addressed to, the first one for a multi request, or null
+   *   if the request does not name a region
+   */
+  private static String getRegionName(Message param) {
+    RegionSpecifier region = null;
+    if (param instanceof MultiRequest) {
+      MultiRequest multi = (MultiRequest) param;
+      if (multi.getRegionActionCount() > 0) {
+        region = multi.getRegionAction(0).getRegion();
+      }
+    } else {
+      FieldDescriptor field = param.getDescriptorForType().findFieldByName("region");
+      if (field != null && !field.isRepeated() && param.hasField(field)
+          && param.getField(field) instanceof RegionSpecifier) {
+        region = (RegionSpecifier) param.getField(field);
+      }
+    }
+    return region == null ? null : Bytes.toStringBinary(region.getValue().toByteArray());
+  }
+}
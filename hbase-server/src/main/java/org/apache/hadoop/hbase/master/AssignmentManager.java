@@ -728,12 +728,16 @@ public class AssignmentManager {
         // that unnecessary timeout on RIT is reduced.
         this.addPlans(plans);
 
+        List<HRegionInfo> pendingOpenRegions = new ArrayList<HRegionInfo>(states.size());
+        for (RegionState state: states) {
+          pendingOpenRegions.add(state.getRegion());
+        }
+        // Move all the regions to PENDING_OPEN with batched meta updates
+        regionStates.updateRegionStates(pendingOpenRegions, State.PENDING_OPEN, destination);
+
         List<Pair<HRegionInfo, List<ServerName>>> regionOpenInfos =
           new ArrayList<Pair<HRegionInfo, List<ServerName>>>(states.size());
-        for (RegionState state: states) {
-          HRegionInfo region = state.getRegion();
-          regionStates.updateRegionState(
-            region, State.PENDING_OPEN, destination);
+        for (HRegionInfo region: pendingOpenRegions) {
           List<ServerName> favoredNodes = ServerName.EMPTY_SERVER_LIST;
           if (this.shouldAssignRegionsWithFavoredNodes) {
             favoredNodes = ((FavoredNodeLoadBalancer)this.balancer).getFavoredNodes(region);
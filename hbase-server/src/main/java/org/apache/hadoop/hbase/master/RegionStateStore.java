@@ -18,7 +18,9 @@
 package org.apache.hadoop.hbase.master;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -26,6 +28,7 @@ import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.HConstants.OperationStatusCode;
 import org.apache.hadoop.hbase.HRegionInfo;
 import org.apache.hadoop.hbase.HRegionLocation;
 import org.apache.hadoop.hbase.MetaTableAccessor;
@@ -33,9 +36,11 @@ import org.apache.hadoop.hbase.RegionLocations;
 import org.apache.hadoop.hbase.Server;
 import org.apache.hadoop.hbase.ServerName;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.master.RegionState.State;
+import org.apache.hadoop.hbase.regionserver.OperationStatus;
 import org.apache.hadoop.hbase.regionserver.Region;
 import org.apache.hadoop.hbase.regionserver.RegionServerServices;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -61,6 +66,7 @@ public class RegionStateStore {
   private volatile boolean initialized;
   private MultiHConnection multiHConnection;
   private final Server server;
+  private int batchSize;
 
   /**
    * Returns the {@link ServerName} from catalog table {@link Result}
@@ -140,9 +146,11 @@ public class RegionStateStore {
       metaRegion = ((RegionServerServices)server).getFromOnlineRegions(
         HRegionInfo.FIRST_META_REGIONINFO.getEncodedName());
     }
+    Configuration conf = server.getConfiguration();
+    // The max number of region state changes written to meta in one multi-row mutation
+    batchSize = conf.getInt("hbase.regionstatestore.meta.batch.size", 1000);
     // When meta is not colocated on master
     if (metaRegion == null) {
-      Configuration conf = server.getConfiguration();
       // Config to determine the no of HConnections to META.
       // A single HConnection should be sufficient in most cases. Only if
       // you are doing lot of writes (>1M) to META,
@@ -167,76 +175,138 @@ public class RegionStateStore {
 
       // Update meta before checking for initialization. Meta state stored in zk.
       if (hri.isMetaRegion()) {
-        // persist meta state in MetaTableLocator (which in turn is zk storage currently)
-        try {
-          MetaTableLocator.setMetaLocation(server.getZooKeeper(),
-            newState.getServerName(), hri.getReplicaId(), newState.getState());
-          return; // Done
-        } catch (KeeperException e) {
-          throw new IOException("Failed to update meta ZNode", e);
-        }
+        updateMetaLocation(newState);
+        return; // Done
       }
 
-      if (!initialized
-          || !shouldPersistStateChange(hri, newState, oldState)) {
-        return;
+      Put put = getRegionStatePut(openSeqNum, newState, oldState);
+      if (put != null) {
+        persist(Arrays.asList(put));
       }
+    } catch (IOException ioe) {
+      LOG.error("Failed to persist region state " + newState, ioe);
+      server.abort("Failed to update region location", ioe);
+    }
+  }
 
-      ServerName oldServer = oldState != null ? oldState.getServerName() : null;
-      ServerName serverName = newState.getServerName();
-      State state = newState.getState();
-
-      int replicaId = hri.getReplicaId();
-      Put put = new Put(MetaTableAccessor.getMetaKeyForRegion(hri));
-      StringBuilder info = new StringBuilder("Updating hbase:meta row ");
-      info.append(hri.getRegionNameAsString()).append(" with state=").append(state);
-      if (serverName != null && !serverName.equals(oldServer)) {
-        put.addImmutable(HConstants.CATALOG_FAMILY, getServerNameColumn(replicaId),
-          Bytes.toBytes(serverName.getServerName()));
-        info.append(", sn=").append(serverName);
+  /**
+   * Persist the state changes of a batch of regions. The changes are written to meta
+   * as multi-row mutations of up to hbase.regionstatestore.meta.batch.size rows each,
+   * instead of one round trip per region.
+   * @param newStates the new region states
+   * @param oldStates the previous region states, in the same order; entries can be null
+   */
+  void updateRegionStates(List<RegionState> newStates, List<RegionState> oldStates) {
+    List<Put> puts = new ArrayList<Put>(newStates.size());
+    try {
+      for (int i = 0; i < newStates.size(); i++) {
+        RegionState newState = newStates.get(i);
+        if (newState.getRegion().isMetaRegion()) {
+          updateMetaLocation(newState);
+          continue;
+        }
+        Put put = getRegionStatePut(HConstants.NO_SEQNUM, newState, oldStates.get(i));
+        if (put == null) {
+          continue;
+        }
+        puts.add(put);
+        if (puts.size() >= batchSize) {
+          persist(puts);
+          puts.clear();
+        }
       }
-      if (openSeqNum >= 0) {
-        Preconditions.checkArgument(state == State.OPEN
-          && serverName != null, "Open region should be on a server");
-        MetaTableAccessor.addLocation(put, serverName, openSeqNum, -1, replicaId);
-        info.append(", openSeqNum=").append(openSeqNum);
-        info.append(", server=").append(serverName);
+      if (!puts.isEmpty()) {
+        persist(puts);
       }
-      put.addImmutable(HConstants.CATALOG_FAMILY, getStateColumn(replicaId),
-        Bytes.toBytes(state.name()));
-      LOG.info(info);
-
-      // Persist the state change to meta
-      if (metaRegion != null) {
-        try {
-          // Assume meta is pinned to master.
-          // At least, that's what we want.
-          metaRegion.put(put);
-          return; // Done here
-        } catch (Throwable t) {
-          // In unit tests, meta could be moved away by intention
-          // So, the shortcut is gone. We won't try to establish the
-          // shortcut any more because we prefer meta to be pinned
-          // to the master
-          synchronized (this) {
-            if (metaRegion != null) {
-              LOG.info("Meta region shortcut failed", t);
-              if (multiHConnection == null) {
-                multiHConnection = new MultiHConnection(server.getConfiguration(), 1);
-              }
-              metaRegion = null;
+    } catch (IOException ioe) {
+      LOG.error("Failed to persist " + newStates.size() + " region states", ioe);
+      server.abort("Failed to update region locations", ioe);
+    }
+  }
+
+  private void updateMetaLocation(RegionState newState) throws IOException {
+    // persist meta state in MetaTableLocator (which in turn is zk storage currently)
+    try {
+      MetaTableLocator.setMetaLocation(server.getZooKeeper(),
+        newState.getServerName(), newState.getRegion().getReplicaId(), newState.getState());
+    } catch (KeeperException e) {
+      throw new IOException("Failed to update meta ZNode", e);
+    }
+  }
+
+  /**
+   * @return the mutation persisting the state change, or null if it should not be persisted
+   */
+  private Put getRegionStatePut(long openSeqNum,
+      RegionState newState, RegionState oldState) {
+    HRegionInfo hri = newState.getRegion();
+    if (!initialized
+        || !shouldPersistStateChange(hri, newState, oldState)) {
+      return null;
+    }
+
+    ServerName oldServer = oldState != null ? oldState.getServerName() : null;
+    ServerName serverName = newState.getServerName();
+    State state = newState.getState();
+
+    int replicaId = hri.getReplicaId();
+    Put put = new Put(MetaTableAccessor.getMetaKeyForRegion(hri));
+    StringBuilder info = new StringBuilder("Updating hbase:meta row ");
+    info.append(hri.getRegionNameAsString()).append(" with state=").append(state);
+    if (serverName != null && !serverName.equals(oldServer)) {
+      put.addImmutable(HConstants.CATALOG_FAMILY, getServerNameColumn(replicaId),
+        Bytes.toBytes(serverName.getServerName()));
+      info.append(", sn=").append(serverName);
+    }
+    if (openSeqNum >= 0) {
+      Preconditions.checkArgument(state == State.OPEN
+        && serverName != null, "Open region should be on a server");
+      MetaTableAccessor.addLocation(put, serverName, openSeqNum, -1, replicaId);
+      info.append(", openSeqNum=").append(openSeqNum);
+      info.append(", server=").append(serverName);
+    }
+    put.addImmutable(HConstants.CATALOG_FAMILY, getStateColumn(replicaId),
+      Bytes.toBytes(state.name()));
+    LOG.info(info);
+    return put;
+  }
+
+  /**
+   * Persist the given state changes to meta in one batch.
+   */
+  private void persist(List<Put> puts) throws IOException {
+    if (metaRegion != null) {
+      try {
+        // Assume meta is pinned to master.
+        // At least, that's what we want.
+        OperationStatus[] statuses = metaRegion.batchMutate(
+          puts.toArray(new Mutation[puts.size()]), HConstants.NO_NONCE, HConstants.NO_NONCE);
+        for (int i = 0; i < statuses.length; i++) {
+          if (statuses[i].getOperationStatusCode() != OperationStatusCode.SUCCESS) {
+            throw new IOException("Failed to update hbase:meta row "
+              + Bytes.toStringBinary(puts.get(i).getRow()) + ": "
+              + statuses[i].getExceptionMsg());
+          }
+        }
+        return; // Done here
+      } catch (Throwable t) {
+        // In unit tests, meta could be moved away by intention
+        // So, the shortcut is gone. We won't try to establish the
+        // shortcut any more because we prefer meta to be pinned
+        // to the master
+        synchronized (this) {
+          if (metaRegion != null) {
+            LOG.info("Meta region shortcut failed", t);
+            if (multiHConnection == null) {
+              multiHConnection = new MultiHConnection(server.getConfiguration(), 1);
             }
+            metaRegion = null;
           }
         }
       }
-      // Called when meta is not on master
-      multiHConnection.processBatchCallback(Arrays.asList(put),
-          TableName.META_TABLE_NAME, null, null);
-
-    } catch (IOException ioe) {
-      LOG.error("Failed to persist region state " + newState, ioe);
-      server.abort("Failed to update region location", ioe);
     }
+    // Called when meta is not on master
+    multiHConnection.processBatchCallback(puts, TableName.META_TABLE_NAME, null, null);
   }
 
   void splitRegion(HRegionInfo p,
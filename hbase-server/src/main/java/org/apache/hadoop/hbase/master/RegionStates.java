@@ -1054,6 +1054,44 @@ public class RegionStates {
     return false;
   }
 
+  /**
+   * Update the states of a batch of regions, all moving to the same state on the
+   * same server. They will be put in transition if not already there. The changes
+   * are persisted to meta in batches instead of one row at a time, and the
+   * in-memory states are updated under a single acquisition of the lock.
+   * @return the new region states, in the order of the given regions
+   */
+  public List<RegionState> updateRegionStates(final List<HRegionInfo> hris,
+      final RegionState.State state, final ServerName serverName) {
+    List<RegionState> newStates = new ArrayList<RegionState>(hris.size());
+    List<RegionState> changedStates = new ArrayList<RegionState>(hris.size());
+    List<RegionState> oldStates = new ArrayList<RegionState>(hris.size());
+    for (HRegionInfo hri : hris) {
+      RegionState regionState = new RegionState(
+        hri, state, System.currentTimeMillis(), serverName);
+      RegionState oldState = getRegionState(hri.getEncodedName());
+      if (!regionState.equals(oldState)) {
+        LOG.info("Transition " + oldState + " to " + regionState);
+        changedStates.add(regionState);
+        oldStates.add(oldState);
+      }
+      newStates.add(regionState);
+    }
+    // Persist region states before updating in-memory info, if needed
+    if (!changedStates.isEmpty()) {
+      regionStateStore.updateRegionStates(changedStates, oldStates);
+    }
+
+    synchronized (this) {
+      for (RegionState regionState : newStates) {
+        applyRegionState(regionState);
+      }
+      // notify the change
+      this.notifyAll();
+    }
+    return newStates;
+  }
+
   /**
    * Update a region state. It will be put in transition if not already there.
    */
@@ -1075,38 +1113,51 @@ public class RegionStates {
     }
 
     synchronized (this) {
-      regionsInTransition.put(encodedName, regionState);
-      putRegionState(regionState);
+      applyRegionState(regionState);
 
-      // For these states, region should be properly closed.
-      // There should be no log splitting issue.
-      if ((state == State.CLOSED || state == State.MERGED
-          || state == State.SPLIT) && lastAssignments.containsKey(encodedName)) {
-        ServerName last = lastAssignments.get(encodedName);
-        if (last.equals(serverName)) {
-          lastAssignments.remove(encodedName);
-        } else {
-          LOG.warn(encodedName + " moved to " + state + " on "
-            + serverName + ", expected " + last);
-        }
+      // notify the change
+      this.notifyAll();
+    }
+    return regionState;
+  }
+
+  /**
+   * Update the in-memory info for a new region state.
+   * The caller must hold the lock on this.
+   */
+  private void applyRegionState(final RegionState regionState) {
+    HRegionInfo hri = regionState.getRegion();
+    String encodedName = hri.getEncodedName();
+    State state = regionState.getState();
+    ServerName serverName = regionState.getServerName();
+
+    regionsInTransition.put(encodedName, regionState);
+    putRegionState(regionState);
+
+    // For these states, region should be properly closed.
+    // There should be no log splitting issue.
+    if ((state == State.CLOSED || state == State.MERGED
+        || state == State.SPLIT) && lastAssignments.containsKey(encodedName)) {
+      ServerName last = lastAssignments.get(encodedName);
+      if (last.equals(serverName)) {
+        lastAssignments.remove(encodedName);
+      } else {
+        LOG.warn(encodedName + " moved to " + state + " on "
+          + serverName + ", expected " + last);
       }
+    }
 
-      // Once a region is opened, record its last assignment right away.
-      if (serverName != null && state == State.OPEN) {
-        ServerName last = lastAssignments.get(encodedName);
-        if (!serverName.equals(last)) {
-          lastAssignments.put(encodedName, serverName);
-          if (last != null && isServerDeadAndNotProcessed(last)) {
-            LOG.warn(encodedName + " moved to " + serverName
-              + ", while it's previous host " + last
-              + " is dead but not processed yet");
-          }
+    // Once a region is opened, record its last assignment right away.
+    if (serverName != null && state == State.OPEN) {
+      ServerName last = lastAssignments.get(encodedName);
+      if (!serverName.equals(last)) {
+        lastAssignments.put(encodedName, serverName);
+        if (last != null && isServerDeadAndNotProcessed(last)) {
+          LOG.warn(encodedName + " moved to " + serverName
+            + ", while it's previous host " + last
+            + " is dead but not processed yet");
         }
       }
-
-      // notify the change
-      this.notifyAll();
     }
-    return regionState;
   }
 }
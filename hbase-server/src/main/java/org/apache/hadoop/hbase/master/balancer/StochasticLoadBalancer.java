@@ -55,6 +55,7 @@ import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
  * <ul>
  * <li>Region Load</li>
  * <li>Table Load</li>
+ * <li>Read and Write Request Rates</li>
  * <li>Data Locality</li>
  * <li>Memstore Sizes</li>
  * <li>Storefile Sizes</li>
@@ -70,6 +71,8 @@ import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
  *   <li>hbase.master.balancer.stochastic.moveCost</li>
  *   <li>hbase.master.balancer.stochastic.tableLoadCost</li>
  *   <li>hbase.master.balancer.stochastic.localityCost</li>
+ *   <li>hbase.master.balancer.stochastic.readRequestCost</li>
+ *   <li>hbase.master.balancer.stochastic.writeRequestCost</li>
  *   <li>hbase.master.balancer.stochastic.memstoreSizeCost</li>
  *   <li>hbase.master.balancer.stochastic.storefileSizeCost</li>
  * </ul>
@@ -152,6 +155,7 @@ public class StochasticLoadBalancer extends BaseLoadBalancer {
           new LoadCandidateGenerator(),
           localityCandidateGenerator,
           new RegionReplicaRackCandidateGenerator(),
+          new RequestLoadCandidateGenerator(),
       };
     }
 
@@ -630,6 +634,109 @@ public class StochasticLoadBalancer extends BaseLoadBalancer {
     }
   }
 
+  /**
+   * Generates candidates which move a hot region off the server currently carrying the
+   * highest request rate onto the server carrying the lowest. Request rates are derived from
+   * the deltas between the remembered {@link RegionLoad}s of each region, so a burst of
+   * traffic is visible to the balancer on the next run rather than being diluted by the
+   * lifetime request counts.
+   */
+  static class RequestLoadCandidateGenerator extends CandidateGenerator {
+
+    private Cluster cluster = null;
+    private double[] regionRates = null;
+
+    @Override
+    Cluster.Action generate(Cluster cluster) {
+      double[] rates = getRegionRates(cluster);
+      if (rates == null || cluster.numServers < 2) {
+        return Cluster.NullAction;
+      }
+
+      int hottestServer = -1;
+      int coldestServer = -1;
+      double maxLoad = -1;
+      double minLoad = Double.MAX_VALUE;
+      for (int i = 0; i < cluster.numServers; i++) {
+        double load = 0;
+        for (int regionIndex : cluster.regionsPerServer[i]) {
+          load += rates[regionIndex];
+        }
+        if (load > maxLoad) {
+          maxLoad = load;
+          hottestServer = i;
+        }
+        if (load < minLoad) {
+          minLoad = load;
+          coldestServer = i;
+        }
+      }
+      if (hottestServer == coldestServer) {
+        return Cluster.NullAction;
+      }
+
+      // Pick the hottest region whose move still narrows the gap between the two servers;
+      // moving anything hotter than the gap would just create a new hot spot.
+      double gap = maxLoad - minLoad;
+      int hotRegion = -1;
+      double hotRegionRate = 0;
+      for (int regionIndex : cluster.regionsPerServer[hottestServer]) {
+        double rate = rates[regionIndex];
+        if (rate > hotRegionRate && rate < gap) {
+          hotRegion = regionIndex;
+          hotRegionRate = rate;
+        }
+      }
+      if (hotRegion == -1) {
+        return Cluster.NullAction;
+      }
+      return new Cluster.MoveRegionAction(hotRegion, hottestServer, coldestServer);
+    }
+
+    /**
+     * @return the smoothed request rate of every region of the cluster, indexed by region
+     *         index, or null if no region has enough loads remembered to compute a rate.
+     */
+    private double[] getRegionRates(Cluster cluster) {
+      if (this.cluster == cluster) {
+        return regionRates;
+      }
+      this.cluster = cluster;
+      this.regionRates = null;
+      if (cluster.regionLoads == null) {
+        return null;
+      }
+      double[] rates = new double[cluster.numRegions];
+      boolean found = false;
+      for (int i = 0; i < cluster.numRegions; i++) {
+        Deque<RegionLoad> regionLoadList = cluster.regionLoads[i];
+        if (regionLoadList == null || regionLoadList.size() < 2) {
+          continue;
+        }
+        rates[i] = getRequestRate(regionLoadList);
+        found |= rates[i] > 0;
+      }
+      if (found) {
+        this.regionRates = rates;
+      }
+      return regionRates;
+    }
+
+    private static double getRequestRate(Collection<RegionLoad> regionLoadList) {
+      double rate = 0;
+      long previous = -1;
+      for (RegionLoad rl : regionLoadList) {
+        long current = rl.getRequestsCount();
+        if (previous >= 0) {
+          rate = CostFromRegionLoadAsRateFunction.smooth(rate,
+              CostFromRegionLoadAsRateFunction.delta(previous, current));
+        }
+        previous = current;
+      }
+      return rate;
+    }
+  }
+
   /**
    * Generates candidates which moves the replicas out of the region server for
    * co-hosted region replicas
@@ -1110,11 +1217,54 @@ public class StochasticLoadBalancer extends BaseLoadBalancer {
   }
 
   /**
-   * Compute the cost of total number of read requests  The more unbalanced the higher the
-   * computed cost will be.  This uses a rolling average of regionload.
+   * Class to be used for the subset of RegionLoad costs that should be treated as rates.
+   * The metrics reported in RegionLoad for these are cumulative counters, so the cost is
+   * computed from the deltas between consecutive loads rather than from the counters
+   * themselves. More recent deltas are weighted more heavily so that a burst shows up on
+   * the next balancer run.
+   */
+  abstract static class CostFromRegionLoadAsRateFunction extends CostFromRegionLoadFunction {
+
+    CostFromRegionLoadAsRateFunction(Configuration conf) {
+      super(conf);
+    }
+
+    @Override
+    protected double getRegionLoadCost(Collection<RegionLoad> regionLoadList) {
+      double cost = 0;
+      double previous = 0;
+      boolean isFirst = true;
+      for (RegionLoad rl : regionLoadList) {
+        double current = getCostFromRl(rl);
+        if (isFirst) {
+          isFirst = false;
+        } else {
+          cost = smooth(cost, delta(previous, current));
+        }
+        previous = current;
+      }
+      return cost;
+    }
+
+    /**
+     * The counters restart from zero when a region is reopened, e.g. after a move, so a
+     * decrease means the whole of the current value accrued since the previous report.
+     */
+    static double delta(double previous, double current) {
+      return current >= previous ? current - previous : current;
+    }
+
+    static double smooth(double cost, double toAdd) {
+      return cost == 0 ? toAdd : (.5 * cost) + (.5 * toAdd);
+    }
+  }
+
+  /**
+   * Compute the cost of the read request rate. The more unbalanced the higher the
+   * computed cost will be.  This uses a rolling average of the rate between regionloads.
    */
 
-  static class ReadRequestCostFunction extends CostFromRegionLoadFunction {
+  static class ReadRequestCostFunction extends CostFromRegionLoadAsRateFunction {
 
     private static final String READ_REQUEST_COST_KEY =
         "hbase.master.balancer.stochastic.readRequestCost";
@@ -1133,10 +1283,10 @@ public class StochasticLoadBalancer extends BaseLoadBalancer {
   }
 
   /**
-   * Compute the cost of total number of write requests.  The more unbalanced the higher the
-   * computed cost will be.  This uses a rolling average of regionload.
+   * Compute the cost of the write request rate.  The more unbalanced the higher the
+   * computed cost will be.  This uses a rolling average of the rate between regionloads.
    */
-  static class WriteRequestCostFunction extends CostFromRegionLoadFunction {
+  static class WriteRequestCostFunction extends CostFromRegionLoadAsRateFunction {
 
     private static final String WRITE_REQUEST_COST_KEY =
         "hbase.master.balancer.stochastic.writeRequestCost";
@@ -18,6 +18,8 @@
 
 package org.apache.hadoop.hbase.quotas;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
 import java.util.List;
 
@@ -35,7 +37,18 @@ import org.apache.hadoop.hbase.quotas.OperationQuota.OperationType;
 public class DefaultOperationQuota implements OperationQuota {
   private static final Log LOG = LogFactory.getLog(DefaultOperationQuota.class);
 
+  /**
+   * Read size charged against the read and request size quotas for every millisecond of
+   * handler CPU time spent on a get or scan. Disabled by default.
+   */
+  public static final String READ_SIZE_PER_CPU_MS_CONF_KEY = "hbase.quota.read.size.per.cpu.ms";
+  public static final long DEFAULT_READ_SIZE_PER_CPU_MS = 0;
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
   private final List<QuotaLimiter> limiters;
+  private final long readSizePerCpuMs;
+  private long readCpuStartNanos = -1;
   private long writeAvailable = 0;
   private long readAvailable = 0;
   private long writeConsumed = 0;
@@ -51,7 +64,18 @@ public class DefaultOperationQuota implements OperationQuota {
    * NOTE: The order matters. It should be something like [user, table, namespace, global]
    */
   public DefaultOperationQuota(final List<QuotaLimiter> limiters) {
+    this(0, limiters);
+  }
+
+  /**
+   * @param readSizePerCpuMs the read size charged for every millisecond of handler CPU time
+   *   spent on reads, so expensive reads use more of the quota than cheap ones; 0 to only
+   *   charge the size of the results
+   * @param limiters the limiters, in the order [user, table, namespace, global]
+   */
+  public DefaultOperationQuota(final long readSizePerCpuMs, final List<QuotaLimiter> limiters) {
     this.limiters = limiters;
+    this.readSizePerCpuMs = readSizePerCpuMs;
   }
 
   @Override
@@ -74,6 +98,11 @@ public class DefaultOperationQuota implements OperationQuota {
     for (final QuotaLimiter limiter: limiters) {
       limiter.grabQuota(writeConsumed, readConsumed);
     }
+
+    if (readSizePerCpuMs > 0 && (numReads > 0 || numScans > 0)
+        && THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+      readCpuStartNanos = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
   }
 
   @Override
@@ -92,6 +121,10 @@ public class DefaultOperationQuota implements OperationQuota {
     long writeDiff = avgOpSize.getOperationSize(OperationType.MUTATE) - writeConsumed;
     long readDiff = (avgOpSize.getOperationSize(OperationType.GET) +
                      avgOpSize.getOperationSize(OperationType.SCAN)) - readConsumed;
+    if (readCpuStartNanos >= 0) {
+      long cpuNanos = THREAD_MX_BEAN.getCurrentThreadCpuTime() - readCpuStartNanos;
+      readDiff += getReadCpuCost(cpuNanos);
+    }
     for (final QuotaLimiter limiter: limiters) {
       if (writeDiff != 0) limiter.consumeWrite(writeDiff);
       if (readDiff != 0) limiter.consumeRead(readDiff);
@@ -128,6 +161,13 @@ public class DefaultOperationQuota implements OperationQuota {
     return avgOpSize.getAvgOperationSize(type);
   }
 
+  /**
+   * @return the read size charged for the specified handler CPU time
+   */
+  long getReadCpuCost(final long cpuNanos) {
+    return cpuNanos > 0 ? (cpuNanos * readSizePerCpuMs) / 1000000 : 0;
+  }
+
   private long estimateConsume(final OperationType type, int numReqs, long avgSize) {
     if (numReqs > 0) {
       for (final QuotaLimiter limiter: limiters) {
@@ -28,11 +28,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HRegionInfo;
+import org.apache.hadoop.hbase.MetaTableAccessor;
 import org.apache.hadoop.hbase.ScheduledChore;
 import org.apache.hadoop.hbase.Stoppable;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.classification.InterfaceStability;
+import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.regionserver.RegionServerServices;
 import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
@@ -48,6 +51,11 @@ import com.google.common.annotations.VisibleForTesting;
  * an "empty quota" will be returned and the request to fetch the quota information
  * will be enqueued for the next refresh.
  *
+ * Limits with {@link QuotaScope#CLUSTER} scope are split between the region servers: user and
+ * namespace limits evenly across the live region servers, table limits in proportion to the
+ * regions of the table that are online on this server. The shares are recomputed on every
+ * refresh, so they follow the region assignment.
+ *
  * TODO: At the moment the Cache has a Chore that will be triggered every 5min
  * or on cache-miss events. Later the Quotas will be pushed using the notification system.
  */
@@ -69,6 +77,11 @@ public class QuotaCache implements Stoppable {
       new ConcurrentHashMap<TableName, QuotaState>();
   private final ConcurrentHashMap<String, UserQuotaState> userQuotaCache =
       new ConcurrentHashMap<String, UserQuotaState>();
+  // share of the cluster scope limits of each table enforced by this region server
+  private final ConcurrentHashMap<TableName, Double> tableMachineQuotaFactors =
+      new ConcurrentHashMap<TableName, Double>();
+  // share of the cluster scope user and namespace limits enforced by this region server
+  private volatile double machineQuotaFactor = 1;
   private final RegionServerServices rsServices;
 
   private QuotaRefresherChore refreshChore;
@@ -196,6 +209,16 @@ public class QuotaCache implements Stoppable {
     return userQuotaCache;
   }
 
+  @VisibleForTesting
+  double getMachineQuotaFactor() {
+    return machineQuotaFactor;
+  }
+
+  @VisibleForTesting
+  Map<TableName, Double> getTableMachineQuotaFactors() {
+    return tableMachineQuotaFactors;
+  }
+
   // TODO: Remove this once we have the notification bus
   private class QuotaRefresherChore extends ScheduledChore {
     private long lastUpdate = 0;
@@ -220,6 +243,7 @@ public class QuotaCache implements Stoppable {
         }
       }
 
+      updateQuotaFactors();
       fetchNamespaceQuotaState();
       fetchTableQuotaState();
       fetchUserQuotaState();
@@ -236,7 +260,8 @@ public class QuotaCache implements Stoppable {
         @Override
         public Map<String, QuotaState> fetchEntries(final List<Get> gets)
             throws IOException {
-          return QuotaUtil.fetchNamespaceQuotas(rsServices.getConnection(), gets);
+          return QuotaUtil.fetchNamespaceQuotas(rsServices.getConnection(), gets,
+            machineQuotaFactor);
         }
       });
     }
@@ -251,7 +276,8 @@ public class QuotaCache implements Stoppable {
         @Override
         public Map<TableName, QuotaState> fetchEntries(final List<Get> gets)
             throws IOException {
-          return QuotaUtil.fetchTableQuotas(rsServices.getConnection(), gets);
+          return QuotaUtil.fetchTableQuotas(rsServices.getConnection(), gets,
+            tableMachineQuotaFactors);
         }
       });
     }
@@ -268,11 +294,57 @@ public class QuotaCache implements Stoppable {
         @Override
         public Map<String, UserQuotaState> fetchEntries(final List<Get> gets)
             throws IOException {
-          return QuotaUtil.fetchUserQuotas(rsServices.getConnection(), gets);
+          return QuotaUtil.fetchUserQuotas(rsServices.getConnection(), gets,
+            tableMachineQuotaFactors, machineQuotaFactor);
         }
       });
     }
 
+    /**
+     * Update the share of the cluster scope limits enforced by this region server.
+     * If the cluster state cannot be read the previous shares are kept. The shares follow
+     * the region placement, not the traffic; see {@link QuotaScope#CLUSTER}.
+     */
+    private void updateQuotaFactors() {
+      try {
+        Admin admin = rsServices.getConnection().getAdmin();
+        try {
+          int numServers = admin.getClusterStatus().getServersSize();
+          if (numServers > 0) {
+            machineQuotaFactor = 1.0 / numServers;
+          }
+        } finally {
+          admin.close();
+        }
+      } catch (IOException e) {
+        LOG.warn("Unable to get the number of live region servers", e);
+      }
+
+      for (TableName table: QuotaCache.this.tableQuotaCache.keySet()) {
+        try {
+          int numRegions = 0;
+          for (HRegionInfo regionInfo: MetaTableAccessor.getTableRegions(
+              rsServices.getConnection(), table, true)) {
+            if (!regionInfo.isOffline()) {
+              numRegions++;
+            }
+          }
+          double factor = 0;
+          if (numRegions > 0) {
+            factor = (double) rsServices.getOnlineRegions(table).size() / numRegions;
+          }
+          QuotaCache.this.tableMachineQuotaFactors.put(table, factor);
+        } catch (IOException e) {
+          LOG.warn("Unable to get the regions of table " + table, e);
+        }
+      }
+      for (TableName table: QuotaCache.this.tableMachineQuotaFactors.keySet()) {
+        if (!QuotaCache.this.tableQuotaCache.containsKey(table)) {
+          QuotaCache.this.tableMachineQuotaFactors.remove(table);
+        }
+      }
+    }
+
     private <K, V extends QuotaState> void fetch(final String type,
         final ConcurrentHashMap<K, V> quotasMap, final Fetcher<K, V> fetcher) {
       long now = EnvironmentEdgeManager.currentTime();
@@ -29,10 +29,11 @@ import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
 @InterfaceAudience.Private
 @InterfaceStability.Evolving
 public class QuotaState {
-  protected long lastUpdate = 0;
-  protected long lastQuery = 0;
+  // Read on every operation without a lock; update() swaps in the new values
+  protected volatile long lastUpdate = 0;
+  protected volatile long lastQuery = 0;
 
-  protected QuotaLimiter globalLimiter = NoopQuotaLimiter.get();
+  protected volatile QuotaLimiter globalLimiter = NoopQuotaLimiter.get();
 
   public QuotaState() {
     this(0);
@@ -42,25 +43,24 @@ public class QuotaState {
     lastUpdate = updateTs;
   }
 
-  public synchronized long getLastUpdate() {
+  public long getLastUpdate() {
     return lastUpdate;
   }
 
-  public synchronized long getLastQuery() {
+  public long getLastQuery() {
     return lastQuery;
   }
 
   @Override
-  public synchronized String toString() {
+  public String toString() {
     StringBuilder builder = new StringBuilder();
     builder.append("QuotaState(ts=" + getLastUpdate());
-    if (isBypass()) {
+    QuotaLimiter limiter = globalLimiter;
+    if (limiter == NoopQuotaLimiter.get()) {
       builder.append(" bypass");
     } else {
-      if (globalLimiter != NoopQuotaLimiter.get()) {
-        //builder.append(" global-limiter");
-        builder.append(" " + globalLimiter);
-      }
+      //builder.append(" global-limiter");
+      builder.append(" " + limiter);
     }
     builder.append(')');
     return builder.toString();
@@ -69,7 +69,7 @@ public class QuotaState {
   /**
    * @return true if there is no quota information associated to this object
    */
-  public synchronized boolean isBypass() {
+  public boolean isBypass() {
     return globalLimiter == NoopQuotaLimiter.get();
   }
 
@@ -104,7 +104,7 @@ public class QuotaState {
    * Return the limiter associated with this quota.
    * @return the quota limiter
    */
-  public synchronized QuotaLimiter getGlobalLimiter() {
+  public QuotaLimiter getGlobalLimiter() {
     lastQuery = EnvironmentEdgeManager.currentTime();
     return globalLimiter;
   }
@@ -113,7 +113,7 @@ public class QuotaState {
    * Return the limiter associated with this quota without updating internal last query stats
    * @return the quota limiter
    */
-  synchronized QuotaLimiter getGlobalLimiterWithoutUpdatingLastQuery() {
+  QuotaLimiter getGlobalLimiterWithoutUpdatingLastQuery() {
     return globalLimiter;
   }
 }
\ No newline at end of file
@@ -41,7 +41,10 @@ import org.apache.hadoop.hbase.client.Mutation;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.protobuf.generated.QuotaProtos;
 import org.apache.hadoop.hbase.protobuf.generated.QuotaProtos.Quotas;
+import org.apache.hadoop.hbase.protobuf.generated.QuotaProtos.Throttle;
+import org.apache.hadoop.hbase.protobuf.generated.QuotaProtos.TimedQuota;
 import org.apache.hadoop.hbase.regionserver.BloomType;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
@@ -162,8 +165,15 @@ public class QuotaUtil extends QuotaTableUtil {
     doDelete(connection, delete);
   }
 
+  /**
+   * @param tableMachineQuotaFactors the share of the cluster scope limits of each table that
+   *   applies to this machine; tables not in the map get the whole limit
+   * @param machineQuotaFactor the share of the cluster scope user and namespace limits that
+   *   applies to this machine
+   */
   public static Map<String, UserQuotaState> fetchUserQuotas(final Connection connection,
-      final List<Get> gets) throws IOException {
+      final List<Get> gets, final Map<TableName, Double> tableMachineQuotaFactors,
+      final double machineQuotaFactor) throws IOException {
     long nowTs = EnvironmentEdgeManager.currentTime();
     Result[] results = doGet(connection, gets);
 
@@ -183,17 +193,19 @@ public class QuotaUtil extends QuotaTableUtil {
         parseUserResult(user, results[i], new UserQuotasVisitor() {
           @Override
           public void visitUserQuotas(String userName, String namespace, Quotas quotas) {
-            quotaInfo.setQuotas(namespace, quotas);
+            quotaInfo.setQuotas(namespace,
+              updateClusterQuotaToMachineQuota(quotas, machineQuotaFactor));
           }
 
           @Override
           public void visitUserQuotas(String userName, TableName table, Quotas quotas) {
-            quotaInfo.setQuotas(table, quotas);
+            quotaInfo.setQuotas(table, updateClusterQuotaToMachineQuota(quotas,
+              getTableMachineQuotaFactor(tableMachineQuotaFactors, table)));
           }
 
           @Override
           public void visitUserQuotas(String userName, Quotas quotas) {
-            quotaInfo.setQuotas(quotas);
+            quotaInfo.setQuotas(updateClusterQuotaToMachineQuota(quotas, machineQuotaFactor));
           }
         });
       } catch (IOException e) {
@@ -205,24 +217,35 @@ public class QuotaUtil extends QuotaTableUtil {
   }
 
   public static Map<TableName, QuotaState> fetchTableQuotas(final Connection connection,
-      final List<Get> gets) throws IOException {
+      final List<Get> gets, final Map<TableName, Double> tableMachineQuotaFactors)
+      throws IOException {
     return fetchGlobalQuotas("table", connection, gets, new KeyFromRow<TableName>() {
       @Override
       public TableName getKeyFromRow(final byte[] row) {
         assert isTableRowKey(row);
         return getTableFromRowKey(row);
       }
+
+      @Override
+      public double getFactor(final TableName table) {
+        return getTableMachineQuotaFactor(tableMachineQuotaFactors, table);
+      }
     });
   }
 
   public static Map<String, QuotaState> fetchNamespaceQuotas(final Connection connection,
-      final List<Get> gets) throws IOException {
+      final List<Get> gets, final double machineQuotaFactor) throws IOException {
     return fetchGlobalQuotas("namespace", connection, gets, new KeyFromRow<String>() {
       @Override
       public String getKeyFromRow(final byte[] row) {
         assert isNamespaceRowKey(row);
         return getNamespaceFromRowKey(row);
       }
+
+      @Override
+      public double getFactor(final String namespace) {
+        return machineQuotaFactor;
+      }
     });
   }
 
@@ -248,7 +271,7 @@ public class QuotaUtil extends QuotaTableUtil {
 
       try {
         Quotas quotas = quotasFromData(data);
-        quotaInfo.setQuotas(quotas);
+        quotaInfo.setQuotas(updateClusterQuotaToMachineQuota(quotas, kfr.getFactor(key)));
       } catch (IOException e) {
         LOG.error("Unable to parse " + type + " '" + key + "' quotas", e);
         globalQuotas.remove(key);
@@ -259,6 +282,57 @@ public class QuotaUtil extends QuotaTableUtil {
 
   private static interface KeyFromRow<T> {
     T getKeyFromRow(final byte[] row);
+    double getFactor(T t);
+  }
+
+  private static double getTableMachineQuotaFactor(
+      final Map<TableName, Double> tableMachineQuotaFactors, final TableName table) {
+    Double factor = tableMachineQuotaFactors.get(table);
+    return factor != null ? factor : 1;
+  }
+
+  /**
+   * Convert the limits with {@link QuotaProtos.QuotaScope#CLUSTER} scope into the share of this
+   * machine, so that the sum of the limits enforced by all the region servers is the limit set
+   * for the cluster. Machine scope limits are left untouched.
+   * @param quotas the quotas as stored in the quota table
+   * @param factor the share of the cluster scope limits enforced by this machine
+   * @return the quotas to enforce on this machine
+   */
+  static Quotas updateClusterQuotaToMachineQuota(final Quotas quotas, final double factor) {
+    if (!quotas.hasThrottle()) {
+      return quotas;
+    }
+    Throttle.Builder throttle = quotas.getThrottle().toBuilder();
+    if (throttle.hasReqNum()) {
+      throttle.setReqNum(updateTimedQuota(throttle.getReqNum(), factor));
+    }
+    if (throttle.hasReqSize()) {
+      throttle.setReqSize(updateTimedQuota(throttle.getReqSize(), factor));
+    }
+    if (throttle.hasWriteNum()) {
+      throttle.setWriteNum(updateTimedQuota(throttle.getWriteNum(), factor));
+    }
+    if (throttle.hasWriteSize()) {
+      throttle.setWriteSize(updateTimedQuota(throttle.getWriteSize(), factor));
+    }
+    if (throttle.hasReadNum()) {
+      throttle.setReadNum(updateTimedQuota(throttle.getReadNum(), factor));
+    }
+    if (throttle.hasReadSize()) {
+      throttle.setReadSize(updateTimedQuota(throttle.getReadSize(), factor));
+    }
+    return quotas.toBuilder().setThrottle(throttle.build()).build();
+  }
+
+  private static TimedQuota updateTimedQuota(final TimedQuota timedQuota, final double factor) {
+    if (timedQuota.getScope() != QuotaProtos.QuotaScope.CLUSTER
+        || !timedQuota.hasSoftLimit()) {
+      return timedQuota;
+    }
+    // Never go down to zero, that would block the operations instead of throttling them.
+    long limit = Math.max(1, (long) (timedQuota.getSoftLimit() * factor));
+    return timedQuota.toBuilder().setSoftLimit(limit).build();
   }
 
   /* =========================================================================
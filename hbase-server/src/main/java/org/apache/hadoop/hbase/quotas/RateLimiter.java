@@ -42,14 +42,20 @@ import com.google.common.annotations.VisibleForTesting;
  *     // ...execute the work and consume the resource...
  *     limiter.consume();
  *   }
+ *
+ * The implementation is chosen with {@link #QUOTA_RATE_LIMITER_CONF_KEY}; use
+ * {@link TokenBucketRateLimiter} for quotas shared by many concurrent handlers.
  */
 @InterfaceAudience.Private
 @InterfaceStability.Evolving
 public abstract class RateLimiter {
   public static final String QUOTA_RATE_LIMITER_CONF_KEY = "hbase.quota.rate.limiter";
-  private long tunit = 1000;           // Timeunit factor for translating to ms.
-  private long limit = Long.MAX_VALUE; // The max value available resource units can be refilled to.
-  private long avail = Long.MAX_VALUE; // Currently available resource units
+  // Timeunit factor for translating to ms.
+  private volatile long tunit = 1000;
+  // The max value available resource units can be refilled to.
+  private volatile long limit = Long.MAX_VALUE;
+  // Currently available resource units
+  private long avail = Long.MAX_VALUE;
 
   /**
    * Refill the available units w.r.t the elapsed time.
@@ -102,7 +108,7 @@ public abstract class RateLimiter {
     if (limit == Long.MAX_VALUE) {
       return rateLimiter + "(Bypass)";
     }
-    return rateLimiter + "(avail=" + avail + " limit=" + limit + " tunit=" + tunit + ")";
+    return rateLimiter + "(avail=" + getAvailable() + " limit=" + limit + " tunit=" + tunit + ")";
   }
 
   /**
@@ -119,11 +125,11 @@ public abstract class RateLimiter {
     this.limit = other.limit;
   }
 
-  public synchronized boolean isBypass() {
+  public boolean isBypass() {
     return limit == Long.MAX_VALUE;
   }
 
-  public synchronized long getLimit() {
+  public long getLimit() {
     return limit;
   }
 
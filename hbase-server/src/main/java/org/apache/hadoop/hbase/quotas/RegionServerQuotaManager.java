@@ -19,6 +19,7 @@
 package org.apache.hadoop.hbase.quotas;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -52,6 +53,7 @@ public class RegionServerQuotaManager {
   private final RegionServerServices rsServices;
 
   private QuotaCache quotaCache = null;
+  private long readSizePerCpuMs = DefaultOperationQuota.DEFAULT_READ_SIZE_PER_CPU_MS;
 
   public RegionServerQuotaManager(final RegionServerServices rsServices) {
     this.rsServices = rsServices;
@@ -65,6 +67,10 @@ public class RegionServerQuotaManager {
 
     LOG.info("Initializing quota support");
 
+    readSizePerCpuMs = rsServices.getConfiguration().getLong(
+      DefaultOperationQuota.READ_SIZE_PER_CPU_MS_CONF_KEY,
+      DefaultOperationQuota.DEFAULT_READ_SIZE_PER_CPU_MS);
+
     // Initialize quota cache
     quotaCache = new QuotaCache(rsServices);
     quotaCache.start();
@@ -102,7 +108,7 @@ public class RegionServerQuotaManager {
           LOG.trace("get quota for ugi=" + ugi + " table=" + table + " userLimiter=" + userLimiter);
         }
         if (!useNoop) {
-          return new DefaultOperationQuota(userLimiter);
+          return new DefaultOperationQuota(readSizePerCpuMs, Arrays.asList(userLimiter));
         }
       } else {
         QuotaLimiter nsLimiter = quotaCache.getNamespaceLimiter(table.getNamespaceAsString());
@@ -113,7 +119,8 @@ public class RegionServerQuotaManager {
                     userLimiter + " tableLimiter=" + tableLimiter + " nsLimiter=" + nsLimiter);
         }
         if (!useNoop) {
-          return new DefaultOperationQuota(userLimiter, tableLimiter, nsLimiter);
+          return new DefaultOperationQuota(readSizePerCpuMs,
+            Arrays.asList(userLimiter, tableLimiter, nsLimiter));
         }
       }
     }
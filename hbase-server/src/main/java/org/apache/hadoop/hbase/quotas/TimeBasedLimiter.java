@@ -45,23 +45,24 @@ public class TimeBasedLimiter implements QuotaLimiter {
   private AvgOperationSize avgOpSize = new AvgOperationSize();
 
   private TimeBasedLimiter() {
-    if (FixedIntervalRateLimiter.class.getName().equals(
-      conf.getClass(RateLimiter.QUOTA_RATE_LIMITER_CONF_KEY, AverageIntervalRateLimiter.class)
-          .getName())) {
-      reqsLimiter = new FixedIntervalRateLimiter();
-      reqSizeLimiter = new FixedIntervalRateLimiter();
-      writeReqsLimiter = new FixedIntervalRateLimiter();
-      writeSizeLimiter = new FixedIntervalRateLimiter();
-      readReqsLimiter = new FixedIntervalRateLimiter();
-      readSizeLimiter = new FixedIntervalRateLimiter();
-    } else {
-      reqsLimiter = new AverageIntervalRateLimiter();
-      reqSizeLimiter = new AverageIntervalRateLimiter();
-      writeReqsLimiter = new AverageIntervalRateLimiter();
-      writeSizeLimiter = new AverageIntervalRateLimiter();
-      readReqsLimiter = new AverageIntervalRateLimiter();
-      readSizeLimiter = new AverageIntervalRateLimiter();
+    String rateLimiterClass =
+        conf.getClass(RateLimiter.QUOTA_RATE_LIMITER_CONF_KEY, AverageIntervalRateLimiter.class)
+            .getName();
+    reqsLimiter = createRateLimiter(rateLimiterClass);
+    reqSizeLimiter = createRateLimiter(rateLimiterClass);
+    writeReqsLimiter = createRateLimiter(rateLimiterClass);
+    writeSizeLimiter = createRateLimiter(rateLimiterClass);
+    readReqsLimiter = createRateLimiter(rateLimiterClass);
+    readSizeLimiter = createRateLimiter(rateLimiterClass);
+  }
+
+  private static RateLimiter createRateLimiter(final String rateLimiterClass) {
+    if (FixedIntervalRateLimiter.class.getName().equals(rateLimiterClass)) {
+      return new FixedIntervalRateLimiter();
+    } else if (TokenBucketRateLimiter.class.getName().equals(rateLimiterClass)) {
+      return new TokenBucketRateLimiter();
     }
+    return new AverageIntervalRateLimiter();
   }
 
   static QuotaLimiter fromThrottle(final Throttle throttle) {
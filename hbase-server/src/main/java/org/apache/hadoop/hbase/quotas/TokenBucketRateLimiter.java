@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at http://www.apache.org/licenses/LICENSE-2.0 Unless required by applicable
+ * law or agreed to in writing, software distributed under the License is distributed on an "AS IS"
+ * BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License
+ * for the specific language governing permissions and limitations under the License.
+ */
+package org.apache.hadoop.hbase.quotas;
+
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.classification.InterfaceStability;
+import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * A token bucket limiter that does not take any lock on the check and consume path, so a quota
+ * shared by many handlers does not serialize them. Resources are refilled continuously like the
+ * {@link AverageIntervalRateLimiter}, but the part of the elapsed time that did not add up to a
+ * whole resource is carried over to the next refill instead of being dropped.
+ * <p>
+ * As with the other limiters, checking and consuming are separate steps, so concurrent callers
+ * may together overshoot the limit by the resources checked but not yet consumed. The available
+ * resources never drop below zero, so such an overshoot is not charged to later intervals.
+ */
+@InterfaceAudience.Private
+@InterfaceStability.Evolving
+public class TokenBucketRateLimiter extends RateLimiter {
+  private final AtomicLong nextRefillTime = new AtomicLong(-1L);
+  private final AtomicLong tokens = new AtomicLong(Long.MAX_VALUE);
+
+  @Override
+  public long refill(long limit) {
+    final long now = EnvironmentEdgeManager.currentTime();
+    while (true) {
+      final long last = nextRefillTime.get();
+      if (last == -1) {
+        // Till now no resource has been consumed.
+        if (nextRefillTime.compareAndSet(-1, now)) {
+          return limit;
+        }
+        continue;
+      }
+      final long elapsed = now - last;
+      if (elapsed <= 0) {
+        return 0;
+      }
+      final long timeUnitInMillis = getTimeUnitInMillis();
+      long delta;
+      long next;
+      if (elapsed >= timeUnitInMillis) {
+        delta = limit;
+        next = now;
+      } else if (limit <= Long.MAX_VALUE / elapsed) {
+        delta = (limit * elapsed) / timeUnitInMillis;
+        if (delta == 0) {
+          return 0;
+        }
+        // Only move forward by the time the refilled resources took, keep the remainder.
+        next = last + (delta * timeUnitInMillis) / limit;
+      } else {
+        delta = Math.min(limit, (long) ((double) limit * elapsed / timeUnitInMillis));
+        next = now;
+      }
+      if (nextRefillTime.compareAndSet(last, next)) {
+        return delta;
+      }
+    }
+  }
+
+  @Override
+  public long getWaitInterval(long limit, long available, long amount) {
+    final long last = nextRefillTime.get();
+    if (last == -1) {
+      return 0;
+    }
+    final long timeUnitInMillis = getTimeUnitInMillis();
+    long interval = ((amount * timeUnitInMillis) / limit) - ((available * timeUnitInMillis) / limit);
+    // The time since the last refill already counts towards the next resources.
+    return Math.max(0, interval - Math.max(0, EnvironmentEdgeManager.currentTime() - last));
+  }
+
+  @Override
+  public void set(final long limit, final TimeUnit timeUnit) {
+    super.set(limit, timeUnit);
+    tokens.set(limit);
+  }
+
+  @Override
+  public void update(final RateLimiter other) {
+    final long oldLimit = getLimit();
+    super.update(other);
+    final long newLimit = getLimit();
+    if (oldLimit < newLimit) {
+      addTokens(newLimit - oldLimit, newLimit);
+    }
+  }
+
+  @Override
+  public long getAvailable() {
+    return tokens.get();
+  }
+
+  @Override
+  public boolean canExecute(final long amount) {
+    if (isBypass()) {
+      return true;
+    }
+    final long limit = getLimit();
+    final long refillAmount = refill(limit);
+    if (refillAmount > 0) {
+      addTokens(refillAmount, limit);
+    }
+    return tokens.get() >= amount;
+  }
+
+  @Override
+  public void consume(final long amount) {
+    while (true) {
+      final long avail = tokens.get();
+      if (tokens.compareAndSet(avail, Math.max(0, avail - amount))) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public long waitInterval(final long amount) {
+    final long avail = tokens.get();
+    return (amount <= avail) ? 0 : getWaitInterval(getLimit(), avail, amount);
+  }
+
+  private void addTokens(final long amount, final long limit) {
+    while (true) {
+      final long avail = tokens.get();
+      // check for positive overflow
+      final long next = avail <= limit - amount ? avail + amount : limit;
+      if (tokens.compareAndSet(avail, Math.max(0, next))) {
+        return;
+      }
+    }
+  }
+
+  // This method is for strictly testing purpose only
+  @VisibleForTesting
+  public void setNextRefillTime(long nextRefillTime) {
+    this.nextRefillTime.set(nextRefillTime);
+  }
+
+  @VisibleForTesting
+  public long getNextRefillTime() {
+    return this.nextRefillTime.get();
+  }
+}
@@ -19,9 +19,7 @@
 package org.apache.hadoop.hbase.quotas;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
@@ -35,9 +33,11 @@ import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
 @InterfaceAudience.Private
 @InterfaceStability.Evolving
 public class UserQuotaState extends QuotaState {
-  private Map<String, QuotaLimiter> namespaceLimiters = null;
-  private Map<TableName, QuotaLimiter> tableLimiters = null;
-  private boolean bypassGlobals = false;
+  // The maps are never modified once published; setup and update() swap in new ones, so
+  // readers on the operation path need no lock
+  private volatile Map<String, QuotaLimiter> namespaceLimiters = null;
+  private volatile Map<TableName, QuotaLimiter> tableLimiters = null;
+  private volatile boolean bypassGlobals = false;
 
   public UserQuotaState() {
     super();
@@ -48,7 +48,9 @@ public class UserQuotaState extends QuotaState {
   }
 
   @Override
-  public synchronized String toString() {
+  public String toString() {
+    Map<TableName, QuotaLimiter> tableLimiters = this.tableLimiters;
+    Map<String, QuotaLimiter> namespaceLimiters = this.namespaceLimiters;
     StringBuilder builder = new StringBuilder();
     builder.append("UserQuotaState(ts=" + getLastUpdate());
     if (bypassGlobals) builder.append(" bypass-globals");
@@ -84,14 +86,16 @@ public class UserQuotaState extends QuotaState {
    * @return true if there is no quota information associated to this object
    */
   @Override
-  public synchronized boolean isBypass() {
+  public boolean isBypass() {
+    Map<TableName, QuotaLimiter> tableLimiters = this.tableLimiters;
+    Map<String, QuotaLimiter> namespaceLimiters = this.namespaceLimiters;
     return !bypassGlobals &&
         getGlobalLimiterWithoutUpdatingLastQuery() == NoopQuotaLimiter.get() &&
         (tableLimiters == null || tableLimiters.isEmpty()) &&
         (namespaceLimiters == null || namespaceLimiters.isEmpty());
   }
 
-  public synchronized boolean hasBypassGlobals() {
+  public boolean hasBypassGlobals() {
     return bypassGlobals;
   }
 
@@ -105,7 +109,7 @@ public class UserQuotaState extends QuotaState {
    * Add the quota information of the specified table.
    * (This operation is part of the QuotaState setup)
    */
-  public void setQuotas(final TableName table, Quotas quotas) {
+  public synchronized void setQuotas(final TableName table, Quotas quotas) {
     tableLimiters = setLimiter(tableLimiters, table, quotas);
   }
 
@@ -113,15 +117,14 @@ public class UserQuotaState extends QuotaState {
    * Add the quota information of the specified namespace.
    * (This operation is part of the QuotaState setup)
    */
-  public void setQuotas(final String namespace, Quotas quotas) {
+  public synchronized void setQuotas(final String namespace, Quotas quotas) {
     namespaceLimiters = setLimiter(namespaceLimiters, namespace, quotas);
   }
 
   private <K> Map<K, QuotaLimiter> setLimiter(Map<K, QuotaLimiter> limiters,
       final K key, final Quotas quotas) {
-    if (limiters == null) {
-      limiters = new HashMap<K, QuotaLimiter>();
-    }
+    limiters = limiters == null ? new HashMap<K, QuotaLimiter>()
+        : new HashMap<K, QuotaLimiter>(limiters);
 
     QuotaLimiter limiter = quotas.hasThrottle() ?
       QuotaLimiterFactory.fromThrottle(quotas.getThrottle()) : null;
@@ -160,12 +163,9 @@ public class UserQuotaState extends QuotaState {
     }
 
     if (otherMap != null) {
-      // To Remove
-      Set<K> toRemove = new HashSet<K>(map.keySet());
-      toRemove.removeAll(otherMap.keySet());
-      map.keySet().removeAll(toRemove);
-
-      // To Update/Add
+      // Build a new map rather than changing the one readers may be looking at. Keys that are
+      // not in the other map are left out; the limiters of the others are kept, updated.
+      Map<K, QuotaLimiter> updated = new HashMap<K, QuotaLimiter>(otherMap.size());
       for (final Map.Entry<K, QuotaLimiter> entry: otherMap.entrySet()) {
         QuotaLimiter limiter = map.get(entry.getKey());
         if (limiter == null) {
@@ -173,9 +173,9 @@ public class UserQuotaState extends QuotaState {
         } else {
           limiter = QuotaLimiterFactory.update(limiter, entry.getValue());
         }
-        map.put(entry.getKey(), limiter);
+        updated.put(entry.getKey(), limiter);
       }
-      return map;
+      return updated;
     }
     return null;
   }
@@ -187,12 +187,14 @@ public class UserQuotaState extends QuotaState {
    *
    * @return the quota limiter for the specified table
    */
-  public synchronized QuotaLimiter getTableLimiter(final TableName table) {
+  public QuotaLimiter getTableLimiter(final TableName table) {
     lastQuery = EnvironmentEdgeManager.currentTime();
+    Map<TableName, QuotaLimiter> tableLimiters = this.tableLimiters;
     if (tableLimiters != null) {
       QuotaLimiter limiter = tableLimiters.get(table);
       if (limiter != null) return limiter;
     }
+    Map<String, QuotaLimiter> namespaceLimiters = this.namespaceLimiters;
     if (namespaceLimiters != null) {
       QuotaLimiter limiter = namespaceLimiters.get(table.getNamespaceAsString());
       if (limiter != null) return limiter;
@@ -0,0 +1,217 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.filter.BinaryComparator;
+import org.apache.hadoop.hbase.filter.CompareFilter.CompareOp;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.io.WritableUtils;
+
+/**
+ * Per store file statistics of the values of some columns: for every configured qualifier the
+ * number of puts and the smallest and largest value in byte order. Written to the file info of
+ * store files and used to leave out files that cannot have a row passing a
+ * {@link SingleColumnValueFilter}, like the zone maps of columnar engines.
+ * <p>
+ * The qualifiers are configured with {@link #QUALIFIERS_KEY}, normally per column family.
+ * Statistics are not written for files holding delete markers, since leaving such a file out
+ * of a scan could bring deleted cells of other files back.
+ */
+@InterfaceAudience.Private
+public class ColumnValueStats {
+  /** Comma separated qualifiers to keep value statistics for; none by default. */
+  public static final String QUALIFIERS_KEY = "hbase.hstore.column.value.stats.qualifiers";
+
+  private final byte[][] qualifiers;
+  private final long[] counts;
+  private final byte[][] minValues;
+  private final byte[][] maxValues;
+  private boolean hasDeletes = false;
+
+  private ColumnValueStats(byte[][] qualifiers) {
+    this.qualifiers = qualifiers;
+    this.counts = new long[qualifiers.length];
+    this.minValues = new byte[qualifiers.length][];
+    this.maxValues = new byte[qualifiers.length][];
+  }
+
+  /**
+   * @param conf the store configuration
+   * @return a tracker for the configured qualifiers, or null if none are configured
+   */
+  static ColumnValueStats create(Configuration conf) {
+    String[] names = conf.getTrimmedStrings(QUALIFIERS_KEY);
+    if (names.length == 0) {
+      return null;
+    }
+    byte[][] qualifiers = new byte[names.length][];
+    for (int i = 0; i < names.length; i++) {
+      qualifiers[i] = Bytes.toBytes(names[i]);
+    }
+    return new ColumnValueStats(qualifiers);
+  }
+
+  /**
+   * Include a cell written to the file.
+   * @param cell the cell
+   */
+  void track(Cell cell) {
+    if (cell.getTypeByte() != KeyValue.Type.Put.getCode()) {
+      hasDeletes |= CellUtil.isDelete(cell);
+      return;
+    }
+    for (int i = 0; i < qualifiers.length; i++) {
+      if (CellUtil.matchingQualifier(cell, qualifiers[i])) {
+        counts[i]++;
+        if (minValues[i] == null || compareValue(cell, minValues[i]) < 0) {
+          minValues[i] = CellUtil.cloneValue(cell);
+        }
+        if (maxValues[i] == null || compareValue(cell, maxValues[i]) > 0) {
+          maxValues[i] = CellUtil.cloneValue(cell);
+        }
+        return;
+      }
+    }
+  }
+
+  private static int compareValue(Cell cell, byte[] value) {
+    return Bytes.compareTo(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(),
+      value, 0, value.length);
+  }
+
+  /**
+   * @return false if delete markers were tracked, in which case the statistics must not be
+   *   used to leave out the file
+   */
+  boolean isUsable() {
+    return !hasDeletes;
+  }
+
+  /**
+   * Check whether a row of the file may pass the filter.
+   * @param filter the filter of the scan, may be null
+   * @param family the column family of the store
+   * @return false if no row of the file can pass the filter
+   */
+  boolean mayPass(Filter filter, byte[] family) {
+    if (filter instanceof FilterList) {
+      FilterList list = (FilterList) filter;
+      if (list.getOperator() != FilterList.Operator.MUST_PASS_ALL) {
+        return true;
+      }
+      for (Filter f : list.getFilters()) {
+        if (!mayPass(f, family)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (!(filter instanceof SingleColumnValueFilter)) {
+      return true;
+    }
+    SingleColumnValueFilter scvf = (SingleColumnValueFilter) filter;
+    // Rows missing the column pass unless filterIfMissing is set.
+    if (!scvf.getFilterIfMissing() || !Bytes.equals(scvf.getFamily(), family)
+        || !(scvf.getComparator() instanceof BinaryComparator)) {
+      return true;
+    }
+    for (int i = 0; i < qualifiers.length; i++) {
+      if (Bytes.equals(qualifiers[i], scvf.getQualifier())) {
+        return counts[i] > 0 && mayMatch(i, scvf.getOperator(), scvf.getComparator().getValue());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return true if a value between the min and max value of the qualifier may compare to the
+   *   operand as asked for
+   */
+  private boolean mayMatch(int i, CompareOp op, byte[] operand) {
+    int minCompare = Bytes.compareTo(minValues[i], operand);
+    int maxCompare = Bytes.compareTo(maxValues[i], operand);
+    switch (op) {
+    case LESS:
+      return minCompare < 0;
+    case LESS_OR_EQUAL:
+      return minCompare <= 0;
+    case EQUAL:
+      return minCompare <= 0 && maxCompare >= 0;
+    case NOT_EQUAL:
+      return minCompare != 0 || maxCompare != 0;
+    case GREATER_OR_EQUAL:
+      return maxCompare >= 0;
+    case GREATER:
+      return maxCompare > 0;
+    default:
+      return true;
+    }
+  }
+
+  /**
+   * @return the statistics serialized for the file info
+   */
+  byte[] toBytes() throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bos);
+    WritableUtils.writeVInt(out, qualifiers.length);
+    for (int i = 0; i < qualifiers.length; i++) {
+      Bytes.writeByteArray(out, qualifiers[i]);
+      WritableUtils.writeVLong(out, counts[i]);
+      if (counts[i] > 0) {
+        Bytes.writeByteArray(out, minValues[i]);
+        Bytes.writeByteArray(out, maxValues[i]);
+      }
+    }
+    out.close();
+    return bos.toByteArray();
+  }
+
+  /**
+   * @param bytes statistics serialized by {@link #toBytes()}
+   * @return the statistics
+   */
+  static ColumnValueStats parseFrom(byte[] bytes) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    int n = WritableUtils.readVInt(in);
+    ColumnValueStats stats = new ColumnValueStats(new byte[n][]);
+    for (int i = 0; i < n; i++) {
+      stats.qualifiers[i] = Bytes.readByteArray(in);
+      stats.counts[i] = WritableUtils.readVLong(in);
+      if (stats.counts[i] > 0) {
+        stats.minValues[i] = Bytes.readByteArray(in);
+        stats.maxValues[i] = Bytes.readByteArray(in);
+      }
+    }
+    return stats;
+  }
+}
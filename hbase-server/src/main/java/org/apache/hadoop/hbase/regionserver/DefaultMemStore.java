@@ -276,7 +276,7 @@ public class DefaultMemStore implements MemStore {
 
   private Cell maybeCloneWithAllocator(Cell cell) {
     if (allocator == null) {
-      return cell;
+      return maybeCopyFromSharedArray(cell);
     }
 
     int len = KeyValueUtil.length(cell);
@@ -284,7 +284,7 @@ public class DefaultMemStore implements MemStore {
     if (alloc == null) {
       // The allocation was too large, allocator decided
       // not to do anything with it.
-      return cell;
+      return maybeCopyFromSharedArray(cell);
     }
     assert alloc.getBytes() != null;
     KeyValueUtil.appendToByteArray(cell, alloc.getBytes(), alloc.getOffset());
@@ -293,6 +293,21 @@ public class DefaultMemStore implements MemStore {
     return newKv;
   }
 
+  /**
+   * KeyValues decoded from an RPC cell block are views into the whole request. Keeping one in
+   * the memstore would keep the request alive without accounting for it, so such a KeyValue is
+   * copied to an array of its own.
+   */
+  private static Cell maybeCopyFromSharedArray(Cell cell) {
+    if (cell instanceof KeyValue) {
+      KeyValue kv = (KeyValue) cell;
+      if (kv.getOffset() != 0 || kv.getLength() != kv.getBuffer().length) {
+        return KeyValueUtil.copyToNewKeyValue(kv);
+      }
+    }
+    return cell;
+  }
+
   /**
    * Remove n key from the memstore. Only cells that have the same key and the
    * same memstoreTS are removed.  It is ok to not update timeRangeTracker
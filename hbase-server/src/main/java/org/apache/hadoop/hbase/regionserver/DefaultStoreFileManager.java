@@ -32,6 +32,7 @@ import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.CellComparator;
 import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.io.TimeRange;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionConfiguration;
 
 import com.google.common.collect.ImmutableCollection;
@@ -55,6 +56,11 @@ class DefaultStoreFileManager implements StoreFileManager {
    */
   private volatile ImmutableList<StoreFile> storefiles = null;
 
+  /**
+   * Index over the time ranges of {@link #storefiles}, replaced along with it.
+   */
+  private volatile StoreFileTimeRangeIndex timeRangeIndex = null;
+
   public DefaultStoreFileManager(CellComparator kvComparator, Configuration conf,
       CompactionConfiguration comConf) {
     this.kvComparator = kvComparator;
@@ -84,6 +90,7 @@ class DefaultStoreFileManager implements StoreFileManager {
   public ImmutableCollection<StoreFile> clearFiles() {
     ImmutableList<StoreFile> result = storefiles;
     storefiles = ImmutableList.of();
+    timeRangeIndex = new StoreFileTimeRangeIndex(storefiles);
     return result;
   }
 
@@ -133,6 +140,12 @@ class DefaultStoreFileManager implements StoreFileManager {
     return getStorefiles();
   }
 
+  @Override
+  public final Collection<StoreFile> getFilesForScanOrGet(boolean isGet,
+      byte[] startRow, byte[] stopRow, TimeRange timeRange) {
+    return timeRangeIndex.getFiles(timeRange);
+  }
+
   @Override
   public int getStoreCompactionPriority() {
     int priority = blockingFileCount - storefiles.size();
@@ -140,17 +153,18 @@ class DefaultStoreFileManager implements StoreFileManager {
   }
 
   @Override
-  public Collection<StoreFile> getUnneededFiles(long maxTs, List<StoreFile> filesCompacting) {
+  public Collection<StoreFile> getUnneededFiles(long maxTs, long now,
+      List<StoreFile> filesCompacting) {
     Collection<StoreFile> expiredStoreFiles = null;
     ImmutableList<StoreFile> files = storefiles;
     // 1) We can never get rid of the last file which has the maximum seqid.
     // 2) Files that are not the latest can't become one due to (1), so the rest are fair game.
     for (int i = 0; i < files.size() - 1; ++i) {
       StoreFile sf = files.get(i);
-      long fileTs = sf.getReader().getMaxTimestamp();
-      if (fileTs < maxTs && !filesCompacting.contains(sf)) {
-        LOG.info("Found an expired store file: " + sf.getPath()
-            + " whose maxTimeStamp is " + fileTs + ", which is below " + maxTs);
+      if (sf.getReader().isExpired(maxTs, now) && !filesCompacting.contains(sf)) {
+        LOG.info("Found an expired store file: " + sf.getPath() + " whose maxTimeStamp is "
+            + sf.getReader().getMaxTimestamp() + " and maxExpiryTimeStamp is "
+            + sf.getReader().getMaxExpiryTimestamp() + ", maxTs=" + maxTs + ", now=" + now);
         if (expiredStoreFiles == null) {
           expiredStoreFiles = new ArrayList<StoreFile>();
         }
@@ -162,7 +176,9 @@ class DefaultStoreFileManager implements StoreFileManager {
 
   private void sortAndSetStoreFiles(List<StoreFile> storeFiles) {
     Collections.sort(storeFiles, StoreFile.Comparators.SEQ_ID);
-    storefiles = ImmutableList.copyOf(storeFiles);
+    ImmutableList<StoreFile> sortedFiles = ImmutableList.copyOf(storeFiles);
+    timeRangeIndex = new StoreFileTimeRangeIndex(sortedFiles);
+    storefiles = sortedFiles;
   }
 
   @Override
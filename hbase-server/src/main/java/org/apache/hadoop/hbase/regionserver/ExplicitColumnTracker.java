@@ -60,12 +60,17 @@ public class ExplicitColumnTracker implements ColumnTracker {
 
  /**
   * Contains the list of columns that the ExplicitColumnTracker is tracking.
-  * Each ColumnCount instance also tracks how many versions of the requested
-  * column have been returned.
+  * The instances are only used as seek hints, their counts are not used.
   */
   private final ColumnCount[] columns;
   private int index;
   private ColumnCount column;
+  /**
+   * The number of versions of the current column returned so far. The columns
+   * are visited in order and never revisited within a row, so a single counter
+   * is enough and a row switch does not have to reset every column.
+   */
+  private int count;
   /** Keeps track of the latest timestamp included for current column.
    * Used to eliminate duplicates. */
   private long latestTSOfCurrentColumn;
@@ -146,6 +151,7 @@ public class ExplicitColumnTracker implements ColumnTracker {
       // column of interest, and check again.
       if (ret > 0) {
         ++this.index;
+        this.count = 0;
         if (done()) {
           // No more to match, do not include, done with this row.
           return ScanQueryMatcher.MatchCode.SEEK_NEXT_ROW; // done_row
@@ -166,10 +172,11 @@ public class ExplicitColumnTracker implements ColumnTracker {
       // If duplicate, skip this Key
       return ScanQueryMatcher.MatchCode.SKIP;
     }
-    int count = this.column.increment();
+    ++this.count;
     if (count >= maxVersions || (count >= minVersions && isExpired(timestamp))) {
       // Done with versions for this column
       ++this.index;
+      this.count = 0;
       resetTS();
       if (done()) {
         // We have served all the requested columns.
@@ -189,9 +196,7 @@ public class ExplicitColumnTracker implements ColumnTracker {
   public void reset() {
     this.index = 0;
     this.column = this.columns[this.index];
-    for(ColumnCount col : this.columns) {
-      col.setCount(0);
-    }
+    this.count = 0;
     resetTS();
   }
 
@@ -225,6 +230,7 @@ public class ExplicitColumnTracker implements ColumnTracker {
       resetTS();
       if (compare >= 0) {
         ++this.index;
+        this.count = 0;
         if (done()) {
           // Will not hit any more columns in this storefile
           this.column = null;
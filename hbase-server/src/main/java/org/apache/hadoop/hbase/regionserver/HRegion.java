@@ -123,6 +123,7 @@ import org.apache.hadoop.hbase.io.hfile.BlockCache;
 import org.apache.hadoop.hbase.io.hfile.CacheConfig;
 import org.apache.hadoop.hbase.io.hfile.HFile;
 import org.apache.hadoop.hbase.ipc.CallerDisconnectedException;
+import org.apache.hadoop.hbase.ipc.CallPhaseTimer;
 import org.apache.hadoop.hbase.ipc.RpcCallContext;
 import org.apache.hadoop.hbase.ipc.RpcServer;
 import org.apache.hadoop.hbase.monitoring.MonitoredTask;
@@ -4992,6 +4993,8 @@ public class HRegion implements HeapSize, PropagatingConfigurationObserver, Regi
           return null;
         }
         TraceScope traceScope = null;
+        CallPhaseTimer phaseTimer = CallPhaseTimer.current();
+        long waitStartTime = phaseTimer == null ? 0 : System.nanoTime();
         try {
           if (Trace.isTracing()) {
             traceScope = Trace.startSpan("HRegion.getRowLockInternal");
@@ -5012,6 +5015,9 @@ public class HRegion implements HeapSize, PropagatingConfigurationObserver, Regi
           throw iie;
         } finally {
           if (traceScope != null) traceScope.close();
+          if (phaseTimer != null) {
+            phaseTimer.add(CallPhaseTimer.Phase.ROW_LOCK, System.nanoTime() - waitStartTime);
+          }
         }
       }
     }
@@ -61,6 +61,7 @@ import org.apache.hadoop.hbase.TagType;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.conf.ConfigurationManager;
+import org.apache.hadoop.hbase.io.compress.BlockCompression;
 import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.io.crypto.Cipher;
 import org.apache.hadoop.hbase.io.crypto.Encryption;
@@ -76,8 +77,11 @@ import org.apache.hadoop.hbase.monitoring.MonitoredTask;
 import org.apache.hadoop.hbase.protobuf.ProtobufUtil;
 import org.apache.hadoop.hbase.protobuf.generated.WALProtos.CompactionDescriptor;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionContext;
+import org.apache.hadoop.hbase.regionserver.compactions.CompactionJob;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionProgress;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionRequest;
+import org.apache.hadoop.hbase.regionserver.compactions.CompactionService;
+import org.apache.hadoop.hbase.regionserver.compactions.CompactionServiceFactory;
 import org.apache.hadoop.hbase.regionserver.compactions.DefaultCompactor;
 import org.apache.hadoop.hbase.regionserver.compactions.OffPeakHours;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionThroughputController;
@@ -132,6 +136,7 @@ public class HStore implements Store {
   private final HRegionFileSystem fs;
   private Configuration conf;
   private final CacheConfig cacheConf;
+  private final CompactionService compactionService;
   private long lastCompactSize = 0;
   volatile boolean forceMajor = false;
   /* how many bytes to write between status checks */
@@ -183,6 +188,8 @@ public class HStore implements Store {
   private int compactionCheckMultiplier;
 
   private Encryption.Context cryptoContext = Encryption.Context.NONE;
+  // Dictionary for compressing data blocks, trained by the last compaction
+  private volatile byte[] compressionDictionary;
 
   private volatile long flushedCellsCount = 0;
   private volatile long compactedCellsCount = 0;
@@ -260,6 +267,13 @@ public class HStore implements Store {
 
     this.storeEngine = StoreEngine.create(this, this.conf, this.comparator);
     this.storeEngine.getStoreFileManager().loadFiles(loadStoreFiles());
+    // Share the regionserver's compaction service unless the table or family configures
+    // another one; a region opened outside a regionserver (tools, tests) gets its own.
+    RegionServerServices rss = region.getRegionServerServices();
+    CompactionService sharedService = rss == null ? null : rss.getCompactionService();
+    this.compactionService = sharedService != null && sharedService.getClass()
+        == CompactionServiceFactory.getCompactionServiceClass(this.conf)
+        ? sharedService : CompactionServiceFactory.create(this.conf);
 
     // Initialize checksum type from name. The names are CRC32, CRC32C, etc.
     this.checksumType = getChecksumType(conf);
@@ -1005,11 +1019,21 @@ public class HStore implements Store {
     return w;
   }
 
+  @Override
+  public void setCompressionDictionary(byte[] dictionary) {
+    this.compressionDictionary = dictionary;
+  }
+
   private HFileContext createFileContext(Compression.Algorithm compression,
       boolean includeMVCCReadpoint, boolean includesTag, Encryption.Context cryptoContext) {
     if (compression == null) {
       compression = HFile.DEFAULT_COMPRESSION_ALGORITHM;
     }
+    byte[] dictionary = null;
+    if (BlockCompression.supportsDictionary(compression)
+        && cryptoContext == Encryption.Context.NONE) {
+      dictionary = this.compressionDictionary;
+    }
     HFileContext hFileContext = new HFileContextBuilder()
                                 .withIncludesMvcc(includeMVCCReadpoint)
                                 .withIncludesTags(includesTag)
@@ -1022,6 +1046,7 @@ public class HStore implements Store {
                                 .withDataBlockEncoding(family.getDataBlockEncoding())
                                 .withEncryptionContext(cryptoContext)
                                 .withCreateTime(EnvironmentEdgeManager.currentTime())
+                                .withCompressionDictionary(dictionary)
                                 .build();
     return hFileContext;
   }
@@ -1090,8 +1115,12 @@ public class HStore implements Store {
     List<KeyValueScanner> memStoreScanners;
     this.lock.readLock().lock();
     try {
-      storeFilesToScan =
-          this.storeEngine.getStoreFileManager().getFilesForScanOrGet(isGet, startRow, stopRow);
+      StoreFileManager storeFileManager = this.storeEngine.getStoreFileManager();
+      // Files outside the time range of the scan are dropped up front, without opening them.
+      storeFilesToScan = matcher == null
+          ? storeFileManager.getFilesForScanOrGet(isGet, startRow, stopRow)
+          : storeFileManager.getFilesForScanOrGet(isGet, startRow, stopRow,
+              matcher.getTimeRange());
       memStoreScanners = this.memstore.getScanners(readPt);
     } finally {
       this.lock.readLock().unlock();
@@ -1198,7 +1227,8 @@ public class HStore implements Store {
           + TraditionalBinaryPrefix.long2String(cr.getSize(), "", 1));
 
       // Commence the compaction.
-      List<Path> newFiles = compaction.compact(throughputController);
+      CompactionJob job = new CompactionJob(getRegionInfo(), family, fs.getTempDir(), compaction);
+      List<Path> newFiles = compactionService.compact(job, throughputController);
 
       // TODO: get rid of this!
       if (!this.conf.getBoolean("hbase.hstore.compaction.complete", true)) {
@@ -1594,11 +1624,11 @@ public class HStore implements Store {
     try {
       synchronized (filesCompacting) {
         long cfTtl = getStoreFileTtl();
-        if (cfTtl != Long.MAX_VALUE) {
-          delSfs = storeEngine.getStoreFileManager().getUnneededFiles(
-              EnvironmentEdgeManager.currentTime() - cfTtl, filesCompacting);
-          addToCompactingFiles(delSfs);
-        }
+        long now = EnvironmentEdgeManager.currentTime();
+        // Files can also be unneeded when all their cells expired by their own TTL tags
+        delSfs = storeEngine.getStoreFileManager().getUnneededFiles(
+            cfTtl == Long.MAX_VALUE ? Long.MIN_VALUE : now - cfTtl, now, filesCompacting);
+        addToCompactingFiles(delSfs);
       }
     } finally {
       this.lock.readLock().unlock();
@@ -1747,6 +1777,16 @@ public class HStore implements Store {
    * @return true if the cell is expired
    */
   static boolean isCellTTLExpired(final Cell cell, final long oldestTimestamp, final long now) {
+    // Per cell TTLs cannot extend lifetime beyond family settings, which the callers check
+    return getCellTTLExpiryTime(cell) < now;
+  }
+
+  /**
+   * @param cell
+   * @return the time after which the cell is expired by its TTL tag, or Long.MAX_VALUE if it has
+   *   no TTL tag
+   */
+  static long getCellTTLExpiryTime(final Cell cell) {
     // Do not create an Iterator or Tag objects unless the cell actually has tags.
     if (cell.getTagsLength() > 0) {
       // Look for a TTL tag first. Use it instead of the family setting if
@@ -1762,16 +1802,11 @@ public class HStore implements Store {
           long ts = cell.getTimestamp();
           assert t.getTagLength() == Bytes.SIZEOF_LONG;
           long ttl = Bytes.toLong(t.getBuffer(), t.getTagOffset(), t.getTagLength());
-          if (ts + ttl < now) {
-            return true;
-          }
-          // Per cell TTLs cannot extend lifetime beyond family settings, so
-          // fall through to check that
-          break;
+          return ttl > Long.MAX_VALUE - ts ? Long.MAX_VALUE : ts + ttl;
         }
       }
     }
-    return false;
+    return Long.MAX_VALUE;
   }
 
   @Override
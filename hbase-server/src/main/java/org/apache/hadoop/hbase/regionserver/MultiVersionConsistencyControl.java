@@ -23,6 +23,7 @@ import java.util.LinkedList;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.ipc.CallPhaseTimer;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.ClassSize;
 
@@ -206,6 +207,8 @@ public class MultiVersionConsistencyControl {
   public void waitForPreviousTransactionsComplete(WriteEntry waitedEntry) {
     boolean interrupted = false;
     WriteEntry w = waitedEntry;
+    // Only set if we had to wait, so uncontended writes do not pay for timing.
+    long waitStartTime = 0;
 
     try {
       WriteEntry firstEntry = null;
@@ -220,6 +223,9 @@ public class MultiVersionConsistencyControl {
             // all previous in-flight transactions are done
             break;
           }
+          if (waitStartTime == 0) {
+            waitStartTime = System.nanoTime();
+          }
           try {
             writeQueue.wait(0);
           } catch (InterruptedException ie) {
@@ -235,6 +241,10 @@ public class MultiVersionConsistencyControl {
         advanceMemstore(w);
       }
     }
+    if (waitStartTime != 0) {
+      CallPhaseTimer.addToCurrent(CallPhaseTimer.Phase.MVCC_WAIT,
+          System.nanoTime() - waitStartTime);
+    }
     if (interrupted) {
       Thread.currentThread().interrupt();
     }
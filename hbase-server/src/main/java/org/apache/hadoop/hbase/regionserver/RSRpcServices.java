@@ -82,6 +82,7 @@ import org.apache.hadoop.hbase.ipc.RpcServer.BlockingServiceAndInterface;
 import org.apache.hadoop.hbase.ipc.RpcServerInterface;
 import org.apache.hadoop.hbase.ipc.ServerNotRunningYetException;
 import org.apache.hadoop.hbase.ipc.ServerRpcController;
+import org.apache.hadoop.hbase.ipc.SlowLogRingBuffer;
 import org.apache.hadoop.hbase.master.MasterRpcServices;
 import org.apache.hadoop.hbase.protobuf.ProtobufUtil;
 import org.apache.hadoop.hbase.protobuf.RequestConverter;
@@ -99,6 +100,8 @@ import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetRegionInfoReque
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetRegionInfoResponse;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetServerInfoRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetServerInfoResponse;
+import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogRequest;
+import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetSlowLogResponse;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetStoreFileRequest;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.GetStoreFileResponse;
 import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.MergeRegionsRequest;
@@ -161,6 +164,7 @@ import org.apache.hadoop.hbase.regionserver.Region.FlushResult;
 import org.apache.hadoop.hbase.regionserver.Region.Operation;
 import org.apache.hadoop.hbase.regionserver.ScannerContext.LimitScope;
 import org.apache.hadoop.hbase.regionserver.handler.OpenMetaHandler;
+import org.apache.hadoop.hbase.regionserver.handler.OpenPriorityRegionHandler;
 import org.apache.hadoop.hbase.regionserver.handler.OpenRegionHandler;
 import org.apache.hadoop.hbase.regionserver.wal.WALEdit;
 import org.apache.hadoop.hbase.security.User;
@@ -1546,6 +1550,11 @@ public class RSRpcServices implements HBaseRPCErrorHandler,
           if (region.isMetaRegion()) {
             regionServer.service.submit(new OpenMetaHandler(
               regionServer, regionServer, region, htd, masterSystemTime));
+          } else if (region.getTable().isSystemTable()) {
+            regionServer.updateRegionFavoredNodesMapping(region.getEncodedName(),
+              regionOpenInfo.getFavoredNodesList());
+            regionServer.service.submit(new OpenPriorityRegionHandler(
+              regionServer, regionServer, region, htd, masterSystemTime));
           } else {
             regionServer.updateRegionFavoredNodesMapping(region.getEncodedName(),
               regionOpenInfo.getFavoredNodesList());
@@ -2614,4 +2623,28 @@ public class RSRpcServices implements HBaseRPCErrorHandler,
     }
     return UpdateConfigurationResponse.getDefaultInstance();
   }
+
+  /**
+   * Get the most recent calls that were too slow or too large, newest first. Nothing is
+   * returned unless the server keeps them, see {@link RpcServer#SLOW_LOG_BUFFER_ENABLED_KEY}.
+   */
+  @Override
+  @QosPriority(priority=HConstants.ADMIN_QOS)
+  public GetSlowLogResponse getSlowLog(final RpcController controller,
+      final GetSlowLogRequest request) throws ServiceException {
+    try {
+      checkOpen();
+      requestCount.increment();
+      regionServer.getRegionServerCoprocessorHost().preGetSlowLog();
+    } catch (IOException ie) {
+      throw new ServiceException(ie);
+    }
+    GetSlowLogResponse.Builder builder = GetSlowLogResponse.newBuilder();
+    SlowLogRingBuffer slowLogBuffer = rpcServer.getSlowLogBuffer();
+    if (slowLogBuffer != null) {
+      int limit = request.hasLimit() ? request.getLimit() : slowLogBuffer.getCapacity();
+      builder.addAllSlowLogRecord(slowLogBuffer.get(limit));
+    }
+    return builder.build();
+  }
 }
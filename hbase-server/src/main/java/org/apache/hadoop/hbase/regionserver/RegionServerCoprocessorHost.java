@@ -173,6 +173,16 @@ public class RegionServerCoprocessorHost extends
     });
   }
 
+  public void preGetSlowLog() throws IOException {
+    execOperation(coprocessors.isEmpty() ? null : new CoprocessorOperation() {
+      @Override
+      public void call(RegionServerObserver oserver,
+          ObserverContext<RegionServerCoprocessorEnvironment> ctx) throws IOException {
+        oserver.preGetSlowLog(ctx);
+      }
+    });
+  }
+
   public void preReplicateLogEntries(final List<WALEntry> entries, final CellScanner cells)
       throws IOException {
     execOperation(coprocessors.isEmpty() ? null : new CoprocessorOperation() {
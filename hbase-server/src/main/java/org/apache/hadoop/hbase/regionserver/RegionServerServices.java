@@ -34,6 +34,7 @@ import org.apache.hadoop.hbase.ipc.RpcServerInterface;
 import org.apache.hadoop.hbase.master.TableLockManager;
 import org.apache.hadoop.hbase.protobuf.generated.RegionServerStatusProtos.RegionStateTransition.TransitionCode;
 import org.apache.hadoop.hbase.quotas.RegionServerQuotaManager;
+import org.apache.hadoop.hbase.regionserver.compactions.CompactionService;
 import org.apache.hadoop.hbase.wal.WAL;
 import org.apache.zookeeper.KeeperException;
 
@@ -224,6 +225,12 @@ public interface RegionServerServices extends OnlineRegions, FavoredNodesForRegi
    */
   HeapMemoryManager getHeapMemoryManager();
 
+  /**
+   * @return the compaction service that runs the compactions of the stores on this regionserver,
+   *   except for stores whose table or family configures a compaction service class of its own
+   */
+  CompactionService getCompactionService();
+
   /**
    * @return the max compaction pressure of all stores on this regionserver. The value should be
    *         greater than or equal to 0.0, and any value greater than 1.0 means we enter the
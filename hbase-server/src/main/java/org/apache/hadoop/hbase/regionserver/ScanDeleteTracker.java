@@ -19,8 +19,7 @@
 
 package org.apache.hadoop.hbase.regionserver;
 
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Arrays;
 
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.Cell;
@@ -50,7 +49,10 @@ public class ScanDeleteTracker implements DeleteTracker {
 
   protected boolean hasFamilyStamp = false;
   protected long familyStamp = 0L;
-  protected SortedSet<Long> familyVersionStamps = new TreeSet<Long>();
+  // Sorted timestamps of the DeleteFamilyVersion markers of the current row. Kept in a
+  // primitive array since it is checked for every cell of the row.
+  protected long[] familyVersionStamps = new long[4];
+  protected int numFamilyVersionStamps = 0;
   protected byte [] deleteBuffer = null;
   protected int deleteOffset = 0;
   protected int deleteLength = 0;
@@ -81,7 +83,7 @@ public class ScanDeleteTracker implements DeleteTracker {
         familyStamp = timestamp;
         return;
       } else if (type == KeyValue.Type.DeleteFamilyVersion.getCode()) {
-        familyVersionStamps.add(timestamp);
+        addFamilyVersionStamp(timestamp);
         return;
       }
 
@@ -115,8 +117,9 @@ public class ScanDeleteTracker implements DeleteTracker {
       return DeleteResult.FAMILY_DELETED;
     }
 
-    if (familyVersionStamps.contains(Long.valueOf(timestamp))) {
-        return DeleteResult.FAMILY_VERSION_DELETED;
+    if (numFamilyVersionStamps > 0
+        && Arrays.binarySearch(familyVersionStamps, 0, numFamilyVersionStamps, timestamp) >= 0) {
+      return DeleteResult.FAMILY_VERSION_DELETED;
     }
 
     if (deleteBuffer != null) {
@@ -154,7 +157,7 @@ public class ScanDeleteTracker implements DeleteTracker {
   @Override
   public boolean isEmpty() {
     return deleteBuffer == null && !hasFamilyStamp &&
-           familyVersionStamps.isEmpty();
+           numFamilyVersionStamps == 0;
   }
 
   @Override
@@ -162,10 +165,25 @@ public class ScanDeleteTracker implements DeleteTracker {
   public void reset() {
     hasFamilyStamp = false;
     familyStamp = 0L;
-    familyVersionStamps.clear();
+    numFamilyVersionStamps = 0;
     deleteBuffer = null;
   }
 
+  private void addFamilyVersionStamp(long timestamp) {
+    int pos = Arrays.binarySearch(familyVersionStamps, 0, numFamilyVersionStamps, timestamp);
+    if (pos >= 0) {
+      return;
+    }
+    pos = -(pos + 1);
+    if (numFamilyVersionStamps == familyVersionStamps.length) {
+      familyVersionStamps = Arrays.copyOf(familyVersionStamps, numFamilyVersionStamps * 2);
+    }
+    System.arraycopy(familyVersionStamps, pos, familyVersionStamps, pos + 1,
+      numFamilyVersionStamps - pos);
+    familyVersionStamps[pos] = timestamp;
+    numFamilyVersionStamps++;
+  }
+
   @Override
   // should not be called at all even (!)
   public void update() {
@@ -36,6 +36,7 @@ import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.Filter.ReturnCode;
 import org.apache.hadoop.hbase.io.TimeRange;
+import org.apache.hadoop.hbase.ipc.CallPhaseTimer;
 import org.apache.hadoop.hbase.regionserver.DeleteTracker.DeleteResult;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
@@ -56,6 +57,9 @@ public class ScanQueryMatcher {
 
   private final Filter filter;
 
+  /** Times the filter for the call being served, if any */
+  private CallPhaseTimer phaseTimer;
+
   /** Keeps track of deletes */
   private final DeleteTracker deletes;
 
@@ -330,7 +334,7 @@ public class ScanQueryMatcher {
      */
     byte typeByte = cell.getTypeByte();
     long mvccVersion = cell.getSequenceId();
-    if (CellUtil.isDelete(cell)) {
+    if (CellUtil.isDelete(typeByte)) {
       if (keepDeletedCells == KeepDeletedCells.FALSE
           || (keepDeletedCells == KeepDeletedCells.TTL && timestamp < ttl)) {
         // first ignore delete markers if the scanner can do so, and the
@@ -406,7 +410,13 @@ public class ScanQueryMatcher {
       // STEP 2: Yes, the column is part of the requested columns. Check if filter is present
       if (filter != null) {
         // STEP 3: Filter the key value and return if it filters out
-        filterResponse = filter.filterKeyValue(cell);
+        if (phaseTimer == null) {
+          filterResponse = filter.filterKeyValue(cell);
+        } else {
+          long filterStartTime = System.nanoTime();
+          filterResponse = filter.filterKeyValue(cell);
+          phaseTimer.add(CallPhaseTimer.Phase.FILTER, System.nanoTime() - filterStartTime);
+        }
         switch (filterResponse) {
         case SKIP:
           return MatchCode.SKIP;
@@ -525,6 +535,13 @@ public class ScanQueryMatcher {
     return this.startKey;
   }
 
+  /**
+   * @return the time range of the scan
+   */
+  TimeRange getTimeRange() {
+    return this.tr;
+  }
+
   /**
    *
    * @return the Filter
@@ -533,6 +550,13 @@ public class ScanQueryMatcher {
     return this.filter;
   }
 
+  /**
+   * @param phaseTimer timer of the call the matcher is used for, or null to not time the filter
+   */
+  void setPhaseTimer(CallPhaseTimer phaseTimer) {
+    this.phaseTimer = phaseTimer;
+  }
+
   public Cell getNextKeyHint(Cell kv) throws IOException {
     if (filter == null) {
       return null;
@@ -174,6 +174,13 @@ public interface Store extends HeapSize, StoreConfigInformation, PropagatingConf
     boolean includesTags
   ) throws IOException;
 
+  /**
+   * Sets the dictionary the data blocks of files written from now on are compressed against,
+   * if the compression algorithm they are written with supports one.
+   * @param dictionary preset compression dictionary, or null for none
+   */
+  void setCompressionDictionary(byte[] dictionary);
+
   // Compaction oriented methods
 
   boolean throttleCompaction(long compactionSize);
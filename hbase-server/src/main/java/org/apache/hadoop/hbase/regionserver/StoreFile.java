@@ -45,9 +45,13 @@ import org.apache.hadoop.hbase.CellComparator;
 import org.apache.hadoop.hbase.KeyValueUtil;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.io.FSDataInputStreamWrapper;
+import org.apache.hadoop.hbase.io.hfile.BlockCache;
+import org.apache.hadoop.hbase.io.hfile.BlockCacheUtil;
 import org.apache.hadoop.hbase.io.hfile.BlockType;
 import org.apache.hadoop.hbase.io.hfile.CacheConfig;
+import org.apache.hadoop.hbase.io.hfile.CompoundBloomFilterBase;
 import org.apache.hadoop.hbase.io.hfile.HFile;
 import org.apache.hadoop.hbase.io.hfile.HFileContext;
 import org.apache.hadoop.hbase.io.hfile.HFileScanner;
@@ -111,6 +115,15 @@ public class StoreFile {
   /** Key for timestamp of earliest-put in metadata*/
   public static final byte[] EARLIEST_PUT_TS = Bytes.toBytes("EARLIEST_PUT_TS");
 
+  /** Key for column value statistics in metadata */
+  public static final byte[] COLUMN_VALUE_STATS_KEY = Bytes.toBytes("COLUMN_VALUE_STATS");
+
+  /**
+   * Key for the time after which all cells of the file are expired by their TTL tags, in
+   * metadata. Absent if any cell has no TTL tag.
+   */
+  public static final byte[] MAX_EXPIRY_TS_KEY = Bytes.toBytes("MAX_EXPIRY_TS");
+
   private final StoreFileInfo fileInfo;
   private final FileSystem fs;
 
@@ -161,6 +174,11 @@ public class StoreFile {
    */
   private final BloomType cfBloomType;
 
+  /**
+   * Whether Bloom filter metadata is loaded on first use instead of on open.
+   */
+  private final boolean lazyLoadBloom;
+
   /**
    * Constructor, loads a reader and it's indices, etc. May allocate a
    * substantial amount of ram depending on the underlying files (10-20MB?).
@@ -210,6 +228,7 @@ public class StoreFile {
           "cfBloomType=" + cfBloomType + " (disabled in config)");
       this.cfBloomType = BloomType.NONE;
     }
+    this.lazyLoadBloom = BloomFilterFactory.isLazyLoadEnabled(conf);
   }
 
   /**
@@ -221,6 +240,7 @@ public class StoreFile {
     this.fileInfo = other.fileInfo;
     this.cacheConf = other.cacheConf;
     this.cfBloomType = other.cfBloomType;
+    this.lazyLoadBloom = other.lazyLoadBloom;
   }
 
   /**
@@ -432,7 +452,7 @@ public class StoreFile {
 
     BloomType hfileBloomType = reader.getBloomFilterType();
     if (cfBloomType != BloomType.NONE) {
-      reader.loadBloomfilter(BlockType.GENERAL_BLOOM_META);
+      loadBloomfilter(BlockType.GENERAL_BLOOM_META);
       if (hfileBloomType != cfBloomType) {
         LOG.info("HFile Bloom filter type for "
             + reader.getHFileReader().getName() + ": " + hfileBloomType
@@ -445,7 +465,7 @@ public class StoreFile {
     }
 
     // load delete family bloom filter
-    reader.loadBloomfilter(BlockType.DELETE_FAMILY_BLOOM_META);
+    loadBloomfilter(BlockType.DELETE_FAMILY_BLOOM_META);
 
     try {
       byte [] timerangeBytes = metadataMap.get(TIMERANGE_KEY);
@@ -458,9 +478,31 @@ public class StoreFile {
           "proceeding without", e);
       this.reader.timeRangeTracker = null;
     }
+
+    b = metadataMap.get(MAX_EXPIRY_TS_KEY);
+    if (b != null) {
+      this.reader.maxExpiryTs = Bytes.toLong(b);
+    }
+
+    b = metadataMap.get(COLUMN_VALUE_STATS_KEY);
+    if (b != null) {
+      try {
+        this.reader.columnValueStats = ColumnValueStats.parseFrom(b);
+      } catch (IOException e) {
+        LOG.error("Error reading column value statistics from meta -- proceeding without", e);
+      }
+    }
     return this.reader;
   }
 
+  private void loadBloomfilter(BlockType blockType) {
+    if (lazyLoadBloom) {
+      reader.deferBloomfilterLoad(blockType);
+    } else {
+      reader.loadBloomfilter(blockType);
+    }
+  }
+
   /**
    * @return Reader for StoreFile. creates if necessary
    * @throws IOException
@@ -707,8 +749,10 @@ public class StoreFile {
     private int lastBloomKeyOffset, lastBloomKeyLen;
     private Cell lastCell = null;
     private long earliestPutTs = HConstants.LATEST_TIMESTAMP;
+    private long maxExpiryTs = Long.MIN_VALUE;
     private Cell lastDeleteFamilyCell = null;
     private long deleteFamilyCnt = 0;
+    private final ColumnValueStats columnValueStats;
 
     /** Bytes per Checksum */
     protected int bytesPerChecksum;
@@ -780,6 +824,7 @@ public class StoreFile {
         if (LOG.isTraceEnabled()) LOG.trace("Delete Family Bloom filter type for " + path + ": "
             + deleteFamilyBloomFilterWriter.getClass().getSimpleName());
       }
+      this.columnValueStats = ColumnValueStats.create(conf);
     }
 
     /**
@@ -798,11 +843,15 @@ public class StoreFile {
     }
 
     /**
-     * Add TimestampRange and earliest put timestamp to Metadata
+     * Add TimestampRange, earliest put timestamp and, if all cells have a TTL tag, the time
+     * they have all expired by to Metadata
      */
     public void appendTrackedTimestampsToMetadata() throws IOException {
       appendFileInfo(TIMERANGE_KEY,WritableUtils.toByteArray(timeRangeTracker));
       appendFileInfo(EARLIEST_PUT_TS, Bytes.toBytes(earliestPutTs));
+      if (maxExpiryTs != Long.MAX_VALUE) {
+        appendFileInfo(MAX_EXPIRY_TS_KEY, Bytes.toBytes(maxExpiryTs));
+      }
     }
 
     /**
@@ -815,7 +864,7 @@ public class StoreFile {
     }
 
     /**
-     * Record the earlest Put timestamp.
+     * Record the earlest Put timestamp and the latest expiry time by TTL tag.
      *
      * If the timeRangeTracker is not set,
      * update TimeRangeTracker to include the timestamp of this key
@@ -825,6 +874,10 @@ public class StoreFile {
       if (KeyValue.Type.Put.getCode() == cell.getTypeByte()) {
         earliestPutTs = Math.min(earliestPutTs, cell.getTimestamp());
       }
+      // Once a cell without TTL tag is seen, the file never expires as a whole
+      if (maxExpiryTs != Long.MAX_VALUE) {
+        maxExpiryTs = Math.max(maxExpiryTs, HStore.getCellTTLExpiryTime(cell));
+      }
       if (!isTimeRangeTrackerSet) {
         timeRangeTracker.includeTimestamp(cell);
       }
@@ -944,6 +997,9 @@ public class StoreFile {
       appendDeleteFamilyBloomFilter(cell);
       writer.append(cell);
       trackTimestamps(cell);
+      if (columnValueStats != null) {
+        columnValueStats.track(cell);
+      }
     }
 
     public Path getPath() {
@@ -1007,6 +1063,9 @@ public class StoreFile {
     public void close() throws IOException {
       boolean hasGeneralBloom = this.closeGeneralBloomFilter();
       boolean hasDeleteFamilyBloom = this.closeDeleteFamilyBloomFilter();
+      if (columnValueStats != null && columnValueStats.isUsable()) {
+        writer.appendFileInfo(COLUMN_VALUE_STATS_KEY, columnValueStats.toBytes());
+      }
 
       writer.close();
 
@@ -1041,22 +1100,33 @@ public class StoreFile {
     protected BloomFilter deleteFamilyBloomFilter = null;
     protected BloomType bloomFilterType;
     private final HFile.Reader reader;
+    private final CacheConfig cacheConf;
     protected TimeRangeTracker timeRangeTracker = null;
+    ColumnValueStats columnValueStats = null;
+    long maxExpiryTs = Long.MAX_VALUE;
     protected long sequenceID = -1;
     private byte[] lastBloomKey;
     private long deleteFamilyCnt = -1;
     private boolean bulkLoadResult = false;
     private KeyValue.KeyOnlyKeyValue lastBloomKeyOnlyKV = null;
+    // Set when the Bloom filter metadata is to be loaded on first use
+    private volatile boolean generalBloomFilterDeferred = false;
+    private volatile boolean deleteFamilyBloomFilterDeferred = false;
+    // Sizes of the deferred general Bloom filter, as recorded in its metadata
+    private long deferredBloomKeyCount = -1;
+    private long deferredBloomByteSize = 0;
 
     public Reader(FileSystem fs, Path path, CacheConfig cacheConf, Configuration conf)
         throws IOException {
       reader = HFile.createReader(fs, path, cacheConf, conf);
+      this.cacheConf = cacheConf;
       bloomFilterType = BloomType.NONE;
     }
 
     public Reader(FileSystem fs, Path path, FSDataInputStreamWrapper in, long size,
         CacheConfig cacheConf, Configuration conf) throws IOException {
       reader = HFile.createReader(fs, path, in, size, cacheConf, conf);
+      this.cacheConf = cacheConf;
       bloomFilterType = BloomType.NONE;
     }
 
@@ -1065,6 +1135,7 @@ public class StoreFile {
      */
     Reader() {
       this.reader = null;
+      this.cacheConf = null;
     }
 
     public CellComparator getComparator() {
@@ -1193,8 +1264,13 @@ public class StoreFile {
                 column.length);
           }
 
-          // For multi-column queries the Bloom filter is checked from the
-          // seekExact operation.
+          if (columns != null && !columns.isEmpty()) {
+            // For multi-column gets the file is only needed if it may hold one of the
+            // requested columns. Each column probe also checks the row's empty qualifier,
+            // so family delete markers keep the file in. The Bloom filter is also checked
+            // per column from the seekExact operation.
+            return passesGeneralBloomFilter(row, columns);
+          }
           return true;
 
         default:
@@ -1202,8 +1278,47 @@ public class StoreFile {
       }
     }
 
+    /**
+     * @return false if the ROWCOL Bloom filter shows that none of the columns are in this
+     *   file for the given row, true otherwise
+     */
+    private boolean passesGeneralBloomFilter(byte[] row, SortedSet<byte[]> columns) {
+      for (byte[] column : columns) {
+        if (passesGeneralBloomFilter(row, 0, row.length, column, 0, column.length)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Check whether a seek to the given key can be served from the block cache.
+     * @param key the key to seek to
+     * @return true if the data block holding the key is known to be cached, false if the
+     *   seek may have to read from the file system
+     * @see BlockCacheUtil#isDataBlockCached(BlockCache, HFile.Reader, Cell)
+     */
+    public boolean isSeekCached(Cell key) {
+      BlockCache blockCache = cacheConf == null ? null : cacheConf.getBlockCache();
+      return blockCache != null && BlockCacheUtil.isDataBlockCached(blockCache, reader, key);
+    }
+
+    /**
+     * Checks whether a row of this file may pass the filter, using the column value statistics
+     * of the file if it has any.
+     * @param filter the filter of the scan, may be null
+     * @param family the column family of the store
+     * @return false if no row of this file can pass the filter
+     */
+    boolean passesColumnValueFilter(Filter filter, byte[] family) {
+      return columnValueStats == null || columnValueStats.mayPass(filter, family);
+    }
+
     public boolean passesDeleteFamilyBloomFilter(byte[] row, int rowOffset,
         int rowLen) {
+      if (deleteFamilyBloomFilterDeferred) {
+        loadDeferredBloomfilter(BlockType.DELETE_FAMILY_BLOOM_META);
+      }
       // Cache Bloom filter as a local variable in case it is set to null by
       // another thread on an IO error.
       BloomFilter bloomFilter = this.deleteFamilyBloomFilter;
@@ -1245,6 +1360,9 @@ public class StoreFile {
      */
     public boolean passesGeneralBloomFilter(byte[] row, int rowOffset,
         int rowLen, byte[] col, int colOffset, int colLen) {
+      if (generalBloomFilterDeferred) {
+        loadDeferredBloomfilter(BlockType.GENERAL_BLOOM_META);
+      }
       // Cache Bloom filter as a local variable in case it is set to null by
       // another thread on an IO error.
       BloomFilter bloomFilter = this.generalBloomFilter;
@@ -1452,6 +1570,62 @@ public class StoreFile {
       }
     }
 
+    /**
+     * Defer loading the metadata of the given Bloom filter until it is first
+     * checked, so that opening the file does not have to read it.
+     */
+    void deferBloomfilterLoad(BlockType blockType) {
+      if (blockType == BlockType.GENERAL_BLOOM_META) {
+        readDeferredBloomSizes();
+        generalBloomFilterDeferred = true;
+      } else if (blockType == BlockType.DELETE_FAMILY_BLOOM_META) {
+        deleteFamilyBloomFilterDeferred = true;
+      } else {
+        throw new RuntimeException("Block Type: " + blockType.toString()
+            + "is not supported for Bloom filter");
+      }
+    }
+
+    /**
+     * Reads the key count and byte size of the general Bloom filter from the
+     * head of its metadata, without reading the chunk index, so that metrics
+     * can report them before the filter is loaded. The metadata block is
+     * already in memory. Must be consistent with what
+     * {@link org.apache.hadoop.hbase.io.hfile.CompoundBloomFilterWriter} does.
+     */
+    private void readDeferredBloomSizes() {
+      try {
+        DataInput bloomMeta = reader.getGeneralBloomFilterMetadata();
+        if (bloomMeta == null || bloomFilterType == BloomType.NONE) {
+          return;
+        }
+        if (bloomMeta.readInt() != CompoundBloomFilterBase.VERSION) {
+          return;
+        }
+        long byteSize = bloomMeta.readLong();
+        bloomMeta.readInt(); // hash count
+        bloomMeta.readInt(); // hash type
+        deferredBloomKeyCount = bloomMeta.readLong();
+        deferredBloomByteSize = byteSize;
+      } catch (IOException e) {
+        LOG.warn("Error reading bloom filter sizes for " + reader.getName(), e);
+      }
+    }
+
+    private synchronized void loadDeferredBloomfilter(BlockType blockType) {
+      if (blockType == BlockType.GENERAL_BLOOM_META) {
+        if (generalBloomFilterDeferred) {
+          loadBloomfilter(blockType);
+          generalBloomFilterDeferred = false;
+        }
+      } else if (blockType == BlockType.DELETE_FAMILY_BLOOM_META) {
+        if (deleteFamilyBloomFilterDeferred) {
+          loadBloomfilter(blockType);
+          deleteFamilyBloomFilterDeferred = false;
+        }
+      }
+    }
+
     private void setBloomFilterFaulty(BlockType blockType) {
       if (blockType == BlockType.GENERAL_BLOOM_META) {
         setGeneralBloomFilterFaulty();
@@ -1468,8 +1642,13 @@ public class StoreFile {
      * @return an estimate of the number of Bloom filter entries in this file
      */
     public long getFilterEntries() {
-      return generalBloomFilter != null ? generalBloomFilter.getKeyCount()
-          : reader.getEntries();
+      if (generalBloomFilter != null) {
+        return generalBloomFilter.getKeyCount();
+      }
+      if (generalBloomFilterDeferred && deferredBloomKeyCount >= 0) {
+        return deferredBloomKeyCount;
+      }
+      return reader.getEntries();
     }
 
     public void setGeneralBloomFilterFaulty() {
@@ -1537,6 +1716,9 @@ public class StoreFile {
     }
 
     BloomFilter getGeneralBloomFilter() {
+      if (generalBloomFilterDeferred) {
+        loadDeferredBloomfilter(BlockType.GENERAL_BLOOM_META);
+      }
       return generalBloomFilter;
     }
 
@@ -1545,9 +1727,11 @@ public class StoreFile {
     }
 
     public long getTotalBloomSize() {
-      if (generalBloomFilter == null)
-        return 0;
-      return generalBloomFilter.getByteSize();
+      BloomFilter bloomFilter = this.generalBloomFilter;
+      if (bloomFilter != null) {
+        return bloomFilter.getByteSize();
+      }
+      return generalBloomFilterDeferred ? deferredBloomByteSize : 0;
     }
 
     public int getHFileVersion() {
@@ -1563,6 +1747,8 @@ public class StoreFile {
     }
 
     void disableBloomFilterForTesting() {
+      generalBloomFilterDeferred = false;
+      deleteFamilyBloomFilterDeferred = false;
       generalBloomFilter = null;
       this.deleteFamilyBloomFilter = null;
     }
@@ -1570,6 +1756,23 @@ public class StoreFile {
     public long getMaxTimestamp() {
       return timeRangeTracker == null ? Long.MAX_VALUE : timeRangeTracker.getMaximumTimestamp();
     }
+
+    /**
+     * @return the time after which all cells of the file are expired by their TTL tags, or
+     *   Long.MAX_VALUE if some cells have none
+     */
+    public long getMaxExpiryTimestamp() {
+      return maxExpiryTs;
+    }
+
+    /**
+     * @param maxTs the timestamp before which cells are expired by the family TTL
+     * @param now the current time, past which cells are expired by their TTL tags
+     * @return true if no cell of the file is needed anymore
+     */
+    boolean isExpired(long maxTs, long now) {
+      return getMaxTimestamp() < maxTs || maxExpiryTs < now;
+    }
   }
 
   /**
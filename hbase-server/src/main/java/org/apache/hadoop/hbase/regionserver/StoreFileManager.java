@@ -26,6 +26,7 @@ import java.util.List;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.io.TimeRange;
 
 import com.google.common.collect.ImmutableCollection;
 
@@ -90,6 +91,19 @@ public interface StoreFileManager {
     boolean isGet, byte[] startRow, byte[] stopRow
   );
 
+  /**
+   * Gets the store files to scan for a Scan or Get request, leaving out the files that cannot
+   * have cells in the time range of the request.
+   * @param isGet Whether it's a get.
+   * @param startRow Start row of the request.
+   * @param stopRow Stop row of the request.
+   * @param timeRange Time range of the request.
+   * @return The list of files that are to be read for this request.
+   */
+  Collection<StoreFile> getFilesForScanOrGet(
+    boolean isGet, byte[] startRow, byte[] stopRow, TimeRange timeRange
+  );
+
   /**
    * Gets initial, full list of candidate store files to check for row-key-before.
    * @param targetKey The key that is the basis of the search.
@@ -130,10 +144,11 @@ public interface StoreFileManager {
 
   /**
    * @param maxTs Maximum expired timestamp.
+   * @param now Current time, past which cells expired by their TTL tags are unneeded.
    * @param filesCompacting Files that are currently compacting.
    * @return The files which don't have any necessary data according to TTL and other criteria.
    */
-  Collection<StoreFile> getUnneededFiles(long maxTs, List<StoreFile> filesCompacting);
+  Collection<StoreFile> getUnneededFiles(long maxTs, long now, List<StoreFile> filesCompacting);
 
   /**
    * @return the compaction pressure used for compaction throughput tuning.
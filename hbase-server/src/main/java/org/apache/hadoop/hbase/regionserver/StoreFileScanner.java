@@ -400,6 +400,15 @@ public class StoreFileScanner implements KeyValueScanner {
     return true;
   }
 
+  /**
+   * @param key the key to seek to
+   * @return true if seeking to the key is known to be served from the block cache
+   * @see StoreFile.Reader#isSeekCached(Cell)
+   */
+  boolean isSeekCached(Cell key) {
+    return reader.isSeekCached(key);
+  }
+
   // Test methods
 
   static final long getSeekCount() {
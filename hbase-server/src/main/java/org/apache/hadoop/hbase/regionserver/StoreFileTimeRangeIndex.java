@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.io.TimeRange;
+
+/**
+ * An immutable index over the time ranges of a list of store files, used to find the files a
+ * time range query may read without checking every file. The files are kept in a static
+ * interval tree: an array sorted by minimum timestamp, seen as an implicit balanced binary
+ * tree where every node also holds the largest maximum timestamp of its subtree. A query costs
+ * O(log n + k) for k matching files.
+ * <p>
+ * Files without time range information are treated as covering all time.
+ */
+@InterfaceAudience.Private
+class StoreFileTimeRangeIndex {
+  /** The files in the order they were given. */
+  private final List<StoreFile> files;
+  /** Position in {@link #files} of each node, nodes are sorted by minimum timestamp. */
+  private final int[] positions;
+  private final long[] minTimestamps;
+  private final long[] maxTimestamps;
+  /** The largest maximum timestamp in the subtree rooted at each node. */
+  private final long[] subtreeMaxTimestamps;
+
+  /**
+   * @param files the files to index; queries return matching files in the same order
+   */
+  StoreFileTimeRangeIndex(List<StoreFile> files) {
+    this.files = files;
+    int n = files.size();
+    final long[] mins = new long[n];
+    long[] maxs = new long[n];
+    Integer[] sorted = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      StoreFile.Reader reader = files.get(i).getReader();
+      TimeRangeTracker tracker = reader == null ? null : reader.timeRangeTracker;
+      mins[i] = tracker == null ? Long.MIN_VALUE : tracker.getMinimumTimestamp();
+      maxs[i] = tracker == null ? Long.MAX_VALUE : tracker.getMaximumTimestamp();
+      sorted[i] = i;
+    }
+    Arrays.sort(sorted, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        return Long.compare(mins[a], mins[b]);
+      }
+    });
+    this.positions = new int[n];
+    this.minTimestamps = new long[n];
+    this.maxTimestamps = new long[n];
+    this.subtreeMaxTimestamps = new long[n];
+    for (int i = 0; i < n; i++) {
+      positions[i] = sorted[i];
+      minTimestamps[i] = mins[sorted[i]];
+      maxTimestamps[i] = maxs[sorted[i]];
+    }
+    buildSubtreeMax(0, n);
+  }
+
+  private long buildSubtreeMax(int from, int to) {
+    if (from >= to) {
+      return Long.MIN_VALUE;
+    }
+    int mid = (from + to) >>> 1;
+    long max = Math.max(maxTimestamps[mid],
+      Math.max(buildSubtreeMax(from, mid), buildSubtreeMax(mid + 1, to)));
+    subtreeMaxTimestamps[mid] = max;
+    return max;
+  }
+
+  /**
+   * @param timeRange the time range of the request
+   * @return the files that may have cells in the time range, in the order they were given
+   */
+  Collection<StoreFile> getFiles(TimeRange timeRange) {
+    if (timeRange.isAllTime()) {
+      return files;
+    }
+    boolean[] selected = new boolean[files.size()];
+    int count = select(0, positions.length, timeRange.getMin(), timeRange.getMax(), selected);
+    if (count == files.size()) {
+      return files;
+    }
+    List<StoreFile> result = new ArrayList<StoreFile>(count);
+    for (int i = 0; i < selected.length; i++) {
+      if (selected[i]) {
+        result.add(files.get(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Mark the files of the subtree [from, to) whose time range overlaps [min, max).
+   * @return the number of files marked
+   */
+  private int select(int from, int to, long min, long max, boolean[] selected) {
+    if (from >= to) {
+      return 0;
+    }
+    int mid = (from + to) >>> 1;
+    if (subtreeMaxTimestamps[mid] < min) {
+      return 0;
+    }
+    int count = select(from, mid, min, max, selected);
+    if (minTimestamps[mid] >= max) {
+      // The right subtree starts even later.
+      return count;
+    }
+    if (maxTimestamps[mid] >= min) {
+      selected[positions[mid]] = true;
+      count++;
+    }
+    return count + select(mid + 1, to, min, max, selected);
+  }
+
+  /**
+   * Filter files by time range without an index, for callers that only have a few files.
+   * @param files the candidate files
+   * @param timeRange the time range of the request
+   * @return the files that may have cells in the time range, in the order they were given
+   */
+  static Collection<StoreFile> filter(Collection<StoreFile> files, TimeRange timeRange) {
+    if (timeRange.isAllTime()) {
+      return files;
+    }
+    List<StoreFile> result = new ArrayList<StoreFile>(files.size());
+    for (StoreFile sf : files) {
+      StoreFile.Reader reader = sf.getReader();
+      if (reader == null || reader.timeRangeTracker == null
+          || reader.timeRangeTracker.includesTimeRange(timeRange)) {
+        result.add(sf);
+      }
+    }
+    return result.size() == files.size() ? files : result;
+  }
+}
@@ -44,6 +44,7 @@ import org.apache.hadoop.hbase.client.IsolationLevel;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.executor.ExecutorService;
 import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.ipc.CallPhaseTimer;
 import org.apache.hadoop.hbase.regionserver.ScanQueryMatcher.MatchCode;
 import org.apache.hadoop.hbase.regionserver.ScannerContext.LimitScope;
 import org.apache.hadoop.hbase.regionserver.ScannerContext.NextState;
@@ -99,6 +100,7 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
   static final boolean LAZY_SEEK_ENABLED_BY_DEFAULT = true;
   public static final String STORESCANNER_PARALLEL_SEEK_ENABLE =
       "hbase.storescanner.parallel.seek.enable";
+  public static final boolean DEFAULT_STORESCANNER_PARALLEL_SEEK_ENABLE = false;
 
   /** Used during unit testing to ensure that lazy seek does save seek ops */
   protected static boolean lazySeekEnabledGlobally =
@@ -180,7 +182,9 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
         && store.getStorefilesCount() > 1) {
       RegionServerServices rsService = ((HStore)store).getHRegion().getRegionServerServices();
       if (rsService == null || !rsService.getConfiguration().getBoolean(
-            STORESCANNER_PARALLEL_SEEK_ENABLE, false)) return;
+            STORESCANNER_PARALLEL_SEEK_ENABLE, DEFAULT_STORESCANNER_PARALLEL_SEEK_ENABLE)) {
+        return;
+      }
       isParallelSeekEnabled = true;
       executor = rsService.getExecutorService();
     }
@@ -332,8 +336,77 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
   protected List<KeyValueScanner> getScannersNoCompaction() throws IOException {
     final boolean isCompaction = false;
     boolean usePread = isGet || scanUsePread;
-    return selectScannersFrom(store.getScanners(cacheBlocks, isGet, usePread,
-        isCompaction, matcher, scan.getStartRow(), scan.getStopRow(), this.readPt));
+    List<KeyValueScanner> scanners = selectScannersFrom(store.getScanners(cacheBlocks, isGet,
+        usePread, isCompaction, matcher, scan.getStartRow(), scan.getStopRow(), this.readPt));
+    if (scan.getFilter() != null) {
+      excludeFilesRuledOutByFilter(scanners);
+    }
+    return scanners;
+  }
+
+  /**
+   * Leave out the store files whose column value statistics show that none of their rows can
+   * pass the filter of the scan. A file is only left out if no other file or memstore scanner
+   * has cells in its row range; otherwise cells elsewhere could still make one of its rows
+   * pass, or a row could fall back to an older value held elsewhere.
+   * @param scanners the selected scanners, changed in place
+   * @see ColumnValueStats
+   */
+  private void excludeFilesRuledOutByFilter(List<KeyValueScanner> scanners) throws IOException {
+    byte[] family = store.getFamily().getName();
+    CellComparator comparator = store.getComparator();
+    List<StoreFile.Reader> excluded = null;
+    for (KeyValueScanner kvs : scanners) {
+      if (!kvs.isFileScanner()) {
+        continue;
+      }
+      StoreFile.Reader reader = ((StoreFileScanner) kvs).getReader();
+      if (reader.passesColumnValueFilter(scan.getFilter(), family)
+          || reader.getFirstKey() == null || overlapsOthers(reader, scanners, comparator)) {
+        continue;
+      }
+      if (excluded == null) {
+        excluded = new ArrayList<StoreFile.Reader>();
+      }
+      excluded.add(reader);
+    }
+    if (excluded == null) {
+      return;
+    }
+    for (int i = scanners.size() - 1; i >= 0; i--) {
+      KeyValueScanner kvs = scanners.get(i);
+      if (kvs.isFileScanner() && excluded.contains(((StoreFileScanner) kvs).getReader())) {
+        scanners.remove(i);
+        kvs.close();
+      }
+    }
+  }
+
+  /**
+   * @return true if any other of the scanners may have cells in the row range of the file
+   */
+  private static boolean overlapsOthers(StoreFile.Reader reader,
+      List<KeyValueScanner> scanners, CellComparator comparator) throws IOException {
+    Cell firstKey = reader.getFirstKey();
+    Cell lastKey = reader.getLastKey();
+    for (KeyValueScanner kvs : scanners) {
+      if (kvs.isFileScanner()) {
+        StoreFile.Reader other = ((StoreFileScanner) kvs).getReader();
+        if (other != reader && other.getFirstKey() != null
+            && comparator.compareRows(other.getFirstKey(), lastKey) <= 0
+            && comparator.compareRows(other.getLastKey(), firstKey) >= 0) {
+          return true;
+        }
+      } else {
+        // Memstore scanners are seeked again before use.
+        kvs.seek(CellUtil.createFirstOnRow(firstKey));
+        Cell next = kvs.peek();
+        if (next != null && comparator.compareRows(next, lastKey) <= 0) {
+          return true;
+        }
+      }
+    }
+    return false;
   }
 
   /**
@@ -359,15 +432,9 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
       if (!isParallelSeek) {
         long totalScannersSoughtBytes = 0;
         for (KeyValueScanner scanner : scanners) {
-          if (totalScannersSoughtBytes >= maxRowSize) {
-            throw new RowTooBigException("Max row size allowed: " + maxRowSize
-              + ", but row is bigger than that");
-          }
+          checkRowSize(totalScannersSoughtBytes);
           scanner.seek(seekKey);
-          Cell c = scanner.peek();
-          if (c != null) {
-            totalScannersSoughtBytes += CellUtil.estimatedSerializedSizeOf(c);
-          }
+          totalScannersSoughtBytes += soughtBytes(scanner);
         }
       } else {
         parallelSeek(scanners, seekKey);
@@ -375,6 +442,18 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
     }
   }
 
+  private void checkRowSize(long totalScannersSoughtBytes) throws RowTooBigException {
+    if (totalScannersSoughtBytes >= maxRowSize) {
+      throw new RowTooBigException("Max row size allowed: " + maxRowSize
+        + ", but row is bigger than that");
+    }
+  }
+
+  private static long soughtBytes(KeyValueScanner scanner) {
+    Cell c = scanner.peek();
+    return c == null ? 0 : CellUtil.estimatedSerializedSizeOf(c);
+  }
+
   protected void resetKVHeap(List<? extends KeyValueScanner> scanners,
       CellComparator comparator) throws IOException {
     // Combine all seeked scanners with a heap
@@ -531,6 +610,10 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
       this.countPerRow = 0;
       matcher.setToNewRow(peeked);
     }
+    if (matcher.getFilter() != null) {
+      // Each next() may serve a different call.
+      matcher.setPhaseTimer(CallPhaseTimer.current());
+    }
 
     // Clear progress away unless invoker has indicated it should be kept.
     if (!scannerContext.getKeepProgress()) scannerContext.clearProgress();
@@ -835,7 +918,11 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
   }
 
   /**
-   * Seek storefiles in parallel to optimize IO latency as much as possible
+   * Seek storefiles in parallel to optimize IO latency as much as possible. Memstore scanners
+   * and store files whose block for the key is already cached are seeked in the calling
+   * thread, since handing them off would cost more than the seek. Of the remaining files the
+   * calling thread seeks one itself, and the others are seeked on the shared
+   * RS_PARALLEL_SEEK pool.
    * @param scanners the list {@link KeyValueScanner}s to be read from
    * @param kv the KeyValue on which the operation is being requested
    * @throws IOException
@@ -843,33 +930,65 @@ public class StoreScanner extends NonReversedNonLazyKeyValueScanner
   private void parallelSeek(final List<? extends KeyValueScanner>
       scanners, final Cell kv) throws IOException {
     if (scanners.isEmpty()) return;
-    int storeFileScannerCount = scanners.size();
-    CountDownLatch latch = new CountDownLatch(storeFileScannerCount);
-    List<ParallelSeekHandler> handlers = 
-        new ArrayList<ParallelSeekHandler>(storeFileScannerCount);
+    // The row size limit is checked as in the serial seek: before each seek done here, and
+    // once more after the cold scanners, which are seeked together, are all done.
+    long totalScannersSoughtBytes = 0;
+    List<KeyValueScanner> coldScanners = null;
     for (KeyValueScanner scanner : scanners) {
-      if (scanner instanceof StoreFileScanner) {
-        ParallelSeekHandler seekHandler = new ParallelSeekHandler(scanner, kv,
-          this.readPt, latch);
-        executor.submit(seekHandler);
-        handlers.add(seekHandler);
+      if (scanner instanceof StoreFileScanner && !((StoreFileScanner) scanner).isSeekCached(kv)) {
+        if (coldScanners == null) {
+          coldScanners = new ArrayList<KeyValueScanner>(scanners.size());
+        }
+        coldScanners.add(scanner);
       } else {
+        checkRowSize(totalScannersSoughtBytes);
         scanner.seek(kv);
-        latch.countDown();
+        totalScannersSoughtBytes += soughtBytes(scanner);
       }
     }
+    if (coldScanners == null) return;
+    checkRowSize(totalScannersSoughtBytes);
+    if (coldScanners.size() == 1) {
+      coldScanners.get(0).seek(kv);
+      return;
+    }
+
+    int handlerCount = coldScanners.size() - 1;
+    CountDownLatch latch = new CountDownLatch(handlerCount);
+    List<ParallelSeekHandler> handlers = new ArrayList<ParallelSeekHandler>(handlerCount);
+    for (int i = 1; i < coldScanners.size(); i++) {
+      ParallelSeekHandler seekHandler = new ParallelSeekHandler(coldScanners.get(i), kv,
+        this.readPt, latch);
+      executor.submit(seekHandler);
+      handlers.add(seekHandler);
+    }
 
+    IOException callerErr = null;
+    try {
+      coldScanners.get(0).seek(kv);
+    } catch (IOException ioe) {
+      // Still wait for the handlers, they use scanners the caller will close.
+      callerErr = ioe;
+    }
     try {
       latch.await();
     } catch (InterruptedException ie) {
       throw (InterruptedIOException)new InterruptedIOException().initCause(ie);
     }
+    if (callerErr != null) {
+      throw callerErr;
+    }
 
     for (ParallelSeekHandler handler : handlers) {
       if (handler.getErr() != null) {
         throw new IOException(handler.getErr());
       }
     }
+    // As in the serial seek, the check covers what was sought before the last seek
+    for (int i = 0; i < coldScanners.size() - 1; i++) {
+      totalScannersSoughtBytes += soughtBytes(coldScanners.get(i));
+    }
+    checkRowSize(totalScannersSoughtBytes);
   }
 
   /**
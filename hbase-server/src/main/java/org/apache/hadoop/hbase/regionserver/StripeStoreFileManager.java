@@ -39,6 +39,7 @@ import org.apache.hadoop.hbase.HConstants;
 import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.KeyValue.KeyOnlyKeyValue;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.io.TimeRange;
 import org.apache.hadoop.hbase.regionserver.compactions.StripeCompactionPolicy;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.hadoop.hbase.util.ConcatenatedLists;
@@ -296,6 +297,14 @@ public class StripeStoreFileManager
     return result;
   }
 
+  @Override
+  public Collection<StoreFile> getFilesForScanOrGet(
+      boolean isGet, byte[] startRow, byte[] stopRow, TimeRange timeRange) {
+    // Stripes already narrow the files down by key, the rest are few enough to check directly.
+    return StoreFileTimeRangeIndex.filter(
+      getFilesForScanOrGet(isGet, startRow, stopRow), timeRange);
+  }
+
   @Override
   public void addCompactionResults(
     Collection<StoreFile> compactedFiles, Collection<StoreFile> results) throws IOException {
@@ -954,26 +963,28 @@ public class StripeStoreFileManager
   }
 
   @Override
-  public Collection<StoreFile> getUnneededFiles(long maxTs, List<StoreFile> filesCompacting) {
+  public Collection<StoreFile> getUnneededFiles(long maxTs, long now,
+      List<StoreFile> filesCompacting) {
     // 1) We can never get rid of the last file which has the maximum seqid in a stripe.
     // 2) Files that are not the latest can't become one due to (1), so the rest are fair game.
     State state = this.state;
     Collection<StoreFile> expiredStoreFiles = null;
     for (ImmutableList<StoreFile> stripe : state.stripeFiles) {
-      expiredStoreFiles = findExpiredFiles(stripe, maxTs, filesCompacting, expiredStoreFiles);
+      expiredStoreFiles =
+          findExpiredFiles(stripe, maxTs, now, filesCompacting, expiredStoreFiles);
     }
-    return findExpiredFiles(state.level0Files, maxTs, filesCompacting, expiredStoreFiles);
+    return findExpiredFiles(state.level0Files, maxTs, now, filesCompacting, expiredStoreFiles);
   }
 
   private Collection<StoreFile> findExpiredFiles(ImmutableList<StoreFile> stripe, long maxTs,
-      List<StoreFile> filesCompacting, Collection<StoreFile> expiredStoreFiles) {
+      long now, List<StoreFile> filesCompacting, Collection<StoreFile> expiredStoreFiles) {
     // Order by seqnum is reversed.
     for (int i = 1; i < stripe.size(); ++i) {
       StoreFile sf = stripe.get(i);
-      long fileTs = sf.getReader().getMaxTimestamp();
-      if (fileTs < maxTs && !filesCompacting.contains(sf)) {
-        LOG.info("Found an expired store file: " + sf.getPath()
-            + " whose maxTimeStamp is " + fileTs + ", which is below " + maxTs);
+      if (sf.getReader().isExpired(maxTs, now) && !filesCompacting.contains(sf)) {
+        LOG.info("Found an expired store file: " + sf.getPath() + " whose maxTimeStamp is "
+            + sf.getReader().getMaxTimestamp() + " and maxExpiryTimeStamp is "
+            + sf.getReader().getMaxExpiryTimestamp() + ", maxTs=" + maxTs + ", now=" + now);
         if (expiredStoreFiles == null) {
           expiredStoreFiles = new ArrayList<StoreFile>();
         }
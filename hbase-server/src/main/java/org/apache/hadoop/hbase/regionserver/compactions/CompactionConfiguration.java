@@ -62,6 +62,18 @@ public class CompactionConfiguration {
   public static final String HBASE_HSTORE_MIN_LOCALITY_TO_SKIP_MAJOR_COMPACT =
       "hbase.hstore.min.locality.to.skip.major.compact";
 
+  /*
+   * The following configuration is for DateTieredCompactionPolicy
+   */
+  public static final String MAX_AGE_MILLIS_KEY =
+      "hbase.hstore.compaction.date.tiered.max.storefile.age.millis";
+  public static final String BASE_WINDOW_MILLIS_KEY =
+      "hbase.hstore.compaction.date.tiered.base.window.millis";
+  public static final String WINDOWS_PER_TIER_KEY =
+      "hbase.hstore.compaction.date.tiered.windows.per.tier";
+  public static final String INCOMING_WINDOW_MIN_KEY =
+      "hbase.hstore.compaction.date.tiered.incoming.window.min";
+
   Configuration conf;
   StoreConfigInformation storeConfigInfo;
 
@@ -76,6 +88,10 @@ public class CompactionConfiguration {
   private final long majorCompactionPeriod;
   private final float majorCompactionJitter;
   private final float minLocalityToForceCompact;
+  private final long maxStoreFileAgeMillis;
+  private final long baseWindowMillis;
+  private final int windowsPerTier;
+  private final int incomingWindowMin;
 
   CompactionConfiguration(Configuration conf, StoreConfigInformation storeConfigInfo) {
     this.conf = conf;
@@ -96,6 +112,11 @@ public class CompactionConfiguration {
     // Make it 0.5 so jitter has us fall evenly either side of when the compaction should run
     majorCompactionJitter = conf.getFloat("hbase.hregion.majorcompaction.jitter", 0.50F);
     minLocalityToForceCompact = conf.getFloat(HBASE_HSTORE_MIN_LOCALITY_TO_SKIP_MAJOR_COMPACT, 0f);
+
+    maxStoreFileAgeMillis = conf.getLong(MAX_AGE_MILLIS_KEY, Long.MAX_VALUE);
+    baseWindowMillis = conf.getLong(BASE_WINDOW_MILLIS_KEY, 3600000 * 6);
+    windowsPerTier = conf.getInt(WINDOWS_PER_TIER_KEY, 4);
+    incomingWindowMin = conf.getInt(INCOMING_WINDOW_MIN_KEY, 6);
     LOG.info(this);
   }
 
@@ -103,7 +124,9 @@ public class CompactionConfiguration {
   public String toString() {
     return String.format(
       "size [%d, %d); files [%d, %d); ratio %f; off-peak ratio %f; throttle point %d;"
-      + " major period %d, major jitter %f, min locality to compact %f",
+      + " major period %d, major jitter %f, min locality to compact %f;"
+      + " tiered compaction: max_age %d, base window in milliseconds %d, windows per tier %d,"
+      + " incoming window min %d",
       minCompactSize,
       maxCompactSize,
       minFilesToCompact,
@@ -113,7 +136,11 @@ public class CompactionConfiguration {
       throttlePoint,
       majorCompactionPeriod,
       majorCompactionJitter,
-      minLocalityToForceCompact);
+      minLocalityToForceCompact,
+      maxStoreFileAgeMillis,
+      baseWindowMillis,
+      windowsPerTier,
+      incomingWindowMin);
   }
 
   /**
@@ -189,4 +216,34 @@ public class CompactionConfiguration {
   public float getMinLocalityToForceCompact() {
     return minLocalityToForceCompact;
   }
+
+  /**
+   * @return Store files whose newest cell is older than this are no longer compacted by
+   * the date tiered compaction policy.
+   */
+  public long getMaxStoreFileAgeMillis() {
+    return maxStoreFileAgeMillis;
+  }
+
+  /**
+   * @return Size of the newest time window of the date tiered compaction policy.
+   */
+  public long getBaseWindowMillis() {
+    return baseWindowMillis;
+  }
+
+  /**
+   * @return Number of windows of one size before the date tiered compaction policy moves
+   * on to windows this many times larger.
+   */
+  public int getWindowsPerTier() {
+    return windowsPerTier;
+  }
+
+  /**
+   * @return Minimum number of files to compact in the window that receives new data.
+   */
+  public int getIncomingWindowMin() {
+    return incomingWindowMin;
+  }
 }
@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver.compactions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.HColumnDescriptor;
+import org.apache.hadoop.hbase.HRegionInfo;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.regionserver.StoreFile;
+
+/**
+ * A compaction handed to a {@link CompactionService}: the region, the column family descriptor,
+ * the paths of the selected store files and the directory the output files go to. These are
+ * all plain descriptors that a service running in another process can be sent.
+ * <p>
+ * The job also carries the {@link CompactionContext} the store selected the files with, for
+ * services that run the compaction in the regionserver. It is not part of what a remote
+ * service receives.
+ */
+@InterfaceAudience.Private
+public class CompactionJob {
+  private final HRegionInfo regionInfo;
+  private final HColumnDescriptor family;
+  private final List<Path> files;
+  private final Path outputDir;
+  private final boolean major;
+  private final CompactionContext context;
+
+  /**
+   * @param regionInfo the region of the store
+   * @param family the column family descriptor of the store
+   * @param outputDir where the output files are written, the region's temporary directory
+   * @param context the compaction, with a selection
+   */
+  public CompactionJob(HRegionInfo regionInfo, HColumnDescriptor family, Path outputDir,
+      CompactionContext context) {
+    CompactionRequest request = context.getRequest();
+    List<Path> files = new ArrayList<Path>(request.getFiles().size());
+    for (StoreFile sf : request.getFiles()) {
+      files.add(sf.getPath());
+    }
+    this.regionInfo = regionInfo;
+    this.family = family;
+    this.files = Collections.unmodifiableList(files);
+    this.outputDir = outputDir;
+    this.major = request.isMajor();
+    this.context = context;
+  }
+
+  public HRegionInfo getRegionInfo() {
+    return regionInfo;
+  }
+
+  public HColumnDescriptor getFamily() {
+    return family;
+  }
+
+  /**
+   * @return paths of the store files to compact
+   */
+  public List<Path> getFiles() {
+    return files;
+  }
+
+  public Path getOutputDir() {
+    return outputDir;
+  }
+
+  /**
+   * @return true if the compaction is major, so delete markers and expired cells are dropped
+   */
+  public boolean isMajor() {
+    return major;
+  }
+
+  /**
+   * @return the compaction as the store selected it; only usable in the regionserver
+   */
+  public CompactionContext getContext() {
+    return context;
+  }
+
+  @Override
+  public String toString() {
+    return "CompactionJob{region=" + regionInfo.getEncodedName() + ", family="
+        + family.getNameAsString() + ", files=" + files.size() + ", major=" + major + "}";
+  }
+}
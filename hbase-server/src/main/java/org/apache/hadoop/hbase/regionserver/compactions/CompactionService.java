@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver.compactions;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+
+/**
+ * Runs compactions selected by a store. An implementation may run the compaction in the
+ * regionserver, as {@link InProcessCompactionService} does, or hand it to a compaction service
+ * running elsewhere so compaction load does not compete with serving requests. Either way the
+ * output files are written to the job's output directory and returned; the store then moves
+ * them into place, writes the compaction marker to the WAL and swaps its store files, just as
+ * for a compaction run locally.
+ * <p>
+ * A {@link CompactionJob} describes the compaction with descriptors that can be sent to
+ * another process: the selected file paths, the column family descriptor and the output
+ * directory. The store-side context it also carries is only for in-process implementations.
+ * <p>
+ * A regionserver creates one instance from its own configuration and shares it between all of
+ * its stores, so implementations must be thread safe. A table or column family that sets
+ * {@link CompactionServiceFactory#HBASE_COMPACTION_SERVICE_KEY} to another class gets an
+ * instance of its own.
+ * @see CompactionServiceFactory
+ */
+@InterfaceAudience.Private
+public interface CompactionService {
+
+  /**
+   * Run a compaction and write its output.
+   * @param job the compaction to run
+   * @param throughputController limits the rate the compaction writes at
+   * @return paths of the new store files, in the job's output directory
+   */
+  List<Path> compact(CompactionJob job, CompactionThroughputController throughputController)
+      throws IOException;
+}
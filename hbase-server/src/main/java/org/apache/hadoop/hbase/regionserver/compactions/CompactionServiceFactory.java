@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver.compactions;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HBaseInterfaceAudience;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.util.ReflectionUtils;
+
+@InterfaceAudience.LimitedPrivate(HBaseInterfaceAudience.CONFIG)
+public class CompactionServiceFactory {
+
+  private static final Log LOG = LogFactory.getLog(CompactionServiceFactory.class);
+
+  /**
+   * The {@link CompactionService} class. The regionserver's value picks the instance its stores
+   * share; a table or column family that sets a different class gets its own instance.
+   */
+  public static final String HBASE_COMPACTION_SERVICE_KEY =
+      "hbase.regionserver.compaction.service.class";
+
+  private static final Class<? extends CompactionService>
+      DEFAULT_COMPACTION_SERVICE_CLASS = InProcessCompactionService.class;
+
+  public static CompactionService create(Configuration conf) {
+    Class<? extends CompactionService> clazz = getCompactionServiceClass(conf);
+    return ReflectionUtils.newInstance(clazz, conf);
+  }
+
+  public static Class<? extends CompactionService> getCompactionServiceClass(
+      Configuration conf) {
+    String className =
+        conf.get(HBASE_COMPACTION_SERVICE_KEY, DEFAULT_COMPACTION_SERVICE_CLASS.getName());
+    try {
+      return Class.forName(className).asSubclass(CompactionService.class);
+    } catch (Exception e) {
+      LOG.warn(
+        "Unable to load configured compaction service '" + className
+            + "', load default compaction service "
+            + DEFAULT_COMPACTION_SERVICE_CLASS.getName() + " instead", e);
+      return DEFAULT_COMPACTION_SERVICE_CLASS;
+    }
+  }
+}
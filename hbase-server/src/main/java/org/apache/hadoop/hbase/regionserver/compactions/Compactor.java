@@ -31,10 +31,13 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.KeyValueUtil;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.io.compress.BlockCompression;
 import org.apache.hadoop.hbase.io.compress.Compression;
+import org.apache.hadoop.hbase.io.compress.DictionaryTrainer;
 import org.apache.hadoop.hbase.io.hfile.HFile;
 import org.apache.hadoop.hbase.io.hfile.HFile.FileInfo;
 import org.apache.hadoop.hbase.regionserver.HStore;
@@ -56,6 +59,22 @@ import org.apache.hadoop.util.StringUtils.TraditionalBinaryPrefix;
 @InterfaceAudience.Private
 public abstract class Compactor {
   private static final Log LOG = LogFactory.getLog(Compactor.class);
+
+  /**
+   * Whether compactions train a dictionary to compress the data blocks of the files of the
+   * family against. Only used with GZ compaction compression.
+   */
+  public static final String COMPRESSION_DICTIONARY_ENABLED_KEY =
+      "hbase.hstore.compression.dictionary.enabled";
+  /** Most bytes a trained compression dictionary may have. */
+  public static final String COMPRESSION_DICTIONARY_SIZE_KEY =
+      "hbase.hstore.compression.dictionary.size";
+  public static final int DEFAULT_COMPRESSION_DICTIONARY_SIZE = 32 * 1024;
+  /** How many bytes of values to sample from the files to compact for training. */
+  public static final String COMPRESSION_DICTIONARY_SAMPLE_SIZE_KEY =
+      "hbase.hstore.compression.dictionary.sample.size";
+  public static final int DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_SIZE = 1024 * 1024;
+
   protected CompactionProgress progress;
   protected Configuration conf;
   protected Store store;
@@ -190,6 +209,53 @@ public abstract class Compactor {
       smallestReadPoint);
   }
 
+  /**
+   * Trains a compression dictionary on the values at the start of each of the files to compact,
+   * and hands it to the store for the files written from now on, this compaction's included.
+   * Does nothing unless enabled for the family and supported by its compaction compression.
+   * @param filesToCompact Files.
+   * @param smallestReadPoint Smallest MVCC read point.
+   */
+  protected void trainCompressionDictionary(Collection<StoreFile> filesToCompact,
+      long smallestReadPoint) throws IOException {
+    if (!conf.getBoolean(COMPRESSION_DICTIONARY_ENABLED_KEY, false)
+        || !BlockCompression.supportsDictionary(compactionCompression)
+        || filesToCompact.isEmpty()) {
+      return;
+    }
+    long sampleSize = conf.getInt(COMPRESSION_DICTIONARY_SAMPLE_SIZE_KEY,
+      DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_SIZE);
+    long fileSampleSize = Math.max(1, sampleSize / filesToCompact.size());
+    List<byte[]> samples = new ArrayList<byte[]>();
+    List<StoreFileScanner> scanners = StoreFileScanner.getScannersForStoreFiles(filesToCompact,
+      false, true, true, smallestReadPoint);
+    try {
+      for (StoreFileScanner scanner : scanners) {
+        scanner.seek(KeyValue.LOWESTKEY);
+        long sampled = 0;
+        Cell cell;
+        while (sampled < fileSampleSize && (cell = scanner.next()) != null) {
+          if (cell.getValueLength() > 0) {
+            samples.add(CellUtil.cloneValue(cell));
+            sampled += cell.getValueLength();
+          }
+        }
+      }
+    } finally {
+      for (StoreFileScanner scanner : scanners) {
+        scanner.close();
+      }
+    }
+    byte[] dictionary = DictionaryTrainer.train(samples, conf.getInt(
+      COMPRESSION_DICTIONARY_SIZE_KEY, DEFAULT_COMPRESSION_DICTIONARY_SIZE));
+    store.setCompressionDictionary(dictionary);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Trained a compression dictionary of "
+          + (dictionary == null ? 0 : dictionary.length) + " bytes from " + samples.size()
+          + " values for " + store);
+    }
+  }
+
   protected long getSmallestReadPoint() {
     return store.getSmallestReadPoint();
   }
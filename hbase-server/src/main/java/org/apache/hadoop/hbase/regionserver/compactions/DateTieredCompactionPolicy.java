@@ -0,0 +1,225 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hadoop.hbase.regionserver.compactions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+import org.apache.hadoop.hbase.regionserver.StoreConfigInformation;
+import org.apache.hadoop.hbase.regionserver.StoreFile;
+import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * A compaction policy for time series data. Store files are grouped into time windows by
+ * the timestamp of their newest cell, and compactions are only selected within a window, so
+ * old data is not rewritten again and again as new data comes in. The newest window is
+ * {@link CompactionConfiguration#getBaseWindowMillis()} wide; after
+ * {@link CompactionConfiguration#getWindowsPerTier()} windows of one size the windows become
+ * that many times wider. Files whose newest cell is older than
+ * {@link CompactionConfiguration#getMaxStoreFileAgeMillis()} are never compacted again.
+ * Within a window the ratio based selection of {@link RatioBasedCompactionPolicy} applies.
+ * <p>
+ * Periodic major compactions are disabled since they would merge all windows into one file;
+ * a user requested major compaction still compacts all files.
+ * <p>
+ * Enable it by setting {@link org.apache.hadoop.hbase.regionserver.DefaultStoreEngine
+ * #DEFAULT_COMPACTION_POLICY_CLASS_KEY} to this class, either in the site configuration or
+ * in the table or column family descriptor.
+ */
+@InterfaceAudience.Private
+public class DateTieredCompactionPolicy extends RatioBasedCompactionPolicy {
+  private static final Log LOG = LogFactory.getLog(DateTieredCompactionPolicy.class);
+
+  public DateTieredCompactionPolicy(Configuration conf,
+      StoreConfigInformation storeConfigInfo) {
+    super(conf, storeConfigInfo);
+  }
+
+  @Override
+  public boolean isMajorCompaction(final Collection<StoreFile> filesToCompact)
+      throws IOException {
+    return false;
+  }
+
+  @Override
+  public boolean needsCompaction(final Collection<StoreFile> storeFiles,
+      final List<StoreFile> filesCompacting) {
+    return needsCompaction(storeFiles, filesCompacting, EnvironmentEdgeManager.currentTime());
+  }
+
+  @VisibleForTesting
+  boolean needsCompaction(final Collection<StoreFile> storeFiles,
+      final List<StoreFile> filesCompacting, long now) {
+    if (!super.needsCompaction(storeFiles, filesCompacting)) {
+      return false;
+    }
+    List<StoreFile> candidates = preSelectCompactionForCoprocessor(storeFiles, filesCompacting);
+    List<ArrayList<StoreFile>> buckets = partitionFilesToWindows(candidates, now);
+    for (int i = 0; i < buckets.size(); i++) {
+      if (buckets.get(i).size() >= getMinFilesInWindow(i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  ArrayList<StoreFile> applyCompactionPolicy(ArrayList<StoreFile> candidates,
+      boolean mayUseOffPeak, boolean mayBeStuck) throws IOException {
+    return applyCompactionPolicy(candidates, mayUseOffPeak, mayBeStuck,
+      EnvironmentEdgeManager.currentTime());
+  }
+
+  @VisibleForTesting
+  ArrayList<StoreFile> applyCompactionPolicy(ArrayList<StoreFile> candidates,
+      boolean mayUseOffPeak, boolean mayBeStuck, long now) throws IOException {
+    if (candidates.isEmpty()) {
+      return candidates;
+    }
+    List<ArrayList<StoreFile>> buckets = partitionFilesToWindows(candidates, now);
+    // Compact the newest window that has enough files, ratio based within the window.
+    for (int i = 0; i < buckets.size(); i++) {
+      ArrayList<StoreFile> bucket = buckets.get(i);
+      int minFiles = getMinFilesInWindow(i);
+      if (bucket.size() < minFiles) {
+        continue;
+      }
+      ArrayList<StoreFile> selection = super.applyCompactionPolicy(bucket, mayUseOffPeak, false);
+      if (selection.size() >= minFiles) {
+        LOG.debug("Date tiered compaction has selected " + selection.size()
+          + " files from window " + i + " of " + buckets.size());
+        return selection;
+      }
+    }
+    if (mayBeStuck) {
+      // Too many files; compacting across windows is better than blocking updates.
+      ArrayList<StoreFile> notTooOld = new ArrayList<StoreFile>(candidates.size());
+      for (int i = buckets.size() - 1; i >= 0; i--) {
+        notTooOld.addAll(buckets.get(i));
+      }
+      return super.applyCompactionPolicy(notTooOld, mayUseOffPeak, true);
+    }
+    return new ArrayList<StoreFile>(0);
+  }
+
+  private int getMinFilesInWindow(int windowIndex) {
+    return windowIndex == 0 ? comConf.getIncomingWindowMin() : comConf.getMinFilesToCompact();
+  }
+
+  /**
+   * Group the files into time windows, newest window first. Files older than the max store
+   * file age are left out. A file is placed by the newest timestamp of itself and all older
+   * files (by sequence id), so each window holds a contiguous run of files even when data
+   * arrives out of order.
+   * @param files store files, ordered from oldest to newest
+   * @param now current time in milliseconds
+   * @return the incoming window followed by the older non-empty windows, newest first; files
+   *   in each ordered from oldest to newest
+   */
+  private List<ArrayList<StoreFile>> partitionFilesToWindows(List<StoreFile> files, long now) {
+    long[] maxTimestamps = new long[files.size()];
+    long maxTimestamp = Long.MIN_VALUE;
+    for (int i = 0; i < files.size(); i++) {
+      StoreFile.Reader reader = files.get(i).getReader();
+      // A file without time range information is treated as new.
+      long fileMaxTimestamp = reader == null ? Long.MAX_VALUE : reader.getMaxTimestamp();
+      maxTimestamp = Math.max(maxTimestamp, fileMaxTimestamp);
+      maxTimestamps[i] = maxTimestamp;
+    }
+
+    long oldestToCompact = now - comConf.getMaxStoreFileAgeMillis();
+    List<ArrayList<StoreFile>> buckets = new ArrayList<ArrayList<StoreFile>>();
+    Window window = new Window(comConf.getBaseWindowMillis(), now / comConf.getBaseWindowMillis(),
+      comConf.getWindowsPerTier());
+    // The first bucket is always the incoming window, even if it is empty.
+    ArrayList<StoreFile> bucket = new ArrayList<StoreFile>();
+    for (int i = files.size() - 1; i >= 0; i--) {
+      if (maxTimestamps[i] < oldestToCompact) {
+        // All older files are too old as well.
+        break;
+      }
+      if (window.compareToTimestamp(maxTimestamps[i]) > 0) {
+        buckets.add(reverse(bucket));
+        do {
+          window = window.nextWindow();
+        } while (window.compareToTimestamp(maxTimestamps[i]) > 0);
+        bucket = new ArrayList<StoreFile>();
+      }
+      bucket.add(files.get(i));
+    }
+    buckets.add(reverse(bucket));
+    return buckets;
+  }
+
+  private static ArrayList<StoreFile> reverse(ArrayList<StoreFile> newestFirst) {
+    ArrayList<StoreFile> oldestFirst = new ArrayList<StoreFile>(newestFirst.size());
+    for (int i = newestFirst.size() - 1; i >= 0; i--) {
+      oldestFirst.add(newestFirst.get(i));
+    }
+    return oldestFirst;
+  }
+
+  /**
+   * A time window [divPosition * windowMillis, (divPosition + 1) * windowMillis).
+   * The first window of a tier is always aligned to the size of the next tier's windows,
+   * so windows never overlap when moving on to a wider tier.
+   */
+  private static final class Window {
+    private final long windowMillis;
+    private final long divPosition;
+    private final int windowsPerTier;
+
+    Window(long windowMillis, long divPosition, int windowsPerTier) {
+      this.windowMillis = windowMillis;
+      this.divPosition = divPosition;
+      this.windowsPerTier = windowsPerTier;
+    }
+
+    /**
+     * @return a negative number if the window is older than the timestamp, zero if the
+     *   timestamp is within the window and a positive number if the window is newer
+     */
+    int compareToTimestamp(long timestamp) {
+      long pos = timestamp < 0 ? (timestamp + 1) / windowMillis - 1 : timestamp / windowMillis;
+      return divPosition == pos ? 0 : divPosition < pos ? -1 : 1;
+    }
+
+    /**
+     * @return the window just before this one; wider if this one is the first of a tier
+     *   and windows of the next tier are not out of the range of a long
+     */
+    Window nextWindow() {
+      if (divPosition % windowsPerTier > 0 || windowsPerTier < 2
+          || windowMillis > Long.MAX_VALUE / windowsPerTier) {
+        return new Window(windowMillis, divPosition - 1, windowsPerTier);
+      }
+      return new Window(windowMillis * windowsPerTier, divPosition / windowsPerTier - 1,
+        windowsPerTier);
+    }
+  }
+}
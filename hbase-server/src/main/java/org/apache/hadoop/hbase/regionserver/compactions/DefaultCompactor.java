@@ -99,6 +99,7 @@ public class DefaultCompactor extends Compactor {
           cleanSeqId = true;
         }
 
+        trainCompressionDictionary(request.getFiles(), smallestReadPoint);
         // When all MVCC readpoints are 0, don't write them.
         // See HBASE-8166, HBASE-12600, and HBASE-13389.
         writer = store.createWriterInTmp(fd.maxKeyCount, this.compactionCompression, true,
@@ -118,6 +118,7 @@ public class StripeCompactor extends Compactor {
       }
 
       final boolean needMvcc = fd.maxMVCCReadpoint > 0;
+      trainCompressionDictionary(filesToCompact, smallestReadPoint);
 
       final Compression.Algorithm compression = store.getFamily().getCompactionCompressionType();
       StripeMultiFileWriter.WriterFactory factory = new StripeMultiFileWriter.WriterFactory() {
@@ -21,8 +21,11 @@ package org.apache.hadoop.hbase.regionserver.wal;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.hbase.io.TagCompressionContext;
+import org.apache.hadoop.hbase.io.compress.BlockCompression;
+import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.io.util.Dictionary;
 
 /**
@@ -34,6 +37,13 @@ public class CompressionContext {
   static final String ENABLE_WAL_TAGS_COMPRESSION = 
       "hbase.regionserver.wal.tags.enablecompression";
 
+  /**
+   * Compression algorithm for the values of the cells of a WAL entry, "none" to write them
+   * as they are. Only used together with the dictionary compression of the WAL.
+   */
+  static final String WAL_VALUE_COMPRESSION_TYPE =
+      "hbase.regionserver.wal.value.compression.type";
+
   // visible only for WALKey, until we move everything into o.a.h.h.wal
   public final Dictionary regionDict;
   public final Dictionary tableDict;
@@ -42,10 +52,23 @@ public class CompressionContext {
   final Dictionary rowDict;
   // Context used for compressing tags
   TagCompressionContext tagCompressionContext = null;
+  // Algorithm the values of each entry are compressed with, null if they are not
+  final Compression.Algorithm valueCompression;
 
   public CompressionContext(Class<? extends Dictionary> dictType, boolean recoveredEdits,
       boolean hasTagCompression) throws SecurityException, NoSuchMethodException,
       InstantiationException, IllegalAccessException, InvocationTargetException {
+    this(dictType, recoveredEdits, hasTagCompression, null);
+  }
+
+  public CompressionContext(Class<? extends Dictionary> dictType, boolean recoveredEdits,
+      boolean hasTagCompression, Compression.Algorithm valueCompression)
+      throws SecurityException, NoSuchMethodException, InstantiationException,
+      IllegalAccessException, InvocationTargetException {
+    if (valueCompression != null && !BlockCompression.isSupported(valueCompression)) {
+      throw new IllegalArgumentException("Unsupported WAL value compression " + valueCompression);
+    }
+    this.valueCompression = valueCompression;
     Constructor<? extends Dictionary> dictConstructor =
         dictType.getConstructor();
     regionDict = dictConstructor.newInstance();
@@ -69,6 +92,22 @@ public class CompressionContext {
     }
   }
 
+  /**
+   * @return the algorithm for compressing the values of WAL entries configured by
+   *   {@link #WAL_VALUE_COMPRESSION_TYPE}, or null if values are not compressed
+   */
+  static Compression.Algorithm getValueCompression(Configuration conf) {
+    Compression.Algorithm algo = Compression.getCompressionAlgorithmByName(
+      conf.get(WAL_VALUE_COMPRESSION_TYPE, Compression.Algorithm.NONE.getName()));
+    if (algo == Compression.Algorithm.NONE) {
+      return null;
+    }
+    if (!BlockCompression.isSupported(algo)) {
+      throw new IllegalArgumentException("Unsupported WAL value compression " + algo);
+    }
+    return algo;
+  }
+
   void clear() {
     regionDict.clear();
     tableDict.clear();
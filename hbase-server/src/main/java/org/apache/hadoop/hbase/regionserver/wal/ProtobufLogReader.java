@@ -37,6 +37,7 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.hbase.codec.Codec;
 import org.apache.hadoop.hbase.HBaseInterfaceAudience;
 import org.apache.hadoop.hbase.io.LimitInputStream;
+import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.protobuf.generated.WALProtos;
 import org.apache.hadoop.hbase.protobuf.generated.WALProtos.WALHeader.Builder;
 import org.apache.hadoop.hbase.protobuf.generated.WALProtos.WALKey;
@@ -79,6 +80,7 @@ public class ProtobufLogReader extends ReaderBase {
   protected WALCellCodec.ByteStringUncompressor byteStringUncompressor;
   protected boolean hasCompression = false;
   protected boolean hasTagCompression = false;
+  protected Compression.Algorithm valueCompression = null;
   // walEditsStopOffset is the position of the last byte to read. After reading the last WALEdit entry
   // in the wal, the inputstream's position is equal to walEditsStopOffset.
   private long walEditsStopOffset;
@@ -207,6 +209,14 @@ public class ProtobufLogReader extends ReaderBase {
       WALProtos.WALHeader header = builder.build();
       this.hasCompression = header.hasHasCompression() && header.getHasCompression();
       this.hasTagCompression = header.hasHasTagCompression() && header.getHasTagCompression();
+      if (header.hasValueCompressionAlgorithm()) {
+        Compression.Algorithm[] algos = Compression.Algorithm.values();
+        int ordinal = header.getValueCompressionAlgorithm();
+        if (ordinal < 0 || ordinal >= algos.length) {
+          throw new IOException("Unknown value compression algorithm " + ordinal);
+        }
+        this.valueCompression = algos[ordinal];
+      }
     }
     this.inputStream = stream;
     this.walEditsStopOffset = this.fileLength;
@@ -305,6 +315,11 @@ public class ProtobufLogReader extends ReaderBase {
     return this.hasTagCompression;
   }
 
+  @Override
+  protected Compression.Algorithm getValueCompression() {
+    return this.valueCompression;
+  }
+
   @Override
   protected boolean readNext(Entry entry) throws IOException {
     while (true) {
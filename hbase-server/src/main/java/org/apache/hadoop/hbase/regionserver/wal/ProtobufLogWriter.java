@@ -91,9 +91,15 @@ public class ProtobufLogWriter extends WriterBase {
     output.write(ProtobufLogReader.PB_WAL_MAGIC);
     boolean doTagCompress = doCompress
         && conf.getBoolean(CompressionContext.ENABLE_WAL_TAGS_COMPRESSION, true);
-    buildWALHeader(conf,
-        WALHeader.newBuilder().setHasCompression(doCompress).setHasTagCompression(doTagCompress))
-        .writeDelimitedTo(output);
+    WALHeader.Builder headerBuilder =
+        WALHeader.newBuilder().setHasCompression(doCompress).setHasTagCompression(doTagCompress);
+    if (doCompress && compressionContext.valueCompression != null) {
+      headerBuilder.setValueCompressionAlgorithm(compressionContext.valueCompression.ordinal());
+      // Versions that do not know the field above would misread the cells; they fail to load
+      // this codec instead
+      headerBuilder.setCellCodecClsName(ValueCompressedWALCellCodec.class.getName());
+    }
+    buildWALHeader(conf, headerBuilder).writeDelimitedTo(output);
 
     initAfterHeader(doCompress);
 
@@ -121,6 +127,9 @@ public class ProtobufLogWriter extends WriterBase {
       // cellEncoder must assume little about the stream, since we write PB and cells in turn.
       cellEncoder.write(cell);
     }
+    if (cellEncoder instanceof WALCellCodec.EntryEncoder) {
+      ((WALCellCodec.EntryEncoder) cellEncoder).endEntry();
+    }
   }
 
   @Override
@@ -132,6 +141,11 @@ public class ProtobufLogWriter extends WriterBase {
       } catch (NullPointerException npe) {
         // Can get a NPE coming up from down in DFSClient$DFSOutputStream#close
         LOG.warn(npe);
+      } finally {
+        // Returns the pooled value compressor even if the stream failed to close
+        if (cellEncoder instanceof WALCellCodec.EntryEncoder) {
+          ((WALCellCodec.EntryEncoder) cellEncoder).close();
+        }
       }
       this.output = null;
     }
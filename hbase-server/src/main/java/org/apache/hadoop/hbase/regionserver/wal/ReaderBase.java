@@ -30,6 +30,7 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hbase.HBaseInterfaceAudience;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.io.util.LRUDictionary;
 import org.apache.hadoop.hbase.util.FSUtils;
 
@@ -71,7 +72,7 @@ public abstract class ReaderBase implements DefaultWALProvider.Reader {
       try {
         if (compressionContext == null) {
           compressionContext = new CompressionContext(LRUDictionary.class,
-              FSUtils.isRecoveredEdits(path), hasTagCompression());
+              FSUtils.isRecoveredEdits(path), hasTagCompression(), getValueCompression());
         } else {
           compressionContext.clear();
         }
@@ -158,6 +159,13 @@ public abstract class ReaderBase implements DefaultWALProvider.Reader {
    */
   protected abstract boolean hasTagCompression();
 
+  /**
+   * @return the algorithm the values of this log are compressed with, null if they are not
+   */
+  protected Compression.Algorithm getValueCompression() {
+    return null;
+  }
+
   /**
    * Read next entry.
    * @param e The entry to read into.
@@ -84,6 +84,12 @@ public class SecureProtobufLogWriter extends ProtobufLogWriter {
     return super.buildWALHeader(conf, builder);
   }
 
+  @Override
+  protected boolean supportsValueCompression(Configuration conf) {
+    // The header always names SecureWALCellCodec
+    return false;
+  }
+
   @Override
   protected void initAfterHeader(boolean doCompress) throws IOException {
     if (conf.getBoolean(HConstants.ENABLE_WAL_ENCRYPTION, false) && encryptor != null) {
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver.wal;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.classification.InterfaceAudience;
+
+/**
+ * The {@link WALCellCodec} named in the header of WALs whose cell values are compressed (see
+ * {@link CompressionContext#WAL_VALUE_COMPRESSION_TYPE}). It reads and writes the same format as
+ * {@link WALCellCodec}; its only purpose is the distinct name. Versions that do not know the
+ * value compressed cell format fail to load this codec and so to open such a WAL, instead of
+ * reading the cells as if their values were not compressed.
+ */
+@InterfaceAudience.Private
+public class ValueCompressedWALCellCodec extends WALCellCodec {
+
+  public ValueCompressedWALCellCodec() {
+    super();
+  }
+
+  public ValueCompressedWALCellCodec(Configuration conf, CompressionContext compression) {
+    super(conf, compression);
+  }
+}
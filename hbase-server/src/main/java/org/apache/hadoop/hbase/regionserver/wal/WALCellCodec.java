@@ -21,17 +21,21 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.apache.hadoop.hbase.classification.InterfaceAudience;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.HBaseInterfaceAudience;
+import org.apache.hadoop.hbase.HConstants;
 import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.KeyValueUtil;
 import org.apache.hadoop.hbase.codec.BaseDecoder;
 import org.apache.hadoop.hbase.codec.BaseEncoder;
 import org.apache.hadoop.hbase.codec.Codec;
 import org.apache.hadoop.hbase.codec.KeyValueCodec;
+import org.apache.hadoop.hbase.io.compress.BlockCompression;
+import org.apache.hadoop.hbase.io.compress.BlockCompressor;
 import org.apache.hadoop.hbase.io.util.Dictionary;
 import org.apache.hadoop.hbase.io.util.StreamUtils;
 import org.apache.hadoop.hbase.util.Bytes;
@@ -124,6 +128,22 @@ public class WALCellCodec implements Codec {
         { Configuration.class, CompressionContext.class }, new Object[] { conf, compression });
   }
 
+  /**
+   * An encoder that writes the cells of a WAL entry as a unit. The writer calls
+   * {@link #endEntry()} after the last cell of each entry; cells may be held back until then.
+   */
+  public interface EntryEncoder {
+    /**
+     * Writes out everything held back for the current entry.
+     */
+    void endEntry() throws IOException;
+
+    /**
+     * Releases the resources of the encoder. Called once the WAL is closed.
+     */
+    void close();
+  }
+
   public interface ByteStringCompressor {
     ByteString compress(byte[] data, Dictionary dict) throws IOException;
   }
@@ -183,64 +203,151 @@ public class WALCellCodec implements Codec {
     }
   }
 
-  static class CompressedKvEncoder extends BaseEncoder {
+  /**
+   * When values are compressed, the cells of an entry are held back until the end of the entry.
+   * The values of all the cells are then compressed as one block, which is written right after
+   * the lengths of the first cell of the entry, and left out of the cells themselves. The tags
+   * length of each cell is shifted left by one, and its lowest bit marks the first cell of an
+   * entry, so an entry can be decoded on its own after a seek to its start.
+   */
+  static class CompressedKvEncoder extends BaseEncoder implements EntryEncoder {
     private final CompressionContext compression;
+    // Only used when values are compressed
+    private final BlockCompressor valueCompressor;
+    private final EntryBuffer cellBuffer;
+    private final EntryBuffer valueBuffer;
+    private byte[] compressedValues = HConstants.EMPTY_BYTE_ARRAY;
+    // Where the values go in the cell buffer, -1 if no cell of the entry has been written yet
+    private int valuesOffset = -1;
+
     public CompressedKvEncoder(OutputStream out, CompressionContext compression) {
       super(out);
       this.compression = compression;
+      if (compression.valueCompression != null) {
+        this.valueCompressor = new BlockCompressor(compression.valueCompression);
+        this.cellBuffer = new EntryBuffer();
+        this.valueBuffer = new EntryBuffer();
+      } else {
+        this.valueCompressor = null;
+        this.cellBuffer = null;
+        this.valueBuffer = null;
+      }
     }
 
     @Override
     public void write(Cell cell) throws IOException {
+      OutputStream os = valueCompressor == null ? out : cellBuffer;
       // We first write the KeyValue infrastructure as VInts.
-      StreamUtils.writeRawVInt32(out, KeyValueUtil.keyLength(cell));
-      StreamUtils.writeRawVInt32(out, cell.getValueLength());
+      StreamUtils.writeRawVInt32(os, KeyValueUtil.keyLength(cell));
+      StreamUtils.writeRawVInt32(os, cell.getValueLength());
       // To support tags
       int tagsLength = cell.getTagsLength();
-      StreamUtils.writeRawVInt32(out, tagsLength);
+      if (valueCompressor == null) {
+        StreamUtils.writeRawVInt32(os, tagsLength);
+      } else {
+        StreamUtils.writeRawVInt32(os, (tagsLength << 1) | (valuesOffset < 0 ? 1 : 0));
+        if (valuesOffset < 0) {
+          valuesOffset = cellBuffer.size();
+        }
+      }
 
       // Write row, qualifier, and family; use dictionary
       // compression as they're likely to have duplicates.
-      write(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength(), compression.rowDict);
-      write(cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength(),
+      write(os, cell.getRowArray(), cell.getRowOffset(), cell.getRowLength(),
+          compression.rowDict);
+      write(os, cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength(),
           compression.familyDict);
-      write(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength(),
+      write(os, cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength(),
           compression.qualifierDict);
 
-      // Write timestamp, type and value as uncompressed.
-      StreamUtils.writeLong(out, cell.getTimestamp());
-      out.write(cell.getTypeByte());
-      out.write(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+      // Write timestamp, type and value as uncompressed, unless the values of the entry
+      // are compressed together.
+      StreamUtils.writeLong(os, cell.getTimestamp());
+      os.write(cell.getTypeByte());
+      if (valueCompressor == null) {
+        os.write(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+      } else {
+        valueBuffer.write(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+      }
       if (tagsLength > 0) {
         if (compression.tagCompressionContext != null) {
           // Write tags using Dictionary compression
-          compression.tagCompressionContext.compressTags(out, cell.getTagsArray(),
+          compression.tagCompressionContext.compressTags(os, cell.getTagsArray(),
               cell.getTagsOffset(), tagsLength);
         } else {
           // Tag compression is disabled within the WAL compression. Just write the tags bytes as
           // it is.
-          out.write(cell.getTagsArray(), cell.getTagsOffset(), tagsLength);
+          os.write(cell.getTagsArray(), cell.getTagsOffset(), tagsLength);
+        }
+      }
+    }
+
+    @Override
+    public void endEntry() throws IOException {
+      if (valueCompressor == null || valuesOffset < 0) {
+        return;
+      }
+      int rawLength = valueBuffer.size();
+      int compressedLength = 0;
+      if (rawLength > 0) {
+        int maxLength = valueCompressor.getMaxCompressedLength(rawLength);
+        if (compressedValues.length < maxLength) {
+          compressedValues = new byte[maxLength];
         }
+        compressedLength = valueCompressor.compress(
+          ByteBuffer.wrap(valueBuffer.getBuffer(), 0, rawLength),
+          ByteBuffer.wrap(compressedValues));
       }
+      out.write(cellBuffer.getBuffer(), 0, valuesOffset);
+      StreamUtils.writeRawVInt32(out, rawLength);
+      StreamUtils.writeRawVInt32(out, compressedLength);
+      out.write(compressedValues, 0, compressedLength);
+      out.write(cellBuffer.getBuffer(), valuesOffset, cellBuffer.size() - valuesOffset);
+      cellBuffer.reset();
+      valueBuffer.reset();
+      valuesOffset = -1;
     }
 
-    private void write(byte[] data, int offset, int length, Dictionary dict) throws IOException {
+    @Override
+    public void close() {
+      if (valueCompressor != null) {
+        valueCompressor.close();
+      }
+    }
+
+    private void write(OutputStream os, byte[] data, int offset, int length, Dictionary dict)
+        throws IOException {
       short dictIdx = Dictionary.NOT_IN_DICTIONARY;
       if (dict != null) {
         dictIdx = dict.findEntry(data, offset, length);
       }
       if (dictIdx == Dictionary.NOT_IN_DICTIONARY) {
-        out.write(Dictionary.NOT_IN_DICTIONARY);
-        StreamUtils.writeRawVInt32(out, length);
-        out.write(data, offset, length);
+        os.write(Dictionary.NOT_IN_DICTIONARY);
+        StreamUtils.writeRawVInt32(os, length);
+        os.write(data, offset, length);
       } else {
-        StreamUtils.writeShort(out, dictIdx);
+        StreamUtils.writeShort(os, dictIdx);
       }
     }
   }
 
+  /**
+   * Holds the cells or values of one entry; the backing array is reused across entries.
+   */
+  private static class EntryBuffer extends ByteArrayOutputStream {
+    byte[] getBuffer() {
+      return this.buf;
+    }
+  }
+
   static class CompressedKvDecoder extends BaseDecoder {
     private final CompressionContext compression;
+    // The uncompressed values of the current entry, when values are compressed
+    private byte[] values = HConstants.EMPTY_BYTE_ARRAY;
+    private int valuesLength;
+    private int valuesPos;
+    private byte[] compressedValues = HConstants.EMPTY_BYTE_ARRAY;
+
     public CompressedKvDecoder(InputStream in, CompressionContext compression) {
       super(in);
       this.compression = compression;
@@ -252,6 +359,13 @@ public class WALCellCodec implements Codec {
       int vlength = StreamUtils.readRawVarint32(in);
 
       int tagsLength = StreamUtils.readRawVarint32(in);
+      if (compression.valueCompression != null) {
+        if ((tagsLength & 1) != 0) {
+          // First cell of an entry, the values of the entry come next.
+          readValues();
+        }
+        tagsLength >>>= 1;
+      }
       int length = 0;
       if(tagsLength == 0) {
         length = KeyValue.KEYVALUE_INFRASTRUCTURE_SIZE + keylength + vlength;
@@ -285,8 +399,20 @@ public class WALCellCodec implements Codec {
       if (tagsLength > 0) {
         tsTypeValLen = tsTypeValLen - tagsLength - KeyValue.TAGS_LENGTH_SIZE;
       }
-      IOUtils.readFully(in, backingArray, pos, tsTypeValLen);
-      pos += tsTypeValLen;
+      if (compression.valueCompression == null) {
+        IOUtils.readFully(in, backingArray, pos, tsTypeValLen);
+        pos += tsTypeValLen;
+      } else {
+        IOUtils.readFully(in, backingArray, pos, tsTypeValLen - vlength);
+        pos += tsTypeValLen - vlength;
+        if (vlength > valuesLength - valuesPos) {
+          throw new IOException("Value of " + vlength + " bytes is past the end of the "
+              + valuesLength + " bytes of values of the entry");
+        }
+        System.arraycopy(values, valuesPos, backingArray, pos, vlength);
+        valuesPos += vlength;
+        pos += vlength;
+      }
 
       // tags
       if (tagsLength > 0) {
@@ -300,6 +426,29 @@ public class WALCellCodec implements Codec {
       return new KeyValue(backingArray, 0, length);
     }
 
+    private void readValues() throws IOException {
+      int rawLength = StreamUtils.readRawVarint32(in);
+      int compressedLength = StreamUtils.readRawVarint32(in);
+      if (rawLength < 0 || compressedLength < 0) {
+        throw new IOException("Invalid lengths of compressed values: " + rawLength + ", "
+            + compressedLength);
+      }
+      if (values.length < rawLength) {
+        values = new byte[rawLength];
+      }
+      if (compressedValues.length < compressedLength) {
+        compressedValues = new byte[compressedLength];
+      }
+      IOUtils.readFully(in, compressedValues, 0, compressedLength);
+      if (rawLength > 0) {
+        BlockCompression.decompress(compression.valueCompression,
+          ByteBuffer.wrap(compressedValues, 0, compressedLength),
+          ByteBuffer.wrap(values, 0, rawLength));
+      }
+      valuesLength = rawLength;
+      valuesPos = 0;
+    }
+
     private int readIntoArray(byte[] to, int offset, Dictionary dict) throws IOException {
       byte status = (byte)in.read();
       if (status == Dictionary.NOT_IN_DICTIONARY) {
@@ -25,6 +25,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.io.util.LRUDictionary;
 import org.apache.hadoop.hbase.util.FSUtils;
 
@@ -49,9 +50,12 @@ public abstract class WriterBase implements DefaultWALProvider.Writer {
     boolean doCompress = conf.getBoolean(HConstants.ENABLE_WAL_COMPRESSION, false);
     if (doCompress) {
       try {
+        Compression.Algorithm valueCompression = supportsValueCompression(conf)
+            ? CompressionContext.getValueCompression(conf) : null;
         this.compressionContext = new CompressionContext(LRUDictionary.class,
             FSUtils.isRecoveredEdits(path), conf.getBoolean(
-                CompressionContext.ENABLE_WAL_TAGS_COMPRESSION, true));
+                CompressionContext.ENABLE_WAL_TAGS_COMPRESSION, true),
+            valueCompression);
       } catch (Exception e) {
         throw new IOException("Failed to initiate CompressionContext", e);
       }
@@ -59,4 +63,12 @@ public abstract class WriterBase implements DefaultWALProvider.Writer {
     return doCompress;
   }
 
+  /**
+   * @return whether cell values may be compressed. Only the default {@link WALCellCodec} writes
+   *   them; WALs with compressed values name {@link ValueCompressedWALCellCodec} in their header.
+   */
+  protected boolean supportsValueCompression(Configuration conf) {
+    return WALCellCodec.class.getName().equals(WALCellCodec.getWALCellCodecClass(conf));
+  }
+
 }
@@ -2524,6 +2524,13 @@ public class AccessController extends BaseMasterAndRegionObserver
   public void postRollWALWriterRequest(ObserverContext<RegionServerCoprocessorEnvironment> ctx)
       throws IOException { }
 
+  @Override
+  public void preGetSlowLog(ObserverContext<RegionServerCoprocessorEnvironment> ctx)
+      throws IOException {
+    // The slow log holds the request parameters, e.g. row keys, of all users
+    requirePermission("getSlowLog", Action.ADMIN);
+  }
+
   @Override
   public void preSetUserQuota(final ObserverContext<MasterCoprocessorEnvironment> ctx,
       final String userName, final Quotas quotas) throws IOException {
@@ -76,6 +76,14 @@ public final class BloomFilterFactory {
   public static final String IO_STOREFILE_DELETEFAMILY_BLOOM_ENABLED =
       "io.storefile.delete.family.bloom.enabled";
 
+  /**
+   * If set, the Bloom filter metadata of a store file is read on the first
+   * Bloom filter check instead of when the file is opened. This shortens
+   * region opening at the cost of a slower first read of each file.
+   */
+  public static final String IO_STOREFILE_BLOOM_LAZY_LOAD =
+      "io.storefile.bloom.lazy.load";
+
   /**
    * Target Bloom block size. Bloom filter blocks of approximately this size
    * are interleaved with data blocks.
@@ -127,6 +135,14 @@ public final class BloomFilterFactory {
     return conf.getBoolean(IO_STOREFILE_DELETEFAMILY_BLOOM_ENABLED, true);
   }
 
+  /**
+   * @return true if Bloom filter metadata should be loaded on first use rather
+   * than when a store file is opened
+   */
+  public static boolean isLazyLoadEnabled(Configuration conf) {
+    return conf.getBoolean(IO_STOREFILE_BLOOM_LAZY_LOAD, false);
+  }
+
   /**
    * @return the Bloom filter error rate in the given configuration
    */
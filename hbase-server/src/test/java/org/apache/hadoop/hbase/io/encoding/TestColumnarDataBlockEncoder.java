@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.hadoop.hbase.io.encoding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HBaseTestingUtility;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValue.Type;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.Tag;
+import org.apache.hadoop.hbase.io.compress.Compression;
+import org.apache.hadoop.hbase.io.hfile.HFileContext;
+import org.apache.hadoop.hbase.io.hfile.HFileContextBuilder;
+import org.apache.hadoop.hbase.testclassification.IOTests;
+import org.apache.hadoop.hbase.testclassification.SmallTests;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests the {@link DataBlockEncoding#COLUMNAR} layout on a block whose rows span several column
+ * groups, with several versions, delete markers, empty values, tags and memstore timestamps.
+ */
+@Category({IOTests.class, SmallTests.class})
+@RunWith(Parameterized.class)
+public class TestColumnarDataBlockEncoder {
+
+  private static final byte[] ROW1 = Bytes.toBytes("r1");
+  private static final byte[] ROW2 = Bytes.toBytes("r2");
+  private static final byte[] FAM_A = Bytes.toBytes("a");
+  private static final byte[] FAM_B = Bytes.toBytes("b");
+  private static final byte[] Q1 = Bytes.toBytes("q1");
+  private static final byte[] Q2 = Bytes.toBytes("q2");
+  private static final byte[] Q3 = Bytes.toBytes("q3");
+  private static final byte[] EMPTY = HConstants.EMPTY_BYTE_ARRAY;
+
+  private final boolean includesMemstoreTS;
+  private final boolean includesTags;
+  private final DataBlockEncoder encoder = DataBlockEncoding.COLUMNAR.getEncoder();
+  private List<KeyValue> kvs;
+  private ByteBuffer encoded;
+
+  @Parameters
+  public static Collection<Object[]> parameters() {
+    return HBaseTestingUtility.MEMSTORETS_TAGS_PARAMETRIZED;
+  }
+
+  public TestColumnarDataBlockEncoder(boolean includesMemstoreTS, boolean includesTags) {
+    this.includesMemstoreTS = includesMemstoreTS;
+    this.includesTags = includesTags;
+  }
+
+  private KeyValue createKeyValue(byte[] row, byte[] family, byte[] qualifier, long ts,
+      Type type, byte[] value) {
+    KeyValue kv;
+    // Every other cell has a tag, so tagged and untagged cells follow each other
+    if (includesTags && kvs.size() % 2 == 0) {
+      kv = new KeyValue(row, family, qualifier, ts, type, value,
+        Arrays.asList(new Tag((byte) 1, "tag" + kvs.size())));
+    } else {
+      kv = new KeyValue(row, family, qualifier, ts, type, value);
+    }
+    if (includesMemstoreTS) {
+      kv.setSequenceId(kvs.size() + 1);
+    }
+    return kv;
+  }
+
+  @Before
+  public void setUp() throws IOException {
+    kvs = new ArrayList<KeyValue>();
+    kvs.add(createKeyValue(ROW1, FAM_A, Q1, 20, Type.Put, Bytes.toBytes("v1")));
+    kvs.add(createKeyValue(ROW1, FAM_A, Q1, 10, Type.Put, EMPTY));
+    kvs.add(createKeyValue(ROW1, FAM_A, Q2, 10, Type.DeleteColumn, EMPTY));
+    kvs.add(createKeyValue(ROW1, FAM_A, Q2, 5, Type.Put, Bytes.toBytes("v2")));
+    kvs.add(createKeyValue(ROW1, FAM_B, Q1, 20, Type.Put, EMPTY));
+    kvs.add(createKeyValue(ROW1, FAM_B, Q3, 20, Type.Put, Bytes.toBytes("v3")));
+    kvs.add(createKeyValue(ROW2, FAM_A, Q2, 30, Type.Put, Bytes.toBytes("v4")));
+    kvs.add(createKeyValue(ROW2, FAM_B, Q1, 30, Type.Put, EMPTY));
+    kvs.add(createKeyValue(ROW2, FAM_B, Q1, 25, Type.Put, Bytes.toBytes("v5")));
+
+    HFileContext meta = new HFileContextBuilder()
+                        .withHBaseCheckSum(false)
+                        .withIncludesMvcc(includesMemstoreTS)
+                        .withIncludesTags(includesTags)
+                        .withCompression(Compression.Algorithm.NONE).build();
+    encoded = TestDataBlockEncoders.encodeKeyValues(DataBlockEncoding.COLUMNAR, kvs,
+      encoder.newDataBlockEncodingContext(DataBlockEncoding.COLUMNAR,
+        HConstants.HFILEBLOCK_DUMMY_HEADER, meta));
+  }
+
+  private DataBlockEncoder.EncodedSeeker createSeeker() {
+    HFileContext meta = new HFileContextBuilder()
+                        .withHBaseCheckSum(false)
+                        .withIncludesMvcc(includesMemstoreTS)
+                        .withIncludesTags(includesTags)
+                        .withCompression(Compression.Algorithm.NONE).build();
+    DataBlockEncoder.EncodedSeeker seeker = encoder.createSeeker(CellComparator.COMPARATOR,
+      encoder.newDataBlockDecodingContext(meta));
+    seeker.setCurrentBuffer(encoded);
+    return seeker;
+  }
+
+  private void assertCell(Cell expected, Cell actual) {
+    assertEquals(0, CellComparator.COMPARATOR.compareKeyIgnoresMvcc(expected, actual));
+    assertTrue(CellUtil.matchingValue(expected, actual));
+    assertTrue(Bytes.equals(expected.getTagsArray(), expected.getTagsOffset(),
+      expected.getTagsLength(), actual.getTagsArray(), actual.getTagsOffset(),
+      actual.getTagsLength()));
+    assertEquals(expected.getSequenceId(), actual.getSequenceId());
+  }
+
+  @Test
+  public void testFirstKeyInBlock() {
+    Cell firstKey = encoder.getFirstKeyCellInBlock(encoded);
+    assertEquals(0, CellComparator.COMPARATOR.compareKeyIgnoresMvcc(kvs.get(0), firstKey));
+  }
+
+  @Test
+  public void testIterate() {
+    DataBlockEncoder.EncodedSeeker seeker = createSeeker();
+    for (int i = 0; i < kvs.size(); i++) {
+      if (i > 0) {
+        assertTrue(seeker.next());
+      }
+      assertCell(kvs.get(i), seeker.getKeyValue());
+    }
+    assertFalse(seeker.next());
+
+    // Rewinding reuses the parsed layout of the block
+    seeker.rewind();
+    assertCell(kvs.get(0), seeker.getKeyValue());
+  }
+
+  @Test
+  public void testSeekExact() {
+    DataBlockEncoder.EncodedSeeker seeker = createSeeker();
+    for (KeyValue kv : kvs) {
+      seeker.rewind();
+      assertEquals(0, seeker.seekToKeyInBlock(kv, false));
+      assertCell(kv, seeker.getKeyValue());
+    }
+  }
+
+  /**
+   * Seeks before every cell but the first. The previous cell is in the same column, in another
+   * column of the same family, in another family or in another row.
+   */
+  @Test
+  public void testSeekBefore() {
+    DataBlockEncoder.EncodedSeeker seeker = createSeeker();
+    for (int i = 1; i < kvs.size(); i++) {
+      seeker.rewind();
+      assertEquals(1, seeker.seekToKeyInBlock(kvs.get(i), true));
+      assertCell(kvs.get(i - 1), seeker.getKeyValue());
+      // The seeker decodes on from the restored position
+      assertTrue(seeker.next());
+      assertCell(kvs.get(i), seeker.getKeyValue());
+    }
+  }
+
+  @Test
+  public void testSeekBetweenColumns() {
+    DataBlockEncoder.EncodedSeeker seeker = createSeeker();
+    // r1/b:q2 is not in the block; the seeker stops at the last cell before it, r1/b:q1
+    assertEquals(1, seeker.seekToKeyInBlock(KeyValueUtil.createFirstOnRow(ROW1, FAM_B, Q2),
+      false));
+    assertCell(kvs.get(4), seeker.getKeyValue());
+    assertTrue(seeker.next());
+    assertCell(kvs.get(5), seeker.getKeyValue());
+
+    // Past the last column of the first row, into the family a group of the second
+    seeker.rewind();
+    assertEquals(1, seeker.seekToKeyInBlock(KeyValueUtil.createLastOnRow(ROW1), false));
+    assertCell(kvs.get(5), seeker.getKeyValue());
+    assertTrue(seeker.next());
+    assertCell(kvs.get(6), seeker.getKeyValue());
+  }
+}
@@ -21,7 +21,9 @@ package org.apache.hadoop.hbase.io.hfile;
 
 import static org.apache.hadoop.hbase.io.compress.Compression.Algorithm.GZ;
 import static org.apache.hadoop.hbase.io.compress.Compression.Algorithm.NONE;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -34,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -49,6 +52,7 @@ import org.apache.hadoop.hbase.fs.HFileSystem;
 import org.apache.hadoop.hbase.io.FSDataInputStreamWrapper;
 import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.util.ChecksumType;
+import org.apache.hadoop.util.DataChecksum;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -98,6 +102,42 @@ public class TestChecksum {
     assertEquals(b.getChecksumType(), ChecksumType.getDefaultChecksumType().getCode());
   }
 
+  /**
+   * Test that whole-block checksums over heap and direct buffers match Hadoop's.
+   */
+  @Test
+  public void testBufferChecksums() throws IOException {
+    byte[] data = new byte[100 * 1024 + 17];
+    new Random(1).nextBytes(data);
+    ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+    direct.put(data).flip();
+    for (ChecksumType cktype : new ChecksumType[] { ChecksumType.CRC32, ChecksumType.CRC32C }) {
+      for (int bytesPerChecksum : BYTES_PER_CHECKSUM) {
+        int numBytes = (int) ChecksumUtil.numBytes(data.length, bytesPerChecksum);
+        byte[] expected = new byte[numBytes];
+        DataChecksum.newDataChecksum(cktype.getDataChecksumType(), bytesPerChecksum)
+            .calculateChunkedSums(ByteBuffer.wrap(data), ByteBuffer.wrap(expected));
+
+        byte[] sums = new byte[numBytes];
+        ChecksumUtil.generateChecksums(data, 0, data.length, sums, 0, cktype, bytesPerChecksum);
+        assertArrayEquals(expected, sums);
+        ByteBuffer directSums = ByteBuffer.allocateDirect(numBytes);
+        ChecksumUtil.generateChecksums(direct, directSums, cktype, bytesPerChecksum);
+        sums = new byte[numBytes];
+        directSums.duplicate().get(sums);
+        assertArrayEquals(expected, sums);
+        assertEquals(0, direct.position());
+
+        assertTrue(ChecksumUtil.verifyChecksums(direct, directSums, cktype, bytesPerChecksum,
+          "test"));
+        direct.put(data.length / 2, (byte) (data[data.length / 2] + 1));
+        assertFalse(ChecksumUtil.verifyChecksums(direct, directSums, cktype, bytesPerChecksum,
+          "test"));
+        direct.put(data.length / 2, data[data.length / 2]);
+      }
+    }
+  }
+
   /**
    * Test all checksum types by writing and reading back blocks.
    */
@@ -350,7 +390,7 @@ public class TestChecksum {
 
     @Override
     protected boolean validateBlockChecksum(HFileBlock block, 
-      byte[] data, int hdrSize) throws IOException {
+      ByteBuffer data, int hdrSize) throws IOException {
       return false;  // checksum validation failure
     }
   }
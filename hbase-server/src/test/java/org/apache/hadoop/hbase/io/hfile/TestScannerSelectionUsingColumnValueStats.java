@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with this
+ * work for additional information regarding copyright ownership. The ASF
+ * licenses this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.hadoop.hbase.io.hfile;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HBaseTestingUtility;
+import org.apache.hadoop.hbase.HColumnDescriptor;
+import org.apache.hadoop.hbase.HRegionInfo;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.CompareFilter.CompareOp;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.regionserver.ColumnValueStats;
+import org.apache.hadoop.hbase.regionserver.InternalScanner;
+import org.apache.hadoop.hbase.regionserver.Region;
+import org.apache.hadoop.hbase.testclassification.IOTests;
+import org.apache.hadoop.hbase.testclassification.SmallTests;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Test the optimization that does not scan files whose column value statistics rule out
+ * every row for a {@link SingleColumnValueFilter}.
+ */
+@Category({IOTests.class, SmallTests.class})
+public class TestScannerSelectionUsingColumnValueStats {
+  private static final HBaseTestingUtility TEST_UTIL = HBaseTestingUtility.createLocalHTU();
+  private static TableName TABLE = TableName.valueOf("myTable");
+  private static byte[] FAMILY_BYTES = Bytes.toBytes("myCF");
+  private static byte[] VALUE_QUALIFIER = Bytes.toBytes("v");
+  private static byte[] OTHER_QUALIFIER = Bytes.toBytes("w");
+  private static final int NUM_ROWS_PER_FILE = 5;
+  private static final int NUM_FILES = 3;
+
+  @AfterClass
+  public static void tearDownAfterClass() throws Exception {
+    TEST_UTIL.cleanupTestDir();
+  }
+
+  private static Put createPut(String row, String value) {
+    Put put = new Put(Bytes.toBytes(row));
+    put.add(FAMILY_BYTES, VALUE_QUALIFIER, Bytes.toBytes(value));
+    put.add(FAMILY_BYTES, OTHER_QUALIFIER, Bytes.toBytes("other"));
+    return put;
+  }
+
+  private static List<Cell> scan(Region region, LruBlockCache cache) throws IOException {
+    SingleColumnValueFilter filter = new SingleColumnValueFilter(FAMILY_BYTES, VALUE_QUALIFIER,
+        CompareOp.EQUAL, Bytes.toBytes("value1"));
+    filter.setFilterIfMissing(true);
+    Scan scan = new Scan();
+    scan.setFilter(filter);
+    cache.clearCache();
+    InternalScanner scanner = region.getScanner(scan);
+    List<Cell> results = new ArrayList<Cell>();
+    while (scanner.next(results)) {
+    }
+    scanner.close();
+    return results;
+  }
+
+  @Test
+  public void testScannerSelection() throws IOException {
+    Configuration conf = TEST_UTIL.getConfiguration();
+    conf.setInt("hbase.hstore.compactionThreshold", 10000);
+    HColumnDescriptor hcd = new HColumnDescriptor(FAMILY_BYTES).setBlockCacheEnabled(true);
+    hcd.setConfiguration(ColumnValueStats.QUALIFIERS_KEY, Bytes.toString(VALUE_QUALIFIER));
+    HTableDescriptor htd = new HTableDescriptor(TABLE);
+    htd.addFamily(hcd);
+    HRegionInfo info = new HRegionInfo(TABLE);
+    Region region = HBaseTestingUtility.createRegionAndWAL(info, TEST_UTIL.getDataTestDir(), conf,
+        htd);
+
+    // Every file has its own rows and one value.
+    for (int iFile = 0; iFile < NUM_FILES; ++iFile) {
+      for (int iRow = 0; iRow < NUM_ROWS_PER_FILE; ++iRow) {
+        region.put(createPut("row" + iFile + iRow, "value" + iFile));
+      }
+      region.flush(true);
+    }
+
+    CacheConfig.blockCacheDisabled = false;
+    LruBlockCache cache = (LruBlockCache) new CacheConfig(conf).getBlockCache();
+    List<Cell> results = scan(region, cache);
+    assertEquals(2 * NUM_ROWS_PER_FILE, results.size());
+    assertEquals("row10", Bytes.toString(CellUtil.cloneRow(results.get(0))));
+    assertEquals(1, cache.getCachedFileNamesForTest().size());
+
+    // A matching value in the memstore for a row of the first file keeps that file in.
+    region.put(createPut("row00", "value1"));
+    results = scan(region, cache);
+    assertEquals(2 * (NUM_ROWS_PER_FILE + 1), results.size());
+    assertEquals("row00", Bytes.toString(CellUtil.cloneRow(results.get(0))));
+    assertEquals(2, cache.getCachedFileNamesForTest().size());
+    HBaseTestingUtility.closeRegionAndWAL(region);
+  }
+}
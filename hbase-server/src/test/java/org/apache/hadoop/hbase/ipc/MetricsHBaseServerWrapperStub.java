@@ -48,4 +48,9 @@ public class MetricsHBaseServerWrapperStub implements MetricsHBaseServerWrapper{
   public int getActiveRpcHandlerCount() {
     return 106;
   }
+
+  @Override
+  public long getNumLifoModeSwitches() {
+    return 107;
+  }
 }
@@ -0,0 +1,178 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.ipc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.HRegionInfo;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.protobuf.RequestConverter;
+import org.apache.hadoop.hbase.protobuf.generated.ClientProtos.GetRequest;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.testclassification.RPCTests;
+import org.apache.hadoop.hbase.testclassification.SmallTests;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category({RPCTests.class, SmallTests.class})
+public class TestFairShareCallQueue {
+
+  /** Queue with a clock the test moves; every call takes COST nanos of handler time. */
+  private static class ManualClockQueue extends FairShareCallQueue {
+    static final long COST = 12;
+    long nanos = 0;
+
+    ManualClockQueue(Configuration conf) {
+      super(100, new Weights(conf));
+    }
+
+    @Override
+    long currentNanos() {
+      return nanos;
+    }
+
+    CallRunner takeAndRun() throws InterruptedException {
+      CallRunner callRunner = take();
+      nanos += COST;
+      return callRunner;
+    }
+  }
+
+  private static CallRunner createTask(String user) {
+    CallRunner task = mock(CallRunner.class);
+    RpcServer.Call call = mock(RpcServer.Call.class);
+    when(call.getRequestUserName()).thenReturn(user);
+    when(task.getCall()).thenReturn(call);
+    return task;
+  }
+
+  private static int countUser(CallRunner[] taken, String user) {
+    int count = 0;
+    for (CallRunner callRunner : taken) {
+      if (user.equals(callRunner.getCall().getRequestUserName())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void testBusyTenantDoesNotStarveOthers() throws Exception {
+    ManualClockQueue queue = new ManualClockQueue(HBaseConfiguration.create());
+    for (int i = 0; i < 10; i++) {
+      queue.put(createTask("heavy"));
+    }
+    CallRunner light = createTask("light");
+    queue.put(light);
+    assertEquals(11, queue.size());
+
+    queue.takeAndRun();
+    // FIFO would serve nine more calls of the heavy user first
+    assertSame(light, queue.takeAndRun());
+  }
+
+  @Test
+  public void testWeightedShares() throws Exception {
+    Configuration conf = HBaseConfiguration.create();
+    conf.setInt(FairShareCallQueue.WEIGHT_CONF_KEY_PREFIX + "gold", 3);
+    ManualClockQueue queue = new ManualClockQueue(conf);
+    for (int i = 0; i < 6; i++) {
+      queue.put(createTask("gold"));
+    }
+    for (int i = 0; i < 6; i++) {
+      queue.put(createTask("bronze"));
+    }
+    CallRunner[] taken = new CallRunner[8];
+    for (int i = 0; i < taken.length; i++) {
+      taken[i] = queue.takeAndRun();
+    }
+    assertEquals(6, countUser(taken, "gold"));
+    assertEquals(2, countUser(taken, "bronze"));
+  }
+
+  @Test
+  public void testRoundRobinBetweenTenants() throws Exception {
+    ManualClockQueue queue = new ManualClockQueue(HBaseConfiguration.create());
+    String[] users = { "a", "b", "c" };
+    for (String user : users) {
+      for (int i = 0; i < 3; i++) {
+        queue.put(createTask(user));
+      }
+    }
+    for (int round = 0; round < 3; round++) {
+      CallRunner[] taken = new CallRunner[users.length];
+      for (int i = 0; i < taken.length; i++) {
+        taken[i] = queue.takeAndRun();
+      }
+      for (String user : users) {
+        assertEquals(1, countUser(taken, user));
+      }
+    }
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testWeightsUpdatedLive() throws Exception {
+    Configuration conf = HBaseConfiguration.create();
+    FairShareCallQueue.Weights weights = new FairShareCallQueue.Weights(conf);
+    assertEquals(FairShareCallQueue.DEFAULT_WEIGHT, weights.getWeight("gold"));
+    long version = weights.getVersion();
+
+    Configuration newConf = HBaseConfiguration.create();
+    newConf.setInt(FairShareCallQueue.WEIGHT_CONF_KEY_PREFIX + "gold", 5);
+    weights.update(newConf);
+    assertEquals(5, weights.getWeight("gold"));
+    assertFalse(version == weights.getVersion());
+  }
+
+  @Test
+  public void testTenantByTable() throws Exception {
+    Configuration conf = HBaseConfiguration.create();
+    conf.set(FairShareCallQueue.TENANT_CONF_KEY, FairShareCallQueue.TENANT_TABLE_CONF_VALUE);
+    FairShareCallQueue.Weights weights = new FairShareCallQueue.Weights(conf);
+
+    HRegionInfo hri = new HRegionInfo(TableName.valueOf("testTenantByTable"));
+    GetRequest get = RequestConverter.buildGetRequest(hri.getRegionName(),
+      new Get(Bytes.toBytes("row")));
+    RpcServer.Call call = mock(RpcServer.Call.class);
+    call.param = get;
+    assertEquals("testTenantByTable", weights.getTenant(call));
+
+    call.param = null;
+    assertEquals("", weights.getTenant(call));
+  }
+
+  @Test
+  public void testSchedulerCreatesFairQueues() throws Exception {
+    Configuration conf = HBaseConfiguration.create();
+    conf.set(SimpleRpcScheduler.CALL_QUEUE_TYPE_CONF_KEY,
+      SimpleRpcScheduler.CALL_QUEUE_TYPE_FAIR_CONF_VALUE);
+    SimpleRpcScheduler scheduler = new SimpleRpcScheduler(conf, 1, 0, 0,
+      mock(PriorityFunction.class), HConstants.QOS_THRESHOLD);
+    scheduler.onConfigurationChange(conf);
+    assertEquals(0, scheduler.getGeneralQueueLength());
+  }
+}
@@ -133,5 +133,26 @@ public class TestRpcMetrics {
     HELPER.assertCounter("exceptions", 5, serverSource);
   }
 
+  @Test
+  public void testCallPhaseTimer() {
+    MetricsHBaseServer mrpc = new MetricsHBaseServer("HMaster", new MetricsHBaseServerWrapperStub());
+    MetricsHBaseServerSource serverSource = mrpc.getMetricsSource();
+
+    CallPhaseTimer timer = new CallPhaseTimer();
+    timer.add(CallPhaseTimer.Phase.FS_READ, 3000);
+    timer.add(CallPhaseTimer.Phase.FS_READ, 4000);
+    timer.add(CallPhaseTimer.Phase.ROW_LOCK, 5000);
+    assertEquals(7000, timer.getNanos(CallPhaseTimer.Phase.FS_READ));
+    assertEquals(2, timer.getCount(CallPhaseTimer.Phase.FS_READ));
+    assertEquals(0, timer.getCount(CallPhaseTimer.Phase.FILTER));
+    assertEquals(Long.valueOf(7), timer.getMicrosByPhase().get("fsReadTime"));
+    assertFalse(timer.getMicrosByPhase().containsKey("filterTime"));
+
+    timer.publish(mrpc);
+    // One value per call and phase, however often the phase was entered.
+    HELPER.assertCounter("fsReadTime_NumOps", 1, serverSource);
+    HELPER.assertCounter("rowLockWaitTime_NumOps", 1, serverSource);
+  }
+
 }
 
@@ -37,6 +37,8 @@ import org.apache.hadoop.hbase.protobuf.generated.RPCProtos;
 import org.apache.hadoop.hbase.protobuf.generated.RPCProtos.RequestHeader;
 import org.apache.hadoop.hbase.protobuf.generated.ClientProtos.ScanRequest;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
+import org.apache.hadoop.hbase.util.ManualEnvironmentEdge;
 import org.apache.hadoop.hbase.util.Threads;
 import org.junit.Before;
 import org.junit.Test;
@@ -49,15 +51,21 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNotEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -301,6 +309,165 @@ public class TestSimpleRpcScheduler {
     }
   }
 
+  @Test
+  public void testCoDelSchedulingFallsBackToFifo() throws Exception {
+    Configuration schedConf = HBaseConfiguration.create();
+    schedConf.set(SimpleRpcScheduler.CALL_QUEUE_TYPE_CONF_KEY,
+      SimpleRpcScheduler.CALL_QUEUE_TYPE_CODEL_CONF_VALUE);
+    PriorityFunction priority = mock(PriorityFunction.class);
+    when(priority.getPriority(any(RequestHeader.class), any(Message.class), any(User.class)))
+      .thenReturn(HConstants.NORMAL_QOS);
+    SimpleRpcScheduler scheduler = new SimpleRpcScheduler(schedConf, 1, 1, 1, priority,
+      HConstants.QOS_THRESHOLD);
+    try {
+      scheduler.init(CONTEXT);
+      scheduler.start();
+      CallRunner task = createCoDelTask(EnvironmentEdgeManager.currentTime());
+      scheduler.dispatch(task);
+      verify(task, timeout(1000)).run();
+      verify(task, never()).drop();
+      assertEquals(0, scheduler.getNumGeneralCallsDropped());
+      assertEquals(0, scheduler.getNumLifoModeSwitches());
+    } finally {
+      scheduler.stop();
+    }
+  }
+
+  @Test
+  public void testCoDelReadWriteQueues() throws Exception {
+    Configuration schedConf = HBaseConfiguration.create();
+    schedConf.set(SimpleRpcScheduler.CALL_QUEUE_TYPE_CONF_KEY,
+      SimpleRpcScheduler.CALL_QUEUE_TYPE_CODEL_CONF_VALUE);
+    schedConf.setFloat(SimpleRpcScheduler.CALL_QUEUE_HANDLER_FACTOR_CONF_KEY, 1.0f);
+    schedConf.setFloat(SimpleRpcScheduler.CALL_QUEUE_READ_SHARE_CONF_KEY, 0.5f);
+    PriorityFunction priority = mock(PriorityFunction.class);
+    SimpleRpcScheduler scheduler = new SimpleRpcScheduler(schedConf, 4, 1, 1, priority,
+      HConstants.QOS_THRESHOLD);
+    RpcExecutor executor = scheduler.getCallExecutor();
+    assertTrue(executor instanceof RWQueueRpcExecutor);
+    List<BlockingQueue<CallRunner>> queues = executor.getQueues();
+    // The write queues come first, then the read queues
+    assertEquals(4, queues.size());
+    for (BlockingQueue<CallRunner> queue : queues) {
+      assertEquals(AdaptiveLifoCoDelCallQueue.class, queue.getClass());
+    }
+  }
+
+  @Test
+  public void testFairReadWriteQueues() throws Exception {
+    Configuration schedConf = HBaseConfiguration.create();
+    schedConf.set(SimpleRpcScheduler.CALL_QUEUE_TYPE_CONF_KEY,
+      SimpleRpcScheduler.CALL_QUEUE_TYPE_FAIR_CONF_VALUE);
+    schedConf.setFloat(SimpleRpcScheduler.CALL_QUEUE_HANDLER_FACTOR_CONF_KEY, 1.0f);
+    schedConf.setFloat(SimpleRpcScheduler.CALL_QUEUE_READ_SHARE_CONF_KEY, 0.5f);
+    PriorityFunction priority = mock(PriorityFunction.class);
+    SimpleRpcScheduler scheduler = new SimpleRpcScheduler(schedConf, 4, 1, 1, priority,
+      HConstants.QOS_THRESHOLD);
+    RpcExecutor executor = scheduler.getCallExecutor();
+    assertTrue(executor instanceof RWQueueRpcExecutor);
+    List<BlockingQueue<CallRunner>> queues = executor.getQueues();
+    assertEquals(4, queues.size());
+    for (BlockingQueue<CallRunner> queue : queues) {
+      assertEquals(FairShareCallQueue.class, queue.getClass());
+    }
+
+    // The first queue is a write queue: a user with one write waiting is served before the
+    // writes queued earlier by a busier user
+    BlockingQueue<CallRunner> writeQueue = queues.get(0);
+    for (int i = 0; i < 5; i++) {
+      writeQueue.put(createUserTask("heavy"));
+    }
+    CallRunner light = createUserTask("light");
+    writeQueue.put(light);
+    writeQueue.take();
+    assertSame(light, writeQueue.take());
+  }
+
+  private CallRunner createUserTask(String user) {
+    CallRunner task = mock(CallRunner.class);
+    RpcServer.Call call = mock(RpcServer.Call.class);
+    when(call.getRequestUserName()).thenReturn(user);
+    when(task.getCall()).thenReturn(call);
+    return task;
+  }
+
+  @Test
+  public void testCoDelQueueDropsExpiredCalls() throws Exception {
+    ManualEnvironmentEdge edge = new ManualEnvironmentEdge();
+    edge.setValue(1000);
+    EnvironmentEdgeManager.injectEdge(edge);
+    try {
+      AtomicLong dropped = new AtomicLong();
+      AtomicLong switches = new AtomicLong();
+      AdaptiveLifoCoDelCallQueue queue =
+          new AdaptiveLifoCoDelCallQueue(100, 10, 100, 0.8, 500, dropped, switches);
+      CallRunner expired = createCoDelTask(400);
+      CallRunner fresh = createCoDelTask(900);
+      queue.put(expired);
+      queue.put(fresh);
+      assertSame(fresh, queue.take());
+      verify(expired).drop();
+      assertEquals(1, dropped.get());
+      assertEquals(0, switches.get());
+    } finally {
+      EnvironmentEdgeManager.reset();
+    }
+  }
+
+  @Test
+  public void testCoDelQueueSwitchesToLifoWhenOverloaded() throws Exception {
+    ManualEnvironmentEdge edge = new ManualEnvironmentEdge();
+    EnvironmentEdgeManager.injectEdge(edge);
+    try {
+      AtomicLong dropped = new AtomicLong();
+      AtomicLong switches = new AtomicLong();
+      AdaptiveLifoCoDelCallQueue queue =
+          new AdaptiveLifoCoDelCallQueue(100, 10, 100, 0.8, 60000, dropped, switches);
+
+      // A call that waited 50ms, above the 10ms target, sets the minimum for the interval.
+      CallRunner first = createCoDelTask(0);
+      queue.put(first);
+      edge.setValue(50);
+      assertSame(first, queue.take());
+      assertFalse(queue.isInLifoMode());
+
+      // No call waited less than the target over the interval, so the queue is overloaded:
+      // the call that waited more than twice the target is dropped and the newest served first.
+      CallRunner old = createCoDelTask(100);
+      CallRunner newest = createCoDelTask(150);
+      queue.put(old);
+      queue.put(newest);
+      edge.setValue(150);
+      assertSame(newest, queue.take());
+      verify(old).drop();
+      assertTrue(queue.isInLifoMode());
+      assertEquals(1, dropped.get());
+      assertEquals(1, switches.get());
+
+      // Calls were served quickly over the next interval: back to FIFO.
+      edge.setValue(260);
+      CallRunner recovered = createCoDelTask(255);
+      queue.put(recovered);
+      assertSame(recovered, queue.take());
+      CallRunner next = createCoDelTask(260);
+      queue.put(next);
+      assertSame(next, queue.take());
+      assertFalse(queue.isInLifoMode());
+      verify(recovered, never()).drop();
+      assertEquals(1, dropped.get());
+    } finally {
+      EnvironmentEdgeManager.reset();
+    }
+  }
+
+  private CallRunner createCoDelTask(long timestamp) {
+    CallRunner task = mock(CallRunner.class);
+    RpcServer.Call call = mock(RpcServer.Call.class);
+    call.timestamp = timestamp;
+    when(task.getCall()).thenReturn(call);
+    return task;
+  }
+
   private void doAnswerTaskExecution(final CallRunner callTask,
       final ArrayList<Integer> results, final int value, final int sleepInterval) {
     doAnswer(new Answer<Object>() {
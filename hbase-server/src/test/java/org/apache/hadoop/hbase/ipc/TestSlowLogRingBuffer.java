@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.ipc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.protobuf.RequestConverter;
+import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.SlowLogRecord;
+import org.apache.hadoop.hbase.protobuf.generated.AdminProtos.StopServerRequest;
+import org.apache.hadoop.hbase.testclassification.RPCTests;
+import org.apache.hadoop.hbase.testclassification.SmallTests;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category({RPCTests.class, SmallTests.class})
+public class TestSlowLogRingBuffer {
+
+  private static SlowLogRecord record(long startTime) {
+    return SlowLogRecord.newBuilder().setStartTime(startTime).build();
+  }
+
+  @Test
+  public void testCapacityIsRoundedUp() {
+    assertEquals(1, new SlowLogRingBuffer(1).getCapacity());
+    assertEquals(8, new SlowLogRingBuffer(5).getCapacity());
+    assertEquals(256, new SlowLogRingBuffer(256).getCapacity());
+  }
+
+  @Test
+  public void testNewestFirst() {
+    SlowLogRingBuffer buffer = new SlowLogRingBuffer(8);
+    assertTrue(buffer.get(8).isEmpty());
+    for (int i = 0; i < 3; i++) {
+      buffer.add(record(i));
+    }
+    List<SlowLogRecord> records = buffer.get(8);
+    assertEquals(3, records.size());
+    assertEquals(2, records.get(0).getStartTime());
+    assertEquals(0, records.get(2).getStartTime());
+
+    records = buffer.get(2);
+    assertEquals(2, records.size());
+    assertEquals(2, records.get(0).getStartTime());
+    assertEquals(1, records.get(1).getStartTime());
+  }
+
+  @Test
+  public void testWrapAround() {
+    SlowLogRingBuffer buffer = new SlowLogRingBuffer(4);
+    for (int i = 0; i < 10; i++) {
+      buffer.add(record(i));
+    }
+    List<SlowLogRecord> records = buffer.get(100);
+    assertEquals(4, records.size());
+    for (int i = 0; i < 4; i++) {
+      assertEquals(9 - i, records.get(i).getStartTime());
+    }
+  }
+
+  @Test
+  public void testBuildRecord() throws IOException {
+    byte[] regionName = Bytes.toBytes("t1,,1289493121758.1234567890abcdef.");
+    CallPhaseTimer timer = new CallPhaseTimer();
+    timer.add(CallPhaseTimer.Phase.FS_READ, 5000);
+    SlowLogRecord record = SlowLogRingBuffer.buildRecord(
+      RequestConverter.buildGetRequest(regionName, new Get(Bytes.toBytes("row"))), "Get",
+      "10.0.0.1", "bob", 100, 20000, 3, 1024, true, false, timer);
+    assertEquals("Get", record.getMethodName());
+    assertEquals("10.0.0.1", record.getClientAddress());
+    assertEquals("bob", record.getUserName());
+    assertEquals(Bytes.toStringBinary(regionName), record.getRegionName());
+    assertEquals(20000, record.getProcessingTime());
+    assertEquals(1024, record.getResponseSize());
+    assertTrue(record.getTooSlow());
+    assertFalse(record.getTooLarge());
+    assertEquals(1, record.getPhaseTimeCount());
+    assertEquals(5, record.getPhaseTime(0).getValue());
+
+    record = SlowLogRingBuffer.buildRecord(StopServerRequest.newBuilder().setReason("x").build(),
+      "StopServer", null, null, 100, 20000, 3, 10, true, false, null);
+    assertFalse(record.hasRegionName());
+    assertFalse(record.hasUserName());
+    assertEquals(0, record.getPhaseTimeCount());
+  }
+}
@@ -45,10 +45,17 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.io.IOException;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static junit.framework.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Category({MasterTests.class, SmallTests.class})
@@ -130,6 +137,35 @@ public class TestRegionStates {
     }
   }
 
+  @Test
+  public void testUpdateRegionStatesPersistsInOneBatch() throws Exception {
+    MasterServices server = mock(MasterServices.class);
+    when(server.getServerName()).thenReturn(ServerName.valueOf("master,1,1"));
+    Configuration configuration = mock(Configuration.class);
+    when(server.getConfiguration()).thenReturn(configuration);
+    TableStateManager tsm = mock(TableStateManager.class);
+    ServerManager sm = mock(ServerManager.class);
+    when(sm.isServerOnline(isA(ServerName.class))).thenReturn(true);
+
+    RegionStateStore rss = mock(RegionStateStore.class);
+    RegionStates regionStates = new RegionStates(server, tsm, sm, rss);
+
+    ServerName one = mockServer("one", 1);
+    List<HRegionInfo> regions = Arrays.asList(
+      createFakeRegion(), createFakeRegion(), createFakeRegion());
+    List<RegionState> states = regionStates.updateRegionStates(regions, State.PENDING_OPEN, one);
+
+    assertEquals(regions.size(), states.size());
+    for (HRegionInfo region : regions) {
+      assertTrue(regionStates.isRegionInTransition(region));
+      assertEquals(State.PENDING_OPEN, regionStates.getRegionState(region).getState());
+    }
+    verify(rss, times(1)).updateRegionStates(anyListOf(RegionState.class),
+      anyListOf(RegionState.class));
+    verify(rss, never()).updateRegionState(anyLong(), any(RegionState.class),
+      any(RegionState.class));
+  }
+
   private HRegionInfo createFakeRegion() {
     HRegionInfo info = mock(HRegionInfo.class);
     when(info.getEncodedName()).thenReturn(UUID.randomUUID().toString());
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -277,6 +278,65 @@ public class TestStochasticLoadBalancer extends BalancerTestBase {
     assertEquals(0.5, costFunction.costFromArray(statThree), 0.01);
   }
 
+  @Test
+  public void testRequestCostIsRate() {
+    Configuration conf = HBaseConfiguration.create();
+    StochasticLoadBalancer.CostFromRegionLoadFunction
+        costFunction = new StochasticLoadBalancer.ReadRequestCostFunction(conf);
+
+    // Counters grow by 10 per report, the rate is therefore 10 regardless of the totals.
+    List<RegionLoad> regionLoads = new ArrayList<RegionLoad>();
+    for (long count : new long[] { 1000, 1010, 1020, 1030 }) {
+      RegionLoad rl = mock(RegionLoad.class);
+      when(rl.getReadRequestsCount()).thenReturn(count);
+      regionLoads.add(rl);
+    }
+    assertEquals(10, costFunction.getRegionLoadCost(regionLoads), 0.01);
+
+    // A counter reset (the region was reopened) counts the new value as the delta.
+    RegionLoad reset = mock(RegionLoad.class);
+    when(reset.getReadRequestsCount()).thenReturn(10L);
+    regionLoads.add(reset);
+    assertEquals(10, costFunction.getRegionLoadCost(regionLoads), 0.01);
+
+    // A single report carries no rate information.
+    assertEquals(0, costFunction.getRegionLoadCost(regionLoads.subList(0, 1)), 0.01);
+  }
+
+  @Test
+  public void testRequestLoadCandidateGenerator() {
+    StochasticLoadBalancer.RequestLoadCandidateGenerator generator =
+        new StochasticLoadBalancer.RequestLoadCandidateGenerator();
+    // Without any region loads there is nothing to go on.
+    assertEquals(BaseLoadBalancer.Cluster.NullAction,
+        generator.generate(mockCluster(new int[] { 3, 3, 3 })));
+
+    // Give every region a rate of 1 except two regions on server 0 which get 10.
+    BaseLoadBalancer.Cluster cluster = mockCluster(new int[] { 3, 3, 3 });
+    int hotRegion = cluster.regionsPerServer[0][0];
+    int otherHotRegion = cluster.regionsPerServer[0][1];
+    for (int i = 0; i < cluster.numRegions; i++) {
+      cluster.regionLoads[i] = mockRequestLoads(i == hotRegion || i == otherHotRegion ? 10 : 1);
+    }
+    BaseLoadBalancer.Cluster.Action action = generator.generate(cluster);
+    assertEquals(BaseLoadBalancer.Cluster.Action.Type.MOVE_REGION, action.type);
+    BaseLoadBalancer.Cluster.MoveRegionAction move =
+        (BaseLoadBalancer.Cluster.MoveRegionAction) action;
+    assertTrue(move.region == hotRegion || move.region == otherHotRegion);
+    assertEquals(0, move.fromServer);
+    assertTrue(move.toServer != 0);
+  }
+
+  private ArrayDeque<RegionLoad> mockRequestLoads(long rate) {
+    ArrayDeque<RegionLoad> loads = new ArrayDeque<RegionLoad>();
+    for (int i = 0; i < 3; i++) {
+      RegionLoad rl = mock(RegionLoad.class);
+      when(rl.getRequestsCount()).thenReturn(i * rate);
+      loads.add(rl);
+    }
+    return loads;
+  }
+
   @Test(timeout =  60000)
   public void testLosingRs() throws Exception {
     int numNodes = 3;
@@ -200,10 +200,38 @@ public class TestQuotaState {
     assertNoopLimiter(quotaInfo.getTableLimiter(UNKNOWN_TABLE_NAME));
   }
 
+  @Test(timeout=60000)
+  public void testClusterScopeQuota() {
+    final TableName table = TableName.valueOf("testClusterScopeQuota");
+    final int limit = 100;
+    final int machineLimit = 25;
+
+    // A cluster scope limit is split by the share of this machine
+    Quotas quotas = QuotaUtil.updateClusterQuotaToMachineQuota(
+      buildReqNumThrottle(limit, QuotaScope.CLUSTER), 0.25);
+    assertEquals(machineLimit, quotas.getThrottle().getReqNum().getSoftLimit());
+    UserQuotaState quotaInfo = new UserQuotaState();
+    quotaInfo.setQuotas(table, quotas);
+    assertThrottleException(quotaInfo.getTableLimiter(table), machineLimit);
+
+    // A machine scope limit is enforced as is
+    quotas = QuotaUtil.updateClusterQuotaToMachineQuota(buildReqNumThrottle(limit), 0.25);
+    assertEquals(limit, quotas.getThrottle().getReqNum().getSoftLimit());
+
+    // Servers without a share still let requests through at a minimal rate
+    quotas = QuotaUtil.updateClusterQuotaToMachineQuota(
+      buildReqNumThrottle(limit, QuotaScope.CLUSTER), 0);
+    assertEquals(1, quotas.getThrottle().getReqNum().getSoftLimit());
+  }
+
   private Quotas buildReqNumThrottle(final long limit) {
+    return buildReqNumThrottle(limit, QuotaScope.MACHINE);
+  }
+
+  private Quotas buildReqNumThrottle(final long limit, final QuotaScope scope) {
     return Quotas.newBuilder()
             .setThrottle(Throttle.newBuilder()
-              .setReqNum(ProtobufUtil.toTimedQuota(limit, TimeUnit.MINUTES, QuotaScope.MACHINE))
+              .setReqNum(ProtobufUtil.toTimedQuota(limit, TimeUnit.MINUTES, scope))
               .build())
             .build();
   }
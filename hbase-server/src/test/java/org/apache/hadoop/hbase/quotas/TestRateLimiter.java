@@ -22,9 +22,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.hadoop.hbase.util.EnvironmentEdgeManager;
+import org.apache.hadoop.hbase.util.ManualEnvironmentEdge;
 import org.apache.hadoop.hbase.testclassification.RegionServerTests;
 import org.apache.hadoop.hbase.testclassification.SmallTests;
 import org.junit.Test;
@@ -285,4 +288,98 @@ public class TestRateLimiter {
     limiter.setNextRefillTime(limiter.getNextRefillTime() - 5000);
     assertEquals(60, limiter.refill(limiter.getLimit()));
   }
+
+  @Test
+  public void testTokenBucketRateLimiterRefill() {
+    ManualEnvironmentEdge edge = new ManualEnvironmentEdge();
+    edge.setValue(1000);
+    EnvironmentEdgeManager.injectEdge(edge);
+    try {
+      RateLimiter limiter = new TokenBucketRateLimiter();
+      limiter.set(10, TimeUnit.SECONDS);
+      assertTrue(limiter.canExecute(10));
+      limiter.consume(20);
+      assertEquals(0, limiter.getAvailable());
+      // To consume 1 resource wait for 100ms, for 10 resources 1000ms
+      assertEquals(100, limiter.waitInterval(1));
+      assertEquals(1000, limiter.waitInterval(10));
+
+      // After 150ms one resource is refilled, the other 50ms count towards the next one
+      edge.incValue(150);
+      assertTrue(limiter.canExecute(1));
+      assertFalse(limiter.canExecute(2));
+      assertEquals(1, limiter.getAvailable());
+      assertEquals(50, limiter.waitInterval(2));
+      edge.incValue(50);
+      assertTrue(limiter.canExecute(2));
+      assertEquals(2, limiter.getAvailable());
+
+      // No more than the limit is refilled after a long pause
+      edge.incValue(5000);
+      assertTrue(limiter.canExecute(10));
+      assertFalse(limiter.canExecute(11));
+      assertEquals(10, limiter.getAvailable());
+    } finally {
+      EnvironmentEdgeManager.reset();
+    }
+  }
+
+  @Test
+  public void testTokenBucketRateLimiterUpdate() {
+    RateLimiter limiter = new TokenBucketRateLimiter();
+    limiter.set(10, TimeUnit.DAYS);
+    limiter.setNextRefillTime(EnvironmentEdgeManager.currentTime());
+    limiter.consume(8);
+    assertEquals(2, limiter.getAvailable());
+
+    // A higher limit makes the difference available right away
+    RateLimiter other = new TokenBucketRateLimiter();
+    other.set(15, TimeUnit.DAYS);
+    limiter.update(other);
+    assertEquals(15, limiter.getLimit());
+    assertEquals(7, limiter.getAvailable());
+    assertTrue(limiter.canExecute(7));
+    assertFalse(limiter.canExecute(8));
+  }
+
+  @Test
+  public void testTokenBucketRateLimiterConcurrentConsume() throws Exception {
+    final int numThreads = 32;
+    final int numConsumes = 20;
+    final RateLimiter limiter = new TokenBucketRateLimiter();
+    // Less than one resource is refilled per minute, so none during the test
+    limiter.set(1000, TimeUnit.DAYS);
+    limiter.setNextRefillTime(EnvironmentEdgeManager.currentTime());
+
+    final CountDownLatch start = new CountDownLatch(1);
+    // Asserts in the threads would not fail the test, so count and check here
+    final AtomicInteger rejected = new AtomicInteger();
+    Thread[] threads = new Thread[numThreads];
+    for (int i = 0; i < numThreads; ++i) {
+      threads[i] = new Thread() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int j = 0; j < numConsumes; ++j) {
+            if (!limiter.canExecute()) {
+              rejected.incrementAndGet();
+            }
+            limiter.consume();
+          }
+        }
+      };
+      threads[i].start();
+    }
+    start.countDown();
+    for (Thread t : threads) {
+      t.join();
+    }
+    assertEquals(0, rejected.get());
+    // No consumption is lost when all the threads hit the limiter at once
+    assertEquals(1000 - numThreads * numConsumes, limiter.getAvailable());
+  }
 }
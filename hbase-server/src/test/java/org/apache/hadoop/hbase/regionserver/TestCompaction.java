@@ -22,6 +22,7 @@ import static org.apache.hadoop.hbase.HBaseTestingUtility.START_KEY;
 import static org.apache.hadoop.hbase.HBaseTestingUtility.START_KEY_BYTES;
 import static org.apache.hadoop.hbase.HBaseTestingUtility.fam1;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
@@ -35,7 +36,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -44,22 +47,33 @@ import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.CellUtil;
 import org.apache.hadoop.hbase.ChoreService;
 import org.apache.hadoop.hbase.HBaseConfiguration;
 import org.apache.hadoop.hbase.HBaseTestCase;
 import org.apache.hadoop.hbase.HBaseTestCase.HRegionIncommon;
 import org.apache.hadoop.hbase.HBaseTestingUtility;
+import org.apache.hadoop.hbase.HColumnDescriptor;
 import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.HRegionInfo;
 import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.MockRegionServerServices;
 import org.apache.hadoop.hbase.testclassification.MediumTests;
 import org.apache.hadoop.hbase.testclassification.RegionServerTests;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Durability;
 import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.io.compress.Compression;
+import org.apache.hadoop.hbase.io.hfile.HFile;
 import org.apache.hadoop.hbase.io.hfile.HFileScanner;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionContext;
+import org.apache.hadoop.hbase.regionserver.compactions.CompactionJob;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionRequest;
+import org.apache.hadoop.hbase.regionserver.compactions.CompactionService;
+import org.apache.hadoop.hbase.regionserver.compactions.CompactionServiceFactory;
+import org.apache.hadoop.hbase.regionserver.compactions.Compactor;
 import org.apache.hadoop.hbase.regionserver.compactions.DefaultCompactor;
+import org.apache.hadoop.hbase.regionserver.compactions.InProcessCompactionService;
 import org.apache.hadoop.hbase.regionserver.compactions.NoLimitCompactionThroughputController;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionThroughputController;
 import org.apache.hadoop.hbase.regionserver.compactions.CompactionThroughputControllerFactory;
@@ -270,6 +284,124 @@ public class TestCompaction {
         "thrown while completing a corrupt file");
   }
 
+  /**
+   * Verify that compactions run through the configured compaction service and that the
+   * files it returns are committed to the store.
+   */
+  @Test
+  public void testCompactionService() throws Exception {
+    WAL wal = r.getWAL();
+    r.close();
+    wal.close();
+    htd.setConfiguration(CompactionServiceFactory.HBASE_COMPACTION_SERVICE_KEY,
+      CountingCompactionService.class.getName());
+    r = UTIL.createLocalHRegion(htd, null, null);
+    CountingCompactionService.compactions.set(0);
+
+    for (int i = 0; i < compactionThreshold; i++) {
+      createStoreFile(r);
+    }
+    int countBefore = count();
+    r.compact(true);
+    assertEquals(1, CountingCompactionService.compactions.get());
+    assertEquals(1, r.getStore(COLUMN_FAMILY).getStorefilesCount());
+    assertEquals(countBefore, count());
+  }
+
+  /**
+   * Verify that the stores of a region opened by a regionserver share its compaction service,
+   * unless the family configures a different compaction service class.
+   */
+  @Test
+  public void testSharedCompactionService() throws Exception {
+    final CountingCompactionService shared = new CountingCompactionService();
+    RegionServerServices rss = new MockRegionServerServices(conf) {
+      @Override
+      public CompactionService getCompactionService() {
+        return shared;
+      }
+    };
+    // The table configures the class the regionserver uses, so the store shares its instance
+    htd.setConfiguration(CompactionServiceFactory.HBASE_COMPACTION_SERVICE_KEY,
+      CountingCompactionService.class.getName());
+    reopenRegion(rss);
+    CountingCompactionService.compactions.set(0);
+    for (int i = 0; i < compactionThreshold; i++) {
+      createStoreFile(r);
+    }
+    r.compact(true);
+    assertEquals(1, shared.ownCompactions.get());
+    assertEquals(1, CountingCompactionService.compactions.get());
+    assertEquals(1, r.getStore(COLUMN_FAMILY).getStorefilesCount());
+
+    // The family overrides the class, so the store gets an instance of its own
+    htd.getFamily(COLUMN_FAMILY).setConfiguration(
+      CompactionServiceFactory.HBASE_COMPACTION_SERVICE_KEY,
+      InProcessCompactionService.class.getName());
+    reopenRegion(rss);
+    for (int i = 0; i < compactionThreshold; i++) {
+      createStoreFile(r);
+    }
+    r.compact(true);
+    assertEquals(1, shared.ownCompactions.get());
+    assertEquals(1, CountingCompactionService.compactions.get());
+    assertEquals(1, r.getStore(COLUMN_FAMILY).getStorefilesCount());
+  }
+
+  private void reopenRegion(RegionServerServices rss) throws IOException {
+    HRegionInfo hri = r.getRegionInfo();
+    WAL wal = r.getWAL();
+    r.close();
+    r = HRegion.openHRegion(conf, FileSystem.get(conf), UTIL.getDataTestDir(), hri, htd, wal,
+      rss, null);
+  }
+
+  /**
+   * With dictionary training enabled, a compaction of a GZ family writes a file that keeps the
+   * dictionary in its file info and reads back.
+   */
+  @Test
+  public void testCompactionTrainsCompressionDictionary() throws Exception {
+    WAL wal = r.getWAL();
+    r.close();
+    wal.close();
+    HColumnDescriptor family = htd.getFamily(COLUMN_FAMILY);
+    family.setCompressionType(Compression.Algorithm.GZ);
+    family.setConfiguration(Compactor.COMPRESSION_DICTIONARY_ENABLED_KEY, "true");
+    r = UTIL.createLocalHRegion(htd, null, null);
+
+    // Small values with the same fields, the kind a dictionary helps
+    Random rand = new Random(1);
+    List<byte[]> values = new ArrayList<byte[]>();
+    for (int i = 0; i < compactionThreshold; i++) {
+      for (int j = 0; j < 500; j++) {
+        byte[] value = Bytes.toBytes("{\"user_id\":" + rand.nextInt(1000000)
+            + ",\"account_state\":\"active\",\"preferences\":{\"newsletter\":"
+            + rand.nextBoolean() + "}}");
+        Put p = new Put(Bytes.toBytes(String.format("row%05d", values.size())));
+        p.setDurability(Durability.SKIP_WAL);
+        p.add(COLUMN_FAMILY, Bytes.toBytes("q"), value);
+        r.put(p);
+        values.add(value);
+      }
+      r.flush(true);
+    }
+    r.compact(true);
+
+    Store store = r.getStore(COLUMN_FAMILY);
+    assertEquals(1, store.getStorefilesCount());
+    StoreFile file = store.getStorefiles().iterator().next();
+    assertNotNull(file.getMetadataValue(HFile.FileInfo.COMPRESSION_DICTIONARY));
+    assertNotNull(file.getReader().getHFileReader().getFileContext().getCompressionDictionary());
+    HFileScanner scanner = file.getReader().getScanner(false, false);
+    assertTrue(scanner.seekTo());
+    int i = 0;
+    do {
+      assertTrue(Bytes.equals(values.get(i++), CellUtil.cloneValue(scanner.getCell())));
+    } while (scanner.next());
+    assertEquals(values.size(), i);
+  }
+
   /**
    * Create a custom compaction request and be sure that we can track it through the queue, knowing
    * when the compaction is completed.
@@ -588,4 +720,22 @@ public class TestCompaction {
       this.done.countDown();
     }
   }
+
+  /**
+   * {@link InProcessCompactionService} that counts the compactions it runs.
+   */
+  public static class CountingCompactionService extends InProcessCompactionService {
+    /** Compactions run by all instances */
+    static final AtomicInteger compactions = new AtomicInteger();
+    /** Compactions run by this instance */
+    final AtomicInteger ownCompactions = new AtomicInteger();
+
+    @Override
+    public List<Path> compact(CompactionJob job,
+        CompactionThroughputController throughputController) throws IOException {
+      compactions.incrementAndGet();
+      ownCompactions.incrementAndGet();
+      return super.compact(job, throughputController);
+    }
+  }
 }
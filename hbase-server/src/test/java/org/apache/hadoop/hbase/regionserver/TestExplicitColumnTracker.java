@@ -174,6 +174,32 @@ public class TestExplicitColumnTracker {
     }
   }
 
+  @Test
+  public void testVersionCountPerColumnAndRow() throws IOException {
+    TreeSet<byte[]> columns = new TreeSet<byte[]>(Bytes.BYTES_COMPARATOR);
+    columns.add(col2);
+    columns.add(col4);
+    ColumnTracker explicit = new ExplicitColumnTracker(columns, 0, 2, Long.MIN_VALUE);
+    byte type = KeyValue.Type.Put.getCode();
+
+    // One version of col2, then the count starts over for col4
+    assertEquals(MatchCode.INCLUDE,
+      ScanQueryMatcher.checkColumn(explicit, col2, 0, col2.length, 10, type, false));
+    assertEquals(MatchCode.INCLUDE,
+      ScanQueryMatcher.checkColumn(explicit, col4, 0, col4.length, 10, type, false));
+    assertEquals(MatchCode.INCLUDE_AND_SEEK_NEXT_ROW,
+      ScanQueryMatcher.checkColumn(explicit, col4, 0, col4.length, 9, type, false));
+
+    // The count starts over for the next row
+    explicit.reset();
+    assertEquals(MatchCode.INCLUDE,
+      ScanQueryMatcher.checkColumn(explicit, col2, 0, col2.length, 10, type, false));
+    assertEquals(MatchCode.INCLUDE_AND_SEEK_NEXT_COL,
+      ScanQueryMatcher.checkColumn(explicit, col2, 0, col2.length, 9, type, false));
+    assertEquals(MatchCode.SEEK_NEXT_COL,
+      ScanQueryMatcher.checkColumn(explicit, col3, 0, col3.length, 10, type, false));
+  }
+
   /**
    * Regression test for HBASE-2545
    */
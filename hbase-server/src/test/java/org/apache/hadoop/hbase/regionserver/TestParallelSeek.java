@@ -0,0 +1,234 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HBaseTestingUtility;
+import org.apache.hadoop.hbase.HColumnDescriptor;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.HRegionInfo;
+import org.apache.hadoop.hbase.HTableDescriptor;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.MockRegionServerServices;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.executor.EventHandler;
+import org.apache.hadoop.hbase.executor.ExecutorService;
+import org.apache.hadoop.hbase.executor.ExecutorType;
+import org.apache.hadoop.hbase.testclassification.MediumTests;
+import org.apache.hadoop.hbase.testclassification.RegionServerTests;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.wal.WAL;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TestName;
+
+/**
+ * Tests the parallel seek of {@link StoreScanner} in a region that runs with
+ * {@link RegionServerServices}, over store files of which some are cached and some are not.
+ */
+@Category({RegionServerTests.class, MediumTests.class})
+public class TestParallelSeek {
+  private static final HBaseTestingUtility HTU = HBaseTestingUtility.createLocalHTU();
+  private static final byte[] FAMILY = Bytes.toBytes("f");
+  private static final byte[] ROW = Bytes.toBytes("row");
+  private static final int NUM_FILES = 4;
+
+  @Rule public TestName name = new TestName();
+
+  private CountingExecutorService executor;
+  private HRegion region;
+
+  /**
+   * Counts the seeks handed to the pool.
+   */
+  private static class CountingExecutorService extends ExecutorService {
+    final AtomicInteger submitted = new AtomicInteger();
+
+    CountingExecutorService(String servername) {
+      super(servername);
+    }
+
+    @Override
+    public void submit(EventHandler eh) {
+      submitted.incrementAndGet();
+      super.submit(eh);
+    }
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    HBaseTestingUtility.closeRegionAndWAL(region);
+    executor.shutdown();
+  }
+
+  /**
+   * Opens a region with parallel seek on, and one store file per column of {@link #ROW}.
+   */
+  private void createRegion(long maxRowSize, int valueSize) throws IOException {
+    Configuration conf = new Configuration(HTU.getConfiguration());
+    conf.setBoolean(StoreScanner.STORESCANNER_PARALLEL_SEEK_ENABLE, true);
+    conf.setLong(HConstants.TABLE_MAX_ROWSIZE_KEY, maxRowSize);
+    executor = new CountingExecutorService(name.getMethodName());
+    executor.startExecutorService(ExecutorType.RS_PARALLEL_SEEK, NUM_FILES);
+    final ExecutorService rsExecutor = executor;
+    RegionServerServices rss = new MockRegionServerServices(conf) {
+      @Override
+      public ExecutorService getExecutorService() {
+        return rsExecutor;
+      }
+    };
+
+    HTableDescriptor htd = new HTableDescriptor(TableName.valueOf(name.getMethodName()));
+    htd.addFamily(new HColumnDescriptor(FAMILY));
+    HRegionInfo hri = new HRegionInfo(htd.getTableName(), null, null);
+    Path rootDir = HTU.getDataTestDir(name.getMethodName());
+    HRegion created = HBaseTestingUtility.createRegionAndWAL(hri, rootDir, conf, htd);
+    WAL wal = created.getWAL();
+    created.close();
+    region = HRegion.openHRegion(conf, FileSystem.get(conf), rootDir, hri, htd, wal, rss, null);
+
+    for (int i = 0; i < NUM_FILES; i++) {
+      Put put = new Put(ROW);
+      put.add(FAMILY, Bytes.toBytes(i), new byte[valueSize]);
+      region.put(put);
+      region.flush(true);
+    }
+    assertEquals(NUM_FILES, region.getStore(FAMILY).getStorefilesCount());
+  }
+
+  private void evict(StoreFile file) {
+    HStore store = (HStore) region.getStore(FAMILY);
+    store.getCacheConfig().getBlockCache().evictBlocksByHfileName(file.getPath().getName());
+  }
+
+  /**
+   * Returns the number of seeks the get handed to the pool.
+   */
+  private int getRow() throws IOException {
+    int before = executor.submitted.get();
+    Result result = region.get(new Get(ROW));
+    assertEquals(NUM_FILES, result.size());
+    for (int i = 0; i < NUM_FILES; i++) {
+      assertTrue(CellUtil.matchingQualifier(result.rawCells()[i], Bytes.toBytes(i)));
+    }
+    return executor.submitted.get() - before;
+  }
+
+  @Test
+  public void testOnlyUncachedFilesSeekInPool() throws IOException {
+    createRegion(HConstants.TABLE_MAX_ROWSIZE_DEFAULT, 10);
+    // Nothing cached: the caller seeks one file itself, the pool the others
+    assertEquals(NUM_FILES - 1, getRow());
+    // All cached: everything is seeked inline
+    assertEquals(0, getRow());
+    // Two cached, two not: the caller seeks one uncached file, the pool the other
+    List<StoreFile> files = new ArrayList<StoreFile>(region.getStore(FAMILY).getStorefiles());
+    evict(files.get(0));
+    evict(files.get(1));
+    assertEquals(1, getRow());
+    // A single uncached file is seeked by the caller
+    evict(files.get(2));
+    assertEquals(0, getRow());
+  }
+
+  @Test
+  public void testRowTooBig() throws IOException {
+    createRegion(1024, 1024);
+    // Uncached files, seeked by the pool
+    try {
+      region.get(new Get(ROW));
+      fail("Should have thrown RowTooBigException");
+    } catch (RowTooBigException e) {
+      // expected
+    }
+    assertEquals(NUM_FILES - 1, executor.submitted.get());
+    // The seeks above cached the blocks, so these are seeked inline
+    try {
+      region.get(new Get(ROW));
+      fail("Should have thrown RowTooBigException");
+    } catch (RowTooBigException e) {
+      // expected
+    }
+    assertEquals(NUM_FILES - 1, executor.submitted.get());
+  }
+
+  private static StoreFileScanner mockColdScanner(Cell key, boolean fail) throws IOException {
+    StoreFileScanner scanner = mock(StoreFileScanner.class);
+    when(scanner.isSeekCached(key)).thenReturn(false);
+    if (fail) {
+      when(scanner.seek(key)).thenThrow(new IOException("injected"));
+    } else {
+      when(scanner.seek(key)).thenReturn(true);
+    }
+    return scanner;
+  }
+
+  private void checkSeekError(boolean callerFails) throws IOException {
+    StoreScanner scanner = (StoreScanner) region.getStore(FAMILY).getScanner(new Scan(), null,
+      Long.MAX_VALUE);
+    try {
+      assertTrue(scanner.isParallelSeekEnabled);
+      Cell key = KeyValueUtil.createFirstOnRow(ROW);
+      // The caller seeks the first cold scanner, the pool the others
+      List<StoreFileScanner> scanners = Arrays.asList(mockColdScanner(key, callerFails),
+        mockColdScanner(key, false), mockColdScanner(key, !callerFails));
+      try {
+        scanner.seekScanners(scanners, key, false, true);
+        fail("Should have thrown IOException");
+      } catch (IOException e) {
+        // expected
+      }
+      // The error is only thrown once all the seeks are done
+      for (StoreFileScanner s : scanners) {
+        verify(s).seek(key);
+      }
+    } finally {
+      scanner.close();
+    }
+  }
+
+  @Test
+  public void testSeekErrors() throws IOException {
+    createRegion(HConstants.TABLE_MAX_ROWSIZE_DEFAULT, 10);
+    checkSeekError(true);
+    checkSeekError(false);
+  }
+}
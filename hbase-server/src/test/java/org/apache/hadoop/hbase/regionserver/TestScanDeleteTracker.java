@@ -120,6 +120,30 @@ public class TestScanDeleteTracker extends HBaseTestCase {
   }
 
 
+  @Test
+  public void testDeletedBy_MultipleDeleteFamilyVersions() {
+    byte [] qualifier = Bytes.toBytes("qualifier");
+    long[] deletedStamps = { timestamp + 5, timestamp, timestamp + 9, timestamp - 3, timestamp };
+    for (long ts : deletedStamps) {
+      sdt.add(new KeyValue(Bytes.toBytes("row"), Bytes.toBytes("f"), null, ts,
+          KeyValue.Type.DeleteFamilyVersion));
+    }
+    for (long ts = timestamp - 5; ts <= timestamp + 10; ts++) {
+      boolean deleted = ts == timestamp - 3 || ts == timestamp || ts == timestamp + 5
+          || ts == timestamp + 9;
+      KeyValue kv = new KeyValue(Bytes.toBytes("row"), Bytes.toBytes("f"), qualifier, ts,
+          KeyValue.Type.Put);
+      assertEquals(deleted ? DeleteResult.FAMILY_VERSION_DELETED : DeleteResult.NOT_DELETED,
+          sdt.isDeleted(kv));
+    }
+    assertFalse(sdt.isEmpty());
+
+    sdt.reset();
+    assertTrue(sdt.isEmpty());
+    assertEquals(DeleteResult.NOT_DELETED, sdt.isDeleted(new KeyValue(Bytes.toBytes("row"),
+        Bytes.toBytes("f"), qualifier, timestamp, KeyValue.Type.Put)));
+  }
+
   @Test
   public void testDelete_DeleteColumn() {
     byte [] qualifier = Bytes.toBytes("qualifier");
@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.TreeSet;
 
 import org.apache.commons.logging.Log;
@@ -42,12 +43,18 @@ import org.apache.hadoop.hbase.HRegionInfo;
 import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.KeyValueUtil;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.Tag;
+import org.apache.hadoop.hbase.TagType;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.io.HFileLink;
+import org.apache.hadoop.hbase.io.compress.Compression;
+import org.apache.hadoop.hbase.io.compress.DictionaryTrainer;
 import org.apache.hadoop.hbase.io.encoding.DataBlockEncoding;
 import org.apache.hadoop.hbase.io.hfile.BlockCache;
 import org.apache.hadoop.hbase.io.hfile.CacheConfig;
 import org.apache.hadoop.hbase.io.hfile.CacheStats;
+import org.apache.hadoop.hbase.io.hfile.CompoundBloomFilter;
+import org.apache.hadoop.hbase.io.hfile.HFileBlockIndex;
 import org.apache.hadoop.hbase.io.hfile.HFileContext;
 import org.apache.hadoop.hbase.io.hfile.HFileContextBuilder;
 import org.apache.hadoop.hbase.io.hfile.HFileDataBlockEncoder;
@@ -529,6 +536,121 @@ public class TestStoreFile extends HBaseTestCase {
     bloomWriteRead(writer, fs);
   }
 
+  @Test
+  public void testCompressionDictionary() throws Exception {
+    // Small blocks of every kind, so the file has several data blocks, a multi-level index and
+    // several Bloom chunks. Only the data blocks are compressed against the dictionary.
+    Configuration dictConf = new Configuration(conf);
+    dictConf.setBoolean(BloomFilterFactory.IO_STOREFILE_BLOOM_ENABLED, true);
+    dictConf.setInt(BloomFilterFactory.IO_STOREFILE_BLOOM_BLOCK_SIZE, 128);
+    dictConf.setInt(HFileBlockIndex.MAX_CHUNK_SIZE_KEY, 128);
+    Random rand = new Random(1);
+    List<byte[]> values = new ArrayList<byte[]>();
+    for (int i = 0; i < 2000; i++) {
+      values.add(Bytes.toBytes("{\"user_id\":" + rand.nextInt(1000000)
+          + ",\"account_state\":\"active\",\"preferences\":{\"newsletter\":"
+          + rand.nextBoolean() + "}}"));
+    }
+    byte[] dictionary = DictionaryTrainer.train(values, 4 * 1024);
+    assertNotNull(dictionary);
+
+    Path f = new Path(ROOT_DIR, getName());
+    HFileContext meta = new HFileContextBuilder().withBlockSize(1024)
+                        .withCompression(Compression.Algorithm.GZ)
+                        .withCompressionDictionary(dictionary)
+                        .withChecksumType(CKTYPE)
+                        .withBytesPerCheckSum(CKBYTES).build();
+    StoreFile.Writer writer = new StoreFile.WriterBuilder(dictConf, cacheConf, this.fs)
+            .withFilePath(f)
+            .withBloomType(BloomType.ROW)
+            .withMaxKeyCount(values.size())
+            .withFileContext(meta)
+            .build();
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < values.size(); i++) {
+      writer.append(new KeyValue(Bytes.toBytes(String.format(localFormatter, i)),
+        Bytes.toBytes("family"), Bytes.toBytes("col"), now, values.get(i)));
+    }
+    writer.close();
+
+    StoreFile.Reader reader = new StoreFile.Reader(fs, f, cacheConf, dictConf);
+    try {
+      reader.loadFileInfo();
+      reader.loadBloomfilter();
+      assertTrue(Bytes.equals(dictionary,
+        reader.getHFileReader().getFileContext().getCompressionDictionary()));
+      assertTrue(reader.getHFileReader().getTrailer().getNumDataIndexLevels() > 1);
+      assertTrue(((CompoundBloomFilter) reader.getGeneralBloomFilter()).getNumChunks() > 1);
+
+      StoreFileScanner scanner = reader.getStoreFileScanner(false, false);
+      for (int i = 0; i < values.size(); i++) {
+        byte[] row = Bytes.toBytes(String.format(localFormatter, i));
+        assertTrue(reader.passesGeneralBloomFilter(row, 0, row.length, null, 0, 0));
+        // Seeks through the index to the data block of the row
+        assertTrue(scanner.seek(KeyValueUtil.createFirstOnRow(row)));
+        Cell cell = scanner.peek();
+        assertTrue(CellUtil.matchingRow(cell, row));
+        assertTrue(Bytes.equals(values.get(i), CellUtil.cloneValue(cell)));
+      }
+      scanner.close();
+    } finally {
+      reader.close(true);
+      fs.delete(f, true);
+    }
+  }
+
+  @Test
+  public void testLazyLoadBloomFilter() throws Exception {
+    Configuration lazyConf = new Configuration(conf);
+    lazyConf.setBoolean(BloomFilterFactory.IO_STOREFILE_BLOOM_ENABLED, true);
+    lazyConf.setBoolean(BloomFilterFactory.IO_STOREFILE_BLOOM_LAZY_LOAD, true);
+
+    // write the file
+    Path f = new Path(ROOT_DIR, getName());
+    HFileContext meta = new HFileContextBuilder().withBlockSize(BLOCKSIZE_SMALL)
+                        .withChecksumType(CKTYPE)
+                        .withBytesPerCheckSum(CKBYTES).build();
+    StoreFile.Writer writer = new StoreFile.WriterBuilder(lazyConf, cacheConf, this.fs)
+            .withFilePath(f)
+            .withBloomType(BloomType.ROW)
+            .withMaxKeyCount(2000)
+            .withFileContext(meta)
+            .build();
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < 2000; i += 2) {
+      String row = String.format(localFormatter, i);
+      writer.append(new KeyValue(row.getBytes(), "family".getBytes(),
+        "col".getBytes(), now, "value".getBytes()));
+    }
+    writer.close();
+
+    StoreFile sf = new StoreFile(this.fs, writer.getPath(), lazyConf, cacheConf,
+      BloomType.ROW);
+    StoreFile.Reader reader = sf.createReader();
+    // Opening the file does not load the Bloom filter, but its sizes are known ...
+    assertNull(reader.generalBloomFilter);
+    long bloomSize = reader.getTotalBloomSize();
+    assertTrue(bloomSize > 0);
+    assertEquals(1000, reader.getFilterEntries());
+    // ... the first check loads it, and it works as usual afterwards
+    byte[] row = Bytes.toBytes(String.format(localFormatter, 0));
+    assertTrue(reader.passesGeneralBloomFilter(row, 0, row.length, null, 0, 0));
+    assertNotNull(reader.generalBloomFilter);
+    assertEquals(bloomSize, reader.getTotalBloomSize());
+    assertEquals(1000, reader.getFilterEntries());
+    sf.closeReader(true);
+
+    // A filter disabled before it was loaded stays disabled
+    reader = sf.createReader();
+    reader.disableBloomFilterForTesting();
+    assertEquals(0, reader.getTotalBloomSize());
+    row = Bytes.toBytes(String.format(localFormatter, 1));
+    assertTrue(reader.passesGeneralBloomFilter(row, 0, row.length, null, 0, 0));
+    assertNull(reader.generalBloomFilter);
+    sf.closeReader(true);
+    this.fs.delete(writer.getPath(), true);
+  }
+
   @Test
   public void testDeleteFamilyBloomFilter() throws Exception {
     FileSystem fs = FileSystem.getLocal(conf);
@@ -706,6 +828,61 @@ public class TestStoreFile extends HBaseTestCase {
     }
   }
 
+  @Test
+  public void testMultiColumnRowColBloom() throws Exception {
+    FileSystem fs = FileSystem.getLocal(conf);
+    conf.setFloat(BloomFilterFactory.IO_STOREFILE_BLOOM_ERROR_RATE, (float) 0.001);
+    conf.setBoolean(BloomFilterFactory.IO_STOREFILE_BLOOM_ENABLED, true);
+    byte[] family = Bytes.toBytes("family");
+    byte[] deletedRow = Bytes.toBytes("row2");
+
+    Path f = new Path(ROOT_DIR, getName());
+    HFileContext meta = new HFileContextBuilder().withBlockSize(BLOCKSIZE_SMALL)
+        .withChecksumType(CKTYPE)
+        .withBytesPerCheckSum(CKBYTES).build();
+    StoreFile.Writer writer = new StoreFile.WriterBuilder(conf, cacheConf, this.fs)
+        .withFilePath(f)
+        .withBloomType(BloomType.ROWCOL)
+        .withMaxKeyCount(10)
+        .withFileContext(meta)
+        .build();
+    long now = System.currentTimeMillis();
+    writer.append(new KeyValue(Bytes.toBytes("row1"), family, Bytes.toBytes("col0"), now,
+        Bytes.toBytes("value")));
+    writer.append(new KeyValue(Bytes.toBytes("row1"), family, Bytes.toBytes("col2"), now,
+        Bytes.toBytes("value")));
+    writer.append(new KeyValue(deletedRow, family, null, now, KeyValue.Type.DeleteFamily));
+    writer.close();
+
+    StoreFile.Reader reader = new StoreFile.Reader(fs, f, cacheConf, conf);
+    reader.loadFileInfo();
+    reader.loadBloomfilter();
+    StoreFileScanner scanner = reader.getStoreFileScanner(false, false);
+
+    // None of the columns are in the file for the row
+    assertFalse(shouldUseScanner(scanner, Bytes.toBytes("row1"), "col1", "col3", "col5"));
+    // One of the columns is in the file
+    assertTrue(shouldUseScanner(scanner, Bytes.toBytes("row1"), "col1", "col2", "col5"));
+    // The row is not in the file
+    assertFalse(shouldUseScanner(scanner, Bytes.toBytes("row3"), "col0", "col2"));
+    // The family delete marker must be seen even if none of the columns are in the file
+    assertTrue(shouldUseScanner(scanner, deletedRow, "col0", "col2"));
+
+    reader.close(true);
+    fs.delete(f, true);
+  }
+
+  private static boolean shouldUseScanner(StoreFileScanner scanner, byte[] row,
+      String... qualifiers) {
+    Scan scan = new Scan(row, row);
+    TreeSet<byte[]> columns = new TreeSet<byte[]>(Bytes.BYTES_COMPARATOR);
+    for (String qualifier : qualifiers) {
+      scan.addColumn(Bytes.toBytes("family"), Bytes.toBytes(qualifier));
+      columns.add(Bytes.toBytes(qualifier));
+    }
+    return scanner.shouldUseScanner(scan, columns, Long.MIN_VALUE);
+  }
+
   @Test
   public void testSeqIdComparator() {
     assertOrdering(StoreFile.Comparators.SEQ_ID,
@@ -836,6 +1013,51 @@ public class TestStoreFile extends HBaseTestCase {
     assertTrue(!scanner.shouldUseScanner(scan, columns, Long.MIN_VALUE));
   }
 
+  /**
+   * Test that a file records when all its cells have expired by their TTL tags.
+   */
+  @Test
+  public void testMaxExpiryTimestamp() throws IOException {
+    byte[] family = Bytes.toBytes("familyname");
+    byte[] qualifier = Bytes.toBytes("qualifier");
+    Path dir = new Path(new Path(new Path(testDir, "7e0102"), "familyname"), "1234567890");
+    HFileContext meta = new HFileContextBuilder().withIncludesTags(true).build();
+
+    StoreFile.Writer writer = new StoreFile.WriterBuilder(conf, cacheConf, this.fs)
+        .withOutputDir(dir).withFileContext(meta).build();
+    long[] ttls = { 100, 200, 50 };
+    for (int i = 0; i < ttls.length; i++) {
+      writer.append(new KeyValue(Bytes.toBytes("row" + i), family, qualifier, 1000,
+          Bytes.toBytes("value"), new Tag[] {
+            new Tag(TagType.TTL_TAG_TYPE, Bytes.toBytes(ttls[i])) }));
+    }
+    writer.appendMetadata(0, false);
+    writer.close();
+    StoreFile.Reader reader = new StoreFile(this.fs, writer.getPath(), conf, cacheConf,
+      BloomType.NONE).createReader();
+    assertEquals(1200, reader.getMaxExpiryTimestamp());
+    assertFalse(reader.isExpired(Long.MIN_VALUE, 1200));
+    assertTrue(reader.isExpired(Long.MIN_VALUE, 1201));
+    reader.close(true);
+
+    // A cell without TTL tag keeps the file until the family TTL expires it
+    writer = new StoreFile.WriterBuilder(conf, cacheConf, this.fs)
+        .withOutputDir(dir).withFileContext(meta).build();
+    writer.append(new KeyValue(Bytes.toBytes("row0"), family, qualifier, 1000,
+        Bytes.toBytes("value"), new Tag[] {
+          new Tag(TagType.TTL_TAG_TYPE, Bytes.toBytes(100L)) }));
+    writer.append(new KeyValue(Bytes.toBytes("row1"), family, qualifier, 1000,
+        Bytes.toBytes("value")));
+    writer.appendMetadata(0, false);
+    writer.close();
+    reader = new StoreFile(this.fs, writer.getPath(), conf, cacheConf,
+      BloomType.NONE).createReader();
+    assertEquals(Long.MAX_VALUE, reader.getMaxExpiryTimestamp());
+    assertFalse(reader.isExpired(Long.MIN_VALUE, Long.MAX_VALUE));
+    assertTrue(reader.isExpired(1001, 2000));
+    reader.close(true);
+  }
+
   @Test
   public void testCacheOnWriteEvictOnClose() throws Exception {
     Configuration conf = this.conf;
@@ -958,6 +1180,26 @@ public class TestStoreFile extends HBaseTestCase {
     assertEquals(startEvicted, cs.getEvictedCount());
   }
 
+  @Test
+  public void testIsSeekCached() throws Exception {
+    Path baseDir = new Path(new Path(testDir, "7e0102"), "isSeekCached");
+    conf.setBoolean(CacheConfig.CACHE_BLOCKS_ON_WRITE_KEY, false);
+    CacheConfig cacheConf = new CacheConfig(conf);
+    StoreFile.Writer writer = writeStoreFile(conf, cacheConf, new Path(baseDir, "123456787"), 3);
+    StoreFile hsf = new StoreFile(this.fs, writer.getPath(), conf, cacheConf, BloomType.NONE);
+    StoreFile.Reader reader = hsf.createReader();
+    reader.loadFileInfo();
+    StoreFileScanner scanner = reader.getStoreFileScanner(true, false);
+
+    // Nothing has been read yet.
+    assertFalse(scanner.isSeekCached(KeyValue.LOWESTKEY));
+    scanner.seek(KeyValue.LOWESTKEY);
+    assertTrue(scanner.isSeekCached(KeyValue.LOWESTKEY));
+
+    scanner.close();
+    reader.close(cacheConf.shouldEvictOnClose());
+  }
+
   private Path splitStoreFile(final HRegionFileSystem regionFs, final HRegionInfo hri,
       final String family, final StoreFile sf, final byte[] splitKey, boolean isTopRef)
       throws IOException {
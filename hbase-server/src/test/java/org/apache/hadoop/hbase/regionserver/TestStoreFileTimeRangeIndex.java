@@ -0,0 +1,99 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.hbase.io.TimeRange;
+import org.apache.hadoop.hbase.testclassification.RegionServerTests;
+import org.apache.hadoop.hbase.testclassification.SmallTests;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category({RegionServerTests.class, SmallTests.class})
+public class TestStoreFileTimeRangeIndex {
+
+  private static StoreFile createFile(long minTimestamp, long maxTimestamp) {
+    StoreFile sf = mock(StoreFile.class);
+    StoreFile.Reader reader = mock(StoreFile.Reader.class);
+    reader.timeRangeTracker = new TimeRangeTracker(minTimestamp, maxTimestamp);
+    when(sf.getReader()).thenReturn(reader);
+    return sf;
+  }
+
+  private static List<StoreFile> select(StoreFileTimeRangeIndex index, long min, long max)
+      throws Exception {
+    return new ArrayList<StoreFile>(index.getFiles(new TimeRange(min, max)));
+  }
+
+  @Test
+  public void testSelection() throws Exception {
+    StoreFile sf1 = createFile(10, 19);
+    StoreFile sf2 = createFile(0, 100);
+    StoreFile sf3 = createFile(20, 29);
+    StoreFile sf4 = mock(StoreFile.class); // no reader, covers all time
+    StoreFile sf5 = createFile(30, 39);
+    List<StoreFile> files = new ArrayList<StoreFile>();
+    files.add(sf1);
+    files.add(sf2);
+    files.add(sf3);
+    files.add(sf4);
+    files.add(sf5);
+    StoreFileTimeRangeIndex index = new StoreFileTimeRangeIndex(files);
+
+    assertEquals(files, new ArrayList<StoreFile>(index.getFiles(new TimeRange())));
+    // Results keep the order of the files.
+    List<StoreFile> expected = new ArrayList<StoreFile>();
+    expected.add(sf1);
+    expected.add(sf2);
+    expected.add(sf3);
+    expected.add(sf4);
+    assertEquals(expected, select(index, 19, 21));
+    expected.clear();
+    expected.add(sf2);
+    expected.add(sf4);
+    // The maximum of a time range is exclusive.
+    assertEquals(expected, select(index, 40, 50));
+    assertEquals(expected, select(index, 5, 10));
+  }
+
+  @Test
+  public void testAgainstFilter() throws Exception {
+    Random rand = new Random(12345);
+    for (int n = 0; n < 40; n++) {
+      List<StoreFile> files = new ArrayList<StoreFile>();
+      for (int i = 0; i < n; i++) {
+        long min = rand.nextInt(1000);
+        files.add(createFile(min, min + rand.nextInt(200)));
+      }
+      StoreFileTimeRangeIndex index = new StoreFileTimeRangeIndex(files);
+      for (int q = 0; q < 50; q++) {
+        long min = rand.nextInt(1200);
+        TimeRange timeRange = new TimeRange(min, min + 1 + rand.nextInt(100));
+        assertEquals(new ArrayList<StoreFile>(StoreFileTimeRangeIndex.filter(files, timeRange)),
+          new ArrayList<StoreFile>(index.getFiles(timeRange)));
+      }
+    }
+  }
+}
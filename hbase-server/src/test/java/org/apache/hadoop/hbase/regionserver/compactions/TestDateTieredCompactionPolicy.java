@@ -0,0 +1,139 @@
+/**
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.hadoop.hbase.regionserver.compactions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.regionserver.StoreConfigInformation;
+import org.apache.hadoop.hbase.regionserver.StoreFile;
+import org.apache.hadoop.hbase.testclassification.RegionServerTests;
+import org.apache.hadoop.hbase.testclassification.SmallTests;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category({RegionServerTests.class, SmallTests.class})
+public class TestDateTieredCompactionPolicy {
+  /**
+   * With a base window of 6 and 4 windows per tier, at time 161 the windows are
+   * [156, 162) (incoming), [150, 156), [144, 150), [120, 144), [96, 120), [0, 96).
+   */
+  private static final long NOW = 161;
+
+  private DateTieredCompactionPolicy policy;
+
+  @Before
+  public void setUp() {
+    Configuration conf = HBaseConfiguration.create();
+    conf.setLong(CompactionConfiguration.MAX_AGE_MILLIS_KEY, 100);
+    conf.setLong(CompactionConfiguration.BASE_WINDOW_MILLIS_KEY, 6);
+    conf.setInt(CompactionConfiguration.WINDOWS_PER_TIER_KEY, 4);
+    conf.setInt(CompactionConfiguration.INCOMING_WINDOW_MIN_KEY, 3);
+    conf.setInt(CompactionConfiguration.HBASE_HSTORE_COMPACTION_MIN_KEY, 2);
+    conf.setInt(CompactionConfiguration.HBASE_HSTORE_COMPACTION_MAX_KEY, 5);
+    conf.setFloat(CompactionConfiguration.HBASE_HSTORE_COMPACTION_RATIO_KEY, 1.2F);
+    StoreConfigInformation storeConfigInfo = mock(StoreConfigInformation.class);
+    when(storeConfigInfo.getBlockingFileCount()).thenReturn(10L);
+    policy = new DateTieredCompactionPolicy(conf, storeConfigInfo);
+  }
+
+  /**
+   * @param timestampsAndSizes pairs of max timestamp and size, ordered by sequence id
+   */
+  private static List<StoreFile> createFiles(long... timestampsAndSizes) {
+    List<StoreFile> files = new ArrayList<StoreFile>();
+    for (int i = 0; i < timestampsAndSizes.length; i += 2) {
+      StoreFile sf = mock(StoreFile.class);
+      StoreFile.Reader reader = mock(StoreFile.Reader.class);
+      when(reader.getMaxTimestamp()).thenReturn(timestampsAndSizes[i]);
+      when(reader.length()).thenReturn(timestampsAndSizes[i + 1]);
+      when(sf.getReader()).thenReturn(reader);
+      files.add(sf);
+    }
+    return files;
+  }
+
+  private void compactEquals(List<StoreFile> candidates, long... expectedSizes)
+      throws IOException {
+    List<StoreFile> selection = policy.applyCompactionPolicy(
+      new ArrayList<StoreFile>(candidates), false, false, NOW);
+    long[] sizes = new long[selection.size()];
+    for (int i = 0; i < sizes.length; i++) {
+      sizes[i] = selection.get(i).getReader().length();
+    }
+    assertEquals(Arrays.toString(expectedSizes), Arrays.toString(sizes));
+    assertEquals(expectedSizes.length > 0,
+      policy.needsCompaction(candidates, new ArrayList<StoreFile>(), NOW));
+  }
+
+  @Test
+  public void testIncomingWindow() throws IOException {
+    compactEquals(createFiles(150, 12, 151, 13, 157, 10, 158, 11, 159, 12), 10, 11, 12);
+  }
+
+  @Test
+  public void testNotIncomingWindow() throws IOException {
+    // Two files are not enough in the incoming window, but are in older windows.
+    compactEquals(createFiles(120, 30, 150, 20, 151, 21, 157, 10, 158, 11), 20, 21);
+    compactEquals(createFiles(150, 20, 157, 10, 158, 11) /* empty */);
+  }
+
+  @Test
+  public void testRatioWithinWindow() throws IOException {
+    compactEquals(createFiles(97, 100, 98, 20, 99, 18, 157, 10), 20, 18);
+  }
+
+  @Test
+  public void testOutOfOrderData() throws IOException {
+    // The second file only has old data but must stay with its neighbours.
+    compactEquals(createFiles(155, 10, 140, 11, 153, 12, 158, 13), 10, 11, 12);
+  }
+
+  @Test
+  public void testOldFilesNotCompacted() throws IOException {
+    compactEquals(createFiles(40, 10, 50, 11, 60, 12, 157, 13) /* empty */);
+    compactEquals(createFiles(40, 10, 62, 11, 63, 12, 157, 13), 11, 12);
+  }
+
+  @Test
+  public void testNoPeriodicMajorCompaction() throws IOException {
+    assertFalse(policy.isMajorCompaction(createFiles(40, 10, 157, 13)));
+  }
+
+  @Test
+  public void testStuckFallsBackToRatio() throws IOException {
+    List<StoreFile> files = createFiles(60, 10, 100, 11, 130, 12, 145, 13, 152, 14, 157, 15);
+    assertTrue(policy.applyCompactionPolicy(
+      new ArrayList<StoreFile>(files), false, false, NOW).isEmpty());
+    // Everything but the file that is too old.
+    assertEquals(files.subList(1, files.size()), policy.applyCompactionPolicy(
+      new ArrayList<StoreFile>(files), false, true, NOW));
+  }
+}
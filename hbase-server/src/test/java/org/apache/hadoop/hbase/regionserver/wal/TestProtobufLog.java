@@ -26,6 +26,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -127,6 +128,53 @@ public class TestProtobufLog {
     doRead(false);
   }
 
+  /**
+   * A WAL with compressed cell values names {@link ValueCompressedWALCellCodec} in its header, so
+   * that versions which cannot read it fail fast, and reads back with the values intact.
+   * @throws IOException
+   */
+  @Test
+  public void testValueCompressionNamesDistinctCodec() throws IOException {
+    final TableName tableName = TableName.valueOf("tablename");
+    final byte[] row = Bytes.toBytes("row");
+    Configuration conf = new Configuration(TEST_UTIL.getConfiguration());
+    conf.setBoolean(HConstants.ENABLE_WAL_COMPRESSION, true);
+    conf.set(CompressionContext.WAL_VALUE_COMPRESSION_TYPE, "gz");
+    WALFactory compressedWals = new WALFactory(conf, null, currentTest.getMethodName());
+    Path path = new Path(dir, "tempwal");
+    WALProvider.Writer writer = null;
+    ProtobufLogReader reader = null;
+    try {
+      HRegionInfo hri = new HRegionInfo(tableName,
+          HConstants.EMPTY_START_ROW, HConstants.EMPTY_END_ROW);
+      fs.mkdirs(dir);
+      writer = compressedWals.createWALWriter(fs, path);
+      WALKey key = new WALKey(hri.getEncodedNameAsBytes(), tableName, 0,
+          System.currentTimeMillis(), HConstants.DEFAULT_CLUSTER_ID);
+      WALEdit edit = new WALEdit();
+      edit.add(new KeyValue(row, row, row, Bytes.toBytes("value")));
+      writer.append(new WAL.Entry(key, edit));
+      writer.close();
+      writer = null;
+
+      reader = (ProtobufLogReader) compressedWals.createReader(fs, path);
+      assertEquals(ValueCompressedWALCellCodec.class.getName(), reader.getCodecClsName());
+      WAL.Entry entry = reader.next();
+      assertNotNull(entry);
+      assertArrayEquals(Bytes.toBytes("value"),
+        CellUtil.cloneValue(entry.getEdit().getCells().get(0)));
+      assertNull(reader.next());
+    } finally {
+      if (writer != null) {
+        writer.close();
+      }
+      if (reader != null) {
+        reader.close();
+      }
+      compressedWals.close();
+    }
+  }
+
   /**
    * Appends entries in the WAL and reads it.
    * @param withTrailer If 'withTrailer' is true, it calls a close on the WALwriter before reading
@@ -19,6 +19,7 @@
 package org.apache.hadoop.hbase.regionserver.wal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -32,6 +33,7 @@ import org.apache.hadoop.hbase.KeyValue;
 import org.apache.hadoop.hbase.Tag;
 import org.apache.hadoop.hbase.codec.Codec.Decoder;
 import org.apache.hadoop.hbase.codec.Codec.Encoder;
+import org.apache.hadoop.hbase.io.compress.Compression;
 import org.apache.hadoop.hbase.io.util.LRUDictionary;
 import org.apache.hadoop.hbase.testclassification.RegionServerTests;
 import org.apache.hadoop.hbase.testclassification.SmallTests;
@@ -82,6 +84,44 @@ public class TestWALCellCodecWithCompression {
     assertEquals("tagValue2", Bytes.toString(tags.get(1).getValue()));
   }
 
+  @Test
+  public void testEncodeDecodeKVsWithValueCompression() throws Exception {
+    Configuration conf = new Configuration(false);
+    WALCellCodec codec = new WALCellCodec(conf, new CompressionContext(LRUDictionary.class, false,
+        true, Compression.Algorithm.GZ));
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(1024);
+    Encoder encoder = codec.getEncoder(bos);
+    List<KeyValue> kvs = new ArrayList<KeyValue>();
+    // Two entries, the second with an empty value
+    kvs.add(createKV(1));
+    kvs.add(createKV(0));
+    kvs.add(createKV(2));
+    for (KeyValue kv : kvs) {
+      encoder.write(kv);
+    }
+    ((WALCellCodec.EntryEncoder) encoder).endEntry();
+    kvs.add(new KeyValue(Bytes.toBytes("otherRow"), Bytes.toBytes("myCF"),
+        Bytes.toBytes("q"), 1L, new byte[0]));
+    kvs.add(createKV(1));
+    encoder.write(kvs.get(3));
+    encoder.write(kvs.get(4));
+    ((WALCellCodec.EntryEncoder) encoder).endEntry();
+    ((WALCellCodec.EntryEncoder) encoder).close();
+
+    InputStream is = new ByteArrayInputStream(bos.toByteArray());
+    Decoder decoder = codec.getDecoder(is);
+    for (KeyValue expected : kvs) {
+      decoder.advance();
+      KeyValue kv = (KeyValue) decoder.current();
+      assertEquals(expected, kv);
+      assertEquals(0, Bytes.compareTo(expected.getValueArray(), expected.getValueOffset(),
+        expected.getValueLength(), kv.getValueArray(), kv.getValueOffset(),
+        kv.getValueLength()));
+      assertEquals(expected.getTags().size(), kv.getTags().size());
+    }
+    assertFalse(decoder.advance());
+  }
+
   private KeyValue createKV(int noOfTags) {
     byte[] row = Bytes.toBytes("myRow");
     byte[] cf = Bytes.toBytes("myCF");
@@ -906,6 +906,22 @@ module Hbase
       @admin.updateConfiguration();
     end
 
+    #----------------------------------------------------------------------------------------------
+    # Yields the server and each of the most recent calls it found too slow or too large, from
+    # the given server or from all the regionservers. Returns the number of calls.
+    def get_slowlog_responses(server_name = nil, limit = 10)
+      servers = server_name ? [ServerName.valueOf(server_name)] :
+        @admin.getClusterStatus().getServers()
+      count = 0
+      servers.each do |server|
+        @admin.getSlowLogRecords(server, limit).each do |record|
+          yield server, record
+          count += 1
+        end
+      end
+      count
+    end
+
     #----------------------------------------------------------------------------------------------
     # Returns namespace's structure description
     def describe_namespace(namespace_name)
@@ -243,6 +243,7 @@ Shell.load_command_group(
     version
     table_help
     whoami
+    get_slowlog_responses
   ]
 )
 
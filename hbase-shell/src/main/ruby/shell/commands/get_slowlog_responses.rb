@@ -0,0 +1,65 @@
+#
+#
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+module Shell
+  module Commands
+    class GetSlowlogResponses < Command
+      def help
+        return <<-EOF
+Show the most recent calls the regionservers found too slow or too large, newest
+first for each server. Pass a servername to only ask one server, and a limit to
+change how many calls are shown per server (10 by default). The regionservers
+only keep the calls if hbase.regionserver.slowlog.buffer.enabled is set.
+
+For example:
+
+  hbase> get_slowlog_responses
+  hbase> get_slowlog_responses 'host187.example.com,60020,1289493121758'
+  hbase> get_slowlog_responses 'host187.example.com,60020,1289493121758', 100
+EOF
+      end
+
+      def command(server_name = nil, limit = 10)
+        now = Time.now
+        formatter.header(["SERVER", "CALL"])
+
+        count = admin.get_slowlog_responses(server_name, limit) do |server, record|
+          formatter.row([ server.toString(), format_record(record) ])
+        end
+
+        formatter.footer(now, count)
+      end
+
+      def format_record(record)
+        details = "start_time=#{record.getStartTime()}, "
+        details << "processing_time=#{record.getProcessingTime()}, "
+        details << "queue_time=#{record.getQueueTime()}, "
+        details << "response_size=#{record.getResponseSize()}, "
+        details << "too_slow=#{record.getTooSlow()}, too_large=#{record.getTooLarge()}, "
+        details << "method=#{record.getMethodName()}, client=#{record.getClientAddress()}"
+        details << ", user=#{record.getUserName()}" if record.hasUserName()
+        details << ", region=#{record.getRegionName()}" if record.hasRegionName()
+        record.getPhaseTimeList().each do |phase|
+          details << ", #{phase.getName()}=#{phase.getValue()}us"
+        end
+        details << ", call=#{record.getCallDetails()}"
+      end
+    end
+  end
+end